@@ -51,9 +51,9 @@ public final class FeatureMapper {
     public static FeatureAbstractClass toEntity(FeatureDTO dto) {
         if (dto == null) return null;
 
-        // 1. Map Shared Value Objects
-        NameVO nameVO = new NameVO(dto.name());
-        LabelVO labelVO = new LabelVO(dto.label());
+        // 1. Map Shared Value Objects (names and labels repeat across products, so they come from the VO pools)
+        NameVO nameVO = NameVO.of(dto.name());
+        LabelVO labelVO = LabelVO.of(dto.label());
         DescriptionVO descVO = dto.description() != null ? new DescriptionVO(dto.description()) : null;
         boolean isUnique = dto.isUnique();
 
@@ -72,7 +72,7 @@ public final class FeatureMapper {
                     : ProductAggregateFactory.createFixedPriceFeature(nameVO, labelVO, descVO, d.fixedPrice(), isUnique);
 
             case ScalingPriceFeatureDTO d -> {
-                MeasurementUnitVO unitVO = new MeasurementUnitVO(d.unit());
+                MeasurementUnitVO unitVO = MeasurementUnitVO.of(d.unit());
                 yield isUpdate
                         ? ProductAggregateFactory.reconstructScalingPriceFeature(idVO, nameVO, labelVO, descVO, unitVO, d.baseAmount(), d.incrementAmount(), d.maxQuantity(), isUnique)
                         : ProductAggregateFactory.createScalingPriceFeature(nameVO, labelVO, descVO, unitVO, d.baseAmount(), d.incrementAmount(), d.maxQuantity(), isUnique);
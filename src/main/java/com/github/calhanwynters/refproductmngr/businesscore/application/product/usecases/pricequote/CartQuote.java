@@ -0,0 +1,64 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricequote;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.FixedPointPrice;
+
+import java.util.Arrays;
+
+/**
+ * Reusable result buffer of {@link PriceQuoteEngine#quoteCart}: one total per line and the cart total,
+ * all in minor units at {@link #scale()}. Filling it allocates nothing once its capacity fits the cart.
+ * Not thread-safe; keep one per worker thread.
+ */
+public final class CartQuote {
+    private long[] lineTotals;
+    private int lines;
+    private long total;
+    private int scale;
+    private int currencyIndex;
+
+    public CartQuote(int capacity) {
+        this.lineTotals = new long[Math.max(capacity, 1)];
+    }
+
+    void reset(int lines, int scale, int currencyIndex) {
+        if (lineTotals.length < lines) {
+            lineTotals = Arrays.copyOf(lineTotals, Math.max(lines, lineTotals.length * 2));
+        }
+        this.lines = lines;
+        this.total = 0;
+        this.scale = scale;
+        this.currencyIndex = currencyIndex;
+    }
+
+    void setLine(int line, long amount) {
+        lineTotals[line] = amount;
+        total = Math.addExact(total, amount);
+    }
+
+    public int lines() {
+        return lines;
+    }
+
+    public long lineTotal(int line) {
+        if (line < 0 || line >= lines) {
+            throw new IndexOutOfBoundsException("Line " + line + " of " + lines);
+        }
+        return lineTotals[line];
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    public int currencyIndex() {
+        return currencyIndex;
+    }
+
+    public FixedPointPrice totalPrice() {
+        return new FixedPointPrice(total, scale, currencyIndex);
+    }
+}
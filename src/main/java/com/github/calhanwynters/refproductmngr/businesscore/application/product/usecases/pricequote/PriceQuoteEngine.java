@@ -0,0 +1,154 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricequote;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductNotFoundException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.VariantPricePlanCache;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.FixedPointPrice;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantPricePlan;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Quotes sell prices of configured variants from cached {@link VariantPricePlan}s.
+ * <p>
+ * Plans are compiled per product (all of its variants at once) the first time one of its variants is
+ * quoted, or eagerly through {@link #compile}, into the bounded {@link VariantPricePlanCache}. Saved products
+ * are evicted from it by the outbox (PRODUCT_UPDATED, PRODUCT_REPRICED and the hard deletes), whichever path or
+ * instance wrote them. Resolving plans and feature slots is the cold path; {@link VariantPricePlan#unitPrice}
+ * and {@link #quoteCart} then run on primitives only.
+ */
+@Service
+public class PriceQuoteEngine {
+    private final ProductCommandRepository productCommandRepository;
+    private final VariantPricePlanCache plans;
+
+    public PriceQuoteEngine(ProductCommandRepository productCommandRepository, VariantPricePlanCache plans) {
+        this.productCommandRepository = productCommandRepository;
+        this.plans = plans;
+    }
+
+    /**
+     * (Re)compiles the plans of every variant of the product.
+     */
+    public void compile(ProductAggregate product) {
+        plans.compile(product, plans.generation());
+    }
+
+    public void evict(VariantIdVO variantId) {
+        plans.evict(variantId);
+    }
+
+    /**
+     * @throws ProductNotFoundException If the variant does not exist.
+     */
+    public VariantPricePlan plan(VariantIdVO variantId) {
+        return plans(List.of(variantId)).getFirst();
+    }
+
+    /**
+     * Resolves many plans; the products of all missing ones are loaded with a single query.
+     * @return Plans in the order of {@code variantIds}.
+     * @throws ProductNotFoundException If one of the variants does not exist.
+     */
+    public List<VariantPricePlan> plans(Collection<VariantIdVO> variantIds) {
+        Map<VariantIdVO, VariantPricePlan> found = new HashMap<>();
+        Set<VariantIdVO> missing = new LinkedHashSet<>();
+        for (VariantIdVO variantId : variantIds) {
+            VariantPricePlan plan = plans.get(variantId);
+            if (plan != null) {
+                found.put(variantId, plan);
+            } else if (!found.containsKey(variantId)) {
+                missing.add(variantId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Taken before the load, so plans of a product saved meanwhile are returned but not cached
+            long generation = plans.generation();
+            for (ProductAggregate product : productCommandRepository.findAllByVariantIds(missing)) {
+                found.putAll(plans.compile(product, generation));
+            }
+        }
+        List<VariantPricePlan> resolved = new ArrayList<>(variantIds.size());
+        for (VariantIdVO variantId : variantIds) {
+            VariantPricePlan plan = found.get(variantId);
+            if (plan == null) {
+                throw new ProductNotFoundException("Variant not found: " + variantId.value());
+            }
+            resolved.add(plan);
+        }
+        return resolved;
+    }
+
+    /**
+     * Convenience single quote (cold path: allocates).
+     * @param featureQuantities Quantity per chosen scaling feature; scaling features not listed are not chosen.
+     * @param units Number of identically configured units.
+     * @throws IllegalArgumentException If a listed feature is not a scaling feature of the variant, or a quantity is out of range.
+     */
+    public FixedPointPrice quote(VariantIdVO variantId, Map<FeatureIdVO, Integer> featureQuantities, int units) {
+        VariantPricePlan plan = plan(variantId);
+        return plan.toPrice(plan.linePrice(quantities(plan, featureQuantities), units));
+    }
+
+    /**
+     * Per-slot quantity array for a plan, to be reused across quotes of the same configuration.
+     */
+    public static int[] quantities(VariantPricePlan plan, Map<FeatureIdVO, Integer> featureQuantities) {
+        int[] quantities = new int[plan.scalingSlots()];
+        featureQuantities.forEach((featureId, quantity) -> {
+            int slot = plan.scalingSlot(featureId);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Feature " + featureId.value() + " is not a scaling feature of variant "
+                        + plan.variantId().value());
+            }
+            quantities[slot] = Objects.requireNonNull(quantity, "Quantity cannot be null");
+        });
+        return quantities;
+    }
+
+    /**
+     * Quotes a cart into a reusable buffer without allocating. Every line must be in the same currency;
+     * lines are brought to the largest plan scale of the cart.
+     * @param plans Plan per line.
+     * @param quantities Scaling quantities per line (see {@link VariantPricePlan#unitPrice}).
+     * @param units Units per line.
+     * @param lines Number of lines used from the arrays.
+     * @param into Buffer receiving line totals and the cart total.
+     * @throws IllegalArgumentException On mixed currencies or invalid quantities.
+     * @throws ArithmeticException If a total does not fit in a long.
+     */
+    public void quoteCart(VariantPricePlan[] plans, int[][] quantities, int[] units, int lines, CartQuote into) {
+        if (lines < 1) {
+            into.reset(0, 2, 0);
+            return;
+        }
+        int currencyIndex = plans[0].currencyIndex();
+        int scale = 0;
+        for (int line = 0; line < lines; line++) {
+            if (plans[line].currencyIndex() != currencyIndex) {
+                throw new IllegalArgumentException("All cart lines must be in the same currency");
+            }
+            scale = Math.max(scale, plans[line].scale());
+        }
+        into.reset(lines, scale, currencyIndex);
+        for (int line = 0; line < lines; line++) {
+            VariantPricePlan plan = plans[line];
+            long amount = plan.linePrice(quantities[line], units[line]);
+            for (int s = plan.scale(); s < scale; s++) {
+                amount = Math.multiplyExact(amount, 10L);
+            }
+            into.setLine(line, amount);
+        }
+    }
+}
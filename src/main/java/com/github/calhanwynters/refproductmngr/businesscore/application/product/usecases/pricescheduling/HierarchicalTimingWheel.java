@@ -0,0 +1,158 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hierarchical timing wheel: {@code levels} wheels of 64 slots, where a slot of level L spans 64^L ticks.
+ * A timer sits in the level of the highest 6-bit tick group in which its deadline differs from the current
+ * tick, and is cascaded one level down when the wheel reaches that group; scheduling is O(1) and every
+ * timer is moved at most {@code levels} times before it fires. Deadlines beyond the top level wait in an
+ * overflow list that is re-examined each time the top level wraps around.
+ * <p>
+ * Timers fire at the first tick at or after their deadline, never early. Idle stretches are skipped in
+ * one step. Not thread-safe: the owner serializes access.
+ * @param <T> Payload handed back when the timer is due.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final ArrayDeque<Timer<T>>[][] slots;
+    private final List<Timer<T>> overflow = new ArrayList<>();
+    private final List<T> expired = new ArrayList<>(); // Deadline already reached when scheduled or cascaded
+    private long currentTick;
+    private int inSlots;
+
+    /**
+     * @param tickMillis Resolution of the wheel in milliseconds.
+     * @param levels Number of wheels; the horizon before the overflow list is {@code tickMillis * 64^levels}.
+     * @param startMillis Epoch milliseconds the wheel starts at.
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 ms");
+        }
+        if (levels < 1 || levels > 8) {
+            throw new IllegalArgumentException("Levels must be between 1 and 8");
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.slots = new ArrayDeque[levels][SLOTS];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Adds a timer. A deadline that has already passed fires on the next {@link #advanceTo}.
+     */
+    public void schedule(long deadlineMillis, T payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        place(new Timer<>(-Math.floorDiv(-deadlineMillis, tickMillis), payload)); // Ceiling: never fire early
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis}.
+     * @return Payloads of every timer due at or before {@code nowMillis}, in deadline order per tick.
+     */
+    public List<T> advanceTo(long nowMillis) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        List<T> due = new ArrayList<>(expired);
+        expired.clear();
+
+        while (currentTick < target) {
+            if (inSlots == 0) {
+                // Nothing can fire before the overflow is re-examined: jump to the next top-level wrap
+                long nextWrap = overflow.isEmpty() ? Long.MAX_VALUE : ((currentTick >>> topBits()) + 1) << topBits();
+                if (nextWrap > target) {
+                    currentTick = target;
+                    break;
+                }
+                currentTick = nextWrap - 1;
+            }
+            currentTick++;
+
+            if ((currentTick & lowMask(levels)) == 0 && !overflow.isEmpty()) {
+                List<Timer<T>> waiting = new ArrayList<>(overflow);
+                overflow.clear();
+                waiting.forEach(this::place);
+            }
+            for (int level = levels - 1; level >= 1; level--) {
+                if ((currentTick & lowMask(level)) == 0) {
+                    cascade(level, slotIndex(currentTick, level));
+                }
+            }
+            ArrayDeque<Timer<T>> firing = slots[0][slotIndex(currentTick, 0)];
+            if (firing != null) {
+                inSlots -= firing.size();
+                firing.forEach(timer -> due.add(timer.payload()));
+                firing.clear();
+            }
+            due.addAll(expired);
+            expired.clear();
+        }
+        return due;
+    }
+
+    /**
+     * @return Timers not yet returned by {@link #advanceTo}.
+     */
+    public int size() {
+        return inSlots + overflow.size() + expired.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void place(Timer<T> timer) {
+        long deadline = timer.deadlineTick();
+        if (deadline <= currentTick) {
+            expired.add(timer.payload());
+            return;
+        }
+        int level = (63 - Long.numberOfLeadingZeros(deadline ^ currentTick)) / SLOT_BITS;
+        if (level >= levels) {
+            overflow.add(timer);
+            return;
+        }
+        int index = slotIndex(deadline, level);
+        ArrayDeque<Timer<T>> slot = slots[level][index];
+        if (slot == null) {
+            slot = slots[level][index] = new ArrayDeque<>();
+        }
+        slot.add(timer);
+        inSlots++;
+    }
+
+    private void cascade(int level, int index) {
+        ArrayDeque<Timer<T>> slot = slots[level][index];
+        if (slot == null || slot.isEmpty()) {
+            return;
+        }
+        List<Timer<T>> moving = new ArrayList<>(slot);
+        slot.clear();
+        inSlots -= moving.size();
+        moving.forEach(this::place);
+    }
+
+    private int topBits() {
+        return SLOT_BITS * levels;
+    }
+
+    private static long lowMask(int level) {
+        return (1L << (SLOT_BITS * level)) - 1;
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+    }
+
+    private record Timer<T>(long deadlineTick, T payload) {}
+}
@@ -0,0 +1,11 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record SchedulePriceChangeCommand(
+        String variantId,
+        BigDecimal newCurrentPrice,
+        String currencyCode,
+        Instant effectiveAt
+) {}
@@ -0,0 +1,189 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ScheduledPriceChangeRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductVersionConflictException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.ScheduledPriceChange;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntityBehavior;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies a burst of due {@link ScheduledPriceChange}s. Changes are grouped per product: each product is
+ * loaded once, all of its due prices go through {@link ProductAggregate#changeVariantCurrentPrices}
+ * (i.e. {@link VariantEntityBehavior#changeCurrentPrice}) and the changed products of a batch are saved
+ * together. When a variant has several due entries the latest effective one wins; the others are marked
+ * applied with it. Entries the domain refuses are marked FAILED; entries whose save failed are handed
+ * back for a retry and return to PENDING.
+ * <p>
+ * Due entries are claimed first (PENDING -> APPLYING), so entries cancelled since they were collected are
+ * skipped and cannot be cancelled while they are applied. Saves are version-guarded: a product changed
+ * concurrently is not overwritten; its entries are retried against the reloaded product. If the run fails
+ * half-way, every claimed entry not yet marked is released again, so nothing is left behind in APPLYING.
+ */
+@Service
+public class ScheduledPriceChangeApplier {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledPriceChangeApplier.class);
+
+    static final int BATCH_SIZE = 500;
+
+    private final ProductCommandRepository productCommandRepository;
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository;
+    private final Clock clock;
+
+    public ScheduledPriceChangeApplier(ProductCommandRepository productCommandRepository,
+                                       ScheduledPriceChangeRepository scheduledPriceChangeRepository) {
+        this(productCommandRepository, scheduledPriceChangeRepository, Clock.systemUTC());
+    }
+
+    ScheduledPriceChangeApplier(ProductCommandRepository productCommandRepository,
+                                ScheduledPriceChangeRepository scheduledPriceChangeRepository, Clock clock) {
+        this.productCommandRepository = productCommandRepository;
+        this.scheduledPriceChangeRepository = scheduledPriceChangeRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * @return Entries that could not be saved (transient failures) and should be retried later.
+     * @throws RuntimeException if loading or marking failed; the claimed entries not yet marked are back in PENDING.
+     */
+    public List<ScheduledPriceChange> apply(List<ScheduledPriceChange> due) {
+        Set<UUID> claimed = scheduledPriceChangeRepository.claim(due.stream().map(ScheduledPriceChange::id).toList());
+        if (claimed.size() < due.size()) {
+            logger.info("Scheduled price changes: {} due entries were cancelled or already handled", due.size() - claimed.size());
+        }
+
+        // Latest effective entry per variant decides the price; earlier ones share its outcome
+        Map<VariantIdVO, List<ScheduledPriceChange>> byVariant = new LinkedHashMap<>();
+        due.stream()
+                .filter(change -> claimed.contains(change.id()))
+                .sorted(Comparator.comparing(ScheduledPriceChange::effectiveAt).thenComparing(ScheduledPriceChange::id))
+                .forEach(change -> byVariant.computeIfAbsent(change.variantId(), v -> new ArrayList<>()).add(change));
+
+        // Claimed ids not marked or released yet; whatever is left goes back to PENDING, also when the run fails
+        Set<UUID> unsettled = new HashSet<>(claimed);
+        List<ScheduledPriceChange> applied = new ArrayList<>();
+        Map<UUID, String> failed = new HashMap<>();
+        List<ScheduledPriceChange> retry = new ArrayList<>();
+        try {
+            List<VariantIdVO> variantIds = new ArrayList<>(byVariant.keySet());
+            // Also entries queued for later batches are taken when their product is loaded, so it is saved once
+            Map<VariantIdVO, List<ScheduledPriceChange>> unresolved = new HashMap<>(byVariant);
+
+            for (int from = 0; from < variantIds.size(); from += BATCH_SIZE) {
+                List<VariantIdVO> batch = variantIds.subList(from, Math.min(from + BATCH_SIZE, variantIds.size())).stream()
+                        .filter(unresolved::containsKey)
+                        .toList();
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                List<ProductChange> changes = new ArrayList<>();
+                for (ProductAggregate product : productCommandRepository.findAllByVariantIds(batch)) {
+                    Map<VariantIdVO, PriceVO> prices = new HashMap<>();
+                    List<ScheduledPriceChange> entries = new ArrayList<>();
+                    for (VariantEntity variant : product.variants()) {
+                        List<ScheduledPriceChange> forVariant = unresolved.remove(variant.id());
+                        if (forVariant == null) {
+                            continue;
+                        }
+                        PriceVO price = forVariant.getLast().newCurrentPrice();
+                        try {
+                            // Per-variant check, so one bad entry does not hold back the rest of the product
+                            VariantEntityBehavior.changeCurrentPrice(variant, price);
+                            prices.put(variant.id(), price);
+                            entries.addAll(forVariant);
+                        } catch (IllegalArgumentException e) {
+                            forVariant.forEach(change -> failed.put(change.id(), e.getMessage()));
+                        }
+                    }
+                    if (!prices.isEmpty()) {
+                        changes.add(new ProductChange(product.changeVariantCurrentPrices(prices), entries));
+                    }
+                }
+                for (VariantIdVO variantId : batch) {
+                    List<ScheduledPriceChange> forVariant = unresolved.remove(variantId);
+                    if (forVariant != null) {
+                        forVariant.forEach(change -> failed.put(change.id(), "Variant not found"));
+                    }
+                }
+                persist(changes, applied, retry);
+            }
+
+            if (!applied.isEmpty()) {
+                List<UUID> ids = applied.stream().map(ScheduledPriceChange::id).toList();
+                scheduledPriceChangeRepository.markApplied(ids, clock.instant());
+                ids.forEach(unsettled::remove);
+            }
+            if (!failed.isEmpty()) {
+                scheduledPriceChangeRepository.markFailed(failed);
+                failed.keySet().forEach(unsettled::remove);
+            }
+            if (!retry.isEmpty()) {
+                List<UUID> ids = retry.stream().map(ScheduledPriceChange::id).toList();
+                scheduledPriceChangeRepository.release(ids);
+                ids.forEach(unsettled::remove);
+            }
+        } finally {
+            if (!unsettled.isEmpty()) {
+                scheduledPriceChangeRepository.release(unsettled);
+            }
+        }
+        logger.info("Scheduled price changes: {} due, {} applied, {} failed, {} to retry",
+                claimed.size(), applied.size(), failed.size(), retry.size());
+        return retry;
+    }
+
+    // Saves one batch of changed products; falls back to single saves so one bad product cannot fail the batch
+    private void persist(List<ProductChange> changes, List<ScheduledPriceChange> applied, List<ScheduledPriceChange> retry) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<ProductChange> single = changes;
+        try {
+            productCommandRepository.saveAll(changes.stream().map(ProductChange::product).toList());
+            changes.forEach(change -> applied.addAll(change.entries()));
+            return;
+        } catch (ProductVersionConflictException conflict) {
+            // Nothing of the batch was written; stale products are retried after a reload, the others saved one by one
+            single = new ArrayList<>(changes.size());
+            for (ProductChange change : changes) {
+                if (conflict.productIds().contains(change.product().id())) {
+                    retry.addAll(change.entries());
+                } else {
+                    single.add(change);
+                }
+            }
+            logger.info("Batch of {} repriced products hit {} concurrent modifications", changes.size(), conflict.productIds().size());
+        } catch (RuntimeException batchFailure) {
+            logger.warn("Batch of {} repriced products failed ({}), retrying one by one", changes.size(), batchFailure.getMessage());
+        }
+        for (ProductChange change : single) {
+            try {
+                productCommandRepository.save(change.product());
+                applied.addAll(change.entries());
+            } catch (RuntimeException e) {
+                logger.warn("Scheduled prices of product {} could not be saved: {}", change.product().id().value(), e.getMessage());
+                retry.addAll(change.entries());
+            }
+        }
+    }
+
+    private record ProductChange(ProductAggregate product, List<ScheduledPriceChange> entries) {}
+}
@@ -0,0 +1,172 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ScheduledPriceChangeRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.ScheduledPriceChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires scheduled price changes at their effective time.
+ * <p>
+ * Only the next {@link #LOOKAHEAD} of PENDING entries is held in memory, in a {@link HierarchicalTimingWheel};
+ * the window slides forward with one indexed range query whenever half of it has elapsed, so a restart reloads
+ * just that window (plus anything that became due while the application was down, which fires immediately).
+ * Every tick hands the due entries to {@link ScheduledPriceChangeApplier} as one batch; entries whose save
+ * failed are put back into the wheel after {@link #RETRY_DELAY}.
+ * <p>
+ * Cancelling only succeeds while an entry is PENDING; the applier claims entries before applying them, so an
+ * entry cancelled after it was collected is skipped. Assumes a single scheduling instance: claims left behind
+ * by a crash are released on startup.
+ */
+@Component
+public class ScheduledPriceChangeScheduler implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledPriceChangeScheduler.class);
+
+    static final long TICK_MILLIS = 100;
+    static final int WHEEL_LEVELS = 4; // 100 ms * 64^4: about 19 days before the overflow list is used
+    static final Duration LOOKAHEAD = Duration.ofHours(1);
+    static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final ScheduledPriceChangeRepository repository;
+    private final ScheduledPriceChangeApplier applier;
+    private final Clock clock;
+
+    // Entries currently in the wheel; cancelling removes them here, so a cancelled timer fires into nothing
+    private final Map<UUID, ScheduledPriceChange> pending = new ConcurrentHashMap<>();
+    private HierarchicalTimingWheel<UUID> wheel; // Guarded by this
+    private Instant loadedUntil; // Guarded by this; entries effective before it are in the wheel
+    private ScheduledExecutorService ticker;
+    private volatile boolean running;
+
+    public ScheduledPriceChangeScheduler(ScheduledPriceChangeRepository repository, ScheduledPriceChangeApplier applier) {
+        this(repository, applier, Clock.systemUTC());
+    }
+
+    ScheduledPriceChangeScheduler(ScheduledPriceChangeRepository repository, ScheduledPriceChangeApplier applier, Clock clock) {
+        this.repository = repository;
+        this.applier = applier;
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        load();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduled-price-changes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Builds the wheel from the persisted PENDING entries (startup and tests).
+     */
+    synchronized void load() {
+        Instant now = clock.instant();
+        repository.releaseAll();
+        pending.clear();
+        wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_LEVELS, now.toEpochMilli());
+        loadedUntil = null;
+        refill(now);
+        logger.info("Scheduled price changes: {} pending entries loaded up to {}", pending.size(), loadedUntil);
+    }
+
+    /**
+     * Picks up an entry persisted after startup; entries beyond the loaded window arrive with a later refill.
+     */
+    synchronized void register(ScheduledPriceChange change) {
+        if (wheel != null && change.effectiveAt().isBefore(loadedUntil)) {
+            add(change, change.effectiveAt());
+        }
+    }
+
+    void cancel(UUID id) {
+        pending.remove(id);
+    }
+
+    /**
+     * Applies everything due now. Runs on the ticker thread; never throws, so the schedule keeps running.
+     */
+    void tick() {
+        List<ScheduledPriceChange> due = List.of();
+        try {
+            due = collectDue();
+            if (due.isEmpty()) {
+                return;
+            }
+            List<ScheduledPriceChange> retry = applier.apply(due);
+            if (!retry.isEmpty()) {
+                reschedule(retry, clock.instant().plus(RETRY_DELAY));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Scheduled price change tick failed", e);
+            // Unsettled entries were released to PENDING; those already applied or failed are not claimed again
+            if (!due.isEmpty()) {
+                reschedule(due, clock.instant().plus(RETRY_DELAY));
+            }
+        }
+    }
+
+    private synchronized List<ScheduledPriceChange> collectDue() {
+        Instant now = clock.instant();
+        if (!loadedUntil.isAfter(now.plus(LOOKAHEAD.dividedBy(2)))) {
+            refill(now);
+        }
+        List<ScheduledPriceChange> due = new ArrayList<>();
+        for (UUID id : wheel.advanceTo(now.toEpochMilli())) {
+            ScheduledPriceChange change = pending.remove(id);
+            if (change != null) {
+                due.add(change);
+            }
+        }
+        return due;
+    }
+
+    private synchronized void reschedule(List<ScheduledPriceChange> changes, Instant at) {
+        changes.forEach(change -> add(change, at));
+    }
+
+    // Loads the PENDING entries of the next window; the caller holds the lock
+    private void refill(Instant now) {
+        Instant until = now.plus(LOOKAHEAD);
+        for (ScheduledPriceChange change : repository.findPending(loadedUntil, until)) {
+            add(change, change.effectiveAt());
+        }
+        loadedUntil = until;
+    }
+
+    private void add(ScheduledPriceChange change, Instant at) {
+        if (pending.putIfAbsent(change.id(), change) == null) {
+            wheel.schedule(at.toEpochMilli(), change.id());
+        }
+    }
+}
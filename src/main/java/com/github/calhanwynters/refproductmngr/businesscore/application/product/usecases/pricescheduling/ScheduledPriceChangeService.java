@@ -0,0 +1,80 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ScheduledPriceChangeRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductNotFoundException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.ScheduledPriceChange;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntityBehavior;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class ScheduledPriceChangeService {
+    private final ProductCommandRepository productCommandRepository;
+    private final ScheduledPriceChangeRepository scheduledPriceChangeRepository;
+    private final ScheduledPriceChangeScheduler scheduler;
+    private final Clock clock;
+
+    public ScheduledPriceChangeService(ProductCommandRepository productCommandRepository,
+                                       ScheduledPriceChangeRepository scheduledPriceChangeRepository,
+                                       ScheduledPriceChangeScheduler scheduler) {
+        this(productCommandRepository, scheduledPriceChangeRepository, scheduler, Clock.systemUTC());
+    }
+
+    ScheduledPriceChangeService(ProductCommandRepository productCommandRepository,
+                                ScheduledPriceChangeRepository scheduledPriceChangeRepository,
+                                ScheduledPriceChangeScheduler scheduler, Clock clock) {
+        this.productCommandRepository = productCommandRepository;
+        this.scheduledPriceChangeRepository = scheduledPriceChangeRepository;
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Persists a future current price and hands it to the scheduler.
+     * The change is validated against the variant now (existence, currency), and again when it is applied.
+     * @return Id of the schedule entry, used to cancel it.
+     */
+    public UUID schedule(SchedulePriceChangeCommand command) {
+        Objects.requireNonNull(command, "Schedule command cannot be null");
+        Objects.requireNonNull(command.effectiveAt(), "Effective time cannot be null");
+        if (command.effectiveAt().isBefore(clock.instant())) {
+            throw new IllegalArgumentException("Effective time must not be in the past");
+        }
+        VariantIdVO variantId = new VariantIdVO(command.variantId());
+        PriceVO newCurrentPrice = new PriceVO(command.newCurrentPrice(), 2, Currency.getInstance(command.currencyCode()));
+
+        VariantEntity variant = productCommandRepository.findAllByVariantIds(List.of(variantId)).stream()
+                .flatMap(product -> product.variants().stream())
+                .filter(v -> v.id().equals(variantId))
+                .findFirst()
+                .orElseThrow(() -> new ProductNotFoundException("Variant not found"));
+        // Fail now rather than at the effective time (currency mismatch)
+        VariantEntityBehavior.changeCurrentPrice(variant, newCurrentPrice);
+
+        ScheduledPriceChange change = ScheduledPriceChange.of(variantId, newCurrentPrice, command.effectiveAt());
+        scheduledPriceChangeRepository.save(change);
+        scheduler.register(change);
+        return change.id();
+    }
+
+    /**
+     * @return false if the entry does not exist or is no longer pending.
+     */
+    public boolean cancel(String scheduleId) {
+        UUID id = UUID.fromString(scheduleId);
+        boolean cancelled = scheduledPriceChangeRepository.cancel(id);
+        if (cancelled) {
+            scheduler.cancel(id);
+        }
+        return cancelled;
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.mappers.FeatureMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureAbstractClass;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a ProductCreateCommand into a new, always-valid ProductAggregate.
+ * Shared by the interactive create use case and the bulk import pipeline, so both enforce the same rules.
+ * Throws IllegalArgumentException (or NullPointerException) when the command violates an invariant.
+ */
+public final class ProductCreateAssembler {
+
+    private ProductCreateAssembler() {}
+
+    public static ProductAggregate toAggregate(ProductCreateCommand command) {
+        // 1. Map Features using the polymorphic FeatureMapper
+        Set<FeatureAbstractClass> featureEntities = command.features().stream()
+                .map(FeatureMapper::toEntity)
+                .collect(Collectors.toSet());
+
+        // 2. Build Initial Variant via the "Domain Entry" Factory Method
+        // This hides the VO instantiation logic from the Application Service.
+        VariantEntity initialVariant = ProductAggregateFactory.createVariant(
+                command.initialVariantSku(),
+                command.initialPrice(),
+                command.initialPrice(), // Current price starts same as base
+                command.currencyCode(),
+                command.weightValue(),   // Ensure this is BigDecimal for 2025 precision
+                command.weightUnit(),
+                "- Default instructions", // CareInstructionVO requires a bullet; consider moving this to a domain constant
+                VariantStatusEnums.DRAFT.name(),
+                featureEntities
+        );
+
+        // 3. Assemble Aggregate via Factory
+        return ProductAggregateFactory.create(
+                new BusinessIdVO(command.businessId()),
+                CategoryVO.of(command.category()),
+                new DescriptionVO(command.description()),
+                new GalleryVO(command.imageUrls().stream().map(ImageUrlVO::new).toList()),
+                Set.of(initialVariant)
+        );
+    }
+}
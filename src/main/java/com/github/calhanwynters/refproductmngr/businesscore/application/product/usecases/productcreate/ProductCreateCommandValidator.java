@@ -0,0 +1,124 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.FeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.FixedPriceFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.ScalingPriceFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationResult;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CategoryVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.GalleryVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ImageUrlVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.SkuVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightUnitEnums;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightVO;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Validates a ProductCreateCommand without throwing, reporting every broken rule in one pass.
+ * Uses the static validate methods of the value objects, i.e. the same rules and messages as their constructors,
+ * so a command that validates cleanly is accepted by {@link ProductCreateAssembler}.
+ * Intended for bulk paths where most failures would otherwise cost an exception and its stack trace.
+ */
+public final class ProductCreateCommandValidator {
+
+    private static final Set<String> WEIGHT_UNITS = Arrays.stream(WeightUnitEnums.values())
+            .map(Enum::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private ProductCreateCommandValidator() {}
+
+    public static ValidationResult validate(ProductCreateCommand command) {
+        if (command == null) {
+            return ValidationResult.of(List.of(new ValidationError("command", ValidationError.REQUIRED, "Command cannot be null")));
+        }
+        List<ValidationError> errors = new ArrayList<>();
+
+        add(errors, BusinessIdVO.validate(command.businessId()), "businessId");
+        add(errors, CategoryVO.validate(command.category()), "category");
+        add(errors, DescriptionVO.validate(command.description()), "description");
+
+        // Gallery: per-url rules, then size and uniqueness
+        List<String> imageUrls = command.imageUrls();
+        if (imageUrls != null) {
+            for (int i = 0; i < imageUrls.size(); i++) {
+                add(errors, ImageUrlVO.validate(imageUrls.get(i)), "imageUrls[" + i + "]");
+            }
+        }
+        add(errors, GalleryVO.validate(imageUrls), "imageUrls");
+
+        // Initial variant
+        add(errors, SkuVO.validate(command.initialVariantSku()), "initialVariantSku");
+        ValidationError currencyError = PriceVO.validateCurrencyCode(command.currencyCode());
+        add(errors, currencyError, "currencyCode");
+        if (currencyError == null) {
+            add(errors, PriceVO.validate(command.initialPrice(), 2, Currency.getInstance(command.currencyCode())), "initialPrice");
+        } else if (command.initialPrice() == null) {
+            add(errors, PriceVO.validate(null, 2, null), "initialPrice");
+        }
+        if (command.weightUnit() == null) {
+            errors.add(new ValidationError("weightUnit", ValidationError.REQUIRED, "Unit must not be null"));
+        } else if (!WEIGHT_UNITS.contains(command.weightUnit())) {
+            errors.add(new ValidationError("weightUnit", ValidationError.UNKNOWN_VALUE, "Unknown weight unit: " + command.weightUnit()));
+        } else {
+            add(errors, WeightVO.validate(command.weightValue(), WeightUnitEnums.valueOf(command.weightUnit())), "weightValue");
+        }
+
+        // Features
+        if (command.features() == null) {
+            errors.add(new ValidationError("features", ValidationError.REQUIRED, "Features cannot be null"));
+        } else {
+            int index = 0;
+            for (FeatureDTO feature : command.features()) {
+                validateFeature(feature, "features[" + index++ + "].", errors);
+            }
+        }
+
+        return ValidationResult.of(errors);
+    }
+
+    /**
+     * Validates many commands on the common fork-join pool. Results are in input order.
+     */
+    public static List<ValidationResult> validateAll(List<ProductCreateCommand> commands) {
+        return commands.parallelStream()
+                .map(ProductCreateCommandValidator::validate)
+                .toList();
+    }
+
+    private static void validateFeature(FeatureDTO feature, String prefix, List<ValidationError> errors) {
+        if (feature == null) {
+            errors.add(new ValidationError(prefix.substring(0, prefix.length() - 1), ValidationError.REQUIRED, "Feature cannot be null"));
+            return;
+        }
+        if (feature.id() != null && !feature.id().isBlank()) {
+            add(errors, FeatureIdVO.validate(feature.id()), prefix + "id");
+        }
+        add(errors, NameVO.validate(feature.name()), prefix + "name");
+        add(errors, LabelVO.validate(feature.label()), prefix + "label");
+        if (feature.description() != null) {
+            add(errors, DescriptionVO.validate(feature.description()), prefix + "description");
+        }
+        switch (feature) {
+            case FixedPriceFeatureDTO d ->
+                    add(errors, FeatureFixedPriceEntity.validateFixedPrice(d.fixedPrice()), prefix + "fixedPrice");
+            case ScalingPriceFeatureDTO d -> {
+                add(errors, MeasurementUnitVO.validate(d.unit()), prefix + "unit");
+                ValidationError scalingError = FeatureScalingPriceEntity.validateScaling(d.baseAmount(), d.incrementAmount(), d.maxQuantity());
+                add(errors, scalingError, scalingError != null ? prefix + scalingError.field() : null);
+            }
+            default -> { }
+        }
+    }
+
+    private static void add(List<ValidationError> errors, ValidationError error, String field) {
+        if (error != null) {
+            errors.add(error.atField(field));
+        }
+    }
+}
@@ -33,6 +33,9 @@ public class ProductDeleteService {
 
         // 2. Domain Logic: State transition
         ProductAggregate deletedProduct = product.softDelete();
+        if (deletedProduct == product) {
+            return; // Already deleted: re-saving the same version would be refused as a conflict
+        }
 
         // 3. Persist (Triggers the PRODUCT_UPDATED/DELETED outbox event)
         productCommandRepository.save(deletedProduct);
@@ -0,0 +1,9 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productimport;
+
+/**
+ * Supplier file formats accepted by the bulk import.
+ */
+public enum ImportFormat {
+    NDJSON, // One ProductCreateCommand-shaped JSON object per line, features carry a "type" discriminator
+    CSV     // One product with its initial variant per line, no features; an optional header line is skipped
+}
@@ -0,0 +1,167 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.BasicFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.FeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.FixedPriceFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.ScalingPriceFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate.ProductCreateCommand;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Parses one supplier record into a ProductCreateCommand. Only checks the record's shape;
+ * domain rules are left to ProductCreateAssembler. Malformed records raise IllegalArgumentException.
+ * Thread-safe.
+ */
+class ProductImportRecordParser {
+
+    static final String CSV_HEADER_PREFIX = "business_id,";
+    private static final int CSV_COLUMNS = 9; // business_id,category,description,image_urls,sku,price,currency_code,weight_value,weight_unit
+
+    private final ObjectReader reader;
+
+    ProductImportRecordParser(ObjectMapper objectMapper) {
+        // Prices must not pass through double
+        this.reader = objectMapper.reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    ProductCreateCommand parse(String line, ImportFormat format) {
+        return format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    private ProductCreateCommand parseJson(String line) {
+        JsonNode node;
+        try {
+            node = reader.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Record must be a JSON object");
+        }
+
+        List<String> imageUrls = new ArrayList<>();
+        node.path("imageUrls").forEach(url -> imageUrls.add(url.asText()));
+
+        Set<FeatureDTO> features = new HashSet<>();
+        for (JsonNode feature : node.path("features")) {
+            features.add(parseFeature(feature));
+        }
+
+        return new ProductCreateCommand(
+                text(node, "businessId"),
+                text(node, "category"),
+                text(node, "description"),
+                imageUrls,
+                text(node, "initialVariantSku"),
+                decimal(node, "initialPrice"),
+                text(node, "currencyCode"),
+                decimal(node, "weightValue"),
+                text(node, "weightUnit"),
+                features
+        );
+    }
+
+    private static FeatureDTO parseFeature(JsonNode node) {
+        String id = text(node, "id");
+        String name = text(node, "name");
+        String label = text(node, "label");
+        String description = text(node, "description");
+        boolean isUnique = node.path("isUnique").asBoolean(false);
+
+        return switch (node.path("type").asText("BASIC")) {
+            case "BASIC" -> new BasicFeatureDTO(id, name, label, description, isUnique);
+            case "FIXED_PRICE" -> new FixedPriceFeatureDTO(id, name, label, description, isUnique, decimal(node, "fixedPrice"));
+            case "SCALING_PRICE" -> new ScalingPriceFeatureDTO(id, name, label, description, isUnique,
+                    text(node, "unit"),
+                    decimal(node, "baseAmount"),
+                    decimal(node, "incrementAmount"),
+                    node.path("maxQuantity").asInt());
+            default -> throw new IllegalArgumentException("Unknown feature type: " + node.path("type").asText());
+        };
+    }
+
+    private static ProductCreateCommand parseCsv(String line) {
+        List<String> columns = splitCsv(line);
+        if (columns.size() != CSV_COLUMNS) {
+            throw new IllegalArgumentException("Expected " + CSV_COLUMNS + " columns but found " + columns.size());
+        }
+        List<String> imageUrls = columns.get(3).isEmpty() ? List.of() : List.of(columns.get(3).split("\\|"));
+
+        return new ProductCreateCommand(
+                columns.get(0),
+                columns.get(1),
+                columns.get(2),
+                imageUrls,
+                columns.get(4),
+                parseDecimal(columns.get(5), "price"),
+                columns.get(6),
+                parseDecimal(columns.get(7), "weight_value"),
+                columns.get(8),
+                Set.of()
+        );
+    }
+
+    /**
+     * RFC 4180 field splitting for a single physical line (quoted fields may contain commas and "" escapes).
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(CSV_COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static BigDecimal decimal(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.isNumber() ? value.decimalValue() : parseDecimal(value.asText(), field);
+    }
+
+    private static BigDecimal parseDecimal(String value, String field) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in " + field + ": " + value);
+        }
+    }
+}
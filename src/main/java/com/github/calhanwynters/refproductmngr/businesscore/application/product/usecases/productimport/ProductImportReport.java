@@ -0,0 +1,17 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productimport;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk import run.
+ * @param read Records read from the source file (blank lines and the CSV header excluded).
+ * @param imported Products persisted.
+ * @param rejected Records written to the reject file.
+ * @param elapsed Wall-clock duration of the run.
+ */
+public record ProductImportReport(long read, long imported, long rejected, Duration elapsed) {
+
+    public double recordsPerSecond() {
+        return read / (Math.max(elapsed.toNanos(), 1L) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,323 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate.ProductCreateAssembler;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate.ProductCreateCommand;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate.ProductCreateCommandValidator;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationResult;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streaming bulk import of supplier catalog files.
+ * <p>
+ * Four stages connected by bounded queues, so a slow stage blocks the ones before it instead of
+ * buffering the file in memory:
+ * <ol>
+ *     <li>read: buffered NIO reader, one record per line;</li>
+ *     <li>parse: line to ProductCreateCommand;</li>
+ *     <li>validate: parallel workers checking commands with ProductCreateCommandValidator, then building
+ *     aggregates through ProductCreateAssembler;</li>
+ *     <li>persist: batches handed to {@link ProductCommandRepository#saveAll}, one transaction per batch.</li>
+ * </ol>
+ * Records that fail parsing, validation or persistence go to the reject file with their line number
+ * and reason; they never abort the run. Every stage passes its end marker on even when it fails, so the
+ * pipeline always drains, and a failed stage then fails the run. Batches already persisted stay committed
+ * if the run fails.
+ */
+@Service
+public class ProductImportService {
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+
+    private static final int READ_BUFFER_CHARS = 1 << 20;
+
+    private static final RawRecord END_OF_INPUT = new RawRecord(-1, null);
+    private static final ParsedRecord END_OF_PARSE = new ParsedRecord(-1, null, null);
+    private static final ValidRecord END_OF_VALIDATION = new ValidRecord(-1, null, null);
+
+    private final ProductCommandRepository productRepository;
+    private final ProductImportRecordParser parser;
+
+    public ProductImportService(ProductCommandRepository productRepository, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.parser = new ProductImportRecordParser(objectMapper);
+    }
+
+    /**
+     * Imports every record of {@code source}.
+     * @param source Supplier file, UTF-8 (malformed bytes are replaced and usually end up rejected).
+     * @param format Record format of the file.
+     * @param rejectFile Receives one {@code line<TAB>reason<TAB>record} line per rejected record; truncated first.
+     * @param options Queue, worker and batch sizing.
+     * @return Counts and duration of the run.
+     * @throws UncheckedIOException if the source cannot be read or the reject file cannot be written.
+     * @throws IllegalStateException if a stage failed with an unexpected error.
+     */
+    public ProductImportReport importFile(Path source, ImportFormat format, Path rejectFile, ImportOptions options) {
+        Objects.requireNonNull(source, "Import source cannot be null");
+        Objects.requireNonNull(format, "Import format cannot be null");
+        Objects.requireNonNull(rejectFile, "Reject file cannot be null");
+        Objects.requireNonNull(options, "Import options cannot be null");
+
+        long started = System.nanoTime();
+        BlockingQueue<RawRecord> rawQueue = new ArrayBlockingQueue<>(options.queueCapacity());
+        BlockingQueue<ParsedRecord> parsedQueue = new ArrayBlockingQueue<>(options.queueCapacity());
+        BlockingQueue<ValidRecord> validQueue = new ArrayBlockingQueue<>(options.queueCapacity());
+        AtomicReference<IOException> readFailure = new AtomicReference<>();
+        AtomicLong read = new AtomicLong();
+
+        ExecutorService stages = Executors.newFixedThreadPool(2 + options.validators());
+        try (RejectWriter rejects = new RejectWriter(rejectFile)) {
+            List<Future<?>> stageResults = new ArrayList<>(2 + options.validators());
+            stageResults.add(stages.submit(() -> readStage(source, format, rawQueue, read, readFailure)));
+            stageResults.add(stages.submit(() -> parseStage(format, rawQueue, parsedQueue, rejects)));
+            for (int i = 0; i < options.validators(); i++) {
+                stageResults.add(stages.submit(() -> validateStage(parsedQueue, validQueue, rejects)));
+            }
+            long imported = persistStage(validQueue, options, rejects);
+            // Downstream first: the validators are done once their markers arrived, and each stage that finished
+            // normally consumed the marker of the one before it. A failed stage throws before an upstream stage
+            // it left blocked on a full queue is waited for (shutdownNow interrupts that one).
+            for (Future<?> stage : stageResults.reversed()) {
+                stage.get();
+            }
+            rejects.checkHealthy();
+
+            if (readFailure.get() != null) {
+                throw new UncheckedIOException("Import of " + source + " stopped after line " + read.get(), readFailure.get());
+            }
+            ProductImportReport report = new ProductImportReport(read.get(), imported, rejects.count(),
+                    Duration.ofNanos(System.nanoTime() - started));
+            logger.info("Import of {} finished: {} read, {} imported, {} rejected in {}",
+                    source, report.read(), report.imported(), report.rejected(), report.elapsed());
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Reject file " + rejectFile + " could not be written", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import of " + source + " failed in a pipeline stage", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import of " + source + " interrupted", e);
+        } finally {
+            stages.shutdownNow();
+        }
+    }
+
+    // --- STAGE 1: READ ---
+
+    private void readStage(Path source, ImportFormat format, BlockingQueue<RawRecord> out,
+                           AtomicLong read, AtomicReference<IOException> failure) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8), READ_BUFFER_CHARS)) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (lineNumber == 1 && format == ImportFormat.CSV && line.startsWith(ProductImportRecordParser.CSV_HEADER_PREFIX)) {
+                    continue;
+                }
+                out.put(new RawRecord(lineNumber, line)); // Blocks while downstream is behind
+                read.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failure.set(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            putQuietly(out, END_OF_INPUT); // A no-op once interrupted: the run is being torn down
+        }
+    }
+
+    // --- STAGE 2: PARSE ---
+
+    private void parseStage(ImportFormat format, BlockingQueue<RawRecord> in,
+                            BlockingQueue<ParsedRecord> out, RejectWriter rejects) {
+        try {
+            for (RawRecord record = in.take(); record != END_OF_INPUT; record = in.take()) {
+                try {
+                    out.put(new ParsedRecord(record.lineNumber(), record.text(), parser.parse(record.text(), format)));
+                } catch (RuntimeException e) {
+                    rejects.reject(record.lineNumber(), "Unparseable record: " + reason(e), record.text());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Also after an unexpected error, so the validators and the persist stage still drain
+            putQuietly(out, END_OF_PARSE);
+        }
+    }
+
+    // --- STAGE 3: VALIDATE (parallel) ---
+
+    private void validateStage(BlockingQueue<ParsedRecord> in, BlockingQueue<ValidRecord> out, RejectWriter rejects) {
+        try {
+            for (ParsedRecord record = in.take(); record != END_OF_PARSE; record = in.take()) {
+                try {
+                    // Exception-free pre-check: bad rows are common in supplier files and must not pay for stack traces
+                    ValidationResult validation = ProductCreateCommandValidator.validate(record.command());
+                    if (!validation.isValid()) {
+                        rejects.reject(record.lineNumber(), validation.summary(), record.text());
+                        continue;
+                    }
+                    ProductAggregate product = ProductCreateAssembler.toAggregate(record.command());
+                    out.put(new ValidRecord(record.lineNumber(), record.text(), product));
+                } catch (RuntimeException e) {
+                    rejects.reject(record.lineNumber(), reason(e), record.text());
+                }
+            }
+            in.put(END_OF_PARSE); // Hand the marker on to the sibling validators
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Also after an unexpected error; the persist stage counts one marker per validator
+            putQuietly(out, END_OF_VALIDATION);
+        }
+    }
+
+    // --- STAGE 4: PERSIST (calling thread) ---
+
+    private long persistStage(BlockingQueue<ValidRecord> in, ImportOptions options, RejectWriter rejects)
+            throws InterruptedException {
+        List<ValidRecord> batch = new ArrayList<>(options.batchSize());
+        long imported = 0;
+        int finishedValidators = 0;
+        while (finishedValidators < options.validators()) {
+            ValidRecord record = in.take();
+            if (record == END_OF_VALIDATION) {
+                finishedValidators++;
+                continue;
+            }
+            batch.add(record);
+            if (batch.size() >= options.batchSize()) {
+                imported += flush(batch, rejects);
+            }
+        }
+        return imported + flush(batch, rejects);
+    }
+
+    private long flush(List<ValidRecord> batch, RejectWriter rejects) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long imported = 0;
+        try {
+            productRepository.saveAll(batch.stream().map(ValidRecord::product).toList());
+            imported = batch.size();
+        } catch (RuntimeException batchFailure) {
+            // The batch transaction rolled back: retry one by one so a single bad row only rejects itself
+            logger.warn("Import batch of {} failed ({}), retrying records individually", batch.size(), batchFailure.getMessage());
+            for (ValidRecord record : batch) {
+                try {
+                    productRepository.save(record.product());
+                    imported++;
+                } catch (RuntimeException e) {
+                    rejects.reject(record.lineNumber(), "Persistence failed: " + reason(e), record.text());
+                }
+            }
+        }
+        batch.clear();
+        return imported;
+    }
+
+    private static String reason(RuntimeException e) {
+        // e.g. Currency.getInstance rejects unknown codes without a message
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static <T> void putQuietly(BlockingQueue<T> queue, T marker) {
+        try {
+            queue.put(marker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record RawRecord(long lineNumber, String text) {}
+
+    private record ParsedRecord(long lineNumber, String text, ProductCreateCommand command) {}
+
+    private record ValidRecord(long lineNumber, String text, ProductAggregate product) {}
+
+    /**
+     * Thread-safe reject sink shared by all stages. A write failure is remembered rather than thrown,
+     * so no stage dies without passing on its end marker; the run reports it once the pipeline has drained.
+     */
+    private static final class RejectWriter implements Closeable {
+        private final BufferedWriter writer;
+        private long count;
+        private IOException failure;
+
+        RejectWriter(Path file) throws IOException {
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        }
+
+        synchronized void reject(long lineNumber, String reason, String text) {
+            count++;
+            if (failure != null) {
+                return;
+            }
+            try {
+                writer.write(Long.toString(lineNumber));
+                writer.write('\t');
+                writer.write(String.valueOf(reason).replace('\t', ' ').replace('\n', ' '));
+                writer.write('\t');
+                writer.write(text);
+                writer.newLine();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized void checkHealthy() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Sizing of an import run.
+     * @param queueCapacity Capacity of each inter-stage queue; bounds the records held in memory.
+     * @param validators Parallel validation workers.
+     * @param batchSize Aggregates per saveAll transaction.
+     */
+    public record ImportOptions(int queueCapacity, int validators, int batchSize) {
+        public ImportOptions {
+            if (queueCapacity < 1 || validators < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("Import options must be positive");
+            }
+        }
+
+        public static ImportOptions defaults() {
+            return new ImportOptions(10_000, Runtime.getRuntime().availableProcessors(), 1000);
+        }
+    }
+}
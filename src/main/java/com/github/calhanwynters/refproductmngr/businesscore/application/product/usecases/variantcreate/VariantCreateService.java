@@ -38,9 +38,8 @@ public class VariantCreateService {
                 java.util.Set.of()
         );
 
-        // 3. Mutate and Save
-        product.addVariant(newVariant);
-        productCommandRepository.save(product);
+        // 3. Mutate and Save (the aggregate is immutable: save the returned, next version)
+        productCommandRepository.save(product.addVariant(newVariant));
     }
 
 }
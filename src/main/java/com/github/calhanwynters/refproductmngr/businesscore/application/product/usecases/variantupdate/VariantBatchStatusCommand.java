@@ -0,0 +1,20 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+
+import java.util.Map;
+
+public class VariantBatchStatusCommand {
+    private final String productId;
+    private final Map<String, VariantStatusEnums> statuses;
+
+    public VariantBatchStatusCommand (String productId, Map<String, VariantStatusEnums> statuses) {
+        this.productId = productId;
+        this.statuses = Map.copyOf(statuses);
+    }
+
+    public String getProductId() { return productId; }
+
+    // Target status per variant id; all variants must belong to the product
+    public Map<String, VariantStatusEnums> getStatuses() { return statuses; }
+}
@@ -0,0 +1,21 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+
+import java.util.Collection;
+import java.util.List;
+
+public class VariantBulkStatusCommand {
+    private final List<String> variantIds;
+    private final VariantStatusEnums targetStatus;
+
+    public VariantBulkStatusCommand (Collection<String> variantIds, VariantStatusEnums targetStatus) {
+        this.variantIds = List.copyOf(variantIds);
+        this.targetStatus = targetStatus;
+    }
+
+    // Variant ids from any number of products; outcomes are reported in this order
+    public List<String> getVariantIds() { return variantIds; }
+
+    public VariantStatusEnums getTargetStatus() { return targetStatus; }
+}
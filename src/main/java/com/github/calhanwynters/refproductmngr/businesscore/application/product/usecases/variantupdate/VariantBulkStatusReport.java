@@ -0,0 +1,21 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk status transition.
+ * @param outcomes One entry per distinct requested id, in request order.
+ * @param products Products saved with at least one changed variant.
+ * @param elapsed Wall-clock duration of the run.
+ */
+public record VariantBulkStatusReport(List<VariantStatusOutcome> outcomes, long products, Duration elapsed) {
+
+    public VariantBulkStatusReport {
+        outcomes = List.copyOf(outcomes);
+    }
+
+    public long count(VariantStatusOutcome.Result result) {
+        return outcomes.stream().filter(o -> o.result() == result).count();
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate.VariantStatusOutcome.Result;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductVersionConflictException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Moves many variants, possibly spread over many products, to one target status.
+ * <p>
+ * Ids are resolved in batches with {@link ProductCommandRepository#findAllByVariantIds}. Every
+ * requested variant of a loaded product is changed at once (also those queued for later batches),
+ * so each product is loaded, changed through {@link ProductAggregate#updateVariantStatuses} and
+ * saved exactly once. Each variant is checked first ({@link ProductAggregate#checkVariantStatusChange});
+ * only the variants the domain refuses are rejected, the rest of their product is still changed. The changed products of a batch go to {@link ProductCommandRepository#saveAll},
+ * one transaction per batch; a failed batch is retried product by product so only the offending
+ * product's variants fail. Batches already persisted stay committed if a later batch fails.
+ * <p>
+ * Saves are version-guarded: a product changed by someone else since it was loaded is reported as
+ * FAILED (conflict) and never overwritten; the caller can resubmit those variants.
+ */
+@Service
+public class VariantBulkStatusService {
+    private static final Logger logger = LoggerFactory.getLogger(VariantBulkStatusService.class);
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    static final String CONFLICT_REASON = "Conflict: the product was changed concurrently; retry the variant";
+
+    private final ProductCommandRepository productCommandRepository;
+
+    public VariantBulkStatusService(ProductCommandRepository productCommandRepository) {
+        this.productCommandRepository = productCommandRepository;
+    }
+
+    public VariantBulkStatusReport transition(VariantBulkStatusCommand command) {
+        return transition(command, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchSize Variant ids resolved per repository lookup; the products found are saved together.
+     * @return One outcome per distinct requested id. Never throws for individual variants.
+     */
+    public VariantBulkStatusReport transition(VariantBulkStatusCommand command, int batchSize) {
+        Objects.requireNonNull(command, "Bulk status command cannot be null");
+        VariantStatusEnums target = Objects.requireNonNull(command.getTargetStatus(), "Target status cannot be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        long started = System.nanoTime();
+
+        Map<String, VariantStatusOutcome> outcomes = new HashMap<>();
+        Map<VariantIdVO, String> requested = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (String raw : command.getVariantIds()) {
+            if (!seen.add(raw)) {
+                continue;
+            }
+            try {
+                VariantIdVO variantId = new VariantIdVO(raw);
+                if (requested.putIfAbsent(variantId, raw) != null) {
+                    outcomes.put(raw, outcome(raw, Result.REJECTED, "Duplicate of variant id " + requested.get(variantId)));
+                }
+            } catch (IllegalArgumentException e) {
+                outcomes.put(raw, outcome(raw, Result.REJECTED, e.getMessage()));
+            }
+        }
+
+        List<VariantIdVO> queue = new ArrayList<>(requested.keySet());
+        Set<VariantIdVO> handled = new HashSet<>();
+        long savedProducts = 0;
+        for (int from = 0; from < queue.size(); from += batchSize) {
+            List<VariantIdVO> batch = queue.subList(from, Math.min(from + batchSize, queue.size())).stream()
+                    .filter(variantId -> !handled.contains(variantId))
+                    .toList();
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            List<ProductChange> changes = new ArrayList<>();
+            for (ProductAggregate product : productCommandRepository.findAllByVariantIds(batch)) {
+                Map<VariantIdVO, VariantStatusEnums> statuses = new HashMap<>();
+                for (VariantEntity variant : product.variants()) {
+                    String raw = requested.get(variant.id());
+                    if (raw == null || !handled.add(variant.id())) {
+                        continue;
+                    }
+                    if (variant.status() == target) {
+                        outcomes.put(raw, outcome(raw, Result.UNCHANGED, null));
+                        continue;
+                    }
+                    try {
+                        // Per-variant check, so one refused variant does not hold back the rest of the product
+                        product.checkVariantStatusChange(variant.id(), target);
+                        statuses.put(variant.id(), target);
+                    } catch (IllegalArgumentException | IllegalStateException e) {
+                        outcomes.put(raw, outcome(raw, Result.REJECTED, e.getMessage()));
+                    }
+                }
+                if (statuses.isEmpty()) {
+                    continue;
+                }
+                try {
+                    changes.add(new ProductChange(product.updateVariantStatuses(statuses), statuses.keySet()));
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    record(statuses.keySet(), requested, outcomes, Result.REJECTED, e.getMessage());
+                }
+            }
+
+            for (VariantIdVO variantId : batch) {
+                if (handled.add(variantId)) {
+                    String raw = requested.get(variantId);
+                    outcomes.put(raw, outcome(raw, Result.NOT_FOUND, "Variant not found"));
+                }
+            }
+            savedProducts += persist(changes, requested, outcomes);
+        }
+
+        List<VariantStatusOutcome> ordered = command.getVariantIds().stream()
+                .distinct()
+                .map(outcomes::get)
+                .toList();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        logger.info("Bulk status transition to {}: {} variants requested, {} products saved in {} ms",
+                target, ordered.size(), savedProducts, elapsed.toMillis());
+        return new VariantBulkStatusReport(ordered, savedProducts, elapsed);
+    }
+
+    // Saves one batch of changed products; falls back to single saves so one bad product cannot fail the batch
+    private long persist(List<ProductChange> changes, Map<VariantIdVO, String> requested, Map<String, VariantStatusOutcome> outcomes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        List<ProductChange> retry = changes;
+        try {
+            productCommandRepository.saveAll(changes.stream().map(ProductChange::product).toList());
+            changes.forEach(change -> record(change.variantIds(), requested, outcomes, Result.UPDATED, null));
+            return changes.size();
+        } catch (ProductVersionConflictException conflict) {
+            // Nothing of the batch was written; the stale products fail, the others are saved one by one
+            retry = new ArrayList<>(changes.size());
+            for (ProductChange change : changes) {
+                if (conflict.productIds().contains(change.product().id())) {
+                    record(change.variantIds(), requested, outcomes, Result.FAILED, CONFLICT_REASON);
+                } else {
+                    retry.add(change);
+                }
+            }
+            logger.warn("Batch of {} products hit {} concurrent modifications", changes.size(), conflict.productIds().size());
+        } catch (RuntimeException batchFailure) {
+            logger.warn("Batch of {} products failed ({}), retrying one by one", changes.size(), batchFailure.getMessage());
+        }
+        long saved = 0;
+        for (ProductChange change : retry) {
+            try {
+                productCommandRepository.save(change.product());
+                record(change.variantIds(), requested, outcomes, Result.UPDATED, null);
+                saved++;
+            } catch (ProductVersionConflictException e) {
+                record(change.variantIds(), requested, outcomes, Result.FAILED, CONFLICT_REASON);
+            } catch (RuntimeException e) {
+                record(change.variantIds(), requested, outcomes, Result.FAILED, e.getMessage());
+            }
+        }
+        return saved;
+    }
+
+    private static void record(Set<VariantIdVO> variantIds, Map<VariantIdVO, String> requested,
+                               Map<String, VariantStatusOutcome> outcomes, Result result, String reason) {
+        for (VariantIdVO variantId : variantIds) {
+            String raw = requested.get(variantId);
+            outcomes.put(raw, outcome(raw, result, reason));
+        }
+    }
+
+    private static VariantStatusOutcome outcome(String raw, Result result, String reason) {
+        return new VariantStatusOutcome(raw, result, reason);
+    }
+
+    private record ProductChange(ProductAggregate product, Set<VariantIdVO> variantIds) {}
+}
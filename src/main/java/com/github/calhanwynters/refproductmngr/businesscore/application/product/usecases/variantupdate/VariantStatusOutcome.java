@@ -0,0 +1,23 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+/**
+ * Result of a bulk status transition for one requested variant.
+ * @param variantId The id as given in the command.
+ * @param result What happened to the variant.
+ * @param reason Why the variant was not updated; null for UPDATED and UNCHANGED.
+ */
+public record VariantStatusOutcome(String variantId, Result result, String reason) {
+
+    public enum Result {
+        /** Status changed and persisted. */
+        UPDATED,
+        /** The variant already had the target status; nothing was written. */
+        UNCHANGED,
+        /** No product owns a variant with this id. */
+        NOT_FOUND,
+        /** Invalid or duplicate id, or a domain rule refused the change. */
+        REJECTED,
+        /** The change was valid but could not be persisted. */
+        FAILED
+    }
+}
@@ -1,18 +1,35 @@
 package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.VariantStatusUpdateResult;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductNotFoundException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.VariantStatusRejectedException;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
 import jakarta.transaction.Transactional;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Status changes of variants.
+ * <p>
+ * The single-variant commands never load the aggregate: one guarded UPDATE
+ * ({@link ProductCommandRepository#updateVariantStatus}) checks the cross-entity rules and writes the status with
+ * its outbox event. There is no aggregate fallback; the outcome of that statement is final:
+ * <ul>
+ *     <li>an unknown variant throws {@link ProductNotFoundException};</li>
+ *     <li>a refused change (deleted product, activation without images or of a discontinued variant) throws
+ *     {@link VariantStatusRejectedException} carrying the rule, and nothing is written;</li>
+ *     <li>a variant already in the requested status is left as it is.</li>
+ * </ul>
+ * The batch command goes through the aggregate ({@link ProductAggregate#updateVariantStatuses}).
+ */
 @Service
 public class VariantUpdateStatusService {
-    private static final Logger logger = LoggerFactory.getLogger(VariantUpdateStatusService.class);
     private final ProductCommandRepository productCommandRepository;
 
     public VariantUpdateStatusService(ProductCommandRepository productCommandRepository) {
@@ -21,54 +38,52 @@ public class VariantUpdateStatusService {
 
     @Transactional
     public void updateVariantStatusToActive(VariantActiveCommand command) {
-        // 1. Load the Aggregate via the Variant's parent
-        ProductAggregate product = productCommandRepository.findByVariantId(new VariantIdVO(command.getId()))
-                .orElseThrow(() -> new ProductNotFoundException("Variant not found"));
-
-        // 2. Execute Domain Logic (The Aggregate Root handles the change)
-        ProductAggregate updatedProduct = product.updateVariantStatus(new VariantIdVO(command.getId()), VariantStatusEnums.ACTIVE);
-
-        // 3. Persist the state change
-        productCommandRepository.save(updatedProduct);
+        changeStatus(new VariantIdVO(command.getId()), VariantStatusEnums.ACTIVE);
     }
 
     @Transactional
     public void updateVariantStatusToDiscontinue(VariantDiscontinueCommand command) {
-        // 1. Load the Aggregate via the Variant's parent
-        ProductAggregate product = productCommandRepository.findByVariantId(new VariantIdVO(command.getId()))
-                .orElseThrow(() -> new ProductNotFoundException("Variant not found"));
-
-        // 2. Execute Domain Logic (The Aggregate Root handles the change)
-        ProductAggregate updatedProduct = product.updateVariantStatus(new VariantIdVO(command.getId()), VariantStatusEnums.DISCONTINUED);
-
-        // 3. Persist the state change
-        productCommandRepository.save(updatedProduct);
+        changeStatus(new VariantIdVO(command.getId()), VariantStatusEnums.DISCONTINUED);
     }
 
     @Transactional
     public void updateVariantStatusToDraft(VariantDraftCommand command) {
-        // 1. Load the Aggregate via the Variant's parent
-        ProductAggregate product = productCommandRepository.findByVariantId(new VariantIdVO(command.getId()))
-                .orElseThrow(() -> new ProductNotFoundException("Variant not found"));
-
-        // 2. Execute Domain Logic (The Aggregate Root handles the change)
-        ProductAggregate updatedProduct = product.updateVariantStatus(new VariantIdVO(command.getId()), VariantStatusEnums.DRAFT);
-
-        // 3. Persist the state change
-        productCommandRepository.save(updatedProduct);
+        changeStatus(new VariantIdVO(command.getId()), VariantStatusEnums.DRAFT);
     }
 
     @Transactional
     public void updateVariantStatusToInactive(VariantInactiveCommand command) {
-        // 1. Load the Aggregate via the Variant's parent
-        ProductAggregate product = productCommandRepository.findByVariantId(new VariantIdVO(command.getId()))
-                .orElseThrow(() -> new ProductNotFoundException("Variant not found"));
+        changeStatus(new VariantIdVO(command.getId()), VariantStatusEnums.INACTIVE);
+    }
+
+    @Transactional
+    public void updateVariantStatuses(VariantBatchStatusCommand command) {
+        // 1. Load the Aggregate once for the whole batch
+        ProductAggregate product = productCommandRepository.findById(new ProductIdVO(command.getProductId()))
+                .orElseThrow(() -> new ProductNotFoundException("Product not found"));
 
-        // 2. Execute Domain Logic (The Aggregate Root handles the change)
-        ProductAggregate updatedProduct = product.updateVariantStatus(new VariantIdVO(command.getId()), VariantStatusEnums.INACTIVE);
+        Map<VariantIdVO, VariantStatusEnums> statuses = new HashMap<>();
+        command.getStatuses().forEach((variantId, status) -> statuses.put(new VariantIdVO(variantId), status));
 
-        // 3. Persist the state change
+        // 2. Execute Domain Logic (all-or-nothing: invariants are checked for every variant first)
+        ProductAggregate updatedProduct = product.updateVariantStatuses(statuses);
+
+        // 3. Persist the state change with a single save
         productCommandRepository.save(updatedProduct);
     }
-}
 
+    /*
+     * One guarded UPDATE (and outbox row) decides everything: the SQL checks the same cross-entity rules as
+     * ProductAggregate.updateVariantStatus, so a refusal is reported as the domain would, without loading
+     * the aggregate.
+     */
+    private void changeStatus(VariantIdVO variantId, VariantStatusEnums newStatus) {
+        VariantStatusUpdateResult result = productCommandRepository.updateVariantStatus(variantId, newStatus);
+        if (result == VariantStatusUpdateResult.NOT_FOUND) {
+            throw new ProductNotFoundException("Variant not found");
+        }
+        if (result.isRejected()) {
+            throw new VariantStatusRejectedException(result);
+        }
+    }
+}
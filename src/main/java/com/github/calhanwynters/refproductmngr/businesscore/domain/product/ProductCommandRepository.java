@@ -4,7 +4,10 @@ import com.github.calhanwynters.refproductmngr.businesscore.domain.product.produ
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductCommandRepository {
@@ -13,9 +16,18 @@ public interface ProductCommandRepository {
     void deleteAllVariantsByProductId(ProductIdVO id);
     Optional<ProductAggregate> findByVariantId(VariantIdVO variantId);
 
+    // Loads every product owning at least one of the variants, each once, in one query (bulk variant paths)
+    List<ProductAggregate> findAllByVariantIds(Collection<VariantIdVO> variantIds);
+
+    // Fast path for a single status flip: one guarded UPDATE plus its outbox row, no aggregate load/save
+    VariantStatusUpdateResult updateVariantStatus(VariantIdVO variantId, VariantStatusEnums newStatus);
+
     // Persists the entire state of the Aggregate Root
     void save(ProductAggregate product);
 
+    // Persists many aggregates in one transaction using batched statements (bulk import path)
+    void saveAll(Collection<ProductAggregate> products);
+
 
     Optional<ProductAggregate> findById(ProductIdVO id);
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.ScheduledPriceChange;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface ScheduledPriceChangeRepository {
+    // Stores a new PENDING entry
+    void save(ScheduledPriceChange change);
+
+    // PENDING entries with from <= effectiveAt < until, ordered by effectiveAt; a null from also returns overdue entries
+    List<ScheduledPriceChange> findPending(Instant from, Instant until);
+
+    // PENDING -> CANCELLED; false if the entry does not exist or was already claimed, applied, failed or cancelled
+    boolean cancel(UUID id);
+
+    // PENDING -> APPLYING; returns the ids actually claimed (entries cancelled in the meantime are left out)
+    Set<UUID> claim(Collection<UUID> ids);
+
+    // APPLYING -> PENDING, for claimed entries that will be retried
+    void release(Collection<UUID> ids);
+
+    // APPLYING -> PENDING for every claimed entry (claims left behind by a crash; single scheduling instance)
+    void releaseAll();
+
+    // APPLYING -> APPLIED
+    void markApplied(Collection<UUID> ids, Instant appliedAt);
+
+    // APPLYING -> FAILED, keeping the reason per entry (unknown variant, currency mismatch, ...)
+    void markFailed(Map<UUID, String> reasons);
+}
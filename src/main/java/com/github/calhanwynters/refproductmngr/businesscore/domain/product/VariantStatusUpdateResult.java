@@ -0,0 +1,40 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product;
+
+/**
+ * Outcome of {@link ProductCommandRepository#updateVariantStatus}, the single-statement status change.
+ * The REJECTED_* outcomes are the cross-entity rules of ProductAggregate.updateVariantStatus, checked in SQL;
+ * nothing was written for them and {@link #rejectionReason()} carries the domain's message.
+ */
+public enum VariantStatusUpdateResult {
+    /** The status was written together with its outbox event. */
+    UPDATED,
+    /** The variant already had the requested status; nothing was written. */
+    UNCHANGED,
+    /** No variant with this id exists. */
+    NOT_FOUND,
+    /** The owning product is soft-deleted. */
+    REJECTED_PRODUCT_DELETED("Cannot change the status of a variant of a deleted product"),
+    /** ACTIVE was requested but the product has no images. */
+    REJECTED_NO_IMAGES("Cannot activate a variant for a product with no images"),
+    /** ACTIVE was requested for a DISCONTINUED variant. */
+    REJECTED_DISCONTINUED("Cannot activate a discontinued variant.");
+
+    private final String rejectionReason;
+
+    VariantStatusUpdateResult() {
+        this(null);
+    }
+
+    VariantStatusUpdateResult(String rejectionReason) {
+        this.rejectionReason = rejectionReason;
+    }
+
+    public boolean isRejected() {
+        return rejectionReason != null;
+    }
+
+    /** Why a domain rule refused the change; null unless {@link #isRejected()}. */
+    public String rejectionReason() {
+        return rejectionReason;
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+/**
+ * Single-pass, allocation-free replacements for the regular expressions used by value object constructors.
+ * Every method accepts exactly the same inputs as the regex named in its comment (see CharacterScannerTest),
+ * but runs without compiling a Pattern or creating a Matcher.
+ */
+public final class CharacterScanner {
+
+    private CharacterScanner() {}
+
+    /**
+     * Equivalent to {@code [0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}} (whole input).
+     */
+    public static boolean isUuid(CharSequence value) {
+        if (value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to {@code [A-Za-z0-9 ]+}.
+     */
+    public static boolean isAlphanumericOrSpace(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to {@code [A-Z0-9-]+}.
+     */
+    public static boolean isUpperAlphanumericOrDash(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9') && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to {@code [a-zA-Z0-9 .,:;!\-?\n*•\d()\[\]]+}, the free-text whitelist of descriptions.
+     */
+    public static boolean isProseText(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (isAsciiLetterOrDigit(c)) {
+                continue;
+            }
+            switch (c) {
+                case ' ', '.', ',', ':', ';', '!', '-', '?', '\n', '*', '•', '(', ')', '[', ']' -> { }
+                default -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent to {@code value.replaceAll("\\s+", " ")}: collapses every run of regex whitespace
+     * ({@code [ \t\n\x0B\f\r]}) into one space. Returns {@code value} itself when nothing changes.
+     */
+    public static String collapseWhitespace(String value) {
+        int length = value.length();
+        int i = 0;
+        // Fast path: find the first run that is not already a single ' '
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (isRegexWhitespace(c) && (c != ' ' || (i + 1 < length && isRegexWhitespace(value.charAt(i + 1))))) {
+                break;
+            }
+        }
+        if (i == length) {
+            return value;
+        }
+
+        StringBuilder collapsed = new StringBuilder(length).append(value, 0, i);
+        boolean inRun = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (isRegexWhitespace(c)) {
+                if (!inRun) {
+                    collapsed.append(' ');
+                    inRun = true;
+                }
+            } else {
+                collapsed.append(c);
+                inRun = false;
+            }
+        }
+        return collapsed.toString();
+    }
+
+    /**
+     * Case-insensitive substring search without lower-casing either string.
+     * Uses {@link String#regionMatches(boolean, int, String, int, int)}, i.e. per-character case folding.
+     */
+    public static boolean containsIgnoreCase(String text, String word) {
+        int last = text.length() - word.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, word, 0, word.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The characters matched by {@code \s} without UNICODE_CHARACTER_CLASS.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
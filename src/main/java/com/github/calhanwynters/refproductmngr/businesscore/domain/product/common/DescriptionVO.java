@@ -1,7 +1,6 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Domain value object for product descriptions.
@@ -11,42 +10,66 @@ public record DescriptionVO(String text) {
     private static final int MIN_LENGTH = 10;
     private static final int MAX_LENGTH = 2000;
 
-    // Whitelist pattern: Allows letters, numbers, spaces, common punctuation (.,:;!?-), newlines (\n), etc.
-    private static final String ALLOWED_CHARS_REGEX = "[a-zA-Z0-9 .,:;!\\-?\\n*•\\d()\\[\\]]+";
-    private static final Pattern ALLOWED_CHARS_PATTERN = Pattern.compile(ALLOWED_CHARS_REGEX);
+    // Whitelist: letters, numbers, spaces, common punctuation (.,:;!?-), newlines (\n), etc.
+    // Enforced by CharacterScanner.isProseText, equivalent to [a-zA-Z0-9 .,:;!\-?\n*•\d()\[\]]+
+    private static final String[] FORBIDDEN_WORDS = {"forbiddenWord1", "forbiddenWord2"};
+    private static final String FIELD = "description";
 
     // Constructor with validation and normalization
     public DescriptionVO {
         Objects.requireNonNull(text, "Description value cannot be null");
 
         // 1. Normalize whitespace and trim
-        String normalized = text.strip().replaceAll("\\s+", " ");
+        String normalized = normalize(text);
 
+        // 2. Whitelist, length and forbidden-word rules (shared with validate)
+        ValidationError error = check(normalized);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        // 3. Assign the normalized and validated value to the record component
+        text = normalized;
+    }
+
+    /**
+     * Exception-free counterpart of the constructor, for bulk paths.
+     * @return The first broken rule, or null when {@code new DescriptionVO(text)} would succeed.
+     */
+    public static ValidationError validate(String text) {
+        if (text == null) {
+            return new ValidationError(FIELD, ValidationError.REQUIRED, "Description value cannot be null");
+        }
+        return check(normalize(text));
+    }
+
+    private static String normalize(String text) {
+        return CharacterScanner.collapseWhitespace(text.strip());
+    }
+
+    private static ValidationError check(String normalized) {
         // --- Cybersecurity Enhancement: Whitelisting ---
-        if (!ALLOWED_CHARS_PATTERN.matcher(normalized).matches()) {
-            throw new IllegalArgumentException("Description contains forbidden characters. Only letters, numbers, spaces, and common punctuation are allowed.");
+        if (!CharacterScanner.isProseText(normalized)) {
+            return new ValidationError(FIELD, ValidationError.FORBIDDEN_CHARACTERS, "Description contains forbidden characters. Only letters, numbers, spaces, and common punctuation are allowed.");
         }
         // ----------------------------------------------
 
-        // 2. Validate length after normalization
+        // Validate length after normalization
         if (normalized.length() < MIN_LENGTH) {
-            throw new IllegalArgumentException("Description must be at least " + MIN_LENGTH + " characters long.");
+            return new ValidationError(FIELD, ValidationError.TOO_SHORT, "Description must be at least " + MIN_LENGTH + " characters long.");
         }
 
         if (normalized.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("Description cannot exceed " + MAX_LENGTH + " characters.");
+            return new ValidationError(FIELD, ValidationError.TOO_LONG, "Description cannot exceed " + MAX_LENGTH + " characters.");
         }
 
-        // 3. Optional business rules check (forbidden words using the normalized string)
-        String[] forbiddenWords = {"forbiddenWord1", "forbiddenWord2"};
-        for (String forbidden : forbiddenWords) {
-            if (normalized.toLowerCase().contains(forbidden.toLowerCase())) {
-                throw new IllegalArgumentException("Description contains forbidden words.");
+        // Optional business rules check (forbidden words using the normalized string)
+        for (String forbidden : FORBIDDEN_WORDS) {
+            if (CharacterScanner.containsIgnoreCase(normalized, forbidden)) {
+                return new ValidationError(FIELD, ValidationError.FORBIDDEN_WORDS, "Description contains forbidden words.");
             }
         }
-
-        // 4. Assign the normalized and validated value to the record component
-        text = normalized;
+        return null;
     }
 
     // Example domain behavior (remains useful)
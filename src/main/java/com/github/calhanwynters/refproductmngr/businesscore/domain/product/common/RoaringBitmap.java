@@ -0,0 +1,555 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints in the roaring layout: values are split by their high 16 bits into
+ * chunks, and each chunk keeps its low 16 bits either as a sorted array (up to {@link #ARRAY_MAX} values,
+ * 2 bytes each) or as a 65536-bit bitmap (8 KB). Sparse chunks stay small, dense chunks intersect a word
+ * at a time, and {@link #and}, {@link #or} and {@link #andCardinality} only visit chunks present in both
+ * (or either) operand.
+ * <p>
+ * Intended for dense ordinals (0..n), where most chunks are bitmaps. Not thread-safe; the binary
+ * operations never modify their operands.
+ */
+public final class RoaringBitmap {
+
+    static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024; // 65536 bits per bitmap chunk
+
+    private char[] keys;
+    private Container[] containers;
+    private int size; // Number of chunks in use
+
+    public RoaringBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    private RoaringBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * @return True if the value was not present.
+     * @throws IllegalArgumentException If the value is negative.
+     */
+    public boolean add(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must be non-negative, but was " + value);
+        }
+        char key = (char) (value >>> 16);
+        int index = find(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new ArrayContainer());
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality() > before;
+    }
+
+    /**
+     * @return True if the value was present.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = find((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        Container updated = container.remove((char) value);
+        if (updated.cardinality() == 0) {
+            removeChunk(index);
+        } else {
+            containers[index] = updated;
+        }
+        return updated.cardinality() < before;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = find((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits every value in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] position = {0};
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    public RoaringBitmap copy() {
+        Container[] copies = new Container[Math.max(size, 4)];
+        for (int i = 0; i < size; i++) {
+            copies[i] = containers[i].copy();
+        }
+        return new RoaringBitmap(Arrays.copyOf(keys, copies.length), copies, size);
+    }
+
+    /**
+     * @return A new bitmap with the values present in both operands.
+     */
+    public static RoaringBitmap and(RoaringBitmap left, RoaringBitmap right) {
+        int capacity = Math.max(Math.min(left.size, right.size), 4);
+        RoaringBitmap result = new RoaringBitmap(new char[capacity], new Container[capacity], 0);
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            char a = left.keys[i];
+            char b = right.keys[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                Container container = left.containers[i++].and(right.containers[j++]);
+                if (container.cardinality() > 0) {
+                    result.appendChunk(a, container);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of values present in both operands, without building the intersection.
+     */
+    public static int andCardinality(RoaringBitmap left, RoaringBitmap right) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            char a = left.keys[i];
+            char b = right.keys[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                cardinality += left.containers[i++].andCardinality(right.containers[j++]);
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return A new bitmap with the values present in either operand.
+     */
+    public static RoaringBitmap or(RoaringBitmap left, RoaringBitmap right) {
+        int capacity = Math.max(left.size + right.size, 4);
+        RoaringBitmap result = new RoaringBitmap(new char[capacity], new Container[capacity], 0);
+        int i = 0;
+        int j = 0;
+        while (i < left.size || j < right.size) {
+            if (j >= right.size || (i < left.size && left.keys[i] < right.keys[j])) {
+                result.appendChunk(left.keys[i], left.containers[i++].copy());
+            } else if (i >= left.size || right.keys[j] < left.keys[i]) {
+                result.appendChunk(right.keys[j], right.containers[j++].copy());
+            } else {
+                result.appendChunk(left.keys[i], left.containers[i++].or(right.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RoaringBitmap that) || size != that.size || cardinality() != that.cardinality()) {
+            return false;
+        }
+        return Arrays.equals(toArray(), that.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        int cardinality = cardinality();
+        return "RoaringBitmap{cardinality=" + cardinality + ", chunks=" + size + '}';
+    }
+
+    private int find(char key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char candidate = keys[mid];
+            if (candidate < key) {
+                low = mid + 1;
+            } else if (candidate > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insertChunk(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendChunk(char key, Container container) {
+        insertChunk(size, key, container);
+    }
+
+    private void removeChunk(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * The low 16 bits of one chunk. Mutators return the container to keep, which changes representation
+     * when the cardinality crosses {@link #ARRAY_MAX}.
+     */
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract Container or(Container other);
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Container copy();
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int count = 0;
+            if (other instanceof ArrayContainer that) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < that.cardinality) {
+                    char a = values[i];
+                    char b = that.values[j];
+                    if (a < b) {
+                        i++;
+                    } else if (a > b) {
+                        j++;
+                    } else {
+                        result[count++] = a;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer that) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < that.cardinality) {
+                    char a = values[i];
+                    char b = that.values[j];
+                    if (a < b) {
+                        i++;
+                    } else if (a > b) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                BitmapContainer bitmap = (BitmapContainer) other;
+                for (int i = 0; i < cardinality; i++) {
+                    if (bitmap.contains(values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer that = (ArrayContainer) other;
+            if (cardinality + that.cardinality > ARRAY_MAX) {
+                return toBitmap().or(that);
+            }
+            char[] result = new char[Math.max(cardinality + that.cardinality, 4)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < that.cardinality) {
+                if (j >= that.cardinality || (i < cardinality && values[i] < that.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i >= cardinality || that.values[j] < values[i]) {
+                    result[count++] = that.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 4)), cardinality);
+        }
+
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer(new long[WORDS], 0);
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX / 2) {
+                    return toArrayContainer(); // Hysteresis: back to an array well below the switch point
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            BitmapContainer that = (BitmapContainer) other;
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                result[i] = words[i] & that.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer bitmap = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? bitmap.toArrayContainer() : bitmap;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.andCardinality(this);
+            }
+            long[] those = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                count += Long.bitCount(words[i] & those[i]);
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer result = (BitmapContainer) copy();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    result.add(array.values[i]);
+                }
+                return result;
+            }
+            long[] those = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                result.words[i] |= those[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        ArrayContainer toArrayContainer() {
+            char[] values = new char[Math.max(cardinality, 4)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, count[0]);
+        }
+    }
+}
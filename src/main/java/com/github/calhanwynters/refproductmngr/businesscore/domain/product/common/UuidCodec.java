@@ -0,0 +1,76 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import java.util.UUID;
+
+/**
+ * Converts between the canonical 36-character UUID text and its two 64-bit halves
+ * without creating intermediate substrings or UUID instances.
+ * Parsing methods expect input already accepted by {@link CharacterScanner#isUuid(CharSequence)}.
+ */
+public final class UuidCodec {
+
+    /** Length of the canonical text form. */
+    public static final int LENGTH = 36;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Per-thread scratch text for format(); the String constructor copies it, so it is never handed out
+    private static final ThreadLocal<char[]> FORMAT_BUFFER = ThreadLocal.withInitial(() -> new char[LENGTH]);
+
+    private UuidCodec() {}
+
+    /**
+     * @return The high 64 bits of a canonical UUID string (hex digits 0-15, case-insensitive).
+     */
+    public static long mostSignificantBits(CharSequence uuid) {
+        return hexBits(uuid, 0, 8) << 32 | hexBits(uuid, 9, 13) << 16 | hexBits(uuid, 14, 18);
+    }
+
+    /**
+     * @return The low 64 bits of a canonical UUID string (hex digits 16-31, case-insensitive).
+     */
+    public static long leastSignificantBits(CharSequence uuid) {
+        return hexBits(uuid, 19, 23) << 48 | hexBits(uuid, 24, 36);
+    }
+
+    /**
+     * @return The canonical lower-case form, identical to {@link UUID#toString()}. Formatted straight from the
+     * two halves into a reused buffer, so the returned String is the only allocation.
+     */
+    public static String format(long mostSignificantBits, long leastSignificantBits) {
+        char[] text = FORMAT_BUFFER.get();
+        formatTo(mostSignificantBits, leastSignificantBits, text, 0);
+        return new String(text, 0, LENGTH);
+    }
+
+    /**
+     * Writes the canonical lower-case form into {@code destination} at {@code offset} (36 chars), so writers
+     * (JSON generators, CSV lines) can emit an id without allocating a String for it.
+     */
+    public static void formatTo(long mostSignificantBits, long leastSignificantBits, char[] destination, int offset) {
+        hexChars(mostSignificantBits >>> 32, 8, destination, offset);
+        destination[offset + 8] = '-';
+        hexChars(mostSignificantBits >>> 16, 4, destination, offset + 9);
+        destination[offset + 13] = '-';
+        hexChars(mostSignificantBits, 4, destination, offset + 14);
+        destination[offset + 18] = '-';
+        hexChars(leastSignificantBits >>> 48, 4, destination, offset + 19);
+        destination[offset + 23] = '-';
+        hexChars(leastSignificantBits, 12, destination, offset + 24);
+    }
+
+    private static void hexChars(long bits, int digits, char[] destination, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            destination[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    private static long hexBits(CharSequence uuid, int from, int to) {
+        long bits = 0;
+        for (int i = from; i < to; i++) {
+            bits = bits << 4 | Character.digit(uuid.charAt(i), 16);
+        }
+        return bits;
+    }
+}
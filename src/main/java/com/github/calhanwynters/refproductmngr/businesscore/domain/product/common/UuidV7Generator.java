@@ -0,0 +1,64 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered UUIDv7 identifiers (RFC 9562, section 5.7).
+ * Layout: 48-bit Unix epoch milliseconds, version 7, a 12-bit per-thread counter (rand_a),
+ * the RFC 4122 variant and 62 random bits (rand_b).
+ * <p>
+ * New ids land at the right-hand edge of B-tree primary keys instead of on random pages.
+ * Ids created by the same thread are strictly increasing: the counter restarts at a random value
+ * below 2048 every millisecond, and when it overflows (or the clock moves backwards) the timestamp
+ * is advanced logically instead of reusing a value. Randomness comes from ThreadLocalRandom, so no
+ * lock is shared between threads; ids are unique but not unpredictable, and must not be used as secrets.
+ */
+public final class UuidV7Generator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+    private static final int COUNTER_MASK = 0xFFF;
+    private static final int COUNTER_SEED_BOUND = 0x800; // Leaves at least 2048 increments per millisecond
+
+    private static final UuidV7Generator SYSTEM = new UuidV7Generator(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return A new UUIDv7 from the system clock.
+     */
+    public static UUID next() {
+        return SYSTEM.generate();
+    }
+
+    UUID generate() {
+        State current = state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = clock.getAsLong();
+
+        if (now > current.millis) {
+            current.millis = now;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        } else if (++current.counter > COUNTER_MASK) {
+            // Counter exhausted within one millisecond, or the clock went backwards: borrow the next millisecond
+            current.millis++;
+            current.counter = random.nextInt(COUNTER_SEED_BOUND);
+        }
+
+        long mostSignificantBits = current.millis << 16 | VERSION_7 | current.counter;
+        long leastSignificantBits = VARIANT_RFC_4122 | random.nextLong() >>> 2;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static final class State {
+        long millis = -1;
+        int counter;
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import java.util.Objects;
+
+/**
+ * One broken validation rule, reported as data instead of an exception.
+ * The message is exactly the one the matching value object constructor throws.
+ *
+ * @param field   Path of the offending input, e.g. "sku" or "features[2].label".
+ * @param code    Stable machine-readable rule identifier (see the constants below).
+ * @param message Human-readable explanation.
+ */
+public record ValidationError(String field, String code, String message) {
+
+    public static final String REQUIRED = "required";
+    public static final String BLANK = "blank";
+    public static final String TOO_SHORT = "too_short";
+    public static final String TOO_LONG = "too_long";
+    public static final String TOO_MANY = "too_many";
+    public static final String FORBIDDEN_CHARACTERS = "forbidden_characters";
+    public static final String FORBIDDEN_WORDS = "forbidden_words";
+    public static final String INVALID_FORMAT = "invalid_format";
+    public static final String OUT_OF_RANGE = "out_of_range";
+    public static final String DUPLICATE = "duplicate";
+    public static final String UNKNOWN_VALUE = "unknown_value";
+
+    public ValidationError {
+        Objects.requireNonNull(field, "Field cannot be null");
+        Objects.requireNonNull(code, "Code cannot be null");
+        Objects.requireNonNull(message, "Message cannot be null");
+    }
+
+    /**
+     * Re-targets the error at a more specific input path.
+     */
+    public ValidationError atField(String field) {
+        return new ValidationError(field, code, message);
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Outcome of an exception-free validation: empty when every rule passed.
+ */
+public record ValidationResult(List<ValidationError> errors) {
+
+    public static final ValidationResult VALID = new ValidationResult(List.of());
+
+    public ValidationResult {
+        errors = List.copyOf(errors);
+    }
+
+    public static ValidationResult of(Collection<ValidationError> errors) {
+        return errors.isEmpty() ? VALID : new ValidationResult(new ArrayList<>(errors));
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * All messages joined into one line, e.g. for reject files and logs.
+     */
+    public String summary() {
+        return errors.stream()
+                .map(e -> e.field() + ": " + e.message())
+                .collect(Collectors.joining("; "));
+    }
+}
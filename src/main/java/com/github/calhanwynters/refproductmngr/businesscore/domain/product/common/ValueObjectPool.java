@@ -0,0 +1,107 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded, thread-safe flyweight pool for immutable value objects built from a single string.
+ * Lookups are keyed by the input after the value object's own normalization (e.g. trimming), so inputs that
+ * yield equal VOs share one instance, and a hit returns it without running the constructor's validation again
+ * (validation is deterministic: the same input always yields an equal VO). Failed constructions are never cached.
+ * At capacity each new entry evicts one old entry, chosen CLOCK-style: entries read since the hand last passed
+ * them get a second chance, so frequently used values stay pooled (an approximate LRU with lock-free hits).
+ * <p>
+ * Intended for low-cardinality values repeated across a catalog (categories, feature names and labels,
+ * measurement units, care instructions), not for identifiers or free text.
+ */
+public final class ValueObjectPool<V> {
+
+    private final int capacity;
+    private final UnaryOperator<String> normalizer;
+    private final Function<String, V> factory;
+    private final ConcurrentHashMap<String, Entry<V>> instances;
+    private Iterator<Entry<V>> hand; // Guarded by this
+
+    /**
+     * Pool for value objects that keep their input unchanged.
+     * @param capacity Maximum number of pooled values (may be exceeded briefly by concurrent misses).
+     * @param factory Validating constructor of the value object.
+     */
+    public ValueObjectPool(int capacity, Function<String, V> factory) {
+        this(capacity, UnaryOperator.identity(), factory);
+    }
+
+    /**
+     * @param capacity Maximum number of pooled values (may be exceeded briefly by concurrent misses).
+     * @param normalizer The normalization the constructor applies to its input (e.g. {@code String::trim}).
+     * @param factory Validating constructor of the value object.
+     */
+    public ValueObjectPool(int capacity, UnaryOperator<String> normalizer, Function<String, V> factory) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Pool capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.normalizer = Objects.requireNonNull(normalizer);
+        this.factory = Objects.requireNonNull(factory);
+        this.instances = new ConcurrentHashMap<>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * @return The shared instance for {@code raw}, constructing (and validating) it on a miss.
+     * A null input goes straight to the factory so its null handling is preserved.
+     */
+    public V get(String raw) {
+        if (raw == null) {
+            return factory.apply(null);
+        }
+        String key = normalizer.apply(raw);
+        Entry<V> pooled = instances.get(key);
+        if (pooled != null) {
+            if (!pooled.referenced) {
+                pooled.referenced = true; // Only written when clear, so hot entries are not written on every hit
+            }
+            return pooled.value;
+        }
+        V created = factory.apply(raw);
+        if (instances.size() >= capacity) {
+            evict();
+        }
+        Entry<V> raced = instances.putIfAbsent(key, new Entry<>(created));
+        return raced != null ? raced.value : created;
+    }
+
+    public int size() {
+        return instances.size();
+    }
+
+    // Advances the clock hand until an entry not read since the last pass is removed
+    private synchronized void evict() {
+        // Two full turns always find a victim: the first clears every reference bit
+        for (int step = 0; step <= 2 * capacity && instances.size() >= capacity; step++) {
+            if (hand == null || !hand.hasNext()) {
+                hand = instances.values().iterator();
+                if (!hand.hasNext()) {
+                    return;
+                }
+            }
+            Entry<V> entry = hand.next();
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else {
+                hand.remove();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        volatile boolean referenced;
+
+        Entry(V value) {
+            this.value = value;
+        }
+    }
+}
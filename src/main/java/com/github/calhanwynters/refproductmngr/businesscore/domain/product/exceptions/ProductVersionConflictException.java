@@ -0,0 +1,23 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Raised when a save carries a version that is not newer than the stored one, i.e. the product was
+ * changed by someone else since it was loaded. Nothing of the failed save is written.
+ */
+public class ProductVersionConflictException extends RuntimeException {
+    private final Set<ProductIdVO> productIds;
+
+    public ProductVersionConflictException(Collection<ProductIdVO> productIds) {
+        super("Concurrent modification of product(s) " + productIds);
+        this.productIds = Set.copyOf(productIds);
+    }
+
+    public Set<ProductIdVO> productIds() {
+        return productIds;
+    }
+}
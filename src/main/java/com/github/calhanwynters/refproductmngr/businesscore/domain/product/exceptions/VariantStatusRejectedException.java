@@ -0,0 +1,21 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.VariantStatusUpdateResult;
+
+/**
+ * Raised when a cross-entity rule refuses a single variant status change (deleted product, activation without
+ * images, activation of a discontinued variant). Nothing was written; the message is the domain's reason.
+ * Extends IllegalStateException, which the aggregate throws for the same rules.
+ */
+public class VariantStatusRejectedException extends IllegalStateException {
+    private final VariantStatusUpdateResult result;
+
+    public VariantStatusRejectedException(VariantStatusUpdateResult result) {
+        super(result.rejectionReason());
+        this.result = result;
+    }
+
+    public VariantStatusUpdateResult result() {
+        return result;
+    }
+}
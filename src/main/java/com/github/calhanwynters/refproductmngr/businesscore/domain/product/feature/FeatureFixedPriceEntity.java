@@ -1,6 +1,7 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -17,18 +18,29 @@ public class FeatureFixedPriceEntity extends FeatureAbstractClass {
     ) {
         super(id, nameVO, labelVO, description, isUnique);
 
-        if (fixedPrice == null) {
-            throw new IllegalArgumentException("Fixed price must not be null.");
-        }
-
-        if (fixedPrice.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Fixed price cannot be negative.");
+        ValidationError error = validateFixedPrice(fixedPrice);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
         }
 
         // Normalize to 2 decimal places for consistent currency handling
         this.fixedPrice = fixedPrice.setScale(2, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Exception-free counterpart of the constructor's price rules.
+     * @return The broken rule, or null when the price is acceptable.
+     */
+    public static ValidationError validateFixedPrice(BigDecimal fixedPrice) {
+        if (fixedPrice == null) {
+            return new ValidationError("fixedPrice", ValidationError.REQUIRED, "Fixed price must not be null.");
+        }
+        if (fixedPrice.compareTo(BigDecimal.ZERO) < 0) {
+            return new ValidationError("fixedPrice", ValidationError.OUT_OF_RANGE, "Fixed price cannot be negative.");
+        }
+        return null;
+    }
+
     public BigDecimal getFixedPrice() {
         return fixedPrice;
     }
@@ -1,41 +1,65 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.CharacterScanner;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidCodec;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
 import java.util.Objects;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
- * Represents a unique identifier for a feature in the system, stored as a String internally
- * for validation flexibility but representing a UUID structure.
+ * Represents a unique identifier for a feature in the system. The string form is validated
+ * as a UUID and kept as its two 64-bit halves; {@link #value()} exposes the canonical string.
  */
-public record FeatureIdVO(String value) {
-
-    // Regex pattern for a standard UUID (case-insensitive)
-    private static final Pattern UUID_PATTERN =
-            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+public record FeatureIdVO(long mostSignificantBits, long leastSignificantBits) {
 
     /**
-     * Compact constructor for validation.
+     * Parsing constructor for validation.
      * Ensures that the value is not null, non-blank, and is a valid UUID format string.
      */
-    public FeatureIdVO {
+    public FeatureIdVO(String value) {
+        this(UuidCodec.mostSignificantBits(requireValid(value)), UuidCodec.leastSignificantBits(value));
+    }
+
+    private static String requireValid(String value) {
         Objects.requireNonNull(value, "FeatureId value cannot be null");
+        ValidationError error = check(value);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+        return value;
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new FeatureIdVO(value)} would succeed.
+     */
+    public static ValidationError validate(String value) {
+        if (value == null) {
+            return new ValidationError("featureId", ValidationError.REQUIRED, "FeatureId value cannot be null");
+        }
+        return check(value);
+    }
+
+    private static ValidationError check(String value) {
         if (value.isBlank()) {
-            throw new IllegalArgumentException("FeatureId value cannot be empty or blank");
+            return new ValidationError("featureId", ValidationError.BLANK, "FeatureId value cannot be empty or blank");
         }
 
-        // Validate the input string against a known safe format (UUID regex)
-        if (!UUID_PATTERN.matcher(value).matches()) {
-            throw new IllegalArgumentException("FeatureId must be a valid UUID format.");
+        // Validate the input string against a known safe format (UUID, case-insensitive hex)
+        if (!CharacterScanner.isUuid(value)) {
+            return new ValidationError("featureId", ValidationError.INVALID_FORMAT, "FeatureId must be a valid UUID format.");
         }
+        return null;
     }
 
     /**
-     * Static factory method to generate a new, unique FeatureIdVO using a random UUID.
+     * Static factory method to generate a new, unique FeatureIdVO using a time-ordered UUIDv7.
      * @return A new instance of FeatureIdVO.
      */
     public static FeatureIdVO generate() {
-        return new FeatureIdVO(UUID.randomUUID().toString());
+        return fromUUID(UuidV7Generator.next());
     }
 
     /**
@@ -47,11 +71,32 @@ public record FeatureIdVO(String value) {
         return new FeatureIdVO(value);
     }
 
+    /**
+     * Static factory method for ids read as native UUIDs (JDBC uuid columns, BSON binary).
+     */
+    public static FeatureIdVO fromUUID(UUID uuid) {
+        Objects.requireNonNull(uuid, "FeatureId value cannot be null");
+        return new FeatureIdVO(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * @return The canonical lower-case UUID string, formatted on every call (a record cannot cache it).
+     * Writers emitting many ids use {@link UuidCodec#formatTo} or {@link #toUUID()} instead.
+     */
+    public String value() {
+        return UuidCodec.format(mostSignificantBits, leastSignificantBits);
+    }
+
     /**
      * Helper method to return the underlying standard UUID object if needed for external systems.
      * @return The UUID object.
      */
     public UUID toUUID() {
-        return UUID.fromString(this.value);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return "FeatureIdVO[value=" + value() + "]";
     }
 }
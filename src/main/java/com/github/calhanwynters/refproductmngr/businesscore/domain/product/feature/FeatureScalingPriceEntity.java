@@ -1,21 +1,31 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * A feature where price scales based on quantity/measurement (e.g., custom length of fabric).
  */
 public class FeatureScalingPriceEntity extends FeatureAbstractClass {
 
+    /** Largest maxQuantity that gets a precomputed price table (8 bytes per quantity). */
+    public static final int PRICE_TABLE_MAX_QUANTITY = 100_000;
+
     private final MeasurementUnitVO measurementUnit;
     private final BigDecimal baseAmount;
     private final BigDecimal incrementAmount;
     private final int maxQuantity;
 
+    // Built on first use; immutable, so a racing second build is harmless and no lock is needed.
+    // Optional.empty() records that no table can be built, so overflowing features do not retry on every call.
+    // Transient: a cache, never part of the Mongo document or equality
+    private transient volatile Optional<ScalingPriceTable> priceTable;
+
     public FeatureScalingPriceEntity(
             FeatureIdVO id,
             NameVO nameVO,
@@ -33,14 +43,9 @@ public class FeatureScalingPriceEntity extends FeatureAbstractClass {
         if (measurementUnit == null) {
             throw new IllegalArgumentException("Measurement unit must not be null.");
         }
-        if (baseAmount == null) {
-            throw new IllegalArgumentException("Base amount must not be null.");
-        }
-        if (incrementAmount == null) {
-            throw new IllegalArgumentException("Increment amount must not be null.");
-        }
-        if (baseAmount.compareTo(BigDecimal.ZERO) < 0 || incrementAmount.compareTo(BigDecimal.ZERO) < 0 || maxQuantity < 0) {
-            throw new IllegalArgumentException("Amounts and max quantity must be non-negative.");
+        ValidationError error = validateScaling(baseAmount, incrementAmount, maxQuantity);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
         }
 
         this.measurementUnit = measurementUnit;
@@ -49,6 +54,23 @@ public class FeatureScalingPriceEntity extends FeatureAbstractClass {
         this.maxQuantity = maxQuantity;
     }
 
+    /**
+     * Exception-free counterpart of the constructor's amount rules (the unit is checked by MeasurementUnitVO).
+     * @return The first broken rule, or null when the scaling parameters are acceptable.
+     */
+    public static ValidationError validateScaling(BigDecimal baseAmount, BigDecimal incrementAmount, int maxQuantity) {
+        if (baseAmount == null) {
+            return new ValidationError("baseAmount", ValidationError.REQUIRED, "Base amount must not be null.");
+        }
+        if (incrementAmount == null) {
+            return new ValidationError("incrementAmount", ValidationError.REQUIRED, "Increment amount must not be null.");
+        }
+        if (baseAmount.compareTo(BigDecimal.ZERO) < 0 || incrementAmount.compareTo(BigDecimal.ZERO) < 0 || maxQuantity < 0) {
+            return new ValidationError("baseAmount", ValidationError.OUT_OF_RANGE, "Amounts and max quantity must be non-negative.");
+        }
+        return null;
+    }
+
     // --- Getters for scaling parameters ---
 
     public MeasurementUnitVO getMeasurementUnit() {
@@ -83,6 +105,28 @@ public class FeatureScalingPriceEntity extends FeatureAbstractClass {
         return total.setScale(2, RoundingMode.HALF_UP);
     }
 
+    /**
+     * Precomputed totals for every quantity, for callers that price whole quantity ranges (configurator sliders).
+     * Not named as a getter on purpose, so JSON snapshots of the feature stay unchanged.
+     * @return The table, or empty when maxQuantity exceeds {@link #PRICE_TABLE_MAX_QUANTITY} or the totals
+     *         do not fit in cents as a long; {@link #calculateTotalPrice} always works.
+     */
+    public Optional<ScalingPriceTable> priceTable() {
+        Optional<ScalingPriceTable> table = priceTable;
+        if (table == null) {
+            table = Optional.empty();
+            if (maxQuantity <= PRICE_TABLE_MAX_QUANTITY) {
+                try {
+                    table = Optional.of(ScalingPriceTable.build(baseAmount, incrementAmount, maxQuantity));
+                } catch (ArithmeticException e) {
+                    // Totals do not fit in cents as a long: remembered as no table
+                }
+            }
+            priceTable = table;
+        }
+        return table;
+    }
+
 
     @Override
     public boolean equals(Object o) {
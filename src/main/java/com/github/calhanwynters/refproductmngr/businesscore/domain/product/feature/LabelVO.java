@@ -1,5 +1,8 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValueObjectPool;
+
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -23,23 +26,52 @@ public record LabelVO(String value) {
         // Normalize the value by trimming it
         String normalizedValue = value.trim();
 
+        ValidationError error = check(normalizedValue);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        // The record's internal 'value' component will store the normalized value
+        value = normalizedValue;
+    }
+
+    private static final ValueObjectPool<LabelVO> POOL = new ValueObjectPool<>(10_000, String::trim, LabelVO::new);
+
+    /**
+     * Pooled factory for catalog-wide repeated values: equal inputs share one instance
+     * and skip re-validation (see ValueObjectPool).
+     */
+    public static LabelVO of(String value) {
+        return POOL.get(value);
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new LabelVO(value)} would succeed.
+     */
+    public static ValidationError validate(String value) {
+        if (value == null) {
+            return new ValidationError("label", ValidationError.REQUIRED, "Label value cannot be null");
+        }
+        return check(value.trim());
+    }
+
+    private static ValidationError check(String normalizedValue) {
         if (normalizedValue.isBlank()) {
-            throw new IllegalArgumentException("Label value cannot be empty or blank");
+            return new ValidationError("label", ValidationError.BLANK, "Label value cannot be empty or blank");
         }
 
         if (normalizedValue.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("Label value cannot exceed " + MAX_LENGTH + " characters.");
+            return new ValidationError("label", ValidationError.TOO_LONG, "Label value cannot exceed " + MAX_LENGTH + " characters.");
         }
 
         // --- Cybersecurity Enhancement: Whitelisting ---
         // Ensures only a specific set of safe characters are allowed, blocking injections/XSS
         if (!ALLOWED_CHARS_PATTERN.matcher(normalizedValue).matches()) {
-            throw new IllegalArgumentException("Label contains forbidden characters. Only letters, numbers, spaces, and hyphens are allowed.");
+            return new ValidationError("label", ValidationError.FORBIDDEN_CHARACTERS, "Label contains forbidden characters. Only letters, numbers, spaces, and hyphens are allowed.");
         }
         // ----------------------------------------------
-
-        // The record's internal 'value' component will store the normalized value
-        value = normalizedValue;
+        return null;
     }
 
     // Records automatically provide toString, equals, hashCode, and the accessor method value().
@@ -1,5 +1,8 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValueObjectPool;
+
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -23,22 +26,51 @@ public record MeasurementUnitVO(String unit) {
         // Normalize input by trimming
         String trimmedUnit = unit.trim();
 
+        ValidationError error = check(trimmedUnit);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        // The record's internal 'unit' component will store the normalized value
+        unit = trimmedUnit;
+    }
+
+    private static final ValueObjectPool<MeasurementUnitVO> POOL = new ValueObjectPool<>(1_000, String::trim, MeasurementUnitVO::new);
+
+    /**
+     * Pooled factory for catalog-wide repeated values: equal inputs share one instance
+     * and skip re-validation (see ValueObjectPool).
+     */
+    public static MeasurementUnitVO of(String unit) {
+        return POOL.get(unit);
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new MeasurementUnitVO(unit)} would succeed.
+     */
+    public static ValidationError validate(String unit) {
+        if (unit == null) {
+            return new ValidationError("unit", ValidationError.REQUIRED, "Measurement unit must not be null.");
+        }
+        return check(unit.trim());
+    }
+
+    private static ValidationError check(String trimmedUnit) {
         if (trimmedUnit.isEmpty()) {
-            throw new IllegalArgumentException("Measurement unit must not be empty.");
+            return new ValidationError("unit", ValidationError.BLANK, "Measurement unit must not be empty.");
         }
 
         if (trimmedUnit.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("Measurement unit cannot exceed " + MAX_LENGTH + " characters.");
+            return new ValidationError("unit", ValidationError.TOO_LONG, "Measurement unit cannot exceed " + MAX_LENGTH + " characters.");
         }
 
         // --- Cybersecurity Enhancement: Whitelisting ---
         if (!ALLOWED_CHARS_PATTERN.matcher(trimmedUnit).matches()) {
-            throw new IllegalArgumentException("Measurement unit contains forbidden characters. Only letters, numbers, '.', '%', and '°' are allowed.");
+            return new ValidationError("unit", ValidationError.FORBIDDEN_CHARACTERS, "Measurement unit contains forbidden characters. Only letters, numbers, '.', '%', and '°' are allowed.");
         }
         // ----------------------------------------------
-
-        // The record's internal 'unit' component will store the normalized value
-        unit = trimmedUnit;
+        return null;
     }
 
     // Default record methods (toString, equals, hashCode, and the accessor method unit()) are sufficient.
@@ -1,5 +1,8 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValueObjectPool;
+
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -23,21 +26,50 @@ public record NameVO(String value) {
         // Normalize input
         String trimmedValue = value.trim();
 
+        ValidationError error = check(trimmedValue);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        // The record's internal 'value' component will store the normalized value
+        value = trimmedValue;
+    }
+
+    private static final ValueObjectPool<NameVO> POOL = new ValueObjectPool<>(10_000, String::trim, NameVO::new);
+
+    /**
+     * Pooled factory for catalog-wide repeated values: equal inputs share one instance
+     * and skip re-validation (see ValueObjectPool).
+     */
+    public static NameVO of(String value) {
+        return POOL.get(value);
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new NameVO(value)} would succeed.
+     */
+    public static ValidationError validate(String value) {
+        if (value == null) {
+            return new ValidationError("name", ValidationError.REQUIRED, "Name value cannot be null");
+        }
+        return check(value.trim());
+    }
+
+    private static ValidationError check(String trimmedValue) {
         if (trimmedValue.isEmpty()) {
-            throw new IllegalArgumentException("Name value cannot be empty or blank");
+            return new ValidationError("name", ValidationError.BLANK, "Name value cannot be empty or blank");
         }
 
         if (trimmedValue.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("Name value cannot exceed " + MAX_LENGTH + " characters.");
+            return new ValidationError("name", ValidationError.TOO_LONG, "Name value cannot exceed " + MAX_LENGTH + " characters.");
         }
 
         // --- Cybersecurity Enhancement: Whitelisting ---
         if (!ALLOWED_CHARS_PATTERN.matcher(trimmedValue).matches()) {
-            throw new IllegalArgumentException("Name contains forbidden characters. Only letters, numbers, spaces, and common punctuation (including parentheses) are allowed.");
+            return new ValidationError("name", ValidationError.FORBIDDEN_CHARACTERS, "Name contains forbidden characters. Only letters, numbers, spaces, and common punctuation (including parentheses) are allowed.");
         }
         // ----------------------------------------------
-
-        // The record's internal 'value' component will store the normalized value
-        value = trimmedValue;
+        return null;
     }
 }
@@ -0,0 +1,95 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
+
+import java.math.BigDecimal;
+
+/**
+ * Every total of a {@link FeatureScalingPriceEntity}, precomputed in cents: entry q is
+ * {@code calculateTotalPrice(q)} for 1 <= q <= maxQuantity. Totals never decrease with the quantity
+ * (amounts are non-negative), so budget queries are binary searches. Immutable and shared between threads.
+ */
+public final class ScalingPriceTable {
+
+    /** Fraction digits of every amount in the table, matching calculateTotalPrice. */
+    public static final int SCALE = 2;
+
+    private final long[] cents; // Index 0 is unused: quantities start at 1
+
+    private ScalingPriceTable(long[] cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Builds the table with exact long arithmetic: base + increment * q at the amounts' own scale,
+     * rounded half-up to cents.
+     * @throws ArithmeticException If the amounts need more than 18 fraction digits or a total does not fit in a long.
+     */
+    static ScalingPriceTable build(BigDecimal baseAmount, BigDecimal incrementAmount, int maxQuantity) {
+        int scale = Math.max(SCALE, Math.max(baseAmount.scale(), incrementAmount.scale()));
+        if (scale > 18) {
+            throw new ArithmeticException("Scaling amounts have more than 18 fraction digits");
+        }
+        long base = baseAmount.setScale(scale).unscaledValue().longValueExact();
+        long increment = incrementAmount.setScale(scale).unscaledValue().longValueExact();
+        long divisor = BigDecimal.ONE.scaleByPowerOfTen(scale - SCALE).longValueExact();
+
+        long[] cents = new long[maxQuantity + 1];
+        long raw = base;
+        for (int quantity = 1; quantity <= maxQuantity; quantity++) {
+            raw = Math.addExact(raw, increment);
+            cents[quantity] = divisor == 1 ? raw : raw / divisor + (raw % divisor * 2 >= divisor ? 1 : 0);
+        }
+        return new ScalingPriceTable(cents);
+    }
+
+    public int maxQuantity() {
+        return cents.length - 1;
+    }
+
+    /**
+     * O(1) counterpart of {@link FeatureScalingPriceEntity#calculateTotalPrice}, in cents.
+     * @throws IllegalArgumentException If the quantity is outside 1..maxQuantity.
+     */
+    public long totalCents(int quantity) {
+        if (quantity <= 0 || quantity >= cents.length) {
+            throw new IllegalArgumentException(
+                    "Quantity must be between 1 and " + maxQuantity() + ", but was " + quantity);
+        }
+        return cents[quantity];
+    }
+
+    /**
+     * @return The total as a BigDecimal with scale 2, equal to {@code calculateTotalPrice(quantity)}.
+     */
+    public BigDecimal totalPrice(int quantity) {
+        return BigDecimal.valueOf(totalCents(quantity), SCALE);
+    }
+
+    /**
+     * @return The largest quantity whose total does not exceed {@code budgetCents}, or 0 if even one unit does.
+     */
+    public int maxQuantityWithin(long budgetCents) {
+        // First index in 1..max whose total exceeds the budget, minus one
+        int low = 1;
+        int high = cents.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cents[mid] <= budgetCents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * @return The smallest quantity whose total reaches at least {@code targetCents}, or 0 if no quantity does.
+     */
+    public int minQuantityReaching(long targetCents) {
+        if (targetCents <= 0) {
+            return cents.length > 1 ? 1 : 0; // Totals are never negative
+        }
+        int first = maxQuantityWithin(targetCents - 1) + 1;
+        return first < cents.length ? first : 0;
+    }
+}
@@ -1,5 +1,8 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.CharacterScanner;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
 import java.util.Locale;
 import java.util.Objects;
 import java.util.UUID;
@@ -10,13 +13,32 @@ import java.util.UUID;
 public record BusinessIdVO(String value) {
     public BusinessIdVO {
         Objects.requireNonNull(value, "BusinessId value cannot be null");
+        ValidationError error = check(value);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new BusinessIdVO(value)} would succeed.
+     */
+    public static ValidationError validate(String value) {
+        if (value == null) {
+            return new ValidationError("businessId", ValidationError.REQUIRED, "BusinessId value cannot be null");
+        }
+        return check(value);
+    }
+
+    private static ValidationError check(String value) {
         if (value.isBlank()) {
-            throw new IllegalArgumentException("BusinessId value cannot be empty or blank");
+            return new ValidationError("businessId", ValidationError.BLANK, "BusinessId value cannot be empty or blank");
         }
         // Strict format check using whitelisting
-        if (!value.matches("[A-Z0-9-]+")) {
-            throw new IllegalArgumentException("BusinessId must consist of uppercase letters, numbers, and dashes.");
+        if (!CharacterScanner.isUpperAlphanumericOrDash(value)) { // [A-Z0-9-]+
+            return new ValidationError("businessId", ValidationError.FORBIDDEN_CHARACTERS, "BusinessId must consist of uppercase letters, numbers, and dashes.");
         }
+        return null;
     }
 
     /**
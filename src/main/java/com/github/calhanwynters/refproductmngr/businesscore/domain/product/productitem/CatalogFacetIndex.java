@@ -0,0 +1,558 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.RoaringBitmap;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureAbstractClass;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightVO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index for faceted catalog filtering. Every variant of a non-deleted product gets a dense
+ * ordinal (freed ordinals are reused), and every facet value keeps a {@link RoaringBitmap} of the ordinals
+ * carrying it. A query ORs the bitmaps of the values chosen within a facet and ANDs the facets, so a
+ * multi-facet filter or count is a handful of word-wise bitmap operations instead of a document scan.
+ * <p>
+ * Facet values are strings: business id, category, variant status name, feature id, and the labels returned
+ * by {@link #priceBucket} (effective price, per currency) and {@link #weightBucket}. Queries run under a read
+ * lock; updates take the write lock. {@link #rebuild} assembles a complete new index off-lock and swaps it in.
+ */
+public final class CatalogFacetIndex {
+
+    public enum Facet { BUSINESS, CATEGORY, STATUS, FEATURE, PRICE_BUCKET, WEIGHT_BUCKET }
+
+    /** Upper bounds (exclusive) of the default price buckets, in the price's currency. */
+    public static final List<BigDecimal> DEFAULT_PRICE_BOUNDS = List.of(
+            new BigDecimal("10"), new BigDecimal("25"), new BigDecimal("50"), new BigDecimal("100"),
+            new BigDecimal("250"), new BigDecimal("500"), new BigDecimal("1000"));
+
+    /** Upper bounds (exclusive) of the default weight buckets, in grams. */
+    public static final List<BigDecimal> DEFAULT_WEIGHT_BOUNDS_GRAMS = List.of(
+            new BigDecimal("100"), new BigDecimal("500"), new BigDecimal("1000"), new BigDecimal("5000"),
+            new BigDecimal("20000"));
+
+    private final BigDecimal[] priceBounds;
+    private final String[] priceLabels;
+    private final long[] weightBounds; // WeightVO.scaledGrams of each bound
+    private final String[] weightLabels;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State(); // Guarded by lock
+
+    public CatalogFacetIndex() {
+        this(DEFAULT_PRICE_BOUNDS, DEFAULT_WEIGHT_BOUNDS_GRAMS);
+    }
+
+    /**
+     * @param priceBounds Strictly ascending, non-negative upper bounds of the price buckets.
+     * @param weightBoundsGrams Strictly ascending upper bounds of the weight buckets, in grams.
+     * @throws IllegalArgumentException If the bounds are not strictly ascending or not valid amounts.
+     */
+    public CatalogFacetIndex(List<BigDecimal> priceBounds, List<BigDecimal> weightBoundsGrams) {
+        this.priceBounds = ascending(priceBounds, "Price").toArray(BigDecimal[]::new);
+        this.priceLabels = labels(this.priceBounds);
+        BigDecimal[] weights = ascending(weightBoundsGrams, "Weight").toArray(BigDecimal[]::new);
+        this.weightBounds = Arrays.stream(weights).mapToLong(grams -> WeightVO.ofGrams(grams).scaledGrams()).toArray();
+        this.weightLabels = labels(weights);
+    }
+
+    // --- Facet values ---
+
+    /**
+     * @return The PRICE_BUCKET value of an amount, e.g. {@code "USD:10-25"} or {@code "USD:1000+"}.
+     */
+    public String priceBucket(PriceVO price) {
+        int bucket = 0;
+        while (bucket < priceBounds.length && price.value().compareTo(priceBounds[bucket]) >= 0) {
+            bucket++;
+        }
+        return price.currency().getCurrencyCode() + ':' + priceLabels[bucket];
+    }
+
+    /**
+     * @return The WEIGHT_BUCKET value of a weight, e.g. {@code "500-1000"} or {@code "20000+"} (grams).
+     */
+    public String weightBucket(WeightVO weight) {
+        int bucket = 0;
+        while (bucket < weightBounds.length && weight.scaledGrams() >= weightBounds[bucket]) {
+            bucket++;
+        }
+        return weightLabels[bucket];
+    }
+
+    // --- Queries ---
+
+    /**
+     * @return A new bitmap of the ordinals of every matching variant (all variants for an empty query).
+     */
+    public RoaringBitmap match(FacetQuery query) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        lock.readLock().lock();
+        try {
+            return state.match(query, null).copy(); // The result may be a live bitmap of the index
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of matching variants; two-facet single-value queries are counted without building a bitmap.
+     */
+    public int count(FacetQuery query) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        lock.readLock().lock();
+        try {
+            if (query.isEmpty()) {
+                return state.all.cardinality();
+            }
+            List<RoaringBitmap> single = state.singleValueBitmaps(query);
+            if (single != null && single.size() <= 2) {
+                return single.size() == 1
+                        ? single.getFirst().cardinality()
+                        : RoaringBitmap.andCardinality(single.get(0), single.get(1));
+            }
+            return state.match(query, null).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts per value of one facet among the variants matching every other facet of the query (the facet's
+     * own selection is ignored, so the storefront can show the alternatives). Values with no match are omitted.
+     * @return Counts sorted by facet value.
+     */
+    public Map<String, Integer> facetCounts(FacetQuery query, Facet facet) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        Objects.requireNonNull(facet, "Facet cannot be null");
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = state.match(query, facet);
+            boolean unfiltered = base == state.all;
+            Map<String, Integer> counts = new TreeMap<>();
+            state.bitmaps.get(facet).forEach((value, bitmap) -> {
+                int count = unfiltered ? bitmap.cardinality() : RoaringBitmap.andCardinality(base, bitmap);
+                if (count > 0) {
+                    counts.put(value, count);
+                }
+            });
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves ordinals returned by {@link #match}; ordinals freed since are skipped.
+     */
+    public List<VariantIdVO> variants(RoaringBitmap ordinals, int limit) {
+        lock.readLock().lock();
+        try {
+            List<VariantIdVO> variants = new ArrayList<>(Math.min(ordinals.cardinality(), limit));
+            int[] values = ordinals.toArray();
+            for (int i = 0; i < values.length && variants.size() < limit; i++) {
+                VariantIdVO id = values[i] < state.variantIds.size() ? state.variantIds.get(values[i]) : null;
+                if (id != null) {
+                    variants.add(id);
+                }
+            }
+            return variants;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distinct products owning the given ordinals, in ordinal order.
+     */
+    public Set<ProductIdVO> products(RoaringBitmap ordinals) {
+        lock.readLock().lock();
+        try {
+            Set<ProductIdVO> products = new LinkedHashSet<>();
+            ordinals.forEach(ordinal -> {
+                Posting posting = ordinal < state.postings.size() ? state.postings.get(ordinal) : null;
+                if (posting != null) {
+                    products.add(posting.productId);
+                }
+            });
+            return products;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed variants.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.all.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // --- Updates ---
+
+    /**
+     * Indexes the current state of a product, replacing what was indexed for it before. Deleted products
+     * are removed.
+     */
+    public void index(ProductAggregate product) {
+        Objects.requireNonNull(product, "Product aggregate cannot be null");
+        lock.writeLock().lock();
+        try {
+            state.index(product, this);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeProduct(ProductIdVO productId) {
+        lock.writeLock().lock();
+        try {
+            state.removeProduct(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return False if the variant is not indexed.
+     */
+    public boolean removeVariant(VariantIdVO variantId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = state.ordinals.get(variantId);
+            if (ordinal == null) {
+                return false;
+            }
+            Posting posting = state.postings.get(ordinal);
+            state.free(ordinal);
+            List<VariantIdVO> remaining = state.productVariants.get(posting.productId);
+            if (remaining != null) {
+                remaining.remove(variantId);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves one variant to another STATUS value without re-indexing its product.
+     * @return False if the variant is not indexed.
+     */
+    public boolean updateVariantStatus(VariantIdVO variantId, VariantStatusEnums status) {
+        Objects.requireNonNull(status, "Status cannot be null");
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = state.ordinals.get(variantId);
+            if (ordinal == null) {
+                return false;
+            }
+            String[] values = state.postings.get(ordinal).values.get(Facet.STATUS);
+            state.unpost(Facet.STATUS, values[0], ordinal);
+            values[0] = status.name();
+            state.post(Facet.STATUS, values[0], ordinal);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the given products (e.g. a write model snapshot). The new index is built
+     * without holding the lock, so queries keep answering from the previous one until the swap.
+     */
+    public void rebuild(Iterable<ProductAggregate> products) {
+        Rebuild rebuild = beginRebuild();
+        for (ProductAggregate product : products) {
+            rebuild.add(product);
+        }
+        rebuild.commit();
+    }
+
+    /**
+     * Push-style {@link #rebuild} for callers that receive the products from a callback (e.g. a streamed query).
+     * Nothing is visible until {@link Rebuild#commit()}.
+     */
+    public Rebuild beginRebuild() {
+        return new Rebuild();
+    }
+
+    /**
+     * A new index under construction; not thread-safe, used by the one thread that feeds it.
+     */
+    public final class Rebuild {
+        private final State rebuilt = new State();
+
+        private Rebuild() {
+        }
+
+        public void add(ProductAggregate product) {
+            rebuilt.index(product, CatalogFacetIndex.this);
+        }
+
+        // Swaps the new index in
+        public void commit() {
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private Map<Facet, String[]> facetValues(ProductAggregate product, VariantEntity variant) {
+        Map<Facet, String[]> values = new EnumMap<>(Facet.class);
+        values.put(Facet.BUSINESS, new String[]{product.businessIdVO().value()});
+        values.put(Facet.CATEGORY, new String[]{product.category().value()});
+        values.put(Facet.STATUS, new String[]{variant.status().name()});
+        values.put(Facet.FEATURE, variant.getFeatures().stream()
+                .map(FeatureAbstractClass::getId)
+                .map(FeatureIdVO::value)
+                .toArray(String[]::new));
+        values.put(Facet.PRICE_BUCKET, new String[]{priceBucket(variant.effectivePrice())});
+        values.put(Facet.WEIGHT_BUCKET, new String[]{weightBucket(variant.weight())});
+        return values;
+    }
+
+    private static List<BigDecimal> ascending(List<BigDecimal> bounds, String name) {
+        Objects.requireNonNull(bounds, name + " bounds cannot be null");
+        for (int i = 0; i < bounds.size(); i++) {
+            BigDecimal bound = Objects.requireNonNull(bounds.get(i), name + " bounds cannot contain null");
+            if (bound.signum() < 0 || (i > 0 && bound.compareTo(bounds.get(i - 1)) <= 0)) {
+                throw new IllegalArgumentException(name + " bounds must be non-negative and strictly ascending");
+            }
+        }
+        return bounds;
+    }
+
+    private static String[] labels(BigDecimal[] bounds) {
+        String[] labels = new String[bounds.length + 1];
+        String lower = "0";
+        for (int i = 0; i < bounds.length; i++) {
+            String upper = bounds[i].stripTrailingZeros().toPlainString();
+            labels[i] = lower + '-' + upper;
+            lower = upper;
+        }
+        labels[bounds.length] = lower + '+';
+        return labels;
+    }
+
+    /**
+     * Facet values of one ordinal, kept to remove it from its bitmaps later.
+     */
+    private record Posting(ProductIdVO productId, Map<Facet, String[]> values) {}
+
+    /**
+     * Everything behind one generation of the index.
+     */
+    private static final class State {
+        private final Map<Facet, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Facet.class);
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<VariantIdVO, Integer> ordinals = new HashMap<>();
+        private final List<VariantIdVO> variantIds = new ArrayList<>(); // By ordinal; null when free
+        private final List<Posting> postings = new ArrayList<>(); // By ordinal; null when free
+        private final Map<ProductIdVO, List<VariantIdVO>> productVariants = new HashMap<>();
+        private final ArrayList<Integer> freeOrdinals = new ArrayList<>();
+
+        private State() {
+            for (Facet facet : Facet.values()) {
+                bitmaps.put(facet, new HashMap<>());
+            }
+        }
+
+        void index(ProductAggregate product, CatalogFacetIndex owner) {
+            if (product.isDeleted()) {
+                removeProduct(product.id());
+                return;
+            }
+            List<VariantIdVO> previous = productVariants.getOrDefault(product.id(), List.of());
+            Set<VariantIdVO> current = new LinkedHashSet<>();
+            product.variants().forEach(variant -> current.add(variant.id()));
+            for (VariantIdVO gone : previous) {
+                if (!current.contains(gone)) {
+                    free(ordinals.get(gone));
+                }
+            }
+            for (VariantEntity variant : product.variants()) {
+                Integer ordinal = ordinals.get(variant.id());
+                if (ordinal != null) {
+                    unpostAll(ordinal);
+                } else {
+                    ordinal = allocate(variant.id());
+                }
+                Posting posting = new Posting(product.id(), owner.facetValues(product, variant));
+                postings.set(ordinal, posting);
+                for (Map.Entry<Facet, String[]> entry : posting.values().entrySet()) {
+                    for (String value : entry.getValue()) {
+                        post(entry.getKey(), value, ordinal);
+                    }
+                }
+            }
+            productVariants.put(product.id(), new ArrayList<>(current));
+        }
+
+        void removeProduct(ProductIdVO productId) {
+            List<VariantIdVO> variants = productVariants.remove(productId);
+            if (variants != null) {
+                variants.forEach(variantId -> free(ordinals.get(variantId)));
+            }
+        }
+
+        /**
+         * Intersection of every facet of the query except {@code skip}. Returns {@link #all} when nothing
+         * filters, and may return a facet value's own bitmap; callers must not modify the result.
+         */
+        RoaringBitmap match(FacetQuery query, Facet skip) {
+            List<RoaringBitmap> unions = new ArrayList<>();
+            for (Map.Entry<Facet, Set<String>> entry : query.selections().entrySet()) {
+                if (entry.getKey() == skip) {
+                    continue;
+                }
+                Map<String, RoaringBitmap> values = bitmaps.get(entry.getKey());
+                RoaringBitmap union = null;
+                for (String value : entry.getValue()) {
+                    RoaringBitmap bitmap = values.get(value);
+                    if (bitmap != null) {
+                        union = union == null ? bitmap : RoaringBitmap.or(union, bitmap);
+                    }
+                }
+                if (union == null) {
+                    return new RoaringBitmap(); // A facet with no matching value empties the result
+                }
+                unions.add(union);
+            }
+            if (unions.isEmpty()) {
+                return all;
+            }
+            // Smallest first keeps every intermediate result small
+            unions.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+            RoaringBitmap result = unions.getFirst();
+            for (int i = 1; i < unions.size() && !result.isEmpty(); i++) {
+                result = RoaringBitmap.and(result, unions.get(i));
+            }
+            return result;
+        }
+
+        // Bitmaps of a query selecting exactly one value per facet, or null
+        List<RoaringBitmap> singleValueBitmaps(FacetQuery query) {
+            List<RoaringBitmap> result = new ArrayList<>();
+            for (Map.Entry<Facet, Set<String>> entry : query.selections().entrySet()) {
+                if (entry.getValue().size() != 1) {
+                    return null;
+                }
+                RoaringBitmap bitmap = bitmaps.get(entry.getKey()).get(entry.getValue().iterator().next());
+                result.add(bitmap != null ? bitmap : new RoaringBitmap());
+            }
+            return result;
+        }
+
+        void post(Facet facet, String value, int ordinal) {
+            bitmaps.get(facet).computeIfAbsent(value, v -> new RoaringBitmap()).add(ordinal);
+        }
+
+        void unpost(Facet facet, String value, int ordinal) {
+            Map<String, RoaringBitmap> values = bitmaps.get(facet);
+            RoaringBitmap bitmap = values.get(value);
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+        }
+
+        private void unpostAll(int ordinal) {
+            Posting posting = postings.get(ordinal);
+            if (posting != null) {
+                for (Map.Entry<Facet, String[]> entry : posting.values().entrySet()) {
+                    for (String value : entry.getValue()) {
+                        unpost(entry.getKey(), value, ordinal);
+                    }
+                }
+            }
+        }
+
+        private int allocate(VariantIdVO variantId) {
+            int ordinal;
+            if (freeOrdinals.isEmpty()) {
+                ordinal = variantIds.size();
+                variantIds.add(variantId);
+                postings.add(null);
+            } else {
+                ordinal = freeOrdinals.removeLast();
+                variantIds.set(ordinal, variantId);
+            }
+            ordinals.put(variantId, ordinal);
+            all.add(ordinal);
+            return ordinal;
+        }
+
+        private void free(Integer ordinal) {
+            if (ordinal == null) {
+                return;
+            }
+            unpostAll(ordinal);
+            ordinals.remove(variantIds.get(ordinal));
+            variantIds.set(ordinal, null);
+            postings.set(ordinal, null);
+            all.remove(ordinal);
+            freeOrdinals.add(ordinal);
+        }
+    }
+
+    /**
+     * Values selected per facet: OR within a facet, AND across facets. Immutable.
+     */
+    public record FacetQuery(Map<Facet, Set<String>> selections) {
+        public FacetQuery {
+            Map<Facet, Set<String>> copy = new EnumMap<>(Facet.class);
+            selections.forEach((facet, values) -> copy.put(Objects.requireNonNull(facet), Set.copyOf(values)));
+            selections = Collections.unmodifiableMap(copy);
+        }
+
+        public static FacetQuery all() {
+            return new FacetQuery(Map.of());
+        }
+
+        /**
+         * @return A copy that also requires one of {@code values} for the facet (replacing its selection).
+         */
+        public FacetQuery with(Facet facet, String... values) {
+            return with(facet, Arrays.asList(values));
+        }
+
+        public FacetQuery with(Facet facet, Collection<String> values) {
+            Map<Facet, Set<String>> copy = new EnumMap<>(Facet.class);
+            copy.putAll(selections);
+            copy.put(facet, new LinkedHashSet<>(values));
+            return new FacetQuery(copy);
+        }
+
+        public boolean isEmpty() {
+            return selections.isEmpty();
+        }
+    }
+}
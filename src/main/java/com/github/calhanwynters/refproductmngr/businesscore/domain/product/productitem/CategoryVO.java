@@ -1,20 +1,53 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.CharacterScanner;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValueObjectPool;
+
 import java.util.Objects;
 
 public record CategoryVO(String value) {
     public CategoryVO {
         Objects.requireNonNull(value, "value must not be null");
         value = value.trim(); // Trimmed value
-        if (value.isEmpty()) {
-            throw new IllegalArgumentException("value cannot be empty");
+        ValidationError error = check(value);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+    }
+
+    private static final ValueObjectPool<CategoryVO> POOL = new ValueObjectPool<>(10_000, String::trim, CategoryVO::new);
+
+    /**
+     * Pooled factory for catalog-wide repeated values: equal inputs share one instance
+     * and skip re-validation (see ValueObjectPool).
+     */
+    public static CategoryVO of(String value) {
+        return POOL.get(value);
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new CategoryVO(value)} would succeed.
+     */
+    public static ValidationError validate(String value) {
+        if (value == null) {
+            return new ValidationError("category", ValidationError.REQUIRED, "value must not be null");
+        }
+        return check(value.trim());
+    }
+
+    private static ValidationError check(String trimmed) {
+        if (trimmed.isEmpty()) {
+            return new ValidationError("category", ValidationError.BLANK, "value cannot be empty");
         }
-        if (value.length() > 100) {  // Example maximum length
-            throw new IllegalArgumentException("Category cannot exceed 100 characters.");
+        if (trimmed.length() > 100) {  // Example maximum length
+            return new ValidationError("category", ValidationError.TOO_LONG, "Category cannot exceed 100 characters.");
         }
-        if (!value.matches("[A-Za-z0-9 ]+")) {
-            throw new IllegalArgumentException("Category can only contain alphanumeric characters and spaces.");
+        if (!CharacterScanner.isAlphanumericOrSpace(trimmed)) { // [A-Za-z0-9 ]+
+            return new ValidationError("category", ValidationError.FORBIDDEN_CHARACTERS, "Category can only contain alphanumeric characters and spaces.");
         }
+        return null;
     }
 
     public String value() {
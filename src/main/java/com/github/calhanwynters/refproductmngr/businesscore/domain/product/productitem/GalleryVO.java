@@ -1,5 +1,8 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set; // Still use Set for the incoming constructor parameter to force uniqueness check
@@ -12,23 +15,52 @@ public record GalleryVO(List<ImageUrlVO> images) {
     public GalleryVO {
         Objects.requireNonNull(images, "Images list cannot be null");
 
-        if (images.isEmpty()) {
-            throw new IllegalArgumentException("A gallery must contain at least " + MIN_IMAGES + " image(s).");
-        }
-        if (images.size() > MAX_IMAGES) {
-            throw new IllegalArgumentException("A gallery cannot contain more than " + MAX_IMAGES + " images.");
+        ValidationError error = checkSize(images.size());
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
         }
 
         // Ensure uniqueness (Set.copyOf handles this efficiently)
         Set<ImageUrlVO> uniqueImages = Set.copyOf(images);
         if (uniqueImages.size() < images.size()) {
-            throw new IllegalArgumentException("Gallery contains duplicate image URLs.");
+            throw new IllegalArgumentException(DUPLICATES);
         }
 
         // Ensure immutability of the internal list
         images = List.copyOf(images);
     }
 
+    private static final String DUPLICATES = "Gallery contains duplicate image URLs.";
+
+    /**
+     * Exception-free counterpart of the constructor, working on the raw urls.
+     * Per-url rules are reported by {@link ImageUrlVO#validate(String)}; this only checks the gallery rules.
+     * @return The first broken rule, or null when the gallery size and uniqueness rules hold.
+     */
+    public static ValidationError validate(List<String> urls) {
+        if (urls == null) {
+            return new ValidationError("imageUrls", ValidationError.REQUIRED, "Images list cannot be null");
+        }
+        ValidationError error = checkSize(urls.size());
+        if (error != null) {
+            return error;
+        }
+        if (new HashSet<>(urls).size() < urls.size()) {
+            return new ValidationError("imageUrls", ValidationError.DUPLICATE, DUPLICATES);
+        }
+        return null;
+    }
+
+    private static ValidationError checkSize(int size) {
+        if (size < MIN_IMAGES) {
+            return new ValidationError("imageUrls", ValidationError.TOO_SHORT, "A gallery must contain at least " + MIN_IMAGES + " image(s).");
+        }
+        if (size > MAX_IMAGES) {
+            return new ValidationError("imageUrls", ValidationError.TOO_MANY, "A gallery cannot contain more than " + MAX_IMAGES + " images.");
+        }
+        return null;
+    }
+
     /**
      * Retrieves the primary image, defined as the first image in the ordered list.
      * Guaranteed to be present due to the constructor validation (min size > 0).
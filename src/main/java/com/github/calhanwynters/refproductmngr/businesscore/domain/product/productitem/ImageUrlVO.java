@@ -1,5 +1,7 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Objects;
@@ -8,18 +10,56 @@ public record ImageUrlVO(String url) {
     public ImageUrlVO {
         Objects.requireNonNull(url, "URL cannot be null");
 
-        if (!url.startsWith("http") && !url.startsWith("https")) {
-            throw new IllegalArgumentException("Invalid URL scheme; must start with http or https.");
+        if (!hasHttpScheme(url)) {
+            throw new IllegalArgumentException(INVALID_SCHEME);
+        }
+
+        URISyntaxException syntaxError = syntaxError(url);
+        if (syntaxError != null) {
+            throw new IllegalArgumentException(INVALID_FORMAT, syntaxError);
         }
 
+        if (url.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException(TOO_LONG);
+        }
+    }
+
+    private static final int MAX_LENGTH = 2048;
+    private static final String INVALID_SCHEME = "Invalid URL scheme; must start with http or https.";
+    private static final String INVALID_FORMAT = "Invalid URL format";
+    private static final String TOO_LONG = "URL is too long.";
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * Only a syntactically broken URL still costs an internal URISyntaxException (thrown by java.net.URI).
+     * @return The first broken rule, or null when {@code new ImageUrlVO(url)} would succeed.
+     */
+    public static ValidationError validate(String url) {
+        if (url == null) {
+            return new ValidationError("imageUrl", ValidationError.REQUIRED, "URL cannot be null");
+        }
+        if (!hasHttpScheme(url)) {
+            return new ValidationError("imageUrl", ValidationError.INVALID_FORMAT, INVALID_SCHEME);
+        }
+        if (syntaxError(url) != null) {
+            return new ValidationError("imageUrl", ValidationError.INVALID_FORMAT, INVALID_FORMAT);
+        }
+        if (url.length() > MAX_LENGTH) {
+            return new ValidationError("imageUrl", ValidationError.TOO_LONG, TOO_LONG);
+        }
+        return null;
+    }
+
+    private static boolean hasHttpScheme(String url) {
+        return url.startsWith("http") || url.startsWith("https");
+    }
+
+    private static URISyntaxException syntaxError(String url) {
         try {
             new URI(url);
+            return null;
         } catch (URISyntaxException e) {
-            throw new IllegalArgumentException("Invalid URL format", e);
-        }
-
-        if (url.length() > 2048) {
-            throw new IllegalArgumentException("URL is too long.");
+            return e;
         }
     }
 }
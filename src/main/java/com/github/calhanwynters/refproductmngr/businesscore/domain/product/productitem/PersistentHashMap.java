@@ -0,0 +1,396 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable hash array mapped trie (HAMT). {@link #plus} and {@link #minus} return a new map in
+ * O(log32 n) that shares every untouched node with this one, so a chain of edits on a large
+ * aggregate never copies the whole collection. Null keys are allowed; keys must be immutable.
+ * <p>
+ * Each level consumes 5 bits of the key hash: a bitmap node stores only its occupied slots, each
+ * holding either a {@link Leaf} or a child node. Keys whose full 32-bit hashes collide share a
+ * collision node.
+ */
+final class PersistentHashMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    // 7 bitmap levels cover the 32 hash bits, plus one collision level
+    private static final int MAX_DEPTH = 8;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(new BitmapNode(0, new Object[0]), 0);
+
+    private final BitmapNode root;
+    private final int size;
+
+    private PersistentHashMap(BitmapNode root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    /**
+     * @return The value mapped to {@code key}, or null when absent.
+     */
+    @SuppressWarnings("unchecked")
+    V get(Object key) {
+        Leaf leaf = find(key);
+        return leaf == null ? null : (V) leaf.value;
+    }
+
+    /**
+     * @return A map with {@code key} mapped to {@code value}; this map when that mapping already exists.
+     */
+    PersistentHashMap<K, V> plus(K key, V value) {
+        Leaf existing = find(key);
+        if (existing != null && existing.value == value) {
+            return this;
+        }
+        BitmapNode updated = root.put(0, new Leaf(hash(key), key, value));
+        return new PersistentHashMap<>(updated, existing == null ? size + 1 : size);
+    }
+
+    /**
+     * @return A map without {@code key}; this map when the key is absent.
+     */
+    PersistentHashMap<K, V> minus(Object key) {
+        if (find(key) == null) {
+            return this;
+        }
+        Object remaining = root.remove(0, hash(key), key);
+        if (remaining == null) {
+            return empty();
+        }
+        // The root is always a bitmap node, even when only one leaf is left
+        BitmapNode newRoot = remaining instanceof Leaf leaf
+                ? new BitmapNode(bit(leaf.hash, 0), new Object[]{leaf})
+                : (BitmapNode) remaining;
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator<>(root);
+    }
+
+    /**
+     * @return The keys in trie order (stable for a given map, unrelated to insertion order).
+     */
+    Iterator<K> keyIterator() {
+        Iterator<Map.Entry<K, V>> entries = iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public K next() {
+                return entries.next().getKey();
+            }
+        };
+    }
+
+    private Leaf find(Object key) {
+        int hash = hash(key);
+        Object node = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (node instanceof BitmapNode bitmapNode) {
+                int bit = bit(hash, shift);
+                if ((bitmapNode.bitmap & bit) == 0) {
+                    return null;
+                }
+                node = bitmapNode.slots[bitmapNode.index(bit)];
+            } else if (node instanceof Leaf leaf) {
+                return leaf.hash == hash && Objects.equals(leaf.key, key) ? leaf : null;
+            } else {
+                return ((CollisionNode) node).find(key);
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        // Spread the high bits so keys differing only there do not share deep paths
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Places {@code existing} (a leaf or collision node whose keys hash to {@code existingHash})
+     * and {@code leaf} under a fresh subtree starting at {@code shift}.
+     */
+    private static Object merge(Object existing, int existingHash, Leaf leaf, int shift) {
+        if (existingHash == leaf.hash) {
+            return new CollisionNode(leaf.hash, new Leaf[]{(Leaf) existing, leaf});
+        }
+        int existingBit = bit(existingHash, shift);
+        int leafBit = bit(leaf.hash, shift);
+        if (existingBit == leafBit) {
+            return new BitmapNode(existingBit, new Object[]{merge(existing, existingHash, leaf, shift + BITS)});
+        }
+        // Slots are kept in bit order
+        Object[] slots = Integer.compareUnsigned(existingBit, leafBit) < 0
+                ? new Object[]{existing, leaf}
+                : new Object[]{leaf, existing};
+        return new BitmapNode(existingBit | leafBit, slots);
+    }
+
+    private static final class Leaf implements Map.Entry<Object, Object> {
+        final int hash;
+        final Object key;
+        final Object value;
+
+        Leaf(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(int otherHash, Object otherKey) {
+            return hash == otherHash && Objects.equals(key, otherKey);
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private static final class BitmapNode {
+        final int bitmap;
+        final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        BitmapNode put(int shift, Leaf leaf) {
+            int bit = bit(leaf.hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                copy[index] = leaf;
+                System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, copy);
+            }
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf existing) {
+                replacement = existing.matches(leaf.hash, leaf.key) ? leaf : merge(existing, existing.hash, leaf, shift + BITS);
+            } else if (slot instanceof BitmapNode child) {
+                replacement = child.put(shift + BITS, leaf);
+            } else {
+                CollisionNode collision = (CollisionNode) slot;
+                replacement = collision.hash == leaf.hash
+                        ? collision.put(leaf)
+                        : merge(collision, collision.hash, leaf, shift + BITS);
+            }
+            return withSlot(index, replacement);
+        }
+
+        /**
+         * @return This node when the key is absent, null when the node becomes empty, a single
+         * {@link Leaf} when only one leaf is left (so the parent can inline it), otherwise the new node.
+         */
+        Object remove(int shift, int hash, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf leaf) {
+                if (!leaf.matches(hash, key)) {
+                    return this;
+                }
+                replacement = null;
+            } else if (slot instanceof BitmapNode child) {
+                replacement = child.remove(shift + BITS, hash, key);
+            } else {
+                replacement = ((CollisionNode) slot).remove(hash, key);
+            }
+            if (replacement == slot) {
+                return this;
+            }
+            if (replacement == null) {
+                if (slots.length == 1) {
+                    return null;
+                }
+                if (slots.length == 2 && slots[1 - index] instanceof Leaf remaining) {
+                    return remaining;
+                }
+                Object[] copy = new Object[slots.length - 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+                return new BitmapNode(bitmap & ~bit, copy);
+            }
+            if (slots.length == 1 && replacement instanceof Leaf) {
+                return replacement;
+            }
+            return withSlot(index, replacement);
+        }
+
+        private BitmapNode withSlot(int index, Object replacement) {
+            if (slots[index] == replacement) {
+                return this;
+            }
+            Object[] copy = slots.clone();
+            copy[index] = replacement;
+            return new BitmapNode(bitmap, copy);
+        }
+    }
+
+    private static final class CollisionNode {
+        final int hash;
+        final Leaf[] slots;
+
+        CollisionNode(int hash, Leaf[] slots) {
+            this.hash = hash;
+            this.slots = slots;
+        }
+
+        Leaf find(Object key) {
+            for (Leaf leaf : slots) {
+                if (Objects.equals(leaf.key, key)) {
+                    return leaf;
+                }
+            }
+            return null;
+        }
+
+        CollisionNode put(Leaf leaf) {
+            for (int i = 0; i < slots.length; i++) {
+                if (Objects.equals(slots[i].key, leaf.key)) {
+                    Leaf[] copy = slots.clone();
+                    copy[i] = leaf;
+                    return new CollisionNode(hash, copy);
+                }
+            }
+            Leaf[] copy = Arrays.copyOf(slots, slots.length + 1);
+            copy[slots.length] = leaf;
+            return new CollisionNode(hash, copy);
+        }
+
+        Object remove(int otherHash, Object key) {
+            if (otherHash != hash) {
+                return this;
+            }
+            for (int i = 0; i < slots.length; i++) {
+                if (Objects.equals(slots[i].key, key)) {
+                    if (slots.length == 2) {
+                        return slots[1 - i];
+                    }
+                    Leaf[] copy = new Leaf[slots.length - 1];
+                    System.arraycopy(slots, 0, copy, 0, i);
+                    System.arraycopy(slots, i + 1, copy, i, slots.length - i - 1);
+                    return new CollisionNode(hash, copy);
+                }
+            }
+            return this;
+        }
+    }
+
+    // Depth-first walk with an explicit stack of (slots, position) frames
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final Object[][] stack = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Leaf next;
+
+        EntryIterator(BitmapNode root) {
+            stack[0] = root.slots;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Object[] slots = stack[depth];
+                if (positions[depth] == slots.length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = slots[positions[depth]++];
+                if (slot instanceof Leaf leaf) {
+                    next = leaf;
+                    return;
+                }
+                depth++;
+                stack[depth] = slot instanceof BitmapNode child ? child.slots : ((CollisionNode) slot).slots;
+                positions[depth] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Leaf current = next;
+            advance();
+            return (Map.Entry<K, V>) (Map.Entry<?, ?>) current;
+        }
+    }
+}
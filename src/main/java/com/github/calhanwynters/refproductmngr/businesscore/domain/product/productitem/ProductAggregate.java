@@ -1,12 +1,17 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntityBehavior;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public record ProductAggregate(
         ProductIdVO id,
@@ -29,8 +34,8 @@ public record ProductAggregate(
         if (variants == null || variants.isEmpty()) {
             throw new IllegalArgumentException("Product must have at least one variant.");
         }
-        // Set.copyOf ensures the internal set is truly immutable
-        variants = Set.copyOf(variants);
+        // VariantSet is an immutable copy with lazily built id/SKU indexes (reused as-is across copies)
+        variants = VariantSet.copyOf(variants);
     }
 
     // --- Validations & Checks ---
@@ -52,6 +57,8 @@ public record ProductAggregate(
     }
 
     // --- Domain Behaviors (Commands) ---
+    // Every command that changes state returns the new aggregate with the next version; the repository
+    // refuses to save a version that is not newer than the stored one (optimistic locking).
     /*
     --- Update Actions ---
         * DELETE Commands are handled directly with databases. Outside ProductAggregate.
@@ -75,39 +82,96 @@ public record ProductAggregate(
 
     public ProductAggregate updateVariantStatus(VariantIdVO variantId, VariantStatusEnums newStatus) {
         // Invariant: Verify membership within this aggregate boundary
-        if (this.variants().stream().noneMatch(v -> v.id().equals(variantId))) {
+        VariantEntity current = variantSet().findById(variantId);
+        if (current == null) {
             throw new IllegalArgumentException("Variant does not belong to this product");
         }
 
-        // Invariant: Cross-entity rule (Cannot activate without images)
-        if (newStatus == VariantStatusEnums.ACTIVE && this.gallery.images().isEmpty()) {
-            throw new IllegalStateException("Cannot activate a variant for a product with no images");
+        requireStatusChangeAllowed(current, newStatus);
+
+        VariantSet updatedVariants = variantSet().replace(current, current.withStatus(newStatus));
+
+        return new ProductAggregate(id, businessIdVO, category, description, gallery, updatedVariants, version.nextVersion(), isDeleted);
+    }
+
+    /**
+     * Checks one status change against the rules of {@link #updateVariantStatus} without applying it, so a
+     * batch caller can set aside the variants that would be refused before calling {@link #updateVariantStatuses}.
+     * @throws IllegalArgumentException If the variant does not belong to this product.
+     * @throws IllegalStateException If the product is deleted, or the change activates a variant while the product
+     *         has no images or activates a discontinued variant.
+     */
+    public void checkVariantStatusChange(VariantIdVO variantId, VariantStatusEnums newStatus) {
+        VariantEntity current = variantSet().findById(variantId);
+        if (current == null) {
+            throw new IllegalArgumentException("Variant does not belong to this product");
+        }
+        requireStatusChangeAllowed(current, newStatus);
+    }
+
+    /**
+     * Batch counterpart of {@link #updateVariantStatus}: every invariant is checked for the whole batch
+     * before anything is applied, and the result is a single new aggregate with one version bump
+     * (one save instead of one per variant).
+     * @throws IllegalArgumentException If any variant does not belong to this product (nothing is applied).
+     * @throws IllegalStateException If the product is deleted, or the batch activates a variant while the product
+     *         has no images or activates a discontinued variant.
+     */
+    public ProductAggregate updateVariantStatuses(Map<VariantIdVO, VariantStatusEnums> newStatuses) {
+        Objects.requireNonNull(newStatuses, "Variant statuses cannot be null.");
+        if (newStatuses.isEmpty()) {
+            return this;
+        }
+
+        List<VariantEntity> members = requireMembers(newStatuses.keySet());
+        for (VariantEntity current : members) {
+            requireStatusChangeAllowed(current, newStatuses.get(current.id()));
         }
 
-        Set<VariantEntity> updatedVariants = this.variants().stream()
-                .map(v -> v.id().equals(variantId) ? v.withStatus(newStatus) : v)
-                .collect(Collectors.toSet());
+        VariantSet updatedVariants = variantSet();
+        for (VariantEntity current : members) {
+            updatedVariants = updatedVariants.replace(current, current.withStatus(newStatuses.get(current.id())));
+        }
 
-        return new ProductAggregate(id, businessIdVO, category, description, gallery, updatedVariants, version, isDeleted);
+        return new ProductAggregate(id, businessIdVO, category, description, gallery, updatedVariants, version.nextVersion(), isDeleted);
+    }
+
+    /**
+     * Applies many {@link VariantEntityBehavior#changeCurrentPrice} calls as one aggregate change (one version bump).
+     * All prices are validated (membership, same currency) before the new aggregate is built.
+     * @throws IllegalArgumentException If any variant does not belong to this product or a price changes currency.
+     */
+    public ProductAggregate changeVariantCurrentPrices(Map<VariantIdVO, PriceVO> newCurrentPrices) {
+        Objects.requireNonNull(newCurrentPrices, "Variant prices cannot be null.");
+        if (newCurrentPrices.isEmpty()) {
+            return this;
+        }
+
+        VariantSet updatedVariants = variantSet();
+        for (VariantEntity current : requireMembers(newCurrentPrices.keySet())) {
+            updatedVariants = updatedVariants.replace(current,
+                    VariantEntityBehavior.changeCurrentPrice(current, newCurrentPrices.get(current.id())));
+        }
+
+        return new ProductAggregate(id, businessIdVO, category, description, gallery, updatedVariants, version.nextVersion(), isDeleted);
     }
 
     public ProductAggregate softDelete() {
         if (this.isDeleted) return this;
-        return new ProductAggregate(id, businessIdVO, category, description, gallery, variants, version, true);
+        return new ProductAggregate(id, businessIdVO, category, description, gallery, variants, version.nextVersion(), true);
     }
 
     public ProductAggregate addVariant(VariantEntity newVariant) {
         Objects.requireNonNull(newVariant, "New variant cannot be null.");
 
         // Invariant: Ensure SKU uniqueness within this aggregate boundary
-        if (this.variants.stream().anyMatch(v -> v.sku().equals(newVariant.sku()))) {
+        if (variantSet().containsSku(newVariant.sku())) {
             throw new IllegalArgumentException("SKU " + newVariant.sku().sku() + " already exists in this product.");
         }
 
-        Set<VariantEntity> updatedVariants = new java.util.HashSet<>(this.variants);
-        updatedVariants.add(newVariant);
+        VariantSet updatedVariants = variantSet().with(newVariant);
 
-        return new ProductAggregate(id, businessIdVO, category, description, gallery, updatedVariants, version, isDeleted);
+        return new ProductAggregate(id, businessIdVO, category, description, gallery, updatedVariants, version.nextVersion(), isDeleted);
     }
 
     public ProductAggregate updateBasicInfo(DescriptionVO newDescription, CategoryVO newCategory) {
@@ -122,11 +186,49 @@ public record ProductAggregate(
                 newDescription,
                 gallery,
                 variants,
-                version,
+                version.nextVersion(),
                 isDeleted
         );
     }
 
     public VersionVO getVersion() { return this.version; }
 
+    /*
+     * Cross-entity rules of a status change; the fast path (ProductCommandRepository.updateVariantStatus)
+     * checks the same rules in SQL and reports them with the same messages.
+     */
+    private void requireStatusChangeAllowed(VariantEntity current, VariantStatusEnums newStatus) {
+        if (this.isDeleted) {
+            throw new IllegalStateException("Cannot change the status of a variant of a deleted product");
+        }
+        if (newStatus == VariantStatusEnums.ACTIVE) {
+            // Invariant: Cannot activate without images
+            if (this.gallery.images().isEmpty()) {
+                throw new IllegalStateException("Cannot activate a variant for a product with no images");
+            }
+            // Same rule as VariantEntityBehavior.activate
+            if (current.status() == VariantStatusEnums.DISCONTINUED) {
+                throw new IllegalStateException("Cannot activate a discontinued variant.");
+            }
+        }
+    }
+
+    // Invariant: every targeted variant must belong to this aggregate, checked before any change is made
+    private List<VariantEntity> requireMembers(Collection<VariantIdVO> variantIds) {
+        List<VariantEntity> members = new ArrayList<>(variantIds.size());
+        for (VariantIdVO variantId : variantIds) {
+            VariantEntity current = variantSet().findById(variantId);
+            if (current == null) {
+                throw new IllegalArgumentException("Variant does not belong to this product");
+            }
+            members.add(current);
+        }
+        return members;
+    }
+
+    // The compact constructor always stores a VariantSet
+    private VariantSet variantSet() {
+        return (VariantSet) this.variants;
+    }
+
 }
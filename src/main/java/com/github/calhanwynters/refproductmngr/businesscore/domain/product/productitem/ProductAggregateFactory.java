@@ -67,12 +67,13 @@ public class ProductAggregateFactory {
             String status,
             Set<FeatureAbstractClass> features) {
 
+        Currency currencyInstance = Currency.getInstance(currency); // JDK-cached, one lookup for both prices
         return createVariant(
                 new SkuVO(sku),
-                new PriceVO(base, 2, Currency.getInstance(currency)),
-                new PriceVO(current, 2, Currency.getInstance(currency)),
+                new PriceVO(base, 2, currencyInstance),
+                new PriceVO(current, 2, currencyInstance),
                 features != null ? features : new HashSet<>(),
-                new CareInstructionVO(care),
+                CareInstructionVO.of(care), // Pooled: the same instructions repeat across many variants
                 new WeightVO(weightValue, WeightUnitEnums.valueOf(unit)), // Matches WeightVO(BigDecimal, unit)
                 VariantStatusEnums.valueOf(status)
         );
@@ -1,23 +1,29 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.CharacterScanner;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidCodec;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+
 import java.util.Objects;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
  * Domain value object representing the unique identifier for a Product aggregate.
- * Ensures the value conforms to the UUID format using whitelisting/regex validation.
+ * Ensures the value conforms to the UUID format using whitelisting validation.
+ * Stored as the two 64-bit halves of the UUID (no per-instance String), so equality and hashing
+ * compare two longs; {@link #value()} still exposes the canonical string.
  */
-public record ProductIdVO(String value) {
-
-    private static final Pattern UUID_PATTERN =
-            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+public record ProductIdVO(long mostSignificantBits, long leastSignificantBits) {
 
     /**
-     * Compact constructor for validation.
+     * Parsing constructor for validation.
      * Ensures that the value is not null or blank and is a valid UUID format.
      */
-    public ProductIdVO {
+    public ProductIdVO(String value) {
+        this(UuidCodec.mostSignificantBits(requireValid(value)), UuidCodec.leastSignificantBits(value.trim()));
+    }
+
+    private static String requireValid(String value) {
         Objects.requireNonNull(value, "ProductId value cannot be null");
         String trimmedValue = value.trim();
 
@@ -29,22 +35,49 @@ public record ProductIdVO(String value) {
         if (!isValidUUID(trimmedValue)) {
             throw new IllegalArgumentException("ProductId must be a valid UUID format.");
         }
+        return trimmedValue;
     }
 
     /**
      * Static method to validate if a string is a valid UUID format.
      */
     public static boolean isValidUUID(String uuid) {
-        return UUID_PATTERN.matcher(uuid).matches();
+        return CharacterScanner.isUuid(uuid);
     }
 
     /**
-     * Static factory method to generate a new, unique ProductIdVO using a random UUID.
+     * Static factory method to generate a new, unique ProductIdVO using a time-ordered UUIDv7.
      * @return A new instance of ProductIdVO.
      */
     public static ProductIdVO generate() {
-        return new ProductIdVO(UUID.randomUUID().toString());
+        return fromUUID(UuidV7Generator.next());
     }
 
-    // Default record methods (toString, equals, hashCode) are used automatically.
-}
\ No newline at end of file
+    /**
+     * Static factory method for ids read as native UUIDs (JDBC uuid columns, BSON binary).
+     */
+    public static ProductIdVO fromUUID(UUID uuid) {
+        Objects.requireNonNull(uuid, "ProductId value cannot be null");
+        return new ProductIdVO(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * @return The canonical lower-case UUID string, formatted on every call (a record cannot cache it).
+     * Writers emitting many ids use {@link UuidCodec#formatTo} or {@link #toUUID()} instead.
+     */
+    public String value() {
+        return UuidCodec.format(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * @return The id as a UUID, for binding to uuid columns without re-parsing.
+     */
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductIdVO[value=" + value() + "]";
+    }
+}
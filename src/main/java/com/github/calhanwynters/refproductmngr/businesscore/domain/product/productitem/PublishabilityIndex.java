@@ -0,0 +1,239 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally maintained answer to {@link ProductAggregate#isPublishable()} for every known product:
+ * per business, the set of product ids that are not deleted, have at least one image and at least one
+ * ACTIVE variant. Membership checks and listings never load an aggregate.
+ * <p>
+ * Each product keeps just the facts the rule needs (deleted flag, image presence, its variants and which of
+ * them are ACTIVE), so a single-variant status change or deletion updates the sets in O(1) without a full
+ * snapshot. Updates of one product are serialized per product id; different products update concurrently.
+ * Snapshots older than the tracked version are ignored, equal versions are applied (status deltas do not
+ * advance the tracked version, so a reload at the version they produced must still replace them).
+ */
+public final class PublishabilityIndex {
+
+    private final ConcurrentHashMap<ProductIdVO, ProductFacts> products = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<BusinessIdVO, Set<ProductIdVO>> publishable = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<VariantIdVO, ProductIdVO> variantOwners = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces what is known about a product with the state of a full aggregate.
+     */
+    public void apply(ProductAggregate product) {
+        Objects.requireNonNull(product, "Product aggregate cannot be null");
+        apply(Snapshot.of(product));
+    }
+
+    /**
+     * Replaces what is known about a product, unless a newer version is already tracked.
+     */
+    public void apply(Snapshot snapshot) {
+        Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+        products.compute(snapshot.productId(), (id, current) -> {
+            if (current != null && current.version > snapshot.version()) {
+                return current;
+            }
+            if (current != null) {
+                current.variants.forEach(variantId -> variantOwners.remove(variantId, id));
+                if (!current.businessId.equals(snapshot.businessId())) {
+                    unlist(current.businessId, id);
+                }
+            }
+            ProductFacts facts = new ProductFacts(snapshot);
+            facts.variants.forEach(variantId -> variantOwners.put(variantId, id));
+            refresh(id, facts);
+            return facts;
+        });
+    }
+
+    /**
+     * Applies a status change of one variant of an indexed product.
+     * @return True if the variant is known, false if the caller should supply a fresh snapshot instead.
+     */
+    public boolean applyVariantStatus(VariantIdVO variantId, VariantStatusEnums status) {
+        Objects.requireNonNull(status, "Status cannot be null");
+        return updateOwner(variantId, facts -> {
+            if (status == VariantStatusEnums.ACTIVE) {
+                facts.active.add(variantId);
+            } else {
+                facts.active.remove(variantId);
+            }
+        });
+    }
+
+    /**
+     * Forgets a hard-deleted variant.
+     * @return False if the variant is unknown.
+     */
+    public boolean removeVariant(VariantIdVO variantId) {
+        return updateOwner(variantId, facts -> {
+            variantOwners.remove(variantId);
+            facts.active.remove(variantId);
+            facts.variants.remove(variantId);
+        });
+    }
+
+    /**
+     * Forgets every variant of a product (the product itself stays indexed, as unpublishable).
+     */
+    public void removeAllVariants(ProductIdVO productId) {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        products.computeIfPresent(productId, (id, facts) -> {
+            facts.variants.forEach(variantId -> variantOwners.remove(variantId, id));
+            facts.variants.clear();
+            facts.active.clear();
+            refresh(id, facts);
+            return facts;
+        });
+    }
+
+    /**
+     * Forgets a hard-deleted product.
+     */
+    public void removeProduct(ProductIdVO productId) {
+        Objects.requireNonNull(productId, "Product ID cannot be null");
+        products.computeIfPresent(productId, (id, facts) -> {
+            facts.variants.forEach(variantId -> variantOwners.remove(variantId, id));
+            unlist(facts.businessId, id);
+            return null;
+        });
+    }
+
+    public void clear() {
+        products.clear();
+        publishable.clear();
+        variantOwners.clear();
+    }
+
+    public boolean isPublishable(ProductIdVO productId) {
+        ProductFacts facts = products.get(productId);
+        return facts != null && isPublishable(facts.businessId, productId);
+    }
+
+    /**
+     * O(1) membership check.
+     */
+    public boolean isPublishable(BusinessIdVO businessId, ProductIdVO productId) {
+        Set<ProductIdVO> ids = publishable.get(businessId);
+        return ids != null && ids.contains(productId);
+    }
+
+    /**
+     * @return A live, unmodifiable view of the publishable products of a business.
+     */
+    public Set<ProductIdVO> publishableProducts(BusinessIdVO businessId) {
+        Objects.requireNonNull(businessId, "Business ID cannot be null");
+        return Collections.unmodifiableSet(publishable.computeIfAbsent(businessId, b -> ConcurrentHashMap.newKeySet()));
+    }
+
+    public boolean contains(ProductIdVO productId) {
+        return products.containsKey(productId);
+    }
+
+    /**
+     * Number of indexed products, publishable or not.
+     */
+    public int size() {
+        return products.size();
+    }
+
+    private boolean updateOwner(VariantIdVO variantId, Consumer<ProductFacts> change) {
+        Objects.requireNonNull(variantId, "Variant ID cannot be null");
+        ProductIdVO owner = variantOwners.get(variantId);
+        if (owner == null) {
+            return false;
+        }
+        boolean[] known = {false};
+        products.computeIfPresent(owner, (id, facts) -> {
+            known[0] = facts.variants.contains(variantId);
+            if (known[0]) {
+                change.accept(facts);
+                refresh(id, facts);
+            }
+            return facts;
+        });
+        return known[0];
+    }
+
+    // Called inside compute of the product, so membership changes of one product never interleave
+    private void refresh(ProductIdVO productId, ProductFacts facts) {
+        if (facts.isPublishable()) {
+            publishable.computeIfAbsent(facts.businessId, b -> ConcurrentHashMap.newKeySet()).add(productId);
+        } else {
+            unlist(facts.businessId, productId);
+        }
+    }
+
+    private void unlist(BusinessIdVO businessId, ProductIdVO productId) {
+        Set<ProductIdVO> ids = publishable.get(businessId);
+        if (ids != null) {
+            ids.remove(productId);
+        }
+    }
+
+    /**
+     * The facts of one product the publishability rule depends on.
+     * @param version VersionVO.num of the state the facts were read from.
+     * @param variants Status of every variant of the product.
+     */
+    public record Snapshot(ProductIdVO productId, BusinessIdVO businessId, int version, boolean deleted,
+                           boolean hasImages, Map<VariantIdVO, VariantStatusEnums> variants) {
+        public Snapshot {
+            Objects.requireNonNull(productId, "Product ID cannot be null");
+            Objects.requireNonNull(businessId, "Business ID cannot be null");
+            variants = Map.copyOf(variants);
+        }
+
+        public static Snapshot of(ProductAggregate product) {
+            Map<VariantIdVO, VariantStatusEnums> variants = new HashMap<>();
+            for (VariantEntity variant : product.variants()) {
+                variants.put(variant.id(), variant.status());
+            }
+            return new Snapshot(product.id(), product.businessIdVO(), product.version().num(), product.isDeleted(),
+                    product.hasMinimumImages(), variants);
+        }
+    }
+
+    // Mutable, but only ever touched inside compute of its product
+    private static final class ProductFacts {
+        private final BusinessIdVO businessId;
+        private final int version;
+        private final boolean deleted;
+        private final boolean hasImages;
+        private final Set<VariantIdVO> variants;
+        private final Set<VariantIdVO> active;
+
+        private ProductFacts(Snapshot snapshot) {
+            this.businessId = snapshot.businessId();
+            this.version = snapshot.version();
+            this.deleted = snapshot.deleted();
+            this.hasImages = snapshot.hasImages();
+            this.variants = new HashSet<>(snapshot.variants().keySet());
+            this.active = new HashSet<>();
+            snapshot.variants().forEach((variantId, status) -> {
+                if (status == VariantStatusEnums.ACTIVE) {
+                    active.add(variantId);
+                }
+            });
+        }
+
+        // Same rule as ProductAggregate.isPublishable()
+        private boolean isPublishable() {
+            return !deleted && hasImages && !active.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantPricePlan;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of compiled {@link VariantPricePlan}s, invalidated per product.
+ * <p>
+ * Entries live in two generations: new and recently read plans go to the young map; when it holds half the
+ * capacity it becomes the old map and the previous old map is dropped, so the cache never exceeds its capacity
+ * and plans not read for a whole generation are evicted first (an approximate LRU with lock-free reads).
+ * <p>
+ * Plans compiled from a product loaded before an invalidation must not be cached after it: callers read
+ * {@link #generation()} before loading and pass it to {@link #compile}, which only caches when no invalidation
+ * happened in between.
+ */
+public final class VariantPricePlanCache {
+
+    public static final int DEFAULT_CAPACITY = 50_000;
+
+    private final int generationCapacity;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<VariantIdVO, Entry> young = new ConcurrentHashMap<>();
+    private volatile Map<VariantIdVO, Entry> old = new ConcurrentHashMap<>();
+
+    public VariantPricePlanCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public VariantPricePlanCache(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        this.generationCapacity = capacity / 2;
+    }
+
+    /**
+     * @return The cached plan, or null.
+     */
+    public VariantPricePlan get(VariantIdVO variantId) {
+        Entry entry = young.get(variantId);
+        if (entry == null) {
+            entry = old.get(variantId);
+            if (entry == null) {
+                return null;
+            }
+            store(variantId, entry); // Read again: survives the next rotation
+        }
+        return entry.plan();
+    }
+
+    /**
+     * Invalidation counter; read it before loading the products to {@link #compile}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Compiles the plans of every variant of the product. They are cached unless an invalidation happened
+     * since {@code loadedAtGeneration}; the returned plans are current for the given product either way.
+     */
+    public Map<VariantIdVO, VariantPricePlan> compile(ProductAggregate product, long loadedAtGeneration) {
+        Objects.requireNonNull(product, "Product aggregate cannot be null");
+        Map<VariantIdVO, VariantPricePlan> compiled = new HashMap<>();
+        for (VariantEntity variant : product.variants()) {
+            compiled.put(variant.id(), VariantPricePlan.compile(variant));
+        }
+        if (generation.get() == loadedAtGeneration) {
+            Map<VariantIdVO, Entry> stored = new HashMap<>();
+            compiled.forEach((variantId, plan) -> {
+                Entry entry = new Entry(product.id(), plan);
+                stored.put(variantId, entry);
+                store(variantId, entry);
+            });
+            // An invalidation that raced with the stores may have missed them
+            if (generation.get() != loadedAtGeneration) {
+                stored.forEach((variantId, entry) -> {
+                    young.remove(variantId, entry);
+                    old.remove(variantId, entry);
+                });
+            }
+        }
+        return compiled;
+    }
+
+    public void evict(VariantIdVO variantId) {
+        generation.incrementAndGet();
+        young.remove(variantId);
+        old.remove(variantId);
+    }
+
+    /**
+     * Drops the plans of every variant of the products (one pass over the cache for the whole set).
+     */
+    public void evictProducts(Collection<ProductIdVO> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        generation.incrementAndGet();
+        Set<ProductIdVO> ids = Set.copyOf(productIds);
+        young.values().removeIf(entry -> ids.contains(entry.productId()));
+        old.values().removeIf(entry -> ids.contains(entry.productId()));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        young.clear();
+        old.clear();
+    }
+
+    public int size() {
+        return young.size() + old.size();
+    }
+
+    private void store(VariantIdVO variantId, Entry entry) {
+        Map<VariantIdVO, Entry> current = young;
+        current.put(variantId, entry);
+        if (current.size() >= generationCapacity) {
+            rotate(current);
+        }
+    }
+
+    private synchronized void rotate(Map<VariantIdVO, Entry> full) {
+        if (young == full) {
+            old = full;
+            young = new ConcurrentHashMap<>();
+        }
+    }
+
+    private record Entry(ProductIdVO productId, VariantPricePlan plan) {}
+}
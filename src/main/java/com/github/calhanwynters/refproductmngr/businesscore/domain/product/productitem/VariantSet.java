@@ -0,0 +1,141 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.SkuVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable variant set backing {@link ProductAggregate#variants()}.
+ * Elements and the indexes by {@link VariantIdVO} and {@link SkuVO} are {@link PersistentHashMap}s,
+ * so {@link #with} and {@link #replace} run in O(log n) and share structure with the previous version.
+ * The indexes are built on first lookup and then carried over to every derived copy.
+ * Equality and hashing follow the {@link Set} contract, so it compares equal to any other set
+ * with the same variants.
+ */
+final class VariantSet extends AbstractSet<VariantEntity> {
+
+    private final PersistentHashMap<VariantEntity, Boolean> elements;
+    // Lazily built; racing threads may both build them, which is harmless since the set is immutable
+    private volatile PersistentHashMap<VariantIdVO, VariantEntity> byId;
+    private volatile PersistentHashMap<SkuVO, VariantEntity> bySku;
+
+    private VariantSet(PersistentHashMap<VariantEntity, Boolean> elements,
+                       PersistentHashMap<VariantIdVO, VariantEntity> byId,
+                       PersistentHashMap<SkuVO, VariantEntity> bySku) {
+        this.elements = elements;
+        this.byId = byId;
+        this.bySku = bySku;
+    }
+
+    /**
+     * @return {@code variants} itself when it already is a VariantSet, otherwise an immutable copy.
+     * @throws NullPointerException If the set contains null.
+     */
+    static VariantSet copyOf(Set<VariantEntity> variants) {
+        if (variants instanceof VariantSet variantSet) {
+            return variantSet;
+        }
+        PersistentHashMap<VariantEntity, Boolean> elements = PersistentHashMap.empty();
+        for (VariantEntity variant : variants) {
+            elements = elements.plus(Objects.requireNonNull(variant), Boolean.TRUE);
+        }
+        return new VariantSet(elements, null, null);
+    }
+
+    /**
+     * @return The variant with the given id, or null when it does not belong to this set.
+     */
+    VariantEntity findById(VariantIdVO variantId) {
+        return idIndex().get(variantId);
+    }
+
+    boolean containsSku(SkuVO sku) {
+        return skuIndex().containsKey(sku);
+    }
+
+    /**
+     * @return A copy with {@code added} included.
+     */
+    VariantSet with(VariantEntity added) {
+        Objects.requireNonNull(added);
+        if (elements.containsKey(added)) {
+            return this;
+        }
+        return new VariantSet(
+                elements.plus(added, Boolean.TRUE),
+                patch(byId, null, added, VariantEntity::id),
+                patch(bySku, null, added, VariantEntity::sku));
+    }
+
+    /**
+     * @return A copy where {@code current} (which must be a member) is swapped for {@code replacement}.
+     */
+    VariantSet replace(VariantEntity current, VariantEntity replacement) {
+        Objects.requireNonNull(replacement);
+        if (current == replacement) {
+            return this;
+        }
+        return new VariantSet(
+                elements.minus(current).plus(replacement, Boolean.TRUE),
+                patch(byId, current, replacement, VariantEntity::id),
+                patch(bySku, current, replacement, VariantEntity::sku));
+    }
+
+    @Override
+    public Iterator<VariantEntity> iterator() {
+        return elements.keyIterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return elements.containsKey(o);
+    }
+
+    private PersistentHashMap<VariantIdVO, VariantEntity> idIndex() {
+        PersistentHashMap<VariantIdVO, VariantEntity> index = byId;
+        if (index == null) {
+            index = buildIndex(VariantEntity::id);
+            byId = index;
+        }
+        return index;
+    }
+
+    private PersistentHashMap<SkuVO, VariantEntity> skuIndex() {
+        PersistentHashMap<SkuVO, VariantEntity> index = bySku;
+        if (index == null) {
+            index = buildIndex(VariantEntity::sku);
+            bySku = index;
+        }
+        return index;
+    }
+
+    private <K> PersistentHashMap<K, VariantEntity> buildIndex(Function<VariantEntity, K> key) {
+        PersistentHashMap<K, VariantEntity> index = PersistentHashMap.empty();
+        for (VariantEntity variant : this) {
+            index = index.plus(key.apply(variant), variant);
+        }
+        return index;
+    }
+
+    // Carries an index over to the next copy; an index that was never built stays unbuilt
+    private static <K> PersistentHashMap<K, VariantEntity> patch(PersistentHashMap<K, VariantEntity> index,
+                                                                 VariantEntity removed, VariantEntity added,
+                                                                 Function<VariantEntity, K> key) {
+        if (index == null) {
+            return null;
+        }
+        PersistentHashMap<K, VariantEntity> patched = removed == null ? index : index.minus(key.apply(removed));
+        return patched.plus(key.apply(added), added);
+    }
+}
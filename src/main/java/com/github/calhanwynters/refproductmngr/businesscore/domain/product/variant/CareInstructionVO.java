@@ -1,5 +1,8 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValueObjectPool;
+
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -19,27 +22,56 @@ public record CareInstructionVO(String instructions) {
 
     public CareInstructionVO {
         Objects.requireNonNull(instructions, "Instructions cannot be null");
+        ValidationError error = check(instructions);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        // Remove the blacklist/HTML checks as the whitelist already covers them implicitly.
+    }
+
+    private static final ValueObjectPool<CareInstructionVO> POOL = new ValueObjectPool<>(10_000, CareInstructionVO::new);
+
+    /**
+     * Pooled factory for catalog-wide repeated values: equal inputs share one instance
+     * and skip re-validation (see ValueObjectPool).
+     */
+    public static CareInstructionVO of(String instructions) {
+        return POOL.get(instructions);
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new CareInstructionVO(instructions)} would succeed.
+     */
+    public static ValidationError validate(String instructions) {
+        if (instructions == null) {
+            return new ValidationError("careInstructions", ValidationError.REQUIRED, "Instructions cannot be null");
+        }
+        return check(instructions);
+    }
+
+    private static ValidationError check(String instructions) {
         if (instructions.isBlank()) {
-            throw new IllegalArgumentException("Instructions cannot be empty or blank");
+            return new ValidationError("careInstructions", ValidationError.BLANK, "Instructions cannot be empty or blank");
         }
         if (instructions.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("Instructions cannot exceed " + MAX_LENGTH + " characters");
+            return new ValidationError("careInstructions", ValidationError.TOO_LONG, "Instructions cannot exceed " + MAX_LENGTH + " characters");
         }
 
         // --- Cybersecurity Enhancement: Whitelisting ---
         // Ensure ALL characters in the input match the safe pattern.
         if (!ALLOWED_CHARS_PATTERN.matcher(instructions).matches()) {
-            throw new IllegalArgumentException("Instructions contain forbidden characters. Only letters, numbers, spaces, and common punctuation are allowed.");
+            return new ValidationError("careInstructions", ValidationError.FORBIDDEN_CHARACTERS, "Instructions contain forbidden characters. Only letters, numbers, spaces, and common punctuation are allowed.");
         }
         // ----------------------------------------------
 
         // Semantic/Formatting checks are still valid business rules:
         if (!instructions.startsWith("-") && !instructions.startsWith("*") && !instructions.startsWith("1.")) {
             // Added '*' to startWith check as it's a common bullet point character
-            throw new IllegalArgumentException("Instructions should start with a bullet point (* or -) or numbering (1.).");
+            return new ValidationError("careInstructions", ValidationError.INVALID_FORMAT, "Instructions should start with a bullet point (* or -) or numbering (1.).");
         }
-
-        // Remove the blacklist/HTML checks as the whitelist already covers them implicitly.
+        return null;
     }
 
     public String display() {
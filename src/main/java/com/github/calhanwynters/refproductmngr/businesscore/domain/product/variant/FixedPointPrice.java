@@ -0,0 +1,193 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Fixed-point money: an amount of {@code minorUnits / 10^scale} in the currency at {@code currencyIndex}.
+ * Arithmetic, comparison and rounding work on primitive longs (overflow-checked with Math.*Exact),
+ * so bulk pricing and sorting avoid BigDecimal allocations. Conversion to and from BigDecimal is lossless.
+ * <p>
+ * The currency index is only meaningful within one JVM (it follows the sorted ISO 4217 codes known to it);
+ * persist the currency code, never the index.
+ */
+public record FixedPointPrice(long minorUnits, int scale, int currencyIndex) implements Comparable<FixedPointPrice> {
+
+    /** Largest supported scale: 10^18 is the highest power of ten that fits in a long. */
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+    private static final Currency[] CURRENCIES = Currency.getAvailableCurrencies().stream()
+            .sorted((a, b) -> a.getCurrencyCode().compareTo(b.getCurrencyCode()))
+            .toArray(Currency[]::new);
+    private static final String[] CURRENCY_CODES = Arrays.stream(CURRENCIES).map(Currency::getCurrencyCode).toArray(String[]::new);
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    public FixedPointPrice {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        }
+        if (currencyIndex < 0 || currencyIndex >= CURRENCIES.length) {
+            throw new IllegalArgumentException("Unknown currency index: " + currencyIndex);
+        }
+    }
+
+    /**
+     * Converts exactly, keeping the scale of {@code value} (negative scales become 0).
+     * @throws ArithmeticException If the value needs more than 18 fraction digits or does not fit in a long.
+     */
+    public static FixedPointPrice of(BigDecimal value, Currency currency) {
+        Objects.requireNonNull(value, "Price cannot be null");
+        int scale = Math.max(value.scale(), 0);
+        if (scale > MAX_SCALE) {
+            throw new ArithmeticException("Price has more than " + MAX_SCALE + " fraction digits: " + value);
+        }
+        return new FixedPointPrice(value.setScale(scale).unscaledValue().longValueExact(), scale, indexOf(currency));
+    }
+
+    /**
+     * @return The stable-per-JVM index of the currency, for use as {@code currencyIndex}.
+     */
+    public static int indexOf(Currency currency) {
+        Objects.requireNonNull(currency, "Currency must not be null");
+        int index = Arrays.binarySearch(CURRENCY_CODES, currency.getCurrencyCode());
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown currency: " + currency.getCurrencyCode());
+        }
+        return index;
+    }
+
+    public Currency currency() {
+        return CURRENCIES[currencyIndex];
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    /**
+     * Adds another amount in the same currency; the result has the larger of both scales.
+     */
+    public FixedPointPrice plus(FixedPointPrice other) {
+        ensureSameCurrency(other);
+        int targetScale = Math.max(scale, other.scale);
+        long sum = Math.addExact(rescaleUp(minorUnits, scale, targetScale), rescaleUp(other.minorUnits, other.scale, targetScale));
+        return new FixedPointPrice(sum, targetScale, currencyIndex);
+    }
+
+    /**
+     * Multiplies by an integral quantity (e.g. units in a cart line) without changing the scale.
+     */
+    public FixedPointPrice times(long quantity) {
+        return new FixedPointPrice(Math.multiplyExact(minorUnits, quantity), scale, currencyIndex);
+    }
+
+    /**
+     * Changes the scale, rounding with {@code mode} when digits are dropped.
+     * @throws ArithmeticException On overflow, or when mode is UNNECESSARY and rounding is required.
+     */
+    public FixedPointPrice withScale(int newScale, RoundingMode mode) {
+        if (newScale == scale) {
+            return this;
+        }
+        if (newScale > scale) {
+            return new FixedPointPrice(rescaleUp(minorUnits, scale, newScale), newScale, currencyIndex);
+        }
+        return new FixedPointPrice(divide(minorUnits, POWERS_OF_TEN[scale - newScale], mode), newScale, currencyIndex);
+    }
+
+    /**
+     * Numeric comparison within one currency, independent of scale (1.5 equals 1.50).
+     */
+    @Override
+    public int compareTo(FixedPointPrice other) {
+        ensureSameCurrency(other);
+        if (scale == other.scale) {
+            return Long.compare(minorUnits, other.minorUnits);
+        }
+        return scale < other.scale
+                ? compareAcrossScales(minorUnits, scale, other.minorUnits, other.scale)
+                : -compareAcrossScales(other.minorUnits, other.scale, minorUnits, scale);
+    }
+
+    /**
+     * Same digits as {@code toBigDecimal().toPlainString()}.
+     */
+    public String toPlainString() {
+        StringBuilder text = new StringBuilder(24);
+        if (minorUnits < 0) {
+            text.append('-');
+        }
+        // Long.MIN_VALUE has no positive counterpart; unsigned arithmetic handles it
+        long magnitude = Math.abs(minorUnits);
+        long unit = POWERS_OF_TEN[scale];
+        text.append(Long.toUnsignedString(Long.divideUnsigned(magnitude, unit)));
+        if (scale > 0) {
+            String fraction = Long.toUnsignedString(Long.remainderUnsigned(magnitude, unit));
+            text.append('.');
+            for (int i = fraction.length(); i < scale; i++) {
+                text.append('0');
+            }
+            text.append(fraction);
+        }
+        return text.toString();
+    }
+
+    // 10^exponent for 0 <= exponent <= MAX_SCALE, shared with the other fixed-point pricing code
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    private void ensureSameCurrency(FixedPointPrice other) {
+        if (currencyIndex != other.currencyIndex) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency().getCurrencyCode()
+                    + " vs " + other.currency().getCurrencyCode());
+        }
+    }
+
+    private static long rescaleUp(long minorUnits, int fromScale, int toScale) {
+        return Math.multiplyExact(minorUnits, POWERS_OF_TEN[toScale - fromScale]);
+    }
+
+    // Compares a (lower scale) with b (higher scale) by scaling a up; overflow means |a| exceeds any long
+    private static int compareAcrossScales(long a, int aScale, long b, int bScale) {
+        long factor = POWERS_OF_TEN[bScale - aScale];
+        long high = Math.multiplyHigh(a, factor);
+        long low = a * factor;
+        if ((high == 0 && low >= 0) || (high == -1 && low < 0)) {
+            return Long.compare(low, b);
+        }
+        return a < 0 ? -1 : 1;
+    }
+
+    private static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = dividend < 0 ? -1 : 1;
+        // Compare |remainder| with divisor / 2 without overflow
+        int half = Long.compare(Math.abs(remainder), divisor - Math.abs(remainder));
+        boolean awayFromZero = switch (mode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+}
@@ -1,37 +1,109 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Currency;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * An immutable Value Object representing a monetary price.
  * Ensures non-negative values and handles display precision.
+ * Comparison stays on {@link BigDecimal#compareTo}, which compares compact values without allocating;
+ * bulk quoting runs on the fixed-point form ({@link FixedPointPrice}, {@link VariantPricePlan}).
  */
-public record PriceVO(BigDecimal value, int precision, Currency currency) {
+public record PriceVO(BigDecimal value, int precision, Currency currency) implements Comparable<PriceVO> {
 
     public PriceVO(BigDecimal value) {
         this(value, 2, Currency.getInstance("USD")); // Defaults to 2 decimal points and USD if not specified
     }
 
+    private static final Set<String> CURRENCY_CODES = Currency.getAvailableCurrencies().stream()
+            .map(Currency::getCurrencyCode)
+            .collect(Collectors.toUnmodifiableSet());
+
     public PriceVO {
+        ValidationError error = validate(value, precision, currency);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new PriceVO(value, precision, currency)} would succeed.
+     */
+    public static ValidationError validate(BigDecimal value, int precision, Currency currency) {
         if (value == null) {
-            throw new IllegalArgumentException("Price cannot be null");
+            return new ValidationError("price", ValidationError.REQUIRED, "Price cannot be null");
         }
         if (value.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Price must be non-negative");
+            return new ValidationError("price", ValidationError.OUT_OF_RANGE, "Price must be non-negative");
         }
         if (precision < 0) {
-            throw new IllegalArgumentException("Precision must be non-negative");
+            return new ValidationError("precision", ValidationError.OUT_OF_RANGE, "Precision must be non-negative");
         }
         if (currency == null) {
-            throw new IllegalArgumentException("Currency must not be null");
+            return new ValidationError("currency", ValidationError.REQUIRED, "Currency must not be null");
+        }
+        return null;
+    }
+
+    /**
+     * Display precision for prices read back from storage, which keeps amounts but not their precision:
+     * the currency's minor unit digits (2 for currencies without one, e.g. XAU).
+     */
+    public static int defaultPrecision(Currency currency) {
+        int digits = currency.getDefaultFractionDigits();
+        return digits >= 0 ? digits : 2;
+    }
+
+    /**
+     * Checks an ISO 4217 code without the IllegalArgumentException of {@link Currency#getInstance(String)}.
+     * @return The broken rule, or null when the code resolves to a currency.
+     */
+    public static ValidationError validateCurrencyCode(String code) {
+        if (code == null) {
+            return new ValidationError("currencyCode", ValidationError.REQUIRED, "Currency must not be null");
+        }
+        if (!CURRENCY_CODES.contains(code)) {
+            return new ValidationError("currencyCode", ValidationError.UNKNOWN_VALUE, "Unknown currency code: " + code);
+        }
+        return null;
+    }
+
+    /**
+     * Creates a price from its fixed-point form, with the given display precision.
+     */
+    public static PriceVO of(FixedPointPrice price, int precision) {
+        return new PriceVO(price.toBigDecimal(), precision, price.currency());
+    }
+
+    /**
+     * Lossless fixed-point form of this price.
+     * @throws ArithmeticException If the value has more than 18 fraction digits or exceeds the long range.
+     */
+    public FixedPointPrice toFixedPoint() {
+        return FixedPointPrice.of(value, currency);
+    }
+
+    /**
+     * Numeric comparison within one currency (scale-independent, unlike equals).
+     * @throws IllegalArgumentException If the currencies differ.
+     */
+    @Override
+    public int compareTo(PriceVO other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency.getCurrencyCode()
+                    + " vs " + other.currency.getCurrencyCode());
         }
+        return value.compareTo(other.value);
     }
 
     @Override
     public String toString() {
-        BigDecimal scaledValue = value.setScale(precision, RoundingMode.HALF_UP);
-        return String.format("%s %s", currency.getSymbol(), scaledValue.toPlainString());
+        return currency.getSymbol() + " " + value.setScale(precision, RoundingMode.HALF_UP).toPlainString();
     }
 }
@@ -0,0 +1,80 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * A bulk price change: {@code newPrice = price * (1 + percentage / 100) + amount}, rounded to {@code scale}
+ * with {@code roundingMode}. The rule only applies to prices in its {@code currency}; any other currency is
+ * refused with the same guard as {@link VariantEntityBehavior#changeCurrentPrice}.
+ * @param percentage Relative change in percent (3 for +3%, -10 for -10%); greater than -100.
+ * @param amount Absolute change added after the percentage, in the rule currency.
+ * @param scale Fraction digits of the resulting price.
+ * @param roundingMode Rounding applied when the result has more than {@code scale} fraction digits.
+ * @param currency The only currency this rule may reprice.
+ */
+public record RepricingRule(BigDecimal percentage, BigDecimal amount, int scale, RoundingMode roundingMode, Currency currency) {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    public RepricingRule {
+        Objects.requireNonNull(percentage, "percentage must not be null");
+        Objects.requireNonNull(amount, "amount must not be null");
+        Objects.requireNonNull(roundingMode, "roundingMode must not be null");
+        Objects.requireNonNull(currency, "currency must not be null");
+        if (percentage.compareTo(HUNDRED.negate()) <= 0) {
+            throw new IllegalArgumentException("Percentage must be greater than -100");
+        }
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale must be non-negative");
+        }
+        if (percentage.signum() == 0 && amount.signum() == 0) {
+            throw new IllegalArgumentException("Repricing rule must change the price");
+        }
+    }
+
+    /**
+     * Percentage change rounded half-up to cents.
+     */
+    public static RepricingRule percent(BigDecimal percentage, Currency currency) {
+        return new RepricingRule(percentage, BigDecimal.ZERO, 2, RoundingMode.HALF_UP, currency);
+    }
+
+    /**
+     * Absolute change rounded half-up to cents.
+     */
+    public static RepricingRule absolute(BigDecimal amount, Currency currency) {
+        return new RepricingRule(BigDecimal.ZERO, amount, 2, RoundingMode.HALF_UP, currency);
+    }
+
+    /**
+     * @return Whether prices in {@code priceCurrency} can be repriced by this rule.
+     */
+    public boolean appliesTo(Currency priceCurrency) {
+        return currency.equals(priceCurrency);
+    }
+
+    /**
+     * @return The repriced value, keeping the display precision of {@code price}.
+     * @throws IllegalArgumentException If the currency differs from the rule's, or the result is negative.
+     */
+    public PriceVO apply(PriceVO price) {
+        Objects.requireNonNull(price, "price must not be null");
+        VariantEntityBehavior.ensureSameCurrency(price.currency(), currency);
+        BigDecimal value = price.value();
+        if (percentage.signum() != 0) {
+            value = value.add(value.multiply(percentage).divide(HUNDRED));
+        }
+        return new PriceVO(value.add(amount).setScale(scale, roundingMode), price.precision(), currency);
+    }
+
+    /**
+     * Applies the rule to the base price through {@link VariantEntityBehavior#changeBasePrice},
+     * so the current price follows the new base price.
+     */
+    public VariantEntity applyTo(VariantEntity variant) {
+        return VariantEntityBehavior.changeBasePrice(variant, apply(variant.basePrice()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A current price that a variant takes at a future point in time (promotions, planned price changes).
+ * It is applied through {@link VariantEntityBehavior#changeCurrentPrice}, so the usual currency rule holds.
+ * @param id Identity of the schedule entry (UUIDv7, so ids sort by creation time).
+ * @param variantId Variant whose current price changes.
+ * @param newCurrentPrice Current price from {@code effectiveAt} on.
+ * @param effectiveAt Instant the change takes effect.
+ */
+public record ScheduledPriceChange(UUID id, VariantIdVO variantId, PriceVO newCurrentPrice, Instant effectiveAt) {
+
+    public ScheduledPriceChange {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(variantId, "variantId must not be null");
+        Objects.requireNonNull(newCurrentPrice, "newCurrentPrice must not be null");
+        Objects.requireNonNull(effectiveAt, "effectiveAt must not be null");
+    }
+
+    public static ScheduledPriceChange of(VariantIdVO variantId, PriceVO newCurrentPrice, Instant effectiveAt) {
+        return new ScheduledPriceChange(UuidV7Generator.next(), variantId, newCurrentPrice, effectiveAt);
+    }
+}
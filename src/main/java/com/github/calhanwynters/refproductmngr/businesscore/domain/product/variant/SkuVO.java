@@ -1,5 +1,7 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -19,21 +21,40 @@ public record SkuVO(String sku) {
         // Normalize the SKU by trimming whitespace
         String trimmedSku = sku.trim();
 
+        ValidationError error = check(trimmedSku);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+
+        // Store the normalized value (implicit assignment happens at the end of the constructor)
+        sku = trimmedSku;
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new SkuVO(sku)} would succeed.
+     */
+    public static ValidationError validate(String sku) {
+        if (sku == null) {
+            return new ValidationError("sku", ValidationError.REQUIRED, "SKU cannot be null");
+        }
+        return check(sku.trim());
+    }
+
+    private static ValidationError check(String trimmedSku) {
         // Check that the trimmed SKU is not empty
         if (trimmedSku.isEmpty()) {
-            throw new IllegalArgumentException("SKU cannot be empty");
+            return new ValidationError("sku", ValidationError.BLANK, "SKU cannot be empty");
         }
 
         if (trimmedSku.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("SKU cannot exceed " + MAX_LENGTH + " characters.");
+            return new ValidationError("sku", ValidationError.TOO_LONG, "SKU cannot exceed " + MAX_LENGTH + " characters.");
         }
 
         // --- Cybersecurity Enhancement: Whitelisting ---
         if (!ALLOWED_CHARS_PATTERN.matcher(trimmedSku).matches()) {
-            throw new IllegalArgumentException("SKU contains forbidden characters. Only letters, numbers, hyphens, and underscores are allowed.");
+            return new ValidationError("sku", ValidationError.FORBIDDEN_CHARACTERS, "SKU contains forbidden characters. Only letters, numbers, hyphens, and underscores are allowed.");
         }
-
-        // Store the normalized value (implicit assignment happens at the end of the constructor)
-        sku = trimmedSku;
+        return null;
     }
 }
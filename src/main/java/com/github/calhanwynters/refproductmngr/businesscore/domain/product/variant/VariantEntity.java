@@ -1,7 +1,9 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureAbstractClass;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureFixedPriceEntity;
 
+import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Collections;
@@ -60,6 +62,21 @@ public record VariantEntity(
         return features; // Access to the unmodifiable set
     }
 
+    /**
+     * The lowest sell price of one unit: the current price plus every fixed-price feature, in the current
+     * price's currency and precision. Scaling features are left out because their price depends on the
+     * quantity a customer chooses. Materialized by the write and read models for price sorting and filtering.
+     */
+    public PriceVO effectivePrice() {
+        BigDecimal total = currentPrice.value();
+        for (FeatureAbstractClass feature : features) {
+            if (feature instanceof FeatureFixedPriceEntity fixed) {
+                total = total.add(fixed.getFixedPrice());
+            }
+        }
+        return new PriceVO(total, currentPrice.precision(), currentPrice.currency());
+    }
+
     public VariantEntity withStatus(VariantStatusEnums newStatus) {
         return new VariantEntity(id, sku, basePrice, currentPrice, features, careInstructions, weight, newStatus);
     }
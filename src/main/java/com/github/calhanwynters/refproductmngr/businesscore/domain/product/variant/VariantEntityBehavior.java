@@ -1,12 +1,13 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
+import java.util.Currency;
 import java.util.Objects;
 
 public class VariantEntityBehavior {
 
-    // Helper method to ensure currency consistency
-    private static void ensureSameCurrency(PriceVO currentPrice, PriceVO newPrice) {
-        if (!currentPrice.currency().equals(newPrice.currency())) {
+    // Helper method to ensure currency consistency (also the currency guard of RepricingRule)
+    static void ensureSameCurrency(Currency currentCurrency, Currency newCurrency) {
+        if (!currentCurrency.equals(newCurrency)) {
             throw new IllegalArgumentException("Cannot change price currency on an existing variant.");
         }
     }
@@ -40,7 +41,7 @@ public class VariantEntityBehavior {
      */
     public static VariantEntity changeCurrentPrice(VariantEntity original, PriceVO newCurrentPrice) {
         Objects.requireNonNull(newCurrentPrice, "newCurrentPrice must not be null");
-        ensureSameCurrency(original.currentPrice(), newCurrentPrice);
+        ensureSameCurrency(original.currentPrice().currency(), newCurrentPrice.currency());
         return new VariantEntity(
                 original.id(),
                 original.sku(),
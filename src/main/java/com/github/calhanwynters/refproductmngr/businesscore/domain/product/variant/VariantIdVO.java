@@ -1,26 +1,28 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.CharacterScanner;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidCodec;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+
 import java.util.Objects;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
  * Domain value object representing the unique identifier for a Variant Entity.
- * Ensures the value conforms to the UUID format using whitelisting/regex validation.
+ * Ensures the value conforms to the UUID format using whitelisting validation.
+ * Stored as the two 64-bit halves of the UUID; {@link #value()} exposes the canonical string.
  */
-public record VariantIdVO(String value) {
-
-    // Regex pattern for a standard UUID (case-insensitive)
-    private static final Pattern UUID_PATTERN =
-            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
-
-    // private static final int MAX_LENGTH = 100; // Removed, as UUID format is fixed length (36)
+public record VariantIdVO(long mostSignificantBits, long leastSignificantBits) {
 
     /**
-     * Compact constructor for validation.
+     * Parsing constructor for validation.
      * Ensures that the value is not null, blank, and is a valid UUID format.
      */
-    public VariantIdVO {
+    public VariantIdVO(String value) {
+        this(UuidCodec.mostSignificantBits(requireValid(value)), UuidCodec.leastSignificantBits(value.trim()));
+    }
+
+    private static String requireValid(String value) {
         Objects.requireNonNull(value, "VariantId value cannot be null");
         String trimmedValue = value.trim();
 
@@ -28,28 +30,41 @@ public record VariantIdVO(String value) {
             throw new IllegalArgumentException("VariantId value cannot be empty or blank");
         }
 
-        /*
-        // Optional: If you keep the MAX_LENGTH check:
-        if (trimmedValue.length() > MAX_LENGTH) {
-            throw new IllegalArgumentException("VariantId cannot exceed " + MAX_LENGTH + " characters.");
-        }
-        */
-
         // Validate the input string against the known safe format (UUID)
-        if (!UUID_PATTERN.matcher(trimmedValue).matches()) {
+        if (!CharacterScanner.isUuid(trimmedValue)) {
             // This prevents arbitrary strings/injection attacks from being treated as valid IDs
             throw new IllegalArgumentException("VariantId must be a valid UUID format.");
         }
-
-        // The record's internal 'value' component will store the trimmed value
-        value = trimmedValue;
+        return trimmedValue;
     }
 
-    // ... (generate() and fromString() factory methods remain the same) ...
     public static VariantIdVO generate() {
-        return new VariantIdVO(UUID.randomUUID().toString());
+        return fromUUID(UuidV7Generator.next());
     }
+
     public static VariantIdVO fromString(String id) {
         return new VariantIdVO(id);
     }
+
+    public static VariantIdVO fromUUID(UUID uuid) {
+        Objects.requireNonNull(uuid, "VariantId value cannot be null");
+        return new VariantIdVO(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * @return The canonical lower-case UUID string, formatted on every call (a record cannot cache it).
+     * Writers emitting many ids use {@link UuidCodec#formatTo} or {@link #toUUID()} instead.
+     */
+    public String value() {
+        return UuidCodec.format(mostSignificantBits, leastSignificantBits);
+    }
+
+    public UUID toUUID() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public String toString() {
+        return "VariantIdVO[value=" + value() + "]";
+    }
 }
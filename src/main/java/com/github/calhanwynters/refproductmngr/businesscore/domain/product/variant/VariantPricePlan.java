@@ -0,0 +1,205 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureAbstractClass;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureFixedPriceEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureScalingPriceEntity;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The pricing of one variant compiled into primitives, for quoting without BigDecimal arithmetic.
+ * <p>
+ * The unit sell price is {@code currentPrice + every FeatureFixedPriceEntity price + the
+ * FeatureScalingPriceEntity.calculateTotalPrice(q) of every scaling feature chosen with a quantity q}.
+ * All amounts are held as minor units at {@link #scale()} (the current price's scale, at least 2), and
+ * scaling features are evaluated with the same half-up rounding to cents as {@code calculateTotalPrice},
+ * so quotes are numerically equal to the BigDecimal path. Amounts are in the current price's currency.
+ * <p>
+ * Scaling features are addressed by slot (sorted by feature id); resolve slots once with
+ * {@link #scalingSlot} and pass quantities per slot, 0 meaning "not chosen". Quoting allocates nothing.
+ * Immutable and safe to share between threads.
+ */
+public final class VariantPricePlan {
+
+    private static final int FEATURE_SCALE = 2; // Fixed prices and scaling totals are normalized to cents
+
+    private final VariantIdVO variantId;
+    private final Currency currency;
+    private final int currencyIndex;
+    private final int scale;
+    private final long fixedUnits; // Current price plus all fixed-price features
+
+    // Per scaling slot: base and increment at the feature's own scale, then rounding to cents and rescaling
+    private final FeatureIdVO[] scalingIds;
+    private final long[] scalingBase;
+    private final long[] scalingIncrement;
+    private final long[] roundingDivisor;
+    private final long[] toPlanScale;
+    private final int[] maxQuantity;
+
+    private VariantPricePlan(VariantIdVO variantId, Currency currency, int scale, long fixedUnits, int slots) {
+        this.variantId = variantId;
+        this.currency = currency;
+        this.currencyIndex = FixedPointPrice.indexOf(currency);
+        this.scale = scale;
+        this.fixedUnits = fixedUnits;
+        this.scalingIds = new FeatureIdVO[slots];
+        this.scalingBase = new long[slots];
+        this.scalingIncrement = new long[slots];
+        this.roundingDivisor = new long[slots];
+        this.toPlanScale = new long[slots];
+        this.maxQuantity = new int[slots];
+    }
+
+    /**
+     * @throws ArithmeticException If an amount needs more than 18 fraction digits or does not fit in a long.
+     */
+    public static VariantPricePlan compile(VariantEntity variant) {
+        Objects.requireNonNull(variant, "variant must not be null");
+        PriceVO currentPrice = variant.currentPrice();
+        int scale = Math.max(FEATURE_SCALE, currentPrice.value().scale());
+        if (scale > FixedPointPrice.MAX_SCALE) {
+            throw new ArithmeticException("Price has more than " + FixedPointPrice.MAX_SCALE + " fraction digits: " + currentPrice.value());
+        }
+
+        long fixedUnits = units(currentPrice.value(), scale);
+        for (FeatureAbstractClass feature : variant.getFeatures()) {
+            if (feature instanceof FeatureFixedPriceEntity fixed) {
+                fixedUnits = Math.addExact(fixedUnits, units(fixed.getFixedPrice(), scale));
+            }
+        }
+
+        List<FeatureScalingPriceEntity> scaling = variant.getFeatures().stream()
+                .filter(FeatureScalingPriceEntity.class::isInstance)
+                .map(FeatureScalingPriceEntity.class::cast)
+                .sorted(Comparator.comparing((FeatureScalingPriceEntity f) -> f.getId().mostSignificantBits())
+                        .thenComparing(f -> f.getId().leastSignificantBits()))
+                .toList();
+
+        VariantPricePlan plan = new VariantPricePlan(variant.id(), currentPrice.currency(), scale,
+                fixedUnits, scaling.size());
+        for (int slot = 0; slot < scaling.size(); slot++) {
+            FeatureScalingPriceEntity feature = scaling.get(slot);
+            int featureScale = Math.max(FEATURE_SCALE, Math.max(feature.getBaseAmount().scale(), feature.getIncrementAmount().scale()));
+            if (featureScale > FixedPointPrice.MAX_SCALE) {
+                throw new ArithmeticException("Scaling feature " + feature.getId().value() + " has more than "
+                        + FixedPointPrice.MAX_SCALE + " fraction digits");
+            }
+            plan.scalingIds[slot] = feature.getId();
+            plan.scalingBase[slot] = units(feature.getBaseAmount(), featureScale);
+            plan.scalingIncrement[slot] = units(feature.getIncrementAmount(), featureScale);
+            plan.roundingDivisor[slot] = FixedPointPrice.powerOfTen(featureScale - FEATURE_SCALE);
+            plan.toPlanScale[slot] = FixedPointPrice.powerOfTen(scale - FEATURE_SCALE);
+            plan.maxQuantity[slot] = feature.getMaxQuantity();
+        }
+        return plan;
+    }
+
+    public VariantIdVO variantId() {
+        return variantId;
+    }
+
+    /**
+     * Fraction digits of every amount returned by this plan.
+     */
+    public int scale() {
+        return scale;
+    }
+
+    public int currencyIndex() {
+        return currencyIndex;
+    }
+
+    public Currency currency() {
+        return currency;
+    }
+
+    /**
+     * Length of the quantity array expected by {@link #unitPrice}.
+     */
+    public int scalingSlots() {
+        return scalingIds.length;
+    }
+
+    /**
+     * @return The slot of a scaling feature of this variant, or -1 if the variant has no such scaling feature.
+     */
+    public int scalingSlot(FeatureIdVO featureId) {
+        for (int slot = 0; slot < scalingIds.length; slot++) {
+            if (scalingIds[slot].equals(featureId)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Price of one configured unit, in minor units at {@link #scale()}.
+     * @param quantities Quantity per scaling slot (0 = feature not chosen); may be null when there are no slots.
+     * @throws IllegalArgumentException If a quantity is outside 0..maxQuantity of its feature.
+     */
+    public long unitPrice(int[] quantities) {
+        long total = fixedUnits;
+        int slots = scalingIds.length;
+        if (slots == 0) {
+            return total;
+        }
+        if (quantities == null || quantities.length != slots) {
+            throw new IllegalArgumentException("Expected " + slots + " scaling quantities");
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            int quantity = quantities[slot];
+            if (quantity == 0) {
+                continue;
+            }
+            if (quantity < 0 || quantity > maxQuantity[slot]) {
+                throw new IllegalArgumentException(
+                        "Quantity must be between 1 and " + maxQuantity[slot] + ", but was " + quantity);
+            }
+            total = Math.addExact(total, scalingTotal(slot, quantity));
+        }
+        return total;
+    }
+
+    /**
+     * Price of {@code units} identically configured units, in minor units at {@link #scale()}.
+     */
+    public long linePrice(int[] quantities, int units) {
+        if (units < 0) {
+            throw new IllegalArgumentException("Units must be non-negative");
+        }
+        return Math.multiplyExact(unitPrice(quantities), (long) units);
+    }
+
+    /**
+     * Converts an amount returned by this plan (cold path: allocates).
+     */
+    public FixedPointPrice toPrice(long minorUnits) {
+        return new FixedPointPrice(minorUnits, scale, currencyIndex);
+    }
+
+    // base + increment * quantity at the feature scale, rounded half-up to cents, then moved to the plan scale
+    private long scalingTotal(int slot, int quantity) {
+        long raw = Math.addExact(scalingBase[slot], Math.multiplyExact(scalingIncrement[slot], (long) quantity));
+        long divisor = roundingDivisor[slot];
+        long cents = divisor == 1 ? raw : (raw / divisor) + ((raw % divisor) * 2 >= divisor ? 1 : 0);
+        return Math.multiplyExact(cents, toPlanScale[slot]);
+    }
+
+    private static long units(BigDecimal value, int scale) {
+        return value.setScale(scale).unscaledValue().longValueExact();
+    }
+
+    @Override
+    public String toString() {
+        return "VariantPricePlan{variant=" + variantId.value() + ", fixed=" + toPrice(fixedUnits).toPlainString()
+                + " " + currency.getCurrencyCode() + ", scalingFeatures="
+                + Arrays.stream(scalingIds).map(FeatureIdVO::value).toList() + '}';
+    }
+}
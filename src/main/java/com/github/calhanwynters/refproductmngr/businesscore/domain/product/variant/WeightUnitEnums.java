@@ -2,6 +2,7 @@ package com.github.calhanwynters.refproductmngr.businesscore.domain.product.vari
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -97,6 +98,48 @@ public enum WeightUnitEnums {
      */
     public abstract BigDecimal fromGrams(BigDecimal grams);
 
+    /**
+     * Sums weights in canonical units (grams at COMPARISON_SCALE, see {@link WeightVO#scaledGrams()}) in one
+     * single long pass, then converts the total into this unit once.
+     * The total may exceed the per-item MAX_GRAMS limit, so it is returned as a plain amount, not a WeightVO.
+     * Rounding: the sum is exact at COMPARISON_SCALE; the single conversion rounds HALF_UP to
+     * INTERNAL_CALCULATION_SCALE like {@link #fromGrams(BigDecimal)}, with trailing zeros stripped.
+     * @param weights Weights in any mix of units.
+     * @return The total amount in this unit.
+     */
+    public BigDecimal totalOf(Iterable<WeightVO> weights) {
+        Objects.requireNonNull(weights, "Weights must not be null");
+        long scaledGrams = 0;
+        for (WeightVO weight : weights) {
+            scaledGrams = Math.addExact(scaledGrams, weight.scaledGrams());
+        }
+        return fromScaledGrams(scaledGrams);
+    }
+
+    /**
+     * Quantity-weighted variant of {@link #totalOf(Iterable)} for cart lines: {@code weights[i] * quantities[i]}.
+     * @throws IllegalArgumentException If the sizes differ or a quantity is negative.
+     */
+    public BigDecimal totalOf(List<WeightVO> weights, int[] quantities) {
+        Objects.requireNonNull(weights, "Weights must not be null");
+        Objects.requireNonNull(quantities, "Quantities must not be null");
+        if (weights.size() != quantities.length) {
+            throw new IllegalArgumentException("Each weight needs exactly one quantity");
+        }
+        long scaledGrams = 0;
+        for (int i = 0; i < quantities.length; i++) {
+            if (quantities[i] < 0) {
+                throw new IllegalArgumentException("Quantity must not be negative");
+            }
+            scaledGrams = Math.addExact(scaledGrams, Math.multiplyExact(weights.get(i).scaledGrams(), quantities[i]));
+        }
+        return fromScaledGrams(scaledGrams);
+    }
+
+    private BigDecimal fromScaledGrams(long scaledGrams) {
+        return fromGrams(BigDecimal.valueOf(scaledGrams, WeightConstants.COMPARISON_SCALE)).stripTrailingZeros();
+    }
+
     /**
      * Converts a given value from the current unit to a specified target unit.
      * @param value The value in the current unit (this).
@@ -1,12 +1,42 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
 
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Objects;
 
-/** Domain value object representing a product weight.* This record ensures immutability, validation, and standard weight operations.*/
+/** Domain value object representing a product weight.* This record ensures immutability, validation, and standard weight operations.
+ * Comparisons, sorting and sums use {@link #scaledGrams()}, the weight in grams at COMPARISON_SCALE as a long.
+ * It is computed from amount and unit in long arithmetic whenever the conversion is exact, and memoized per
+ * distinct (amount, unit) in a small static cache: catalog weights repeat, so a sort or a cart total mostly
+ * reads cached longs instead of converting (and allocating) again.*/
 public record WeightVO(BigDecimal amount, WeightUnitEnums unit) implements Comparable<WeightVO> {
 
+    // Grams per unit as unscaled long and scale, indexed by ordinal (toGrams(1) is exact for every unit)
+    private static final long[] GRAMS_PER_UNIT = new long[WeightUnitEnums.values().length];
+    private static final int[] GRAMS_PER_UNIT_SCALE = new int[WeightUnitEnums.values().length];
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+    // Below this, a product has at most 16 digits and INTERNAL_MATH_CONTEXT does not round it
+    private static final long EXACT_PRODUCT_LIMIT = POWERS_OF_TEN[WeightConstants.INTERNAL_MATH_CONTEXT.getPrecision()];
+    private static final int MIN_EXACT_SCALE = WeightConstants.COMPARISON_SCALE - (POWERS_OF_TEN.length - 1);
+
+    // Direct-mapped memo of scaledGrams(); entries are immutable, so racing threads at worst recompute a slot
+    private static final int SCALED_GRAMS_CACHE_BITS = 14;
+    private static final ScaledGrams[] SCALED_GRAMS_CACHE = new ScaledGrams[1 << SCALED_GRAMS_CACHE_BITS];
+
+    static {
+        for (WeightUnitEnums unit : WeightUnitEnums.values()) {
+            BigDecimal gramsPerUnit = unit.toGrams(BigDecimal.ONE);
+            GRAMS_PER_UNIT[unit.ordinal()] = gramsPerUnit.unscaledValue().longValueExact();
+            GRAMS_PER_UNIT_SCALE[unit.ordinal()] = gramsPerUnit.scale();
+        }
+    }
+
     // Constructor for validation and normalization
     public WeightVO {
         Objects.requireNonNull(amount, "Amount must not be null");
@@ -19,23 +49,49 @@ public record WeightVO(BigDecimal amount, WeightUnitEnums unit) implements Compa
         // Normalize the input amount before storing in the record using the standard scale
         amount = normalize(amount);
 
+        // Single conversion to grams, shared by the range check and the canonical form
+        BigDecimal weightInGrams = unit.toGrams(amount);
+        ValidationError error = checkRange(weightInGrams);
+        if (error != null) {
+            throw new IllegalArgumentException(error.message());
+        }
+    }
+
+    /**
+     * Exception-free counterpart of the constructor.
+     * @return The first broken rule, or null when {@code new WeightVO(amount, unit)} would succeed.
+     */
+    public static ValidationError validate(BigDecimal amount, WeightUnitEnums unit) {
+        if (amount == null) {
+            return new ValidationError("weight", ValidationError.REQUIRED, "Amount must not be null");
+        }
+        if (unit == null) {
+            return new ValidationError("weightUnit", ValidationError.REQUIRED, "Unit must not be null");
+        }
+        if (amount.signum() < 0) {
+            return new ValidationError("weight", ValidationError.OUT_OF_RANGE, "Amount must not be negative");
+        }
+        return checkRange(unit.toGrams(normalize(amount)));
+    }
+
+    private static ValidationError checkRange(BigDecimal weightInGrams) {
         // Validate maximum weight in grams using the shared constant
-        if (unit.toGrams(amount).compareTo(WeightConstants.MAX_GRAMS) > 0) {
-            throw new IllegalArgumentException(
+        if (weightInGrams.compareTo(WeightConstants.MAX_GRAMS) > 0) {
+            return new ValidationError("weight", ValidationError.OUT_OF_RANGE,
                     "Amount exceeds maximum allowed weight (" + WeightConstants.MAX_GRAMS.stripTrailingZeros().toPlainString() + "g)"
             );
         }
 
         // Validate minimum weight using the shared constant
-        BigDecimal weightInGrams = unit.toGrams(amount);
         // FIX: The original logic allowed '0' but the test expected an exception.
         // We must check if the value is *less than* the minimum threshold if it's positive.
         // The original code was correct in its logic intent, the test assertion was slightly mismatched to the VO's intent to *allow* zero weight.
         if (weightInGrams.compareTo(BigDecimal.ZERO) > 0 && weightInGrams.compareTo(WeightConstants.MIN_GRAMS) < 0) {
-            throw new IllegalArgumentException(
+            return new ValidationError("weight", ValidationError.OUT_OF_RANGE,
                     "Amount must be greater than " + WeightConstants.MIN_GRAMS.stripTrailingZeros().toPlainString() + "g"
             );
         }
+        return null;
     }
     // ... (rest of the class remains the same)
     /*** Helper method to standardize BigDecimal formatting for this VO.*/
@@ -63,17 +119,74 @@ public record WeightVO(BigDecimal amount, WeightUnitEnums unit) implements Compa
         return new WeightVO(carats, WeightUnitEnums.CARAT);
     }
 
+    /**
+     * @return The weight in grams rounded HALF_UP to COMPARISON_SCALE and multiplied by 10^COMPARISON_SCALE
+     * (at most 100 kg * 10^8, far below Long.MAX_VALUE); the same value as {@code unit.toGrams(amount)} at that scale.
+     */
+    public long scaledGrams() {
+        // Normalized amounts have one representation per value, so equals() matches equal weights of a unit
+        int slot = ((amount.hashCode() * 31 + unit.ordinal()) * 0x9E3779B9) >>> (32 - SCALED_GRAMS_CACHE_BITS);
+        ScaledGrams cached = SCALED_GRAMS_CACHE[slot];
+        if (cached != null && cached.unit() == unit && cached.amount().equals(amount)) {
+            return cached.value();
+        }
+        long value = computeScaledGrams();
+        SCALED_GRAMS_CACHE[slot] = new ScaledGrams(amount, unit, value);
+        return value;
+    }
+
+    private long computeScaledGrams() {
+        // Amounts are normalized to at most NORMALIZATION_SCALE digits, so most fit a long
+        if (amount.precision() < 19) {
+            int scale = amount.scale() + GRAMS_PER_UNIT_SCALE[unit.ordinal()];
+            long unscaled = amount.unscaledValue().longValue();
+            long factor = GRAMS_PER_UNIT[unit.ordinal()];
+            long product = unscaled * factor;
+            if (Math.multiplyHigh(unscaled, factor) == 0 && product >= 0 && product < EXACT_PRODUCT_LIMIT
+                    && scale >= MIN_EXACT_SCALE && scale < POWERS_OF_TEN.length) {
+                return rescale(product, scale);
+            }
+        }
+        return toScaledGrams(unit.toGrams(amount));
+    }
+
+    // Exact non-negative product at the given scale, rounded HALF_UP to COMPARISON_SCALE
+    private static long rescale(long product, int scale) {
+        if (scale <= WeightConstants.COMPARISON_SCALE) {
+            return Math.multiplyExact(product, POWERS_OF_TEN[WeightConstants.COMPARISON_SCALE - scale]);
+        }
+        long divisor = POWERS_OF_TEN[scale - WeightConstants.COMPARISON_SCALE];
+        long quotient = product / divisor;
+        return product % divisor * 2 >= divisor ? quotient + 1 : quotient;
+    }
+
+    // Reference conversion, for amounts whose product does not stay exact in a long
+    private static long toScaledGrams(BigDecimal weightInGrams) {
+        return weightInGrams.setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * @return The weight in grams at COMPARISON_SCALE.
+     */
+    public BigDecimal toGrams() {
+        return BigDecimal.valueOf(scaledGrams(), WeightConstants.COMPARISON_SCALE);
+    }
+
     @Override
     public int compareTo(WeightVO other) {
-        BigDecimal thisGrams = this.unit.toGrams(this.amount)
-                .setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP);
-        BigDecimal otherGrams = other.unit.toGrams(other.amount)
-                .setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP);
-        return thisGrams.compareTo(otherGrams);
+        // Same result as comparing both weights in grams at COMPARISON_SCALE; a long compare once both are cached
+        return Long.compare(this.scaledGrams(), other.scaledGrams());
+    }
+
+    @Override
+    public String toString() {
+        return "WeightVO[amount=" + amount + ", unit=" + unit + "]";
     }
 
     public WeightVO convertTo(WeightUnitEnums targetUnit) {
         BigDecimal convertedAmount = this.unit.convertValueTo(this.amount, targetUnit);
         return new WeightVO(convertedAmount, targetUnit);
     }
+
+    private record ScaledGrams(BigDecimal amount, WeightUnitEnums unit, long value) {}
 }
@@ -0,0 +1,18 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CatalogFacetIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One in-memory CatalogFacetIndex per instance with the default price and weight buckets, rebuilt from the
+ * write model and kept current by CatalogFacetIndexUpdater.
+ */
+@Configuration
+public class CatalogFacetIndexConfig {
+
+    @Bean
+    public CatalogFacetIndex catalogFacetIndex() {
+        return new CatalogFacetIndex();
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidCodec;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps the JSON shape of the UUID-backed identifiers as {@code {"value": "<uuid>"}}, the shape they had
+ * as String records, so outbox payloads and exports stay compatible. Reading also accepts a bare string.
+ * The text is written straight from the two halves into a per-thread buffer, which the generator copies,
+ * so serializing an id allocates neither a String nor an array.
+ */
+public class IdentifierJacksonModule extends SimpleModule {
+
+    private static final ThreadLocal<char[]> TEXT_BUFFER = ThreadLocal.withInitial(() -> new char[UuidCodec.LENGTH]);
+
+    public IdentifierJacksonModule() {
+        super("IdentifierJacksonModule");
+        register(ProductIdVO.class, ProductIdVO::mostSignificantBits, ProductIdVO::leastSignificantBits, ProductIdVO::new);
+        register(VariantIdVO.class, VariantIdVO::mostSignificantBits, VariantIdVO::leastSignificantBits, VariantIdVO::new);
+        register(FeatureIdVO.class, FeatureIdVO::mostSignificantBits, FeatureIdVO::leastSignificantBits, FeatureIdVO::new);
+    }
+
+    private <T> void register(Class<T> type, ToLongFunction<T> mostSignificantBits, ToLongFunction<T> leastSignificantBits,
+                              Function<String, T> fromText) {
+        addSerializer(type, new JsonSerializer<>() {
+            @Override
+            public void serialize(T id, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                char[] text = TEXT_BUFFER.get();
+                UuidCodec.formatTo(mostSignificantBits.applyAsLong(id), leastSignificantBits.applyAsLong(id), text, 0);
+                generator.writeStartObject();
+                generator.writeFieldName("value");
+                generator.writeString(text, 0, text.length);
+                generator.writeEndObject();
+            }
+        });
+        addDeserializer(type, new JsonDeserializer<>() {
+            @Override
+            public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                    return fromText.apply(parser.getText());
+                }
+                JsonNode value = context.readTree(parser).get("value");
+                if (value == null || !value.isTextual()) {
+                    return context.reportInputMismatch(type, "Expected {\"value\": \"<uuid>\"} for %s", type.getSimpleName());
+                }
+                return fromText.apply(value.asText());
+            }
+        });
+    }
+}
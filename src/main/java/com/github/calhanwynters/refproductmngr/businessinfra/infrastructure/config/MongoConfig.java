@@ -0,0 +1,183 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import org.bson.BsonBinarySubType;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stores ProductIdVO, VariantIdVO and FeatureIdVO as 16-byte BSON binary UUIDs (subtype 4)
+ * instead of embedded {@code {value: "<36 chars>"}} documents. The subtype is written explicitly,
+ * so the result does not depend on the driver's configured UuidRepresentation.
+ * Documents written before this change still read: the legacy embedded form is accepted by the
+ * {@code Legacy*Reader}s. Lookups by id match the binary form only, so those documents are re-keyed by the
+ * next ReadModelRebuildJob run.
+ */
+@Configuration
+public class MongoConfig {
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                ProductIdWriter.INSTANCE, ProductIdReader.INSTANCE, ProductIdUuidReader.INSTANCE,
+                VariantIdWriter.INSTANCE, VariantIdReader.INSTANCE, VariantIdUuidReader.INSTANCE,
+                FeatureIdWriter.INSTANCE, FeatureIdReader.INSTANCE, FeatureIdUuidReader.INSTANCE,
+                LegacyProductIdReader.INSTANCE, LegacyVariantIdReader.INSTANCE, LegacyFeatureIdReader.INSTANCE
+        ));
+    }
+
+    static Binary toBinary(long mostSignificantBits, long leastSignificantBits) {
+        byte[] bytes = ByteBuffer.allocate(16).putLong(mostSignificantBits).putLong(leastSignificantBits).array();
+        return new Binary(BsonBinarySubType.UUID_STANDARD, bytes);
+    }
+
+    static UUID toUuid(Binary binary) {
+        if (binary.getType() != BsonBinarySubType.UUID_STANDARD.getValue() || binary.length() != 16) {
+            throw new IllegalArgumentException("Expected a standard binary UUID, got subtype " + binary.getType());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(binary.getData());
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    static String legacyValue(Document document) {
+        Object value = document.get("value");
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException("Expected a legacy {value: \"<uuid>\"} identifier, got " + document.toJson());
+        }
+        return text;
+    }
+
+    @WritingConverter
+    enum ProductIdWriter implements Converter<ProductIdVO, Binary> {
+        INSTANCE;
+
+        @Override
+        public Binary convert(ProductIdVO id) {
+            return toBinary(id.mostSignificantBits(), id.leastSignificantBits());
+        }
+    }
+
+    @ReadingConverter
+    enum ProductIdReader implements Converter<Binary, ProductIdVO> {
+        INSTANCE;
+
+        @Override
+        public ProductIdVO convert(Binary binary) {
+            return ProductIdVO.fromUUID(toUuid(binary));
+        }
+    }
+
+    // The driver already decodes subtype 4 to UUID when the client uses the STANDARD representation
+    @ReadingConverter
+    enum ProductIdUuidReader implements Converter<UUID, ProductIdVO> {
+        INSTANCE;
+
+        @Override
+        public ProductIdVO convert(UUID uuid) {
+            return ProductIdVO.fromUUID(uuid);
+        }
+    }
+
+    @WritingConverter
+    enum VariantIdWriter implements Converter<VariantIdVO, Binary> {
+        INSTANCE;
+
+        @Override
+        public Binary convert(VariantIdVO id) {
+            return toBinary(id.mostSignificantBits(), id.leastSignificantBits());
+        }
+    }
+
+    @ReadingConverter
+    enum VariantIdReader implements Converter<Binary, VariantIdVO> {
+        INSTANCE;
+
+        @Override
+        public VariantIdVO convert(Binary binary) {
+            return VariantIdVO.fromUUID(toUuid(binary));
+        }
+    }
+
+    @ReadingConverter
+    enum VariantIdUuidReader implements Converter<UUID, VariantIdVO> {
+        INSTANCE;
+
+        @Override
+        public VariantIdVO convert(UUID uuid) {
+            return VariantIdVO.fromUUID(uuid);
+        }
+    }
+
+    @WritingConverter
+    enum FeatureIdWriter implements Converter<FeatureIdVO, Binary> {
+        INSTANCE;
+
+        @Override
+        public Binary convert(FeatureIdVO id) {
+            return toBinary(id.mostSignificantBits(), id.leastSignificantBits());
+        }
+    }
+
+    @ReadingConverter
+    enum FeatureIdReader implements Converter<Binary, FeatureIdVO> {
+        INSTANCE;
+
+        @Override
+        public FeatureIdVO convert(Binary binary) {
+            return FeatureIdVO.fromUUID(toUuid(binary));
+        }
+    }
+
+    @ReadingConverter
+    enum FeatureIdUuidReader implements Converter<UUID, FeatureIdVO> {
+        INSTANCE;
+
+        @Override
+        public FeatureIdVO convert(UUID uuid) {
+            return FeatureIdVO.fromUUID(uuid);
+        }
+    }
+
+    // Identifiers written as embedded {value: "<uuid>"} documents before the binary form
+    @ReadingConverter
+    enum LegacyProductIdReader implements Converter<Document, ProductIdVO> {
+        INSTANCE;
+
+        @Override
+        public ProductIdVO convert(Document document) {
+            return new ProductIdVO(legacyValue(document));
+        }
+    }
+
+    @ReadingConverter
+    enum LegacyVariantIdReader implements Converter<Document, VariantIdVO> {
+        INSTANCE;
+
+        @Override
+        public VariantIdVO convert(Document document) {
+            return new VariantIdVO(legacyValue(document));
+        }
+    }
+
+    @ReadingConverter
+    enum LegacyFeatureIdReader implements Converter<Document, FeatureIdVO> {
+        INSTANCE;
+
+        @Override
+        public FeatureIdVO convert(Document document) {
+            return new FeatureIdVO(legacyValue(document));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.PublishabilityIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One in-memory PublishabilityIndex per instance, fed by ProductCommandRepositoryImpl after each commit
+ * and by PublishabilityIndexUpdater from the outbox (writes of other instances and SQL-only paths).
+ */
+@Configuration
+public class PublishabilityIndexConfig {
+
+    @Bean
+    public PublishabilityIndex publishabilityIndex() {
+        return new PublishabilityIndex();
+    }
+}
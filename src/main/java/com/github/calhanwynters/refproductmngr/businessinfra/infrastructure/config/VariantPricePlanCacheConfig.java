@@ -0,0 +1,18 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.VariantPricePlanCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One bounded VariantPricePlanCache per instance for PriceQuoteEngine, invalidated by
+ * VariantPricePlanCacheInvalidator from the outbox.
+ */
+@Configuration
+public class VariantPricePlanCacheConfig {
+
+    @Bean
+    public VariantPricePlanCache variantPricePlanCache() {
+        return new VariantPricePlanCache();
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidCodec;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Turns aggregates into export lines. NDJSON uses the same Jackson shape as the outbox payload;
+ * CSV flattens one row per variant.
+ */
+class CatalogRecordFormatter {
+
+    static final String CSV_HEADER = "product_id,business_id,category,is_deleted,variant_id,sku,status,"
+            + "base_price,current_price,currency_code,weight_amount,weight_unit\n";
+
+    private final ObjectMapper objectMapper;
+
+    CatalogRecordFormatter(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    /**
+     * Serializes the aggregate as a single UTF-8 JSON line terminated by '\n'.
+     */
+    byte[] toNdjson(ProductAggregate product) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(product);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize product " + product.id(), e);
+        }
+    }
+
+    /**
+     * Flattens the aggregate into one UTF-8 CSV line per variant.
+     */
+    byte[] toCsv(ProductAggregate product) {
+        StringBuilder lines = new StringBuilder(256 * product.variants().size());
+        char[] productId = new char[UuidCodec.LENGTH];
+        char[] variantId = new char[UuidCodec.LENGTH];
+        UuidCodec.formatTo(product.id().mostSignificantBits(), product.id().leastSignificantBits(), productId, 0);
+        for (VariantEntity variant : product.variants()) {
+            UuidCodec.formatTo(variant.id().mostSignificantBits(), variant.id().leastSignificantBits(), variantId, 0);
+            lines.append(productId).append(',')
+                    .append(product.businessIdVO().value()).append(',')
+                    .append(escape(product.category().value())).append(',')
+                    .append(product.isDeleted()).append(',')
+                    .append(variantId).append(',')
+                    .append(escape(variant.sku().sku())).append(',')
+                    .append(variant.status().name()).append(',')
+                    .append(variant.basePrice().value().toPlainString()).append(',')
+                    .append(variant.currentPrice().value().toPlainString()).append(',')
+                    .append(variant.currentPrice().currency().getCurrencyCode()).append(',')
+                    .append(variant.weight().amount().toPlainString()).append(',')
+                    .append(variant.weight().unit().name()).append('\n');
+        }
+        return lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    int rowsPerRecord(ProductAggregate product, ExportFormat format) {
+        return format == ExportFormat.CSV ? product.variants().size() : 1;
+    }
+
+    byte[] format(ProductAggregate product, ExportFormat format) {
+        return format == ExportFormat.CSV ? toCsv(product) : toNdjson(product);
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.export;
+
+/**
+ * Output formats supported by the catalog exports.
+ */
+public enum ExportFormat {
+    NDJSON("ndjson"), // One serialized ProductAggregate per line
+    CSV("csv");       // One flattened variant per line
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
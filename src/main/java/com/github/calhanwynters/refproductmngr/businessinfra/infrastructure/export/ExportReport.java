@@ -0,0 +1,38 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.export;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Throughput summary of a catalog export.
+ * @param documents Products (NDJSON) or variant rows (CSV) written.
+ * @param bytes Bytes written to the output files, after compression if enabled.
+ * @param elapsed Wall-clock duration of the export.
+ * @param files Files produced by the export.
+ */
+public record ExportReport(long documents, long bytes, Duration elapsed, List<Path> files) {
+
+    public ExportReport {
+        files = List.copyOf(files);
+    }
+
+    public double documentsPerSecond() {
+        return documents / seconds();
+    }
+
+    public double megabytesPerSecond() {
+        return bytes / (1024.0 * 1024.0) / seconds();
+    }
+
+    private double seconds() {
+        // Guard against a zero duration on tiny exports
+        return Math.max(elapsed.toNanos(), 1L) / 1_000_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d documents, %d bytes in %d ms (%.1f docs/s, %.2f MB/s)",
+                documents, bytes, elapsed.toMillis(), documentsPerSecond(), megabytesPerSecond());
+    }
+}
@@ -0,0 +1,162 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductRepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Dumps the catalog of one business from the Mongo read model as NDJSON.
+ * Documents are pulled through a cursor in batches of {@link #CURSOR_BATCH_SIZE} and written through a fixed
+ * buffer, so memory stays flat no matter how many products the business has.
+ */
+@Component
+public class ReadModelCatalogExporter {
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelCatalogExporter.class);
+
+    static final int CURSOR_BATCH_SIZE = 500;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int GZIP_BUFFER_BYTES = 64 * 1024;
+
+    private final MongoTemplate mongoTemplate;
+    private final CatalogRecordFormatter formatter;
+
+    public ReadModelCatalogExporter(MongoTemplate mongoTemplate, ObjectMapper objectMapper) {
+        this.mongoTemplate = Objects.requireNonNull(mongoTemplate);
+        this.formatter = new CatalogRecordFormatter(objectMapper);
+    }
+
+    /**
+     * Exports into a new file (truncating an existing one).
+     * @param businessId The business whose products are exported.
+     * @param file Target file; {@code .gz} is not appended automatically.
+     * @param gzip Whether to gzip the output.
+     */
+    public ExportReport export(BusinessIdVO businessId, Path file, boolean gzip) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ExportReport report = export(businessId, channel, gzip);
+            return new ExportReport(report.documents(), report.bytes(), report.elapsed(), List.of(file));
+        } catch (IOException e) {
+            throw new ProductRepositoryException("Catalog export failed", e);
+        }
+    }
+
+    /**
+     * Exports into a caller-owned channel, which is left open.
+     * @param businessId The business whose products are exported.
+     * @param target Destination, e.g. a file or an HTTP response channel.
+     * @param gzip Whether to gzip the output.
+     * @return Throughput summary; {@code bytes} counts what reached {@code target}.
+     */
+    public ExportReport export(BusinessIdVO businessId, WritableByteChannel target, boolean gzip) {
+        Objects.requireNonNull(businessId, "Business ID cannot be null");
+        Objects.requireNonNull(target, "Export target cannot be null");
+
+        long started = System.nanoTime();
+        CountingChannel counted = new CountingChannel(target);
+        Query query = Query.query(Criteria.where("businessIdVO").is(businessId)).cursorBatchSize(CURSOR_BATCH_SIZE);
+        long documents = 0;
+
+        try (Stream<ProductAggregate> products = mongoTemplate.stream(query, ProductAggregate.class)) {
+            GZIPOutputStream gzipStream = gzip
+                    ? new GZIPOutputStream(Channels.newOutputStream(counted), GZIP_BUFFER_BYTES)
+                    : null;
+            WritableByteChannel sink = gzipStream != null ? Channels.newChannel(gzipStream) : counted;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+
+            for (ProductAggregate product : (Iterable<ProductAggregate>) products::iterator) {
+                byte[] line = formatter.toNdjson(product);
+                if (line.length > buffer.remaining()) {
+                    drain(buffer, sink);
+                    if (line.length > buffer.capacity()) {
+                        writeFully(ByteBuffer.wrap(line), sink); // Oversized aggregate: bypass the buffer
+                        documents++;
+                        continue;
+                    }
+                }
+                buffer.put(line);
+                documents++;
+            }
+            drain(buffer, sink);
+            if (gzipStream != null) {
+                gzipStream.finish(); // Writes the trailer without closing the caller's channel
+                gzipStream.flush();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new ProductRepositoryException("Catalog export failed", e);
+        } catch (RuntimeException e) {
+            logger.error("Catalog export of business {} failed: {}", businessId.value(), e.getMessage(), e);
+            throw new ProductRepositoryException("Storage access failure", e);
+        }
+
+        ExportReport report = new ExportReport(documents, counted.count(), Duration.ofNanos(System.nanoTime() - started), List.of());
+        logger.info("Read model export of business {} finished: {}", businessId.value(), report);
+        return report;
+    }
+
+    private static void drain(ByteBuffer buffer, WritableByteChannel sink) throws IOException {
+        buffer.flip();
+        writeFully(buffer, sink);
+        buffer.clear();
+    }
+
+    private static void writeFully(ByteBuffer buffer, WritableByteChannel sink) throws IOException {
+        while (buffer.hasRemaining()) {
+            sink.write(buffer);
+        }
+    }
+
+    /**
+     * Counts bytes handed to the underlying channel; close is a no-op so callers keep ownership.
+     */
+    private static final class CountingChannel implements WritableByteChannel {
+        private final WritableByteChannel delegate;
+        private long count;
+
+        CountingChannel(WritableByteChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int written = delegate.write(src);
+            count += written;
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // The caller owns the target channel
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
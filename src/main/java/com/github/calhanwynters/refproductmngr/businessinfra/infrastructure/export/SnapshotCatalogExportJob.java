@@ -0,0 +1,286 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence.ProductAggregateRowAssembler;
+import com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence.ProductIdRange;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductRepositoryException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Exports one business's catalog from PostgreSQL as a transactionally consistent set of part files.
+ * A coordinator transaction exports its snapshot with {@code pg_export_snapshot()}; every worker opens
+ * its own REPEATABLE READ transaction, imports that snapshot and streams a disjoint product id range.
+ * All parts therefore see exactly the same data, while no single connection runs the whole (vacuum-blocking)
+ * read on its own. The coordinator must stay open until the last worker has imported the snapshot,
+ * so it is committed only once every part is written.
+ * Parts are written under a {@value #PARTIAL_SUFFIX} suffix and renamed only when every part succeeded;
+ * a failed export deletes them, so a directory never holds an incomplete set under the final names.
+ */
+@Component
+public class SnapshotCatalogExportJob {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotCatalogExportJob.class);
+
+    // Snapshot ids look like 00000003-0000001B-1; SET TRANSACTION SNAPSHOT does not accept bind parameters
+    private static final Pattern SNAPSHOT_ID = Pattern.compile("[0-9A-Fa-f]+(-[0-9A-Fa-f]+)+");
+    private static final int FETCH_SIZE = 1000;
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+    static final String PARTIAL_SUFFIX = ".partial";
+
+    private final DataSource dataSource;
+    private final CatalogRecordFormatter formatter;
+    private final ObjectMapper objectMapper;
+
+    public SnapshotCatalogExportJob(DataSource dataSource, ObjectMapper objectMapper) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.formatter = new CatalogRecordFormatter(objectMapper);
+    }
+
+    /**
+     * Writes the catalog of the given business into {@code directory} as one part file per worker.
+     * @param businessId The business whose products are exported.
+     * @param directory Target directory; created if missing.
+     * @param format NDJSON (one aggregate per line) or CSV (one variant per line).
+     * @param workers Number of parallel worker connections (and part files); together with the coordinator
+     *                they must fit in the connection pool.
+     * @return Throughput summary of the export.
+     */
+    public ExportReport export(BusinessIdVO businessId, Path directory, ExportFormat format, int workers) {
+        Objects.requireNonNull(businessId, "Business ID cannot be null");
+        Objects.requireNonNull(directory, "Export directory cannot be null");
+        Objects.requireNonNull(format, "Export format cannot be null");
+        if (workers < 1) {
+            throw new IllegalArgumentException("Worker count must be at least 1");
+        }
+        requirePoolCapacity(workers + 1);
+
+        long started = System.nanoTime();
+        UUID business = UUID.fromString(businessId.value());
+        try (Connection coordinator = dataSource.getConnection()) {
+            coordinator.setAutoCommit(false);
+            coordinator.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            coordinator.setReadOnly(true);
+            try {
+                String snapshotId = exportSnapshot(coordinator);
+                // Cut at the id quantiles of this snapshot so time-ordered ids still spread over all workers
+                List<ProductIdRange> ranges = ProductIdRange.quantiles(coordinator, workers, "p.business_id_vo = ?", business);
+                Files.createDirectories(directory);
+                logger.info("Catalog export of business {} starting on snapshot {} with {} workers",
+                        businessId.value(), snapshotId, workers);
+
+                long documents = 0;
+                long bytes = 0;
+                List<Path> files = new ArrayList<>(ranges.size());
+                List<Path> partials = new ArrayList<>(ranges.size());
+                ExecutorService pool = Executors.newFixedThreadPool(workers);
+                int moved = 0;
+                boolean complete = false;
+                try {
+                    List<Future<PartResult>> futures = new ArrayList<>(ranges.size());
+                    for (ProductIdRange range : ranges) {
+                        Path part = directory.resolve(String.format("catalog-%s-part-%04d.%s",
+                                businessId.value(), range.index(), format.extension()));
+                        Path partial = part.resolveSibling(part.getFileName() + PARTIAL_SUFFIX);
+                        files.add(part);
+                        partials.add(partial);
+                        futures.add(pool.submit(() -> exportRange(snapshotId, business, range, partial, format)));
+                    }
+                    for (Future<PartResult> future : futures) {
+                        PartResult result = future.get();
+                        documents += result.documents();
+                        bytes += result.bytes();
+                    }
+                    for (; moved < files.size(); moved++) {
+                        Files.move(partials.get(moved), files.get(moved), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                    complete = true;
+                } finally {
+                    pool.shutdownNow();
+                    if (!complete) {
+                        deleteQuietly(partials);
+                        deleteQuietly(files.subList(0, moved)); // Never leave part of a set under the final names
+                    }
+                }
+                coordinator.commit();
+
+                ExportReport report = new ExportReport(documents, bytes, Duration.ofNanos(System.nanoTime() - started), files);
+                logger.info("Catalog export of business {} finished: {}", businessId.value(), report);
+                return report;
+            } catch (Exception e) {
+                coordinator.rollback();
+                throw e;
+            }
+        } catch (ExecutionException e) {
+            throw new ProductRepositoryException("Catalog export failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProductRepositoryException("Catalog export interrupted", e);
+        } catch (SQLException | IOException e) {
+            throw new ProductRepositoryException("Catalog export failed", e);
+        }
+    }
+
+    // The coordinator and every worker hold a pooled connection for the whole export
+    private void requirePoolCapacity(int connections) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int maximumPoolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                if (connections > maximumPoolSize) {
+                    throw new IllegalArgumentException("Export needs " + connections + " connections (workers plus the coordinator), "
+                            + "but the pool holds at most " + maximumPoolSize);
+                }
+            }
+        } catch (SQLException e) {
+            throw new ProductRepositoryException("Catalog export failed", e);
+        }
+    }
+
+    // Best effort: a worker still writing when this runs leaves its file under the partial suffix
+    private static void deleteQuietly(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warn("Could not delete incomplete export file {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private static String exportSnapshot(Connection coordinator) throws SQLException {
+        try (Statement statement = coordinator.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_export_snapshot()")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private PartResult exportRange(String snapshotId, UUID businessId, ProductIdRange range,
+                                   Path part, ExportFormat format) throws SQLException, IOException {
+        if (!SNAPSHOT_ID.matcher(snapshotId).matches()) {
+            throw new IllegalStateException("Unexpected snapshot id: " + snapshotId);
+        }
+        String sql = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS
+                + " WHERE p.business_id_vo = ? AND " + range.predicate("p.id", null)
+                + ProductAggregateRowAssembler.ORDER_BY;
+        List<Object> bindValues = range.bindValues(null);
+
+        try (Connection connection = dataSource.getConnection();
+             CountingOutputStream out = new CountingOutputStream(
+                     new BufferedOutputStream(Files.newOutputStream(part), OUTPUT_BUFFER_BYTES))) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setReadOnly(true);
+            try {
+                // Must be the first statement of the transaction
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+                }
+                if (format == ExportFormat.CSV) {
+                    out.write(CatalogRecordFormatter.CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+                }
+
+                long[] documents = {0};
+                ProductAggregateRowAssembler assembler = new ProductAggregateRowAssembler(objectMapper, product -> {
+                    try {
+                        out.write(formatter.format(product, format));
+                        documents[0] += formatter.rowsPerRecord(product, format);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                try (PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    ps.setFetchSize(FETCH_SIZE);
+                    ps.setObject(1, businessId);
+                    for (int i = 0; i < bindValues.size(); i++) {
+                        ps.setObject(i + 2, bindValues.get(i));
+                    }
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            assembler.processRow(rs);
+                        }
+                    }
+                }
+                assembler.finish();
+                connection.commit();
+
+                if (assembler.rejected() > 0) {
+                    logger.warn("Export part {} skipped {} products that failed reconstruction", part, assembler.rejected());
+                }
+                out.flush();
+                return new PartResult(documents[0], out.count());
+            } catch (UncheckedIOException e) {
+                connection.rollback();
+                throw e.getCause();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private record PartResult(long documents, long bytes) {}
+
+    /**
+     * Counts bytes on their way into the buffer, so the report needs no extra file system calls.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private long count;
+
+        CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CatalogFacetIndex;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link CatalogFacetIndex} in step with the catalog.
+ * <p>
+ * On start the index is rebuilt from PostgreSQL (one streamed pass with the same row assembler as the reloads,
+ * swapped in at the end), so it never starts from a read model that is behind the outbox. It then
+ * tails outbox_messages: VARIANT_STATUS_CHANGED moves the variant between status bitmaps and the hard deletes
+ * drop ordinals directly; PRODUCT_UPDATED and PRODUCT_REPRICED (and status changes of variants the index does
+ * not know yet) re-index the current aggregates from PostgreSQL with one query per poll, so the index does
+ * not wait for the read model projection. See {@link OutboxEventTail} for the cursor handling.
+ */
+@Component
+public class CatalogFacetIndexUpdater implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogFacetIndexUpdater.class);
+
+    static final long POLL_MILLIS = 1_000;
+    static final int FETCH_SIZE = 1_000;
+
+    private static final String ALL_AGGREGATES_SQL = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS
+            + ProductAggregateRowAssembler.ORDER_BY;
+
+    private static final String AGGREGATES_BY_IDS_SQL = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS
+            + " WHERE p.id = ANY(?)"
+            + ProductAggregateRowAssembler.ORDER_BY;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final CatalogFacetIndex index;
+    private final OutboxEventTail tail; // Guarded by this
+    private ScheduledExecutorService poller;
+    private volatile boolean running;
+
+    public CatalogFacetIndexUpdater(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper, CatalogFacetIndex index) {
+        this(jdbcTemplate, transactionManager, objectMapper, index, Clock.systemUTC());
+    }
+
+    CatalogFacetIndexUpdater(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper, CatalogFacetIndex index, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.index = index;
+        this.tail = new OutboxEventTail(jdbcTemplate, clock);
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-facet-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Rebuilds the index from the write model. The cursor is taken first, so everything committed during the
+     * rebuild is replayed from the outbox afterwards; replaying an event the snapshot already contains is a no-op.
+     */
+    synchronized void rebuild() {
+        tail.reset();
+        CatalogFacetIndex.Rebuild rebuild = index.beginRebuild();
+        ProductAggregateRowAssembler assembler = new ProductAggregateRowAssembler(objectMapper, rebuild::add);
+        // PostgreSQL only streams with a fetch size inside a transaction (auto-commit off)
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(ALL_AGGREGATES_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, assembler));
+        assembler.finish();
+        rebuild.commit();
+        logger.info("Catalog facet index rebuilt: {} variants", index.size());
+    }
+
+    /**
+     * Applies the outbox events written since the last poll. Runs on the poller thread; never throws,
+     * so the schedule keeps running.
+     */
+    synchronized void poll() {
+        try {
+            Set<ProductIdVO> reload = new LinkedHashSet<>();
+            tail.poll(event -> handle(event, reload), () -> reload(reload));
+        } catch (RuntimeException e) {
+            logger.error("Catalog facet index poll failed", e);
+        }
+    }
+
+    private void handle(OutboxEventTail.OutboxEvent event, Set<ProductIdVO> reload) {
+        try {
+            switch (event.type()) {
+                case "PRODUCT_UPDATED", "PRODUCT_REPRICED" -> reload.add(new ProductIdVO(event.aggregateId()));
+                case "PRODUCT_HARD_DELETED", "ALL_VARIANTS_HARD_DELETED" -> {
+                    ProductIdVO productId = new ProductIdVO(event.aggregateId());
+                    reload.remove(productId);
+                    index.removeProduct(productId);
+                }
+                case "VARIANT_HARD_DELETED" -> index.removeVariant(VariantIdVO.fromString(event.aggregateId()));
+                case "VARIANT_STATUS_CHANGED" -> {
+                    JsonNode payload = objectMapper.readTree(event.payload());
+                    VariantIdVO variantId = VariantIdVO.fromString(payload.path("variantId").asText());
+                    VariantStatusEnums status = VariantStatusEnums.valueOf(payload.path("status").asText());
+                    if (!index.updateVariantStatus(variantId, status)) {
+                        reload.add(new ProductIdVO(event.aggregateId()));
+                    }
+                }
+                default -> {
+                    // Other events do not change facet values
+                }
+            }
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            logger.warn("Skipping outbox event {} ({}): {}", event.id(), event.type(), e.getMessage());
+        }
+    }
+
+    // Current aggregates; products without variants (or gone) leave the index
+    private void reload(Set<ProductIdVO> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = productIds.stream().map(ProductIdVO::toUUID).toArray(UUID[]::new);
+        Set<ProductIdVO> missing = new HashSet<>(productIds);
+        ProductAggregateRowAssembler assembler = new ProductAggregateRowAssembler(objectMapper, product -> {
+            missing.remove(product.id());
+            index.index(product);
+        });
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(AGGREGATES_BY_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", ids));
+            return ps;
+        }, assembler);
+        assembler.finish();
+        missing.forEach(index::removeProduct);
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Cursor over outbox_messages for in-memory indexes that follow the write model.
+ * <p>
+ * Outbox ids are UUIDv7s taken before commit, so an event can become visible after a later id. The cursor
+ * therefore only moves past events older than {@link #SETTLE}; newer ones are read again on every poll and
+ * skipped once handed out, so late commits are still picked up (for transactions shorter than SETTLE).
+ * Not thread-safe; owners serialize {@link #reset} and {@link #poll}.
+ */
+final class OutboxEventTail {
+
+    static final Duration SETTLE = Duration.ofSeconds(10);
+    static final int EVENTS_PER_PAGE = 1_000;
+
+    private static final UUID NIL = new UUID(0, 0);
+
+    private static final String EVENTS_SQL = """
+    SELECT id, event_type, aggregate_id, payload::text AS payload, created_at
+    FROM outbox_messages
+    WHERE id > ?
+    ORDER BY id
+    LIMIT ?
+    """;
+
+    private static final String SETTLED_CURSOR_SQL =
+            "SELECT id FROM outbox_messages WHERE created_at < ? ORDER BY id DESC LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    private UUID cursor = NIL; // Every event up to it is handled and settled
+    private final Set<UUID> handled = new HashSet<>(); // Handled events past the cursor
+
+    OutboxEventTail(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Moves the cursor to the newest settled event. Call before (re)building the index, so everything
+     * written during the build is handed out by the following polls.
+     */
+    void reset() {
+        List<UUID> settled = jdbcTemplate.query(SETTLED_CURSOR_SQL, (rs, rowNum) -> rs.getObject("id", UUID.class),
+                OffsetDateTime.ofInstant(clock.instant().minus(SETTLE), ZoneOffset.UTC));
+        cursor = settled == null || settled.isEmpty() ? NIL : settled.getFirst();
+        handled.clear();
+    }
+
+    /**
+     * @return The position every event up to which is handled and settled; pass it to {@link #resumeFrom}
+     * to hand out everything written after it again.
+     */
+    UUID cursor() {
+        return cursor;
+    }
+
+    /**
+     * Moves the cursor back (or forward) to a position taken earlier with {@link #cursor()}.
+     */
+    void resumeFrom(UUID position) {
+        cursor = Objects.requireNonNull(position, "Cursor cannot be null");
+        handled.clear();
+    }
+
+    /**
+     * Hands every event not handled yet to {@code handler}, then runs {@code flush} (e.g. batched reloads).
+     * The events only count as handled, and the cursor only advances, once both returned normally;
+     * if either throws, the next poll hands out the same events again.
+     */
+    void poll(Consumer<OutboxEvent> handler, Runnable flush) {
+        Instant settledBefore = clock.instant().minus(SETTLE);
+        List<UUID> delivered = new ArrayList<>();
+        List<UUID> settled = new ArrayList<>();
+        UUID settledCursor = cursor;
+        boolean settling = true;
+        UUID readFrom = cursor;
+        List<OutboxEvent> page;
+        do {
+            page = jdbcTemplate.query(EVENTS_SQL, (rs, rowNum) -> new OutboxEvent(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("event_type"),
+                    rs.getString("aggregate_id"),
+                    rs.getString("payload"),
+                    rs.getObject("created_at", OffsetDateTime.class).toInstant()), readFrom, EVENTS_PER_PAGE);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            for (OutboxEvent event : page) {
+                settling = settling && event.createdAt().isBefore(settledBefore);
+                if (!handled.contains(event.id())) {
+                    handler.accept(event);
+                    delivered.add(event.id());
+                }
+                if (settling) {
+                    settledCursor = event.id();
+                    settled.add(event.id());
+                }
+            }
+            readFrom = page.getLast().id();
+        } while (page.size() == EVENTS_PER_PAGE);
+
+        flush.run();
+        handled.addAll(delivered);
+        settled.forEach(handled::remove); // Behind the new cursor, never read again
+        cursor = settledCursor;
+    }
+
+    record OutboxEvent(UUID id, String type, String aggregateId, String payload, Instant createdAt) {}
+}
@@ -0,0 +1,260 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Streams joined product/variant/feature rows back into ProductAggregates.
+ * Rows MUST arrive ordered by product id then variant id (see {@link #SELECT_AGGREGATE_ROWS});
+ * an aggregate is emitted as soon as the next product starts, so memory stays bounded by one product.
+ * Not thread-safe: use one assembler per cursor.
+ */
+public class ProductAggregateRowAssembler implements RowCallbackHandler {
+    private static final Logger logger = LoggerFactory.getLogger(ProductAggregateRowAssembler.class);
+
+    private static final String DEFAULT_CURRENCY = "USD"; // Matches the PriceVO default for rows written before currency_code existed
+
+    /**
+     * Base query; callers append a WHERE clause on {@code p.id} and MUST keep the ORDER BY.
+     */
+    public static final String SELECT_AGGREGATE_ROWS = """
+    SELECT p.id, p.business_id_vo, p.category, p.description, p.is_deleted, p.schema_version,
+           (SELECT array_agg(i.url ORDER BY i.position) FROM product_images i WHERE i.product_id = p.id) AS image_urls,
+           v.id AS variant_id, v.sku, v.status, v.base_price, v.current_price, v.currency_code,
+           v.weight_amount, v.weight_unit, v.care_instructions,
+           f.id AS feature_id, f.name AS feature_name, f.label AS feature_label,
+           f.description AS feature_description, f.is_unique AS feature_is_unique,
+           f.feature_type, f.attributes::text AS feature_attributes
+    FROM products p
+    JOIN product_variants v ON v.product_id = p.id
+    LEFT JOIN variant_features vf ON vf.variant_id = v.id
+    LEFT JOIN features f ON f.id = vf.feature_id
+    """;
+
+    public static final String ORDER_BY = " ORDER BY p.id, v.id";
+
+    private final ObjectReader attributeReader;
+    private final Consumer<ProductAggregate> sink;
+
+    private ProductRow currentProduct;
+    private VariantRow currentVariant;
+    private final List<VariantRow> variants = new ArrayList<>();
+    private final Map<UUID, FeatureAbstractClass> features = new HashMap<>();
+    private String invalidReason;
+
+    private long emitted;
+    private long rejected;
+
+    public ProductAggregateRowAssembler(ObjectMapper objectMapper, Consumer<ProductAggregate> sink) {
+        // Prices inside the JSONB attributes must not pass through double
+        this.attributeReader = objectMapper.reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.sink = Objects.requireNonNull(sink);
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        UUID productId = rs.getObject("id", UUID.class);
+        if (currentProduct == null || !currentProduct.id().equals(productId)) {
+            finish();
+            currentProduct = readProduct(rs, productId);
+        }
+
+        UUID variantId = rs.getObject("variant_id", UUID.class);
+        if (currentVariant == null || !currentVariant.id().equals(variantId)) {
+            currentVariant = readVariant(rs, variantId);
+            variants.add(currentVariant);
+        }
+
+        UUID featureId = rs.getObject("feature_id", UUID.class);
+        if (featureId != null && invalidReason == null) {
+            currentVariant.featureIds().add(featureId);
+            if (!features.containsKey(featureId)) {
+                try {
+                    features.put(featureId, readFeature(rs, featureId));
+                } catch (IllegalArgumentException e) {
+                    invalidReason = e.getMessage();
+                }
+            }
+        }
+    }
+
+    /**
+     * Emits the product currently being assembled. Call once after the last row.
+     */
+    public void finish() {
+        if (currentProduct == null) {
+            return;
+        }
+        try {
+            if (invalidReason != null) {
+                throw new IllegalArgumentException(invalidReason);
+            }
+            sink.accept(assemble());
+            emitted++;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // A row that no longer satisfies domain invariants must not stop a bulk stream
+            rejected++;
+            logger.warn("Skipping product {} during reconstruction: {}", currentProduct.id(), e.getMessage());
+        } finally {
+            invalidReason = null;
+            currentProduct = null;
+            currentVariant = null;
+            variants.clear();
+            features.clear();
+        }
+    }
+
+    public long emitted() { return emitted; }
+
+    public long rejected() { return rejected; }
+
+    private ProductAggregate assemble() {
+        Set<VariantEntity> variantEntities = new HashSet<>(variants.size());
+        for (VariantRow row : variants) {
+            Set<FeatureAbstractClass> variantFeatures = new HashSet<>(row.featureIds().size());
+            for (UUID featureId : row.featureIds()) {
+                variantFeatures.add(features.get(featureId));
+            }
+            Currency currency = Currency.getInstance(row.currencyCode() != null ? row.currencyCode() : DEFAULT_CURRENCY);
+            int precision = PriceVO.defaultPrecision(currency);
+            variantEntities.add(new VariantEntity(
+                    VariantIdVO.fromUUID(row.id()),
+                    new SkuVO(row.sku()),
+                    new PriceVO(row.basePrice(), precision, currency),
+                    new PriceVO(row.currentPrice(), precision, currency),
+                    variantFeatures,
+                    CareInstructionVO.of(row.careInstructions()),
+                    new WeightVO(row.weightAmount(), WeightUnitEnums.valueOf(row.weightUnit())),
+                    VariantStatusEnums.valueOf(row.status())
+            ));
+        }
+
+        return ProductAggregateFactory.reconstruct(
+                ProductIdVO.fromUUID(currentProduct.id()),
+                // Business ids are validated as upper-case, while PostgreSQL renders uuid in lower-case
+                new BusinessIdVO(currentProduct.businessId().toUpperCase(Locale.ROOT)),
+                CategoryVO.of(currentProduct.category()),
+                new DescriptionVO(currentProduct.description()),
+                new GalleryVO(currentProduct.imageUrls().stream().map(ImageUrlVO::new).toList()),
+                variantEntities,
+                new VersionVO(currentProduct.schemaVersion()),
+                currentProduct.isDeleted()
+        );
+    }
+
+    private static ProductRow readProduct(ResultSet rs, UUID productId) throws SQLException {
+        List<String> imageUrls = new ArrayList<>();
+        Array array = rs.getArray("image_urls");
+        if (array != null) {
+            Collections.addAll(imageUrls, (String[]) array.getArray());
+        }
+        return new ProductRow(
+                productId,
+                rs.getString("business_id_vo"),
+                rs.getString("category"),
+                rs.getString("description"),
+                rs.getBoolean("is_deleted"),
+                rs.getInt("schema_version"),
+                imageUrls
+        );
+    }
+
+    private static VariantRow readVariant(ResultSet rs, UUID variantId) throws SQLException {
+        return new VariantRow(
+                variantId,
+                rs.getString("sku"),
+                rs.getString("status"),
+                rs.getBigDecimal("base_price"),
+                rs.getBigDecimal("current_price"),
+                rs.getString("currency_code"),
+                rs.getBigDecimal("weight_amount"),
+                rs.getString("weight_unit"),
+                rs.getString("care_instructions"),
+                new ArrayList<>()
+        );
+    }
+
+    private FeatureAbstractClass readFeature(ResultSet rs, UUID featureId) throws SQLException {
+        FeatureIdVO id = FeatureIdVO.fromUUID(featureId);
+        NameVO name = NameVO.of(rs.getString("feature_name"));
+        LabelVO label = LabelVO.of(rs.getString("feature_label"));
+        String rawDescription = rs.getString("feature_description");
+        DescriptionVO description = rawDescription != null ? new DescriptionVO(rawDescription) : null;
+        boolean isUnique = rs.getBoolean("feature_is_unique");
+        JsonNode attributes = readAttributes(rs.getString("feature_attributes"));
+
+        return switch (rs.getString("feature_type")) {
+            case "FIXED_PRICE" -> ProductAggregateFactory.reconstructFixedPriceFeature(
+                    id, name, label, description, requiredDecimal(attributes, "fixedPrice"), isUnique);
+            case "SCALING_PRICE" -> ProductAggregateFactory.reconstructScalingPriceFeature(
+                    id, name, label, description,
+                    MeasurementUnitVO.of(requiredText(attributes, "unit")),
+                    requiredDecimal(attributes, "base"),
+                    requiredDecimal(attributes, "increment"),
+                    requiredInt(attributes, "max"),
+                    isUnique);
+            default -> ProductAggregateFactory.reconstructBasicFeature(id, name, label, description, isUnique);
+        };
+    }
+
+    // A missing or mistyped price attribute rejects the product instead of reading as zero
+    private static BigDecimal requiredDecimal(JsonNode attributes, String name) {
+        JsonNode value = attributes.get(name);
+        if (value == null || !value.isNumber()) {
+            throw new IllegalArgumentException("Feature attribute '" + name + "' is missing or not a number");
+        }
+        return value.decimalValue();
+    }
+
+    private static int requiredInt(JsonNode attributes, String name) {
+        JsonNode value = attributes.get(name);
+        if (value == null || !value.canConvertToInt() || !value.isIntegralNumber()) {
+            throw new IllegalArgumentException("Feature attribute '" + name + "' is missing or not an integer");
+        }
+        return value.intValue();
+    }
+
+    private static String requiredText(JsonNode attributes, String name) {
+        JsonNode value = attributes.get(name);
+        if (value == null || !value.isTextual()) {
+            throw new IllegalArgumentException("Feature attribute '" + name + "' is missing or not text");
+        }
+        return value.textValue();
+    }
+
+    private JsonNode readAttributes(String json) {
+        if (json == null) {
+            return attributeReader.createObjectNode();
+        }
+        try {
+            return attributeReader.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unreadable feature attributes", e);
+        }
+    }
+
+    private record ProductRow(UUID id, String businessId, String category, String description,
+                              boolean isDeleted, int schemaVersion, List<String> imageUrls) {}
+
+    private record VariantRow(UUID id, String sku, String status, BigDecimal basePrice,
+                              BigDecimal currentPrice, String currencyCode,
+                              BigDecimal weightAmount, String weightUnit,
+                              String careInstructions, List<UUID> featureIds) {}
+}
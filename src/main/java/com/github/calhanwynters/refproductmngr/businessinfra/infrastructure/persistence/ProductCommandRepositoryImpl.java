@@ -3,23 +3,36 @@ package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.per
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.VariantStatusUpdateResult;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductVersionConflictException;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureAbstractClass;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureFixedPriceEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureScalingPriceEntity;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ImageUrlVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.PublishabilityIndex;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of the Product Command Repository following Pure DDD and Outbox Patterns.
@@ -29,14 +42,113 @@ import java.util.stream.Collectors;
 public class ProductCommandRepositoryImpl implements ProductCommandRepository {
     private static final Logger logger = LoggerFactory.getLogger(ProductCommandRepositoryImpl.class);
 
+    // Optimistic lock: an existing row is only replaced by a strictly newer version (0 rows otherwise)
+    private static final String PRODUCT_UPSERT_SQL = """
+    INSERT INTO products (id, business_id_vo, category, description, is_deleted, schema_version)
+    VALUES (?, ?, ?, ?, ?, ?)
+    ON CONFLICT (id) DO UPDATE SET
+        category = EXCLUDED.category,
+        description = EXCLUDED.description,
+        is_deleted = EXCLUDED.is_deleted,
+        schema_version = EXCLUDED.schema_version
+    WHERE products.schema_version < EXCLUDED.schema_version;
+    """;
+
+    // Batched upserts cannot report per-row counts (reWriteBatchedInserts), so saveAll checks versions first
+    private static final String LOCK_VERSIONS_SQL =
+            "SELECT id, schema_version FROM products WHERE id = ANY(?) ORDER BY id FOR UPDATE";
+
+    private static final String IMAGE_INSERT_SQL = "INSERT INTO product_images (product_id, position, url) VALUES (?, ?, ?)";
+
+    private static final String VARIANT_UPSERT_SQL = """
+    INSERT INTO product_variants (id, product_id, sku, status, base_price, current_price, currency_code, weight_amount, weight_unit, care_instructions, effective_price)
+    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    ON CONFLICT (id) DO UPDATE SET
+        status = EXCLUDED.status,
+        base_price = EXCLUDED.base_price,
+        current_price = EXCLUDED.current_price,
+        effective_price = EXCLUDED.effective_price,
+        currency_code = EXCLUDED.currency_code,
+        weight_amount = EXCLUDED.weight_amount,
+        weight_unit = EXCLUDED.weight_unit,
+        care_instructions = EXCLUDED.care_instructions;
+    """;
+
+    private static final String FEATURE_UPSERT_SQL = """
+    INSERT INTO features (id, name, label, description, is_unique, feature_type, attributes)
+    VALUES (?, ?, ?, ?, ?, ?, ?::jsonb)
+    ON CONFLICT (id) DO UPDATE SET
+        name = EXCLUDED.name,
+        label = EXCLUDED.label,
+        description = EXCLUDED.description,
+        is_unique = EXCLUDED.is_unique,
+        attributes = EXCLUDED.attributes;
+    """;
+
+    private static final String LINK_INSERT_SQL = "INSERT INTO variant_features (variant_id, feature_id) VALUES (?, ?)";
+
+    private static final String OUTBOX_UPDATED_SQL = """
+    INSERT INTO outbox_messages (id, aggregate_type, aggregate_id, event_type, payload, schema_version, created_at)
+    VALUES (?, 'PRODUCT', ?::varchar, 'PRODUCT_UPDATED', ?::jsonb, ?, NOW())
+    """;
+
+    /*
+     * Guarded single-variant status change. The UPDATE only matches when the cross-entity invariants hold
+     * (product not deleted; for ACTIVE: gallery not empty and variant not DISCONTINUED), and the outbox row is
+     * inserted from the UPDATE's RETURNING rows, so both happen atomically or not at all. Like every aggregate
+     * command the change bumps products.schema_version, so a save() of an aggregate loaded before it conflicts
+     * instead of reverting the status, and the outbox event carries the new version. The locks keep a
+     * concurrent save() from changing the product or its gallery between the check and the write.
+     * The final SELECT reports the previous status, whether the write happened, and the guard inputs.
+     */
+    private static final String VARIANT_STATUS_FAST_PATH_SQL = """
+    WITH target AS (
+        SELECT v.id, v.product_id, v.status, p.is_deleted,
+               EXISTS (SELECT 1 FROM product_images i WHERE i.product_id = v.product_id) AS has_images
+        FROM product_variants v
+        JOIN products p ON p.id = v.product_id
+        WHERE v.id = :variantId
+        FOR UPDATE OF v, p
+    ), updated AS (
+        UPDATE product_variants v
+        SET status = CAST(:status AS varchar)
+        FROM target t
+        WHERE v.id = t.id
+          AND t.status <> CAST(:status AS varchar)
+          AND NOT t.is_deleted
+          AND (CAST(:status AS varchar) <> 'ACTIVE' OR (t.has_images AND t.status <> 'DISCONTINUED'))
+        RETURNING v.id, v.product_id, t.status AS previous_status
+    ), bumped AS (
+        UPDATE products p
+        SET schema_version = p.schema_version + 1
+        FROM updated u
+        WHERE p.id = u.product_id
+        RETURNING p.id, p.schema_version
+    ), outbox AS (
+        INSERT INTO outbox_messages (id, aggregate_type, aggregate_id, event_type, payload, schema_version, created_at)
+        SELECT :outboxId, 'PRODUCT', u.product_id::text, 'VARIANT_STATUS_CHANGED',
+               jsonb_build_object('productId', u.product_id, 'variantId', u.id,
+                                  'previousStatus', u.previous_status, 'status', CAST(:status AS varchar)),
+               b.schema_version, NOW()
+        FROM updated u
+        JOIN bumped b ON b.id = u.product_id
+    )
+    SELECT t.status AS previous_status, t.is_deleted, t.has_images, EXISTS (SELECT 1 FROM updated) AS updated
+    FROM target t
+    """;
+
     private final JdbcTemplate jdbcTemplate;
     private final ObjectMapper objectMapper;
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PublishabilityIndex publishabilityIndex;
 
-    public ProductCommandRepositoryImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+    public ProductCommandRepositoryImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                        NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                        PublishabilityIndex publishabilityIndex) {
         this.jdbcTemplate = jdbcTemplate;
         this.objectMapper = objectMapper;
         this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.publishabilityIndex = publishabilityIndex;
     }
 
     /**
@@ -48,140 +160,242 @@ public class ProductCommandRepositoryImpl implements ProductCommandRepository {
      */
     /**
      * PURE DDD SAVE: Handles State Transitions and Schema Evolution.
-     * The schema_version column tracks the structure of the data for backward compatibility.
+     * The schema_version column stores VersionVO.num and doubles as the optimistic lock.
+     * @throws ProductVersionConflictException If the stored version is not older than the aggregate's.
      */
     @Override
     @Transactional
     public void save(ProductAggregate product) {
         // Identity mapping
-        UUID productId = UUID.fromString(product.id().value());
+        UUID productId = product.id().toUUID();
         UUID businessId = UUID.fromString(product.businessIdVO().value());
 
         // Use your VersionVO 'num' for business context/schema versioning
         int currentBusinessVersion = product.version().num();
 
-        // 1. UPSERT Main Product (Now including Business Version)
-        final String productSql = """
-    INSERT INTO products (id, business_id_vo, category, description, is_deleted, schema_version)
-    VALUES (?, ?, ?, ?, ?, ?)
-    ON CONFLICT (id) DO UPDATE SET
-        category = EXCLUDED.category,
-        description = EXCLUDED.description,
-        is_deleted = EXCLUDED.is_deleted,
-        schema_version = EXCLUDED.schema_version;
-    """;
-        jdbcTemplate.update(productSql,
+        // 1. UPSERT Main Product (Now including Business Version); nothing else is written on a conflict
+        int rows = jdbcTemplate.update(PRODUCT_UPSERT_SQL,
                 productId,
                 businessId,
                 product.category().value(),
                 product.description().text(),
                 product.isDeleted(),
                 currentBusinessVersion);
+        if (rows == 0) {
+            throw new ProductVersionConflictException(List.of(product.id()));
+        }
 
-        // 2. UPSERT Variants (now storing weight amount + unit)
-        final String variantSql = """
-    INSERT INTO product_variants (id, product_id, sku, status, base_price, current_price, weight_amount, weight_unit, care_instructions)
-    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-    ON CONFLICT (id) DO UPDATE SET
-        status = EXCLUDED.status,
-        current_price = EXCLUDED.current_price,
-        weight_amount = EXCLUDED.weight_amount,
-        weight_unit = EXCLUDED.weight_unit,
-        care_instructions = EXCLUDED.care_instructions;
-    """;
+        // 2. SYNC Gallery (ordered image urls, required to reconstruct the aggregate)
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM product_images WHERE product_id = :productId",
+                Map.of("productId", productId)
+        );
 
-        List<VariantEntity> variants = List.copyOf(product.variants());
-        jdbcTemplate.batchUpdate(variantSql, variants, 500, (ps, variant) -> {
-            ps.setObject(1, UUID.fromString(variant.id().value()));
-            ps.setObject(2, productId);
-            ps.setString(3, variant.sku().sku());
-            ps.setString(4, variant.status().name());
-            // Ensure your PriceVO.value() returns BigDecimal with correct scale
-            ps.setBigDecimal(5, variant.basePrice().value());
-            ps.setBigDecimal(6, variant.currentPrice().value());
-            // Weight amount and unit preservation
-            ps.setBigDecimal(7, variant.weight().amount());
-            ps.setString(8, variant.weight().unit().name());
-            ps.setString(9, variant.careInstructions().instructions());
+        List<ImageUrlVO> images = product.gallery().images();
+        List<Integer> positions = IntStream.range(0, images.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(IMAGE_INSERT_SQL, positions, 500, (ps, position) -> {
+            ps.setObject(1, productId);
+            ps.setInt(2, position);
+            ps.setString(3, images.get(position).url());
         });
 
-        // 3. UPSERT Feature Definitions (Master Features Table)
-        Map<String, FeatureAbstractClass> distinctFeatures = variants.stream()
-                .flatMap(v -> v.getFeatures().stream())
-                .collect(Collectors.toMap(f -> f.getId().value(), f -> f, (f1, f2) -> f1));
-
-        final String featureDefinitionSql = """
-    INSERT INTO features (id, name, label, description, is_unique, feature_type, attributes)
-    VALUES (?, ?, ?, ?, ?, ?, ?::jsonb)
-    ON CONFLICT (id) DO UPDATE SET
-        name = EXCLUDED.name,
-        label = EXCLUDED.label,
-        description = EXCLUDED.description,
-        is_unique = EXCLUDED.is_unique,
-        attributes = EXCLUDED.attributes;
-    """;
+        // 3. UPSERT Variants (now storing weight amount + unit and price currency)
+        List<VariantEntity> variants = List.copyOf(product.variants());
+        jdbcTemplate.batchUpdate(VARIANT_UPSERT_SQL, variants, 500, (ps, variant) -> bindVariant(ps, productId, variant));
 
-        jdbcTemplate.batchUpdate(featureDefinitionSql, distinctFeatures.values(), 500, (ps, feature) -> {
-            ps.setObject(1, UUID.fromString(feature.getId().value()));
-            ps.setString(2, feature.getNameVO().value());
-            ps.setString(3, feature.getLabelVO().value());
-            ps.setString(4, feature.getDescription() != null ? feature.getDescription().text() : null);
-            ps.setBoolean(5, feature.isUnique());
-
-            Map<String, Object> attrMap = new HashMap<>();
-            String type = "BASIC";
-
-            if (feature instanceof FeatureFixedPriceEntity f) {
-                type = "FIXED_PRICE";
-                attrMap.put("fixedPrice", f.getFixedPrice());
-            } else if (feature instanceof FeatureScalingPriceEntity s) {
-                type = "SCALING_PRICE";
-                attrMap.put("unit", s.getMeasurementUnit().unit());
-                attrMap.put("base", s.getBaseAmount());
-                attrMap.put("increment", s.getIncrementAmount());
-                attrMap.put("max", s.getMaxQuantity());
-            }
+        // 4. UPSERT Feature Definitions (Master Features Table)
+        Map<FeatureIdVO, FeatureAbstractClass> distinctFeatures = variants.stream()
+                .flatMap(v -> v.getFeatures().stream())
+                .collect(Collectors.toMap(FeatureAbstractClass::getId, f -> f, (f1, f2) -> f1));
 
-            ps.setString(6, type);
-            // Ensure serializeToJson uses Jackson with JavaTimeModule and proper VO serializers
-            ps.setString(7, serializeToJson(attrMap));
-        });
+        jdbcTemplate.batchUpdate(FEATURE_UPSERT_SQL, distinctFeatures.values(), 500, this::bindFeature);
 
-        // 4. SYNC Variant-to-Feature Links (Join Table)
+        // 5. SYNC Variant-to-Feature Links (Join Table)
         // Delete existing links for the product (handles removed/orphaned variants)
         namedParameterJdbcTemplate.update(
                 "DELETE FROM variant_features vf USING product_variants pv WHERE vf.variant_id = pv.id AND pv.product_id = :productId",
                 Map.of("productId", productId)
         );
 
-        final String linkSql = "INSERT INTO variant_features (variant_id, feature_id) VALUES (?, ?)";
         List<FeatureJoin> featureJoins = variants.stream()
                 .flatMap(v -> v.getFeatures().stream().map(f -> new FeatureJoin(
-                        UUID.fromString(v.id().value()),
-                        UUID.fromString(f.getId().value())
+                        v.id().toUUID(),
+                        f.getId().toUUID()
                 ))).toList();
 
-        jdbcTemplate.batchUpdate(linkSql, featureJoins, 500, (ps, join) -> {
+        jdbcTemplate.batchUpdate(LINK_INSERT_SQL, featureJoins, 500, (ps, join) -> {
             ps.setObject(1, join.variantId());
             ps.setObject(2, join.featureId());
         });
 
-        // 5. TRANSACTIONAL OUTBOX
-        final String outboxSql = """
-    INSERT INTO outbox_messages (id, aggregate_type, aggregate_id, event_type, payload, schema_version, created_at)
-    VALUES (?, 'PRODUCT', ?, 'PRODUCT_UPDATED', ?::jsonb, ?, NOW())
-    """;
-        jdbcTemplate.update(outboxSql,
-                UUID.randomUUID(),
-                product.id().value(),
+        // 6. TRANSACTIONAL OUTBOX
+        jdbcTemplate.update(OUTBOX_UPDATED_SQL,
+                UuidV7Generator.next(),
+                product.id().toUUID(),
                 // Ensure serializeToJson(product) flattens VOs appropriately
                 serializeToJson(product),
                 currentBusinessVersion);
+
+        afterCommit(() -> publishabilityIndex.apply(product));
     }
 
     // Internal record for batch link management
     private record FeatureJoin(UUID variantId, UUID featureId) {}
 
+    /**
+     * BULK SAVE: Persists many aggregates with one JDBC batch per table instead of one round trip
+     * per row group, for import paths. Same statements and outcome as calling save() for each product;
+     * the whole collection is one transaction.
+     * @throws ProductVersionConflictException Listing every product whose stored version is not older
+     * (nothing of the batch is written).
+     */
+    @Override
+    @Transactional
+    public void saveAll(Collection<ProductAggregate> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        List<ProductAggregate> batch = List.copyOf(products);
+        UUID[] productIds = batch.stream().map(p -> p.id().toUUID()).toArray(UUID[]::new);
+
+        // 0. Lock the stored rows (in id order) and refuse the whole batch if any version is not newer
+        Map<UUID, Integer> storedVersions = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_VERSIONS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", productIds));
+            return ps;
+        }, (RowCallbackHandler) rs -> storedVersions.put(rs.getObject("id", UUID.class), rs.getInt("schema_version")));
+        List<ProductIdVO> conflicts = batch.stream()
+                .filter(p -> {
+                    Integer stored = storedVersions.get(p.id().toUUID());
+                    return stored != null && stored >= p.version().num();
+                })
+                .map(ProductAggregate::id)
+                .toList();
+        if (!conflicts.isEmpty()) {
+            throw new ProductVersionConflictException(conflicts);
+        }
+
+        // 1. UPSERT Main Products
+        jdbcTemplate.batchUpdate(PRODUCT_UPSERT_SQL, batch, 500, (ps, product) -> {
+            ps.setObject(1, product.id().toUUID());
+            ps.setObject(2, UUID.fromString(product.businessIdVO().value()));
+            ps.setString(3, product.category().value());
+            ps.setString(4, product.description().text());
+            ps.setBoolean(5, product.isDeleted());
+            ps.setInt(6, product.version().num());
+        });
+
+        // 2. SYNC Galleries
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement("DELETE FROM product_images WHERE product_id = ANY(?)");
+            ps.setArray(1, con.createArrayOf("uuid", productIds));
+            return ps;
+        });
+        List<ImageRow> images = new ArrayList<>();
+        for (ProductAggregate product : batch) {
+            UUID productId = product.id().toUUID();
+            List<ImageUrlVO> gallery = product.gallery().images();
+            for (int position = 0; position < gallery.size(); position++) {
+                images.add(new ImageRow(productId, position, gallery.get(position).url()));
+            }
+        }
+        jdbcTemplate.batchUpdate(IMAGE_INSERT_SQL, images, 500, (ps, image) -> {
+            ps.setObject(1, image.productId());
+            ps.setInt(2, image.position());
+            ps.setString(3, image.url());
+        });
+
+        // 3. UPSERT Variants
+        List<VariantRow> variants = batch.stream()
+                .flatMap(p -> {
+                    UUID productId = p.id().toUUID();
+                    return p.variants().stream().map(v -> new VariantRow(productId, v));
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(VARIANT_UPSERT_SQL, variants, 500, (ps, row) -> bindVariant(ps, row.productId(), row.variant()));
+
+        // 4. UPSERT Feature Definitions, shared features written once for the whole batch
+        Map<FeatureIdVO, FeatureAbstractClass> distinctFeatures = variants.stream()
+                .flatMap(row -> row.variant().getFeatures().stream())
+                .collect(Collectors.toMap(FeatureAbstractClass::getId, f -> f, (f1, f2) -> f1));
+        jdbcTemplate.batchUpdate(FEATURE_UPSERT_SQL, distinctFeatures.values(), 500, this::bindFeature);
+
+        // 5. SYNC Variant-to-Feature Links
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "DELETE FROM variant_features vf USING product_variants pv WHERE vf.variant_id = pv.id AND pv.product_id = ANY(?)");
+            ps.setArray(1, con.createArrayOf("uuid", productIds));
+            return ps;
+        });
+        List<FeatureJoin> featureJoins = variants.stream()
+                .flatMap(row -> row.variant().getFeatures().stream().map(f -> new FeatureJoin(
+                        row.variant().id().toUUID(),
+                        f.getId().toUUID()
+                ))).toList();
+        jdbcTemplate.batchUpdate(LINK_INSERT_SQL, featureJoins, 500, (ps, join) -> {
+            ps.setObject(1, join.variantId());
+            ps.setObject(2, join.featureId());
+        });
+
+        // 6. TRANSACTIONAL OUTBOX, one PRODUCT_UPDATED event per aggregate
+        jdbcTemplate.batchUpdate(OUTBOX_UPDATED_SQL, batch, 500, (ps, product) -> {
+            ps.setObject(1, UuidV7Generator.next());
+            ps.setObject(2, product.id().toUUID());
+            ps.setString(3, serializeToJson(product));
+            ps.setInt(4, product.version().num());
+        });
+
+        afterCommit(() -> batch.forEach(publishabilityIndex::apply));
+    }
+
+    private record ImageRow(UUID productId, int position, String url) {}
+
+    private record VariantRow(UUID productId, VariantEntity variant) {}
+
+    private void bindVariant(PreparedStatement ps, UUID productId, VariantEntity variant) throws SQLException {
+        ps.setObject(1, variant.id().toUUID());
+        ps.setObject(2, productId);
+        ps.setString(3, variant.sku().sku());
+        ps.setString(4, variant.status().name());
+        // Ensure your PriceVO.value() returns BigDecimal with correct scale
+        ps.setBigDecimal(5, variant.basePrice().value());
+        ps.setBigDecimal(6, variant.currentPrice().value());
+        ps.setString(7, variant.currentPrice().currency().getCurrencyCode());
+        // Weight amount and unit preservation
+        ps.setBigDecimal(8, variant.weight().amount());
+        ps.setString(9, variant.weight().unit().name());
+        ps.setString(10, variant.careInstructions().instructions());
+        // Materialized for price sorting and filtering (idx_product_variants_effective_price)
+        ps.setBigDecimal(11, variant.effectivePrice().value());
+    }
+
+    private void bindFeature(PreparedStatement ps, FeatureAbstractClass feature) throws SQLException {
+        ps.setObject(1, feature.getId().toUUID());
+        ps.setString(2, feature.getNameVO().value());
+        ps.setString(3, feature.getLabelVO().value());
+        ps.setString(4, feature.getDescription() != null ? feature.getDescription().text() : null);
+        ps.setBoolean(5, feature.isUnique());
+
+        Map<String, Object> attrMap = new HashMap<>();
+        String type = "BASIC";
+
+        if (feature instanceof FeatureFixedPriceEntity f) {
+            type = "FIXED_PRICE";
+            attrMap.put("fixedPrice", f.getFixedPrice());
+        } else if (feature instanceof FeatureScalingPriceEntity s) {
+            type = "SCALING_PRICE";
+            attrMap.put("unit", s.getMeasurementUnit().unit());
+            attrMap.put("base", s.getBaseAmount());
+            attrMap.put("increment", s.getIncrementAmount());
+            attrMap.put("max", s.getMaxQuantity());
+        }
+
+        ps.setString(6, type);
+        // Ensure serializeToJson uses Jackson with JavaTimeModule and proper VO serializers
+        ps.setString(7, serializeToJson(attrMap));
+    }
+
 
     /**
      * HARD DELETE: Physical removal of the Aggregate Root.
@@ -193,13 +407,15 @@ public class ProductCommandRepositoryImpl implements ProductCommandRepository {
         String deleteSql = "DELETE FROM products WHERE id = ? AND business_id_vo = ?";
         String outboxSql = """
             INSERT INTO outbox_messages (id, aggregate_type, aggregate_id, event_type, payload, created_at)
-            VALUES (?, 'PRODUCT', ?, 'PRODUCT_HARD_DELETED', ?::jsonb, NOW())
+            VALUES (?, 'PRODUCT', ?::varchar, 'PRODUCT_HARD_DELETED', ?::jsonb, NOW())
             """;
 
-        int rows = jdbcTemplate.update(deleteSql, id.value(), businessId.value());
+        UUID productId = id.toUUID();
+        int rows = jdbcTemplate.update(deleteSql, productId, businessId.value());
         if (rows > 0) {
-            String payload = String.format("{\"productId\": \"%s\", \"businessId\": \"%s\"}", id.value(), businessId.value());
-            jdbcTemplate.update(outboxSql, UUID.randomUUID(), id.value(), payload);
+            String payload = String.format("{\"productId\": \"%s\", \"businessId\": \"%s\"}", productId, businessId.value());
+            jdbcTemplate.update(outboxSql, UuidV7Generator.next(), productId, payload);
+            afterCommit(() -> publishabilityIndex.removeProduct(id));
             return true;
         }
         return false;
@@ -214,12 +430,14 @@ public class ProductCommandRepositoryImpl implements ProductCommandRepository {
         String deleteSql = "DELETE FROM product_variants WHERE product_id = ?";
         String outboxSql = """
             INSERT INTO outbox_messages (id, aggregate_type, aggregate_id, event_type, payload, created_at)
-            VALUES (?, 'PRODUCT', ?, 'ALL_VARIANTS_HARD_DELETED', ?::jsonb, NOW())
+            VALUES (?, 'PRODUCT', ?::varchar, 'ALL_VARIANTS_HARD_DELETED', ?::jsonb, NOW())
             """;
 
-        jdbcTemplate.update(deleteSql, id.value());
-        String payload = String.format("{\"productId\": \"%s\"}", id.value());
-        jdbcTemplate.update(outboxSql, UUID.randomUUID(), id.value(), payload);
+        UUID productId = id.toUUID();
+        jdbcTemplate.update(deleteSql, productId);
+        String payload = String.format("{\"productId\": \"%s\"}", productId);
+        jdbcTemplate.update(outboxSql, UuidV7Generator.next(), productId, payload);
+        afterCommit(() -> publishabilityIndex.removeAllVariants(id));
     }
 
     /**
@@ -237,22 +455,116 @@ public class ProductCommandRepositoryImpl implements ProductCommandRepository {
         int rows = jdbcTemplate.update(deleteSql, variantId);
         if (rows > 0) {
             String payload = String.format("{\"variantId\": \"%s\"}", variantId);
-            jdbcTemplate.update(outboxSql, UUID.randomUUID(), variantId, payload);
+            jdbcTemplate.update(outboxSql, UuidV7Generator.next(), variantId, payload);
+            afterCommit(() -> publishabilityIndex.removeVariant(VariantIdVO.fromString(variantId)));
             return true;
         }
         return false;
     }
 
+    /**
+     * Reconstructs one aggregate with the shared row assembler. Empty if the product does not exist,
+     * has no variants, or its rows no longer satisfy the domain invariants (logged by the assembler).
+     */
     @Override
     public Optional<ProductAggregate> findById(ProductIdVO id) {
-        // To be implemented: Reconstruct aggregate from products table
-        return Optional.empty();
+        return findOne(" WHERE p.id = ?", id.toUUID());
     }
 
     @Override
     public Optional<ProductAggregate> findByVariantId(VariantIdVO variantId) {
-        // To be implemented: Join products/variants and reconstruct ProductAggregate
-        return Optional.empty();
+        return findOne(" WHERE p.id = (SELECT pv.product_id FROM product_variants pv WHERE pv.id = ?)", variantId.toUUID());
+    }
+
+    private Optional<ProductAggregate> findOne(String where, UUID id) {
+        String sql = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS + where + ProductAggregateRowAssembler.ORDER_BY;
+        List<ProductAggregate> products = new ArrayList<>(1);
+        ProductAggregateRowAssembler assembler = new ProductAggregateRowAssembler(objectMapper, products::add);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setObject(1, id);
+            return ps;
+        }, assembler);
+        assembler.finish();
+        return products.stream().findFirst();
+    }
+
+    /**
+     * FAST PATH: Changes one variant's status with a single guarded statement instead of loading and
+     * re-saving the whole aggregate. Emits VARIANT_STATUS_CHANGED (variant id, previous and new status)
+     * rather than a full PRODUCT_UPDATED snapshot; ReadModelOutboxRelay projects the product from it.
+     */
+    @Override
+    @Transactional
+    public VariantStatusUpdateResult updateVariantStatus(VariantIdVO variantId, VariantStatusEnums newStatus) {
+        Map<String, Object> params = Map.of(
+                "variantId", variantId.toUUID(),
+                "status", newStatus.name(),
+                "outboxId", UuidV7Generator.next());
+
+        List<VariantStatusUpdateResult> results = namedParameterJdbcTemplate.query(VARIANT_STATUS_FAST_PATH_SQL, params, (rs, rowNum) -> {
+            if (rs.getBoolean("updated")) {
+                return VariantStatusUpdateResult.UPDATED;
+            }
+            // Same precedence as ProductAggregate.updateVariantStatus
+            if (rs.getBoolean("is_deleted")) {
+                return VariantStatusUpdateResult.REJECTED_PRODUCT_DELETED;
+            }
+            if (newStatus.name().equals(rs.getString("previous_status"))) {
+                return VariantStatusUpdateResult.UNCHANGED;
+            }
+            return rs.getBoolean("has_images")
+                    ? VariantStatusUpdateResult.REJECTED_DISCONTINUED
+                    : VariantStatusUpdateResult.REJECTED_NO_IMAGES;
+        });
+        VariantStatusUpdateResult result = results.isEmpty() ? VariantStatusUpdateResult.NOT_FOUND : results.getFirst();
+        if (result == VariantStatusUpdateResult.UPDATED) {
+            afterCommit(() -> publishabilityIndex.applyVariantStatus(variantId, newStatus));
+        }
+        return result;
+    }
+
+    /**
+     * BULK LOAD: Reconstructs every product owning one of the given variants with a single query,
+     * using the same row assembler as the rebuild and export jobs. Products whose rows no longer
+     * satisfy the domain invariants are skipped (and logged by the assembler).
+     */
+    @Override
+    public List<ProductAggregate> findAllByVariantIds(Collection<VariantIdVO> variantIds) {
+        if (variantIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] ids = variantIds.stream().map(VariantIdVO::toUUID).toArray(UUID[]::new);
+        String sql = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS
+                + " WHERE p.id IN (SELECT pv.product_id FROM product_variants pv WHERE pv.id = ANY(?))"
+                + ProductAggregateRowAssembler.ORDER_BY;
+
+        List<ProductAggregate> products = new ArrayList<>();
+        ProductAggregateRowAssembler assembler = new ProductAggregateRowAssembler(objectMapper, products::add);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", ids));
+            return ps;
+        }, assembler);
+        assembler.finish();
+        return products;
+    }
+
+    /**
+     * Runs an in-memory index update once the surrounding transaction has committed (immediately without one),
+     * so rolled-back writes never reach the PublishabilityIndex.
+     */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
     }
 
     /**
@@ -265,7 +577,7 @@ public class ProductCommandRepositoryImpl implements ProductCommandRepository {
         } catch (JsonProcessingException e) {
             // Determine a label for logging to identify what failed
             String identifier = (payload instanceof ProductAggregate p)
-                    ? "Product " + p.id().value()
+                    ? "Product " + p.id()
                     : "Generic Object (" + payload.getClass().getSimpleName() + ")";
 
             logger.error("Failed to serialize {} for database persistence: {}", identifier, e.getMessage());
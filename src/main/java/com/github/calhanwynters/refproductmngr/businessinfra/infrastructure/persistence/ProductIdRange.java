@@ -0,0 +1,129 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A half-open slice [lowerInclusive, upperExclusive) of the product UUID key space.
+ * PostgreSQL orders uuid values byte-wise, which equals an unsigned comparison of the
+ * most significant bits followed by the least significant bits, so ranges are cut on the high 64 bits.
+ * A null bound means the range is open on that side.
+ * Time-ordered (UUIDv7) ids cluster in a narrow band of that space, so jobs should cut ranges at
+ * the observed id quantiles ({@link #quantiles}) rather than evenly ({@link #split}).
+ */
+public record ProductIdRange(int index, UUID lowerInclusive, UUID upperExclusive) {
+
+    private static final String QUANTILES_SQL =
+            "SELECT percentile_disc(?::float8[]) WITHIN GROUP (ORDER BY p.id) FROM products p WHERE ";
+
+    /**
+     * Splits the whole UUID space into {@code count} contiguous, non-overlapping ranges.
+     */
+    public static List<ProductIdRange> split(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Range count must be at least 1");
+        }
+        long step = Long.divideUnsigned(-1L, count) + 1; // ceil(2^64 / count) for count > 1
+        List<ProductIdRange> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID lower = i == 0 ? null : new UUID(step * i, 0L);
+            UUID upper = i == count - 1 ? null : new UUID(step * (i + 1), 0L);
+            ranges.add(new ProductIdRange(i, lower, upper));
+        }
+        return List.copyOf(ranges);
+    }
+
+    /**
+     * Cuts the key space at ascending split points: [null, b0), [b0, b1), ..., [bn-1, null).
+     * Repeated split points are collapsed, so fewer ranges than points + 1 may be returned.
+     */
+    public static List<ProductIdRange> between(List<UUID> boundaries) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(boundaries));
+        List<ProductIdRange> ranges = new ArrayList<>(distinct.size() + 1);
+        UUID lower = null;
+        for (UUID boundary : distinct) {
+            ranges.add(new ProductIdRange(ranges.size(), lower, boundary));
+            lower = boundary;
+        }
+        ranges.add(new ProductIdRange(ranges.size(), lower, null));
+        return List.copyOf(ranges);
+    }
+
+    /**
+     * Splits the ids matching {@code predicate} into up to {@code count} ranges of roughly equal row counts,
+     * using the id quantiles computed by PostgreSQL (one ordered pass over the primary key index).
+     * Works for random and time-ordered ids alike. Falls back to a single range when no row matches.
+     * @param predicate SQL condition on the {@code products p} alias, with {@code ?} placeholders.
+     * @param bindValues Values for the placeholders of {@code predicate}.
+     */
+    public static List<ProductIdRange> quantiles(Connection connection, int count, String predicate,
+                                                 Object... bindValues) throws SQLException {
+        if (count < 1) {
+            throw new IllegalArgumentException("Range count must be at least 1");
+        }
+        if (count == 1) {
+            return split(1);
+        }
+        Double[] fractions = new Double[count - 1];
+        for (int i = 1; i < count; i++) {
+            fractions[i - 1] = (double) i / count;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(QUANTILES_SQL + predicate)) {
+            ps.setArray(1, connection.createArrayOf("float8", fractions));
+            for (int i = 0; i < bindValues.length; i++) {
+                ps.setObject(i + 2, bindValues[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                Array quantiles = rs.next() ? rs.getArray(1) : null;
+                if (quantiles == null) {
+                    return split(1);
+                }
+                List<UUID> boundaries = new ArrayList<>(count - 1);
+                for (Object boundary : (Object[]) quantiles.getArray()) {
+                    boundaries.add((UUID) boundary);
+                }
+                return between(boundaries);
+            }
+        }
+    }
+
+    /**
+     * Builds the SQL predicate for this range on the given column, starting strictly after
+     * {@code resumeAfter} when a checkpoint exists. Bind values come from {@link #bindValues(UUID)}.
+     */
+    public String predicate(String column, UUID resumeAfter) {
+        List<String> parts = new ArrayList<>(2);
+        if (resumeAfter != null) {
+            parts.add(column + " > ?");
+        } else if (lowerInclusive != null) {
+            parts.add(column + " >= ?");
+        }
+        if (upperExclusive != null) {
+            parts.add(column + " < ?");
+        }
+        return parts.isEmpty() ? "TRUE" : String.join(" AND ", parts);
+    }
+
+    /**
+     * Returns the values to bind, in order, for {@link #predicate(String, UUID)}.
+     */
+    public List<Object> bindValues(UUID resumeAfter) {
+        List<Object> values = new ArrayList<>(2);
+        if (resumeAfter != null) {
+            values.add(resumeAfter);
+        } else if (lowerInclusive != null) {
+            values.add(lowerInclusive);
+        }
+        if (upperExclusive != null) {
+            values.add(upperExclusive);
+        }
+        return values;
+    }
+}
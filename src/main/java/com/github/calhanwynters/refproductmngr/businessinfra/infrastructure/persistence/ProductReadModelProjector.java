@@ -0,0 +1,232 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductRepositoryException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import org.bson.BsonBinarySubType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Projects aggregate snapshots into the Mongo read model (fed by {@link ReadModelOutboxRelay} and ReadModelRebuildJob).
+ * Each batch is sent as one unordered bulk write of version-guarded upserts:
+ * a snapshot only replaces the stored document when its VersionVO.num is strictly greater.
+ * Re-delivered or out-of-order snapshots therefore become no-ops, so any number of
+ * projector threads can drain the outbox in parallel.
+ * <p>
+ * Documents are enriched with the materialized effective price ({@link VariantEntity#effectivePrice()}):
+ * {@code variants.effectivePrice} per variant and {@code minEffectivePrice} per product, both indexed so
+ * price-range and cheapest-in-category queries are index scans. Indexes are ensured once per target collection.
+ */
+@Component
+public class ProductReadModelProjector {
+    private static final Logger logger = LoggerFactory.getLogger(ProductReadModelProjector.class);
+
+    // Raised when the guarded filter misses because a newer version is already stored
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+    private static final String VERSION_FIELD = "version.num";
+
+    static final String EFFECTIVE_PRICE_FIELD = "effectivePrice";
+    static final String MIN_EFFECTIVE_PRICE_FIELD = "minEffectivePrice";
+
+    private static final List<IndexModel> PRICE_INDEXES = List.of(
+            new IndexModel(Indexes.ascending("businessIdVO.value", "category.value", MIN_EFFECTIVE_PRICE_FIELD),
+                    new IndexOptions().name("idx_category_min_effective_price")),
+            new IndexModel(Indexes.ascending("variants." + EFFECTIVE_PRICE_FIELD),
+                    new IndexOptions().name("idx_variants_effective_price")));
+
+    private final MongoTemplate mongoTemplate;
+    private final Set<String> indexedCollections = ConcurrentHashMap.newKeySet();
+
+    public ProductReadModelProjector(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = Objects.requireNonNull(mongoTemplate);
+    }
+
+    /**
+     * Projects a batch into the default ProductAggregate collection using acknowledged writes.
+     */
+    public ProjectionResult project(Collection<ProductAggregate> snapshots) {
+        return project(snapshots, WriteConcern.ACKNOWLEDGED);
+    }
+
+    /**
+     * Projects a batch into the default ProductAggregate collection with the given write concern.
+     */
+    public ProjectionResult project(Collection<ProductAggregate> snapshots, WriteConcern writeConcern) {
+        return project(mongoTemplate.getCollectionName(ProductAggregate.class), snapshots, writeConcern);
+    }
+
+    /**
+     * Projects a batch into an explicit collection (e.g. a shadow collection during a rebuild).
+     * @param collectionName Target Mongo collection.
+     * @param snapshots Aggregate snapshots in any order; duplicates per product are allowed.
+     * @param writeConcern Write concern applied to this batch only.
+     * @return How many snapshots were written and how many were skipped as stale.
+     */
+    public ProjectionResult project(String collectionName, Collection<ProductAggregate> snapshots, WriteConcern writeConcern) {
+        Objects.requireNonNull(collectionName, "Collection name cannot be null");
+        Objects.requireNonNull(writeConcern, "Write concern cannot be null");
+
+        List<ProductAggregate> latest = latestPerAggregate(snapshots);
+        if (latest.isEmpty()) {
+            return ProjectionResult.EMPTY;
+        }
+
+        int collapsed = snapshots.size() - latest.size();
+        List<WriteModel<Document>> writes = new ArrayList<>(latest.size());
+        for (ProductAggregate product : latest) {
+            Document document = toDocument(product);
+            Bson newerThanStored = Filters.and(
+                    Filters.eq("_id", document.get("_id")),
+                    Filters.lt(VERSION_FIELD, product.version().num()));
+            writes.add(new ReplaceOneModel<>(newerThanStored, document, new ReplaceOptions().upsert(true)));
+        }
+
+        MongoCollection<Document> collection = mongoTemplate.getCollection(collectionName).withWriteConcern(writeConcern);
+        ensureIndexes(collectionName, collection);
+        try {
+            BulkWriteResult result = collection.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+            return toResult(result, 0, collapsed, writes.size());
+        } catch (MongoBulkWriteException e) {
+            int stale = 0;
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                    logger.error("Read model projection failed at index {}: {}", error.getIndex(), error.getMessage());
+                    throw new ProductRepositoryException("Read model projection failure", e);
+                }
+                stale++;
+            }
+            return toResult(e.getWriteResult(), stale, collapsed, writes.size());
+        }
+    }
+
+    /**
+     * Keeps only the highest version of each product, so a batch never races against itself.
+     * On equal versions the later snapshot of the batch wins.
+     */
+    static List<ProductAggregate> latestPerAggregate(Collection<ProductAggregate> snapshots) {
+        if (snapshots == null || snapshots.isEmpty()) {
+            return List.of();
+        }
+        Map<ProductIdVO, ProductAggregate> latest = new LinkedHashMap<>();
+        for (ProductAggregate snapshot : snapshots) {
+            latest.merge(snapshot.id(), snapshot,
+                    (current, candidate) -> candidate.version().num() >= current.version().num() ? candidate : current);
+        }
+        return List.copyOf(latest.values());
+    }
+
+    private Document toDocument(ProductAggregate product) {
+        Document document = new Document();
+        mongoTemplate.getConverter().write(product, document);
+        addEffectivePrices(product, document);
+        return document;
+    }
+
+    /**
+     * Adds the effective price to every variant subdocument and the cheapest one to the product.
+     * Subdocuments are matched to their variant by id (the converter writes it as a binary UUID under {@code _id});
+     * one whose id cannot be matched gets no effective price.
+     * Amounts are compared as numbers: products are expected to price all variants in one currency.
+     */
+    static void addEffectivePrices(ProductAggregate product, Document document) {
+        BigDecimal min = null;
+        Map<VariantIdVO, BigDecimal> effectivePrices = new HashMap<>();
+        for (VariantEntity variant : product.variants()) {
+            BigDecimal effectivePrice = variant.effectivePrice().value();
+            effectivePrices.put(variant.id(), effectivePrice);
+            if (min == null || effectivePrice.compareTo(min) < 0) {
+                min = effectivePrice;
+            }
+        }
+        if (document.get("variants") instanceof List<?> variantDocuments) {
+            for (Object subdocument : variantDocuments) {
+                if (subdocument instanceof Document variantDocument) {
+                    BigDecimal effectivePrice = effectivePrices.get(variantId(variantDocument));
+                    if (effectivePrice != null) {
+                        variantDocument.put(EFFECTIVE_PRICE_FIELD, new Decimal128(effectivePrice));
+                    }
+                }
+            }
+        }
+        document.put(MIN_EFFECTIVE_PRICE_FIELD, min != null ? new Decimal128(min) : null);
+    }
+
+    // Reads the id the converter wrote; null if the subdocument has none in a known form
+    private static VariantIdVO variantId(Document variantDocument) {
+        Object id = variantDocument.containsKey("_id") ? variantDocument.get("_id") : variantDocument.get("id");
+        if (id instanceof Binary binary && binary.getType() == BsonBinarySubType.UUID_STANDARD.getValue()
+                && binary.length() == 16) {
+            ByteBuffer buffer = ByteBuffer.wrap(binary.getData());
+            return new VariantIdVO(buffer.getLong(), buffer.getLong());
+        }
+        if (id instanceof UUID uuid) {
+            return VariantIdVO.fromUUID(uuid);
+        }
+        return null;
+    }
+
+    // createIndexes is idempotent; the set only saves the round trip on every batch
+    private void ensureIndexes(String collectionName, MongoCollection<Document> collection) {
+        if (indexedCollections.add(collectionName)) {
+            try {
+                collection.createIndexes(PRICE_INDEXES);
+            } catch (RuntimeException e) {
+                indexedCollections.remove(collectionName);
+                throw new ProductRepositoryException("Read model index creation failure", e);
+            }
+        }
+    }
+
+    private static ProjectionResult toResult(BulkWriteResult result, int stale, int collapsed, int attempted) {
+        if (!result.wasAcknowledged()) {
+            // Unacknowledged batches cannot report counts; assume every non-stale write was applied
+            return new ProjectionResult(attempted - stale, stale + collapsed);
+        }
+        int applied = result.getModifiedCount() + result.getUpserts().size();
+        return new ProjectionResult(applied, stale + collapsed);
+    }
+
+    /**
+     * Outcome of one projected batch.
+     * @param applied Snapshots that inserted or replaced a read model document.
+     * @param skipped Snapshots ignored because an equal or newer version was already present.
+     */
+    public record ProjectionResult(int applied, int skipped) {
+        public static final ProjectionResult EMPTY = new ProjectionResult(0, 0);
+    }
+}
@@ -43,7 +43,7 @@ public class ProductRepositoryImpl implements ProductQueryRepository {
 
         } catch (Exception e) {
             logger.error("Failed lookup for ID {} and Business {}: {}",
-                    id.value(),
+                    id,
                     businessId.value(),
                     e.getMessage(),
                     e);
@@ -0,0 +1,259 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.PublishabilityIndex;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the {@link PublishabilityIndex} in step with the write model.
+ * <p>
+ * On start the index is filled from PostgreSQL in keyset chunks, reading only the columns the publishability
+ * rule needs. It then tails outbox_messages, which covers writes of other instances and the SQL-only paths:
+ * VARIANT_STATUS_CHANGED and the hard deletes are applied as O(1) deltas; PRODUCT_UPDATED (and deltas for
+ * products the index does not know yet) reload the current state of those products with one query per poll.
+ * See {@link OutboxEventTail} for how late-committing events are still picked up.
+ */
+@Component
+public class PublishabilityIndexUpdater implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(PublishabilityIndexUpdater.class);
+
+    static final long POLL_MILLIS = 1_000;
+    static final int PRODUCTS_PER_CHUNK = 5_000;
+
+    private static final UUID NIL = new UUID(0, 0);
+
+    // One row per variant (or one row with a null variant); rows MUST stay ordered by product id
+    private static final String STATE_SELECT = """
+    SELECT p.id, p.business_id_vo, p.is_deleted, p.schema_version,
+           EXISTS (SELECT 1 FROM product_images i WHERE i.product_id = p.id) AS has_images,
+           v.id AS variant_id, v.status
+    FROM products p
+    LEFT JOIN product_variants v ON v.product_id = p.id
+    """;
+
+    private static final String STATE_CHUNK_SQL = STATE_SELECT
+            + " WHERE p.id IN (SELECT c.id FROM products c WHERE c.id > ? ORDER BY c.id LIMIT ?) ORDER BY p.id";
+
+    private static final String STATE_BY_IDS_SQL = STATE_SELECT + " WHERE p.id = ANY(?) ORDER BY p.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final PublishabilityIndex index;
+    private final OutboxEventTail tail; // Guarded by this
+    private ScheduledExecutorService poller;
+    private volatile boolean running;
+
+    public PublishabilityIndexUpdater(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, PublishabilityIndex index) {
+        this(jdbcTemplate, objectMapper, index, Clock.systemUTC());
+    }
+
+    PublishabilityIndexUpdater(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, PublishabilityIndex index, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.index = index;
+        this.tail = new OutboxEventTail(jdbcTemplate, clock);
+    }
+
+    @Override
+    public void start() {
+        load();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "publishability-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Rebuilds the index from the write model. The cursor is taken first, so everything written during the
+     * load is replayed from the outbox afterwards.
+     */
+    synchronized void load() {
+        tail.reset();
+        index.clear();
+
+        UUID after = NIL;
+        while (true) {
+            SnapshotCollector collector = new SnapshotCollector(index::apply);
+            UUID from = after;
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(STATE_CHUNK_SQL);
+                ps.setObject(1, from);
+                ps.setInt(2, PRODUCTS_PER_CHUNK);
+                return ps;
+            }, collector);
+            collector.finish();
+            if (collector.products() < PRODUCTS_PER_CHUNK) {
+                break;
+            }
+            after = collector.lastProductId();
+        }
+        logger.info("Publishability index loaded: {} products", index.size());
+    }
+
+    /**
+     * Applies the outbox events written since the last poll. Runs on the poller thread; never throws,
+     * so the schedule keeps running.
+     */
+    synchronized void poll() {
+        try {
+            Set<ProductIdVO> reload = new LinkedHashSet<>();
+            tail.poll(event -> handle(event, reload), () -> reload(reload));
+        } catch (RuntimeException e) {
+            logger.error("Publishability index poll failed", e);
+        }
+    }
+
+    private void handle(OutboxEventTail.OutboxEvent event, Set<ProductIdVO> reload) {
+        try {
+            switch (event.type()) {
+                case "PRODUCT_UPDATED" -> reload.add(new ProductIdVO(event.aggregateId()));
+                case "PRODUCT_HARD_DELETED" -> {
+                    ProductIdVO productId = new ProductIdVO(event.aggregateId());
+                    reload.remove(productId);
+                    index.removeProduct(productId);
+                }
+                case "ALL_VARIANTS_HARD_DELETED" -> index.removeAllVariants(new ProductIdVO(event.aggregateId()));
+                case "VARIANT_HARD_DELETED" -> index.removeVariant(VariantIdVO.fromString(event.aggregateId()));
+                case "VARIANT_STATUS_CHANGED" -> {
+                    JsonNode payload = objectMapper.readTree(event.payload());
+                    VariantIdVO variantId = VariantIdVO.fromString(payload.path("variantId").asText());
+                    VariantStatusEnums status = VariantStatusEnums.valueOf(payload.path("status").asText());
+                    if (!index.applyVariantStatus(variantId, status)) {
+                        reload.add(new ProductIdVO(event.aggregateId()));
+                    }
+                }
+                default -> {
+                    // PRODUCT_REPRICED and other events do not change publishability
+                }
+            }
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            logger.warn("Skipping outbox event {} ({}): {}", event.id(), event.type(), e.getMessage());
+        }
+    }
+
+    // Current state of the products; products no longer in the write model leave the index
+    private void reload(Set<ProductIdVO> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = productIds.stream().map(ProductIdVO::toUUID).toArray(UUID[]::new);
+        Set<ProductIdVO> missing = new HashSet<>(productIds);
+        SnapshotCollector collector = new SnapshotCollector(snapshot -> {
+            missing.remove(snapshot.productId());
+            index.apply(snapshot);
+        });
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(STATE_BY_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", ids));
+            return ps;
+        }, collector);
+        collector.finish();
+        missing.forEach(index::removeProduct);
+    }
+
+    /**
+     * Folds the ordered state rows of each product into one snapshot.
+     */
+    private static final class SnapshotCollector implements RowCallbackHandler {
+        private final Consumer<PublishabilityIndex.Snapshot> sink;
+        private final Map<VariantIdVO, VariantStatusEnums> variants = new HashMap<>();
+        private UUID productId;
+        private String businessId;
+        private boolean deleted;
+        private int version;
+        private boolean hasImages;
+        private UUID lastProductId;
+        private int products;
+
+        private SnapshotCollector(Consumer<PublishabilityIndex.Snapshot> sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID id = rs.getObject("id", UUID.class);
+            if (!id.equals(productId)) {
+                finish();
+                productId = id;
+                businessId = rs.getString("business_id_vo");
+                deleted = rs.getBoolean("is_deleted");
+                version = rs.getInt("schema_version");
+                hasImages = rs.getBoolean("has_images");
+            }
+            UUID variantId = rs.getObject("variant_id", UUID.class);
+            if (variantId != null) {
+                try {
+                    variants.put(VariantIdVO.fromUUID(variantId), VariantStatusEnums.valueOf(rs.getString("status")));
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Ignoring variant {} with unknown status {}", variantId, rs.getString("status"));
+                }
+            }
+        }
+
+        void finish() {
+            if (productId == null) {
+                return;
+            }
+            try {
+                sink.accept(new PublishabilityIndex.Snapshot(ProductIdVO.fromUUID(productId), new BusinessIdVO(businessId),
+                        version, deleted, hasImages, variants));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping product {} in the publishability index: {}", productId, e.getMessage());
+            }
+            lastProductId = productId;
+            products++;
+            productId = null;
+            variants.clear();
+        }
+
+        UUID lastProductId() {
+            return lastProductId;
+        }
+
+        int products() {
+            return products;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the Mongo read model in step with the outbox.
+ * <p>
+ * Events that change a product (PRODUCT_UPDATED, and VARIANT_STATUS_CHANGED and PRODUCT_REPRICED from the
+ * set-based paths, which carry no snapshot) reload the current aggregates from PostgreSQL with one query per poll and hand them
+ * to the {@link ProductReadModelProjector}; its version guard makes re-delivered events and several relaying
+ * instances harmless. PRODUCT_HARD_DELETED removes the document. See {@link OutboxEventTail} for the cursor.
+ * {@link ReadModelRebuildJob} replays the events written during a rebuild through {@link #replaySince}.
+ */
+@Component
+public class ReadModelOutboxRelay implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelOutboxRelay.class);
+
+    static final long POLL_MILLIS = 1_000;
+
+    private static final String AGGREGATES_BY_IDS_SQL = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS
+            + " WHERE p.id = ANY(?)"
+            + ProductAggregateRowAssembler.ORDER_BY;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductReadModelProjector projector;
+    private final Clock clock;
+    private final OutboxEventTail tail; // Guarded by this
+    private ScheduledExecutorService poller;
+    private volatile boolean running;
+
+    public ReadModelOutboxRelay(JdbcTemplate jdbcTemplate, MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+                                ProductReadModelProjector projector) {
+        this(jdbcTemplate, mongoTemplate, objectMapper, projector, Clock.systemUTC());
+    }
+
+    ReadModelOutboxRelay(JdbcTemplate jdbcTemplate, MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+                         ProductReadModelProjector projector, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.projector = projector;
+        this.clock = clock;
+        this.tail = new OutboxEventTail(jdbcTemplate, clock);
+    }
+
+    @Override
+    public synchronized void start() {
+        // Older events are covered by the read model (or a ReadModelRebuildJob run)
+        tail.reset();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "read-model-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Projects the outbox events written since the last poll. Runs on the poller thread; never throws,
+     * so the schedule keeps running (a failed poll is retried from the same cursor).
+     */
+    synchronized void poll() {
+        try {
+            Set<ProductIdVO> reload = new LinkedHashSet<>();
+            tail.poll(event -> handle(event, reload), () -> reload(reload));
+        } catch (RuntimeException e) {
+            logger.error("Read model relay poll failed", e);
+        }
+    }
+
+    /**
+     * @return An outbox position to pass to {@link #replaySince} later: every event written from now on is after it.
+     */
+    UUID replayCursor() {
+        OutboxEventTail position = new OutboxEventTail(jdbcTemplate, clock);
+        position.reset();
+        return position.cursor();
+    }
+
+    /**
+     * Projects every outbox event after {@code cursor} again, e.g. after a rebuild replaced the collection the
+     * polls had been writing to. Runs on the caller's thread next to the polls; the version guard keeps both safe.
+     */
+    void replaySince(UUID cursor) {
+        OutboxEventTail replay = new OutboxEventTail(jdbcTemplate, clock);
+        replay.resumeFrom(cursor);
+        Set<ProductIdVO> reload = new LinkedHashSet<>();
+        replay.poll(event -> handle(event, reload), () -> reload(reload));
+    }
+
+    private void handle(OutboxEventTail.OutboxEvent event, Set<ProductIdVO> reload) {
+        try {
+            switch (event.type()) {
+                case "PRODUCT_UPDATED", "VARIANT_STATUS_CHANGED", "PRODUCT_REPRICED" -> reload.add(new ProductIdVO(event.aggregateId()));
+                case "PRODUCT_HARD_DELETED" -> {
+                    ProductIdVO productId = new ProductIdVO(event.aggregateId());
+                    reload.remove(productId);
+                    mongoTemplate.remove(Query.query(Criteria.where("_id").is(productId)), ProductAggregate.class);
+                }
+                default -> {
+                    // Variant hard deletes carry no snapshot; the next change of the product replaces the document
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping outbox event {} ({}): {}", event.id(), event.type(), e.getMessage());
+        }
+    }
+
+    // Current aggregates, projected in batches of at most one outbox page
+    private void reload(Set<ProductIdVO> productIds) {
+        UUID[] ids = productIds.stream().map(ProductIdVO::toUUID).toArray(UUID[]::new);
+        for (int from = 0; from < ids.length; from += OutboxEventTail.EVENTS_PER_PAGE) {
+            reload(Arrays.copyOfRange(ids, from, Math.min(ids.length, from + OutboxEventTail.EVENTS_PER_PAGE)));
+        }
+    }
+
+    private void reload(UUID[] ids) {
+        List<ProductAggregate> products = new ArrayList<>(ids.length);
+        ProductAggregateRowAssembler assembler = new ProductAggregateRowAssembler(objectMapper, products::add);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(AGGREGATES_BY_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", ids));
+            return ps;
+        }, assembler);
+        assembler.finish();
+        ProductReadModelProjector.ProjectionResult result = projector.project(products);
+        logger.debug("Read model relay projected {} product(s), {} already current", result.applied(), result.skipped());
+    }
+}
@@ -0,0 +1,279 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductRepositoryException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Regenerates the Mongo read model from the PostgreSQL write model.
+ * The product id space is split into ranges that are streamed in parallel through server-side cursors
+ * (bounded fetch size inside a read-only transaction), reassembled into aggregates and bulk-written into
+ * a shadow collection. Once every range is done the shadow atomically replaces the live collection.
+ * Each flushed batch records a checkpoint, so rerunning with the same rebuild id resumes after a crash.
+ * Ranges are cut at the product id quantiles on the first run and stored with the checkpoints,
+ * so a resumed run reuses exactly the same ranges.
+ * Changes committed while ranges are scanned (and relayed into the collection that the swap then drops) are
+ * not lost: the plan also stores the outbox position taken before the first scan, and after the swap the
+ * {@link ReadModelOutboxRelay} replays every event since then into the new collection.
+ */
+@Component
+public class ReadModelRebuildJob {
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelRebuildJob.class);
+
+    static final String CHECKPOINT_COLLECTION = "readModelRebuildCheckpoints";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MongoTemplate mongoTemplate;
+    private final ProductReadModelProjector projector;
+    private final ObjectMapper objectMapper;
+    private final ReadModelOutboxRelay relay;
+
+    public ReadModelRebuildJob(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MongoTemplate mongoTemplate,
+                               ProductReadModelProjector projector,
+                               ObjectMapper objectMapper,
+                               ReadModelOutboxRelay relay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.mongoTemplate = mongoTemplate;
+        this.projector = projector;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    /**
+     * Runs (or resumes) a rebuild.
+     * @param rebuildId Stable identifier of this rebuild; reuse it to resume from the stored checkpoints.
+     * @param options Parallelism, cursor and batch tuning.
+     * @return Summary of the completed rebuild.
+     */
+    public RebuildReport rebuild(String rebuildId, RebuildOptions options) {
+        Objects.requireNonNull(rebuildId, "Rebuild id cannot be null");
+        Objects.requireNonNull(options, "Rebuild options cannot be null");
+
+        long started = System.nanoTime();
+        String target = mongoTemplate.getCollectionName(ProductAggregate.class);
+        String shadow = target + "_rebuild_" + rebuildId;
+        Map<Integer, Document> checkpoints = loadCheckpoints(rebuildId);
+        Document plan = plan(rebuildId, options.ranges());
+        List<ProductIdRange> ranges = ProductIdRange.between(
+                plan.getList("boundaries", String.class).stream().map(UUID::fromString).toList());
+
+        logger.info("Read model rebuild {} starting: {} ranges, {} threads, {} ranges already complete",
+                rebuildId, ranges.size(), options.parallelism(),
+                checkpoints.values().stream().filter(c -> c.getBoolean("completed", false)).count());
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.parallelism());
+        long products = 0;
+        long rejected = 0;
+        try {
+            List<Future<RangeResult>> futures = new ArrayList<>(ranges.size());
+            for (ProductIdRange range : ranges) {
+                Document checkpoint = checkpoints.get(range.index());
+                futures.add(workers.submit(() -> rebuildRange(rebuildId, shadow, range, checkpoint, options)));
+            }
+            for (Future<RangeResult> future : futures) {
+                RangeResult result = future.get();
+                products += result.products();
+                rejected += result.rejected();
+            }
+        } catch (ExecutionException e) {
+            throw new ProductRepositoryException("Read model rebuild " + rebuildId + " failed; rerun it to resume", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProductRepositoryException("Read model rebuild " + rebuildId + " interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        swapCollections(shadow, target);
+        // Re-project what changed since the scans started, including relayed writes the swap just dropped
+        relay.replaySince(UUID.fromString(plan.getString("outboxCursor")));
+        checkpointCollection().deleteMany(Filters.eq("rebuildId", rebuildId));
+
+        RebuildReport report = new RebuildReport(rebuildId, products, rejected, Duration.ofNanos(System.nanoTime() - started));
+        logger.info("Read model rebuild {} finished: {} products written, {} rejected in {}",
+                rebuildId, report.products(), report.rejected(), report.elapsed());
+        return report;
+    }
+
+    private RangeResult rebuildRange(String rebuildId, String shadow, ProductIdRange range,
+                                     Document checkpoint, RebuildOptions options) {
+        if (checkpoint != null && checkpoint.getBoolean("completed", false)) {
+            return new RangeResult(checkpoint.getLong("products"), checkpoint.getLong("rejected"));
+        }
+
+        UUID resumeAfter = checkpoint != null ? UUID.fromString(checkpoint.getString("lastProductId")) : null;
+        long[] written = {checkpoint != null ? checkpoint.getLong("products") : 0L};
+        long previouslyRejected = checkpoint != null ? checkpoint.getLong("rejected") : 0L;
+
+        List<ProductAggregate> batch = new ArrayList<>(options.batchSize());
+        ProductAggregateRowAssembler[] assembler = new ProductAggregateRowAssembler[1];
+        assembler[0] = new ProductAggregateRowAssembler(objectMapper, product -> {
+            batch.add(product);
+            if (batch.size() >= options.batchSize()) {
+                written[0] += flush(rebuildId, shadow, range, batch, written[0],
+                        previouslyRejected + assembler[0].rejected(), options);
+            }
+        });
+
+        String sql = ProductAggregateRowAssembler.SELECT_AGGREGATE_ROWS
+                + " WHERE " + range.predicate("p.id", resumeAfter)
+                + ProductAggregateRowAssembler.ORDER_BY;
+        List<Object> bindValues = range.bindValues(resumeAfter);
+
+        // PostgreSQL only streams with a fetch size inside a transaction (auto-commit off)
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(options.fetchSize());
+            for (int i = 0; i < bindValues.size(); i++) {
+                ps.setObject(i + 1, bindValues.get(i));
+            }
+            return ps;
+        }, assembler[0]));
+        assembler[0].finish();
+
+        long rejected = previouslyRejected + assembler[0].rejected();
+        if (!batch.isEmpty()) {
+            written[0] += flush(rebuildId, shadow, range, batch, written[0], rejected, options);
+        }
+        saveCheckpoint(rebuildId, range, null, written[0], rejected, true);
+        return new RangeResult(written[0], rejected);
+    }
+
+    private int flush(String rebuildId, String shadow, ProductIdRange range, List<ProductAggregate> batch,
+                      long writtenSoFar, long rejected, RebuildOptions options) {
+        projector.project(shadow, batch, options.writeConcern());
+        int flushed = batch.size();
+        String lastProductId = batch.getLast().id().value();
+        batch.clear();
+
+        saveCheckpoint(rebuildId, range, lastProductId, writtenSoFar + flushed, rejected, false);
+        logger.debug("Rebuild {} range {}: {} products written", rebuildId, range.index(), writtenSoFar + flushed);
+        return flushed;
+    }
+
+    private void swapCollections(String shadow, String target) {
+        if (!mongoTemplate.collectionExists(shadow)) {
+            mongoTemplate.createCollection(shadow); // Empty catalog: still replace the live collection
+        }
+        MongoDatabase database = mongoTemplate.getDb();
+        // renameCollection with dropTarget is a single atomic catalog operation
+        database.getCollection(shadow).renameCollection(
+                new MongoNamespace(database.getName(), target),
+                new RenameCollectionOptions().dropTarget(true));
+    }
+
+    // Range boundaries and the outbox position to replay from, fixed by the first run of a rebuild id
+    private Document plan(String rebuildId, int count) {
+        String planId = rebuildId + ":plan";
+        Document plan = checkpointCollection().find(Filters.eq("_id", planId)).first();
+        if (plan != null && plan.getString("outboxCursor") != null) {
+            return plan;
+        }
+        if (plan != null) {
+            // Planned before replays existed: ranges stay, events before this run are not replayed
+            logger.warn("Read model rebuild {} has no outbox position; replaying from now", rebuildId);
+            plan.put("outboxCursor", relay.replayCursor().toString());
+            checkpointCollection().replaceOne(Filters.eq("_id", planId), plan);
+            return plan;
+        }
+
+        // Taken before the first scan, so every change the scans may miss is after it
+        UUID outboxCursor = relay.replayCursor();
+        List<ProductIdRange> ranges = jdbcTemplate.execute(
+                (ConnectionCallback<List<ProductIdRange>>) con -> ProductIdRange.quantiles(con, count, "TRUE"));
+        List<String> boundaries = ranges.stream().skip(1).map(range -> range.lowerInclusive().toString()).toList();
+        plan = new Document("_id", planId).append("rebuildId", rebuildId).append("boundaries", boundaries)
+                .append("outboxCursor", outboxCursor.toString());
+        checkpointCollection().replaceOne(Filters.eq("_id", planId), plan, new ReplaceOptions().upsert(true));
+        return plan;
+    }
+
+    private Map<Integer, Document> loadCheckpoints(String rebuildId) {
+        Map<Integer, Document> checkpoints = new HashMap<>();
+        for (Document checkpoint : checkpointCollection().find(
+                Filters.and(Filters.eq("rebuildId", rebuildId), Filters.exists("range")))) {
+            checkpoints.put(checkpoint.getInteger("range"), checkpoint);
+        }
+        return checkpoints;
+    }
+
+    private void saveCheckpoint(String rebuildId, ProductIdRange range, String lastProductId,
+                                long products, long rejected, boolean completed) {
+        String id = rebuildId + ":" + range.index();
+        Document checkpoint = new Document("_id", id)
+                .append("rebuildId", rebuildId)
+                .append("range", range.index())
+                .append("lastProductId", lastProductId)
+                .append("products", products)
+                .append("rejected", rejected)
+                .append("completed", completed);
+        if (lastProductId == null) {
+            // Keep the last known position when only the completion flag changes
+            Document previous = checkpointCollection().find(Filters.eq("_id", id)).first();
+            checkpoint.put("lastProductId", previous != null ? previous.getString("lastProductId") : null);
+        }
+        checkpointCollection().replaceOne(Filters.eq("_id", id), checkpoint, new ReplaceOptions().upsert(true));
+    }
+
+    private MongoCollection<Document> checkpointCollection() {
+        return mongoTemplate.getCollection(CHECKPOINT_COLLECTION).withWriteConcern(WriteConcern.MAJORITY);
+    }
+
+    private record RangeResult(long products, long rejected) {}
+
+    /**
+     * Tuning for a rebuild run.
+     * @param ranges Target number of product id ranges (units of work and of checkpointing); fewer are used for small tables.
+     * @param parallelism Concurrent ranges, i.e. PostgreSQL connections held by the job.
+     * @param fetchSize Rows per server-side cursor round trip.
+     * @param batchSize Aggregates per bulk write (and per checkpoint).
+     * @param writeConcern Write concern of the shadow collection writes.
+     */
+    public record RebuildOptions(int ranges, int parallelism, int fetchSize, int batchSize, WriteConcern writeConcern) {
+        public RebuildOptions {
+            if (ranges < 1 || parallelism < 1 || fetchSize < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("Rebuild options must be positive");
+            }
+            Objects.requireNonNull(writeConcern, "Write concern cannot be null");
+        }
+
+        public static RebuildOptions defaults() {
+            return new RebuildOptions(64, 4, 1000, 500, WriteConcern.W1);
+        }
+    }
+
+    /**
+     * Summary of a completed rebuild.
+     */
+    public record RebuildReport(String rebuildId, long products, long rejected, Duration elapsed) {}
+}
@@ -0,0 +1,37 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import java.time.Duration;
+
+/**
+ * Throughput summary of a bulk repricing run.
+ * @param products Products scanned (matching business, category and not deleted).
+ * @param variants Variants of the scanned products.
+ * @param repriced Variants whose price was changed (in a dry run: would have been changed).
+ * @param unchanged Variants whose price the rule leaves as it is after rounding.
+ * @param skippedCurrency Variants priced in another currency than the rule's.
+ * @param rejected Variants the rule would give an invalid (negative) price.
+ * @param conflicts Variants whose price changed concurrently between read and write; left untouched.
+ * @param events PRODUCT_REPRICED outbox events written (in a dry run: that would have been written).
+ * @param dryRun Whether the run only computed the new prices.
+ * @param elapsed Wall-clock duration of the run.
+ */
+public record RepricingReport(long products, long variants, long repriced, long unchanged, long skippedCurrency,
+                              long rejected, long conflicts, long events, boolean dryRun, Duration elapsed) {
+
+    public double variantsPerSecond() {
+        return variants / seconds();
+    }
+
+    private double seconds() {
+        // Guard against a zero duration on tiny runs
+        return Math.max(elapsed.toNanos(), 1L) / 1_000_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%d products, %d variants in %d ms (%.1f variants/s): %d repriced, %d unchanged, "
+                        + "%d other currency, %d rejected, %d conflicts, %d events",
+                dryRun ? "[dry run] " : "", products, variants, elapsed.toMillis(), variantsPerSecond(),
+                repriced, unchanged, skippedCurrency, rejected, conflicts, events);
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ScheduledPriceChangeRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.ScheduledPriceChange;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * JDBC store of scheduled price changes. Pending entries are read by effective time through the partial
+ * index on PENDING rows. Every state change is guarded on the expected status: an entry is either cancelled
+ * (PENDING) or claimed for applying (PENDING -> APPLYING), never both, and only a claimed entry is applied
+ * or failed, at most once.
+ */
+@Repository
+public class ScheduledPriceChangeRepositoryImpl implements ScheduledPriceChangeRepository {
+
+    private static final String INSERT_SQL = """
+    INSERT INTO scheduled_price_changes (id, variant_id, new_price, price_precision, currency_code, effective_at, status)
+    VALUES (?, ?, ?, ?, ?, ?, 'PENDING')
+    """;
+
+    private static final String SELECT_PENDING_SQL = """
+    SELECT id, variant_id, new_price, price_precision, currency_code, effective_at
+    FROM scheduled_price_changes
+    WHERE status = 'PENDING' AND effective_at < ?%s
+    ORDER BY effective_at
+    """;
+
+    private static final RowMapper<ScheduledPriceChange> ROW_MAPPER = (rs, rowNum) -> new ScheduledPriceChange(
+            rs.getObject("id", UUID.class),
+            new VariantIdVO(rs.getObject("variant_id", UUID.class).toString()),
+            new PriceVO(rs.getBigDecimal("new_price"), rs.getInt("price_precision"),
+                    Currency.getInstance(rs.getString("currency_code").trim())),
+            rs.getObject("effective_at", OffsetDateTime.class).toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ScheduledPriceChangeRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(ScheduledPriceChange change) {
+        jdbcTemplate.update(INSERT_SQL,
+                change.id(),
+                change.variantId().toUUID(),
+                change.newCurrentPrice().value(),
+                change.newCurrentPrice().precision(),
+                change.newCurrentPrice().currency().getCurrencyCode(),
+                timestamp(change.effectiveAt()));
+    }
+
+    @Override
+    public List<ScheduledPriceChange> findPending(Instant from, Instant until) {
+        if (from == null) {
+            return jdbcTemplate.query(SELECT_PENDING_SQL.formatted(""), ROW_MAPPER, timestamp(until));
+        }
+        return jdbcTemplate.query(SELECT_PENDING_SQL.formatted(" AND effective_at >= ?"), ROW_MAPPER,
+                timestamp(until), timestamp(from));
+    }
+
+    @Override
+    public boolean cancel(UUID id) {
+        return jdbcTemplate.update(
+                "UPDATE scheduled_price_changes SET status = 'CANCELLED' WHERE id = ? AND status = 'PENDING'", id) > 0;
+    }
+
+    @Override
+    public Set<UUID> claim(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        List<UUID> claimed = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "UPDATE scheduled_price_changes SET status = 'APPLYING' WHERE id = ANY(?) AND status = 'PENDING' RETURNING id");
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        }, (rs, rowNum) -> rs.getObject("id", UUID.class));
+        return new HashSet<>(claimed);
+    }
+
+    @Override
+    public void release(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "UPDATE scheduled_price_changes SET status = 'PENDING' WHERE id = ANY(?) AND status = 'APPLYING'");
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        });
+    }
+
+    @Override
+    public void releaseAll() {
+        jdbcTemplate.update("UPDATE scheduled_price_changes SET status = 'PENDING' WHERE status = 'APPLYING'");
+    }
+
+    @Override
+    public void markApplied(Collection<UUID> ids, Instant appliedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        UUID[] idArray = ids.toArray(UUID[]::new);
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "UPDATE scheduled_price_changes SET status = 'APPLIED', applied_at = ? WHERE id = ANY(?) AND status = 'APPLYING'");
+            ps.setObject(1, timestamp(appliedAt));
+            ps.setArray(2, con.createArrayOf("uuid", idArray));
+            return ps;
+        });
+    }
+
+    @Override
+    public void markFailed(Map<UUID, String> reasons) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE scheduled_price_changes SET status = 'FAILED', failure_reason = LEFT(?, 500) WHERE id = ? AND status = 'APPLYING'",
+                reasons.entrySet(), 500, (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setObject(2, entry.getKey());
+                });
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.VariantPricePlanCache;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evicts the plans of changed products from the {@link VariantPricePlanCache}. Tails outbox_messages, so saves,
+ * set-based repricings and hard deletes of every instance are seen; the products of one poll are evicted in one
+ * pass over the cache. See {@link OutboxEventTail} for the cursor handling.
+ */
+@Component
+public class VariantPricePlanCacheInvalidator implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(VariantPricePlanCacheInvalidator.class);
+
+    static final long POLL_MILLIS = 1_000;
+
+    private final VariantPricePlanCache cache;
+    private final OutboxEventTail tail; // Guarded by this
+    private ScheduledExecutorService poller;
+    private volatile boolean running;
+
+    public VariantPricePlanCacheInvalidator(JdbcTemplate jdbcTemplate, VariantPricePlanCache cache) {
+        this(jdbcTemplate, cache, Clock.systemUTC());
+    }
+
+    VariantPricePlanCacheInvalidator(JdbcTemplate jdbcTemplate, VariantPricePlanCache cache, Clock clock) {
+        this.cache = cache;
+        this.tail = new OutboxEventTail(jdbcTemplate, clock);
+    }
+
+    @Override
+    public synchronized void start() {
+        // Plans cached from now on are compiled from current rows; only later events can invalidate them
+        tail.reset();
+        cache.clear();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "price-plan-invalidator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, POLL_MILLIS, POLL_MILLIS, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Evicts the products changed since the last poll. Runs on the poller thread; never throws,
+     * so the schedule keeps running.
+     */
+    synchronized void poll() {
+        try {
+            Set<ProductIdVO> changed = new HashSet<>();
+            tail.poll(event -> handle(event, changed), () -> cache.evictProducts(changed));
+        } catch (RuntimeException e) {
+            logger.error("Price plan invalidation poll failed", e);
+        }
+    }
+
+    private void handle(OutboxEventTail.OutboxEvent event, Set<ProductIdVO> changed) {
+        try {
+            switch (event.type()) {
+                case "PRODUCT_UPDATED", "PRODUCT_REPRICED", "PRODUCT_HARD_DELETED", "ALL_VARIANTS_HARD_DELETED" ->
+                        changed.add(new ProductIdVO(event.aggregateId()));
+                case "VARIANT_HARD_DELETED" -> cache.evict(VariantIdVO.fromString(event.aggregateId()));
+                default -> {
+                    // Status changes do not change prices
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping outbox event {} ({}): {}", event.id(), event.type(), e.getMessage());
+        }
+    }
+}
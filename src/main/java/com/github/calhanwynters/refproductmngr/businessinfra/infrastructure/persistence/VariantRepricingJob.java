@@ -0,0 +1,359 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CategoryVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductRepositoryException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.RepricingRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reprices every variant of a business (optionally restricted to one category) without loading aggregates.
+ * Products are walked in id order, one keyset chunk at a time. The variants of a chunk are repriced in parallel
+ * slices with {@link RepricingRule#apply} (so the same currency guard and rounding as the domain), then written
+ * with a single set-based statement that also inserts one PRODUCT_REPRICED outbox event per changed product.
+ * Each chunk commits on its own. Like every aggregate command a repricing bumps the product's schema_version;
+ * a variant whose product was saved (or whose prices changed) since it was read is left untouched and counted as
+ * a conflict, so the job never overwrites a concurrent edit.
+ * <p>
+ * A run is not idempotent: the guard only covers the window between read and write, and nothing records that a
+ * rule was applied. Rerunning the job (e.g. after a partial failure) applies the rule again to prices already
+ * repriced, so percentage rules compound. Chunks committed before a failure stay repriced; check the written
+ * PRODUCT_REPRICED events before rerunning a failed run.
+ */
+@Component
+public class VariantRepricingJob {
+    private static final Logger logger = LoggerFactory.getLogger(VariantRepricingJob.class);
+
+    // Legacy rows without currency_code are read as USD, like the aggregate assembler does
+    private static final String DEFAULT_CURRENCY = "USD";
+
+    private static final UUID FIRST_PRODUCT_ID = new UUID(0L, 0L);
+
+    /*
+     * One chunk of products (keyset on p.id) with their variants. The LEFT JOIN keeps products without
+     * variants in the result so the keyset always advances past them.
+     */
+    private static final String SELECT_CHUNK_SQL = """
+    WITH chunk AS (
+        SELECT p.id, p.schema_version
+        FROM products p
+        WHERE p.business_id_vo = ? AND NOT p.is_deleted AND p.id > ?%s
+        ORDER BY p.id
+        LIMIT ?
+    )
+    SELECT c.id AS product_id, c.schema_version, v.id AS variant_id, v.base_price, v.current_price, v.currency_code
+    FROM chunk c
+    LEFT JOIN product_variants v ON v.product_id = c.id
+    ORDER BY c.id, v.id
+    """;
+
+    /*
+     * Applies a chunk of price changes. The products are locked first (the same row save() upserts), and the
+     * UPDATE only matches variants whose product is still at the version it was read at and whose prices are
+     * unchanged (optimistic guard). Every product with a repriced variant gets the next schema_version, and the
+     * outbox rows are aggregated from the RETURNING rows, so events are emitted exactly for what was written:
+     * one per product, listing all of its repriced variants, carrying the new version.
+     * The effective price moves by the same delta as the current price (fixed-price features are unchanged).
+     * Event ids are generated by the application (UUIDv7) and passed alongside their product ids.
+     */
+    private static final String APPLY_CHUNK_SQL = """
+    WITH changes AS (
+        SELECT * FROM unnest(?::uuid[], ?::uuid[], ?::int[], ?::numeric[], ?::numeric[], ?::numeric[])
+            AS c(product_id, variant_id, version, old_base_price, old_current_price, new_price)
+    ), locked AS (
+        SELECT p.id, p.schema_version
+        FROM products p
+        WHERE p.id IN (SELECT product_id FROM changes)
+        ORDER BY p.id
+        FOR UPDATE
+    ), updated AS (
+        UPDATE product_variants v
+        SET base_price = c.new_price, current_price = c.new_price,
+            effective_price = v.effective_price - v.current_price + c.new_price
+        FROM changes c
+        JOIN locked l ON l.id = c.product_id
+        WHERE v.id = c.variant_id AND v.product_id = c.product_id
+          AND l.schema_version = c.version
+          AND v.base_price = c.old_base_price AND v.current_price = c.old_current_price
+        RETURNING v.id, v.product_id, c.old_base_price AS old_price, c.new_price, v.currency_code
+    ), bumped AS (
+        UPDATE products p
+        SET schema_version = p.schema_version + 1
+        WHERE p.id IN (SELECT product_id FROM updated)
+        RETURNING p.id, p.schema_version
+    ), events AS (
+        SELECT * FROM unnest(?::uuid[], ?::uuid[]) AS e(product_id, event_id)
+    ), outbox AS (
+        INSERT INTO outbox_messages (id, aggregate_type, aggregate_id, event_type, payload, schema_version, created_at)
+        SELECT e.event_id, 'PRODUCT', u.product_id::text, 'PRODUCT_REPRICED',
+               jsonb_build_object('productId', u.product_id,
+                                  'variants', jsonb_agg(jsonb_build_object(
+                                          'variantId', u.id, 'previousPrice', u.old_price,
+                                          'price', u.new_price, 'currency', u.currency_code) ORDER BY u.id)),
+               b.schema_version, NOW()
+        FROM updated u
+        JOIN events e ON e.product_id = u.product_id
+        JOIN bumped b ON b.id = u.product_id
+        GROUP BY u.product_id, e.event_id, b.schema_version
+        RETURNING id
+    )
+    SELECT (SELECT count(*) FROM updated) AS repriced, (SELECT count(*) FROM outbox) AS events
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VariantRepricingJob(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Runs a repricing.
+     * @param businessId Business whose products are repriced.
+     * @param category Category to restrict the run to, or null for every category of the business.
+     * @param rule Price change; variants in another currency are skipped.
+     * @param options Chunking, parallelism and dry-run switch.
+     * @return Counts and throughput of the run.
+     */
+    public RepricingReport reprice(BusinessIdVO businessId, CategoryVO category, RepricingRule rule, RepricingOptions options) {
+        Objects.requireNonNull(businessId, "Business id cannot be null");
+        Objects.requireNonNull(rule, "Repricing rule cannot be null");
+        Objects.requireNonNull(options, "Repricing options cannot be null");
+
+        long started = System.nanoTime();
+        String selectSql = SELECT_CHUNK_SQL.formatted(category != null ? " AND p.category = ?" : "");
+        UUID business = UUID.fromString(businessId.value());
+        Totals totals = new Totals();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.parallelism());
+        try {
+            UUID after = FIRST_PRODUCT_ID;
+            while (true) {
+                List<VariantPriceRow> rows = readChunk(selectSql, business, category, after, options.productsPerChunk());
+                if (rows.isEmpty()) {
+                    break;
+                }
+                after = rows.getLast().productId();
+
+                ChunkPlan plan = plan(rows, rule, options.parallelism(), workers);
+                totals.add(plan);
+                if (!plan.changes().isEmpty()) {
+                    if (options.dryRun()) {
+                        totals.repriced += plan.changes().size();
+                        totals.events += plan.productCount();
+                    } else {
+                        apply(plan, totals);
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new ProductRepositoryException("Repricing of business " + businessId.value() + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProductRepositoryException("Repricing of business " + businessId.value() + " interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        RepricingReport report = new RepricingReport(totals.products, totals.variants, totals.repriced, totals.unchanged,
+                totals.skippedCurrency, totals.rejected, totals.conflicts, totals.events, options.dryRun(),
+                Duration.ofNanos(System.nanoTime() - started));
+        logger.info("Repricing of business {}{}: {}", businessId.value(),
+                category != null ? " / category " + category.value() : "", report);
+        return report;
+    }
+
+    private List<VariantPriceRow> readChunk(String sql, UUID business, CategoryVO category, UUID after, int limit) {
+        Object[] args = category != null
+                ? new Object[]{business, after, category.value(), limit}
+                : new Object[]{business, after, limit};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new VariantPriceRow(
+                rs.getObject("product_id", UUID.class),
+                rs.getInt("schema_version"),
+                rs.getObject("variant_id", UUID.class),
+                rs.getBigDecimal("base_price"),
+                rs.getBigDecimal("current_price"),
+                rs.getString("currency_code")), args);
+    }
+
+    // Splits the chunk into one slice per worker; the slices only read shared state, so no locking is needed
+    private ChunkPlan plan(List<VariantPriceRow> rows, RepricingRule rule, int parallelism, ExecutorService workers)
+            throws ExecutionException, InterruptedException {
+        int sliceSize = Math.max(1, (rows.size() + parallelism - 1) / parallelism);
+        List<Future<ChunkPlan>> slices = new ArrayList<>(parallelism);
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<VariantPriceRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+            slices.add(workers.submit(() -> planSlice(slice, rule)));
+        }
+
+        ChunkPlan merged = new ChunkPlan();
+        Set<UUID> products = new HashSet<>();
+        for (VariantPriceRow row : rows) {
+            products.add(row.productId());
+        }
+        merged.products = products.size();
+        for (Future<ChunkPlan> slice : slices) {
+            merged.merge(slice.get());
+        }
+        return merged;
+    }
+
+    private static ChunkPlan planSlice(List<VariantPriceRow> rows, RepricingRule rule) {
+        ChunkPlan plan = new ChunkPlan();
+        for (VariantPriceRow row : rows) {
+            if (row.variantId() == null) {
+                continue; // Product without variants
+            }
+            plan.variants++;
+            Currency currency = Currency.getInstance(row.currencyCode() != null ? row.currencyCode().trim() : DEFAULT_CURRENCY);
+            if (!rule.appliesTo(currency)) {
+                plan.skippedCurrency++;
+                continue;
+            }
+            BigDecimal newPrice;
+            try {
+                newPrice = rule.apply(new PriceVO(row.basePrice(), PriceVO.defaultPrecision(currency), currency)).value();
+            } catch (IllegalArgumentException e) {
+                plan.rejected++;
+                continue;
+            }
+            if (newPrice.compareTo(row.basePrice()) == 0) {
+                plan.unchanged++;
+            } else {
+                plan.changes.add(new PriceChange(row.productId(), row.version(), row.variantId(),
+                        row.basePrice(), row.currentPrice(), newPrice));
+            }
+        }
+        return plan;
+    }
+
+    private void apply(ChunkPlan plan, Totals totals) {
+        List<PriceChange> changes = plan.changes();
+        UUID[] changeProductIds = new UUID[changes.size()];
+        UUID[] variantIds = new UUID[changes.size()];
+        Integer[] versions = new Integer[changes.size()];
+        BigDecimal[] oldBasePrices = new BigDecimal[changes.size()];
+        BigDecimal[] oldCurrentPrices = new BigDecimal[changes.size()];
+        BigDecimal[] newPrices = new BigDecimal[changes.size()];
+        Set<UUID> changedProducts = new LinkedHashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            PriceChange change = changes.get(i);
+            changeProductIds[i] = change.productId();
+            variantIds[i] = change.variantId();
+            versions[i] = change.version();
+            oldBasePrices[i] = change.oldBasePrice();
+            oldCurrentPrices[i] = change.oldCurrentPrice();
+            newPrices[i] = change.newPrice();
+            changedProducts.add(change.productId());
+        }
+        UUID[] productIds = changedProducts.toArray(UUID[]::new);
+        UUID[] eventIds = new UUID[productIds.length];
+        for (int i = 0; i < eventIds.length; i++) {
+            eventIds[i] = UuidV7Generator.next();
+        }
+
+        List<long[]> result = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(APPLY_CHUNK_SQL);
+            ps.setArray(1, con.createArrayOf("uuid", changeProductIds));
+            ps.setArray(2, con.createArrayOf("uuid", variantIds));
+            ps.setArray(3, con.createArrayOf("integer", versions));
+            ps.setArray(4, con.createArrayOf("numeric", oldBasePrices));
+            ps.setArray(5, con.createArrayOf("numeric", oldCurrentPrices));
+            ps.setArray(6, con.createArrayOf("numeric", newPrices));
+            ps.setArray(7, con.createArrayOf("uuid", productIds));
+            ps.setArray(8, con.createArrayOf("uuid", eventIds));
+            return ps;
+        }, (rs, rowNum) -> new long[]{rs.getLong("repriced"), rs.getLong("events")});
+
+        long repriced = result.getFirst()[0];
+        totals.repriced += repriced;
+        totals.events += result.getFirst()[1];
+        totals.conflicts += changes.size() - repriced;
+    }
+
+    private record VariantPriceRow(UUID productId, int version, UUID variantId, BigDecimal basePrice,
+                                   BigDecimal currentPrice, String currencyCode) {}
+
+    private record PriceChange(UUID productId, int version, UUID variantId, BigDecimal oldBasePrice,
+                               BigDecimal oldCurrentPrice, BigDecimal newPrice) {}
+
+    // Result of pricing one chunk (or one slice of it); mutated only by the thread that owns it
+    private static final class ChunkPlan {
+        private final List<PriceChange> changes = new ArrayList<>();
+        private long products;
+        private long variants;
+        private long unchanged;
+        private long skippedCurrency;
+        private long rejected;
+
+        List<PriceChange> changes() {
+            return changes;
+        }
+
+        long productCount() {
+            return changes.stream().map(PriceChange::productId).distinct().count();
+        }
+
+        void merge(ChunkPlan slice) {
+            changes.addAll(slice.changes);
+            variants += slice.variants;
+            unchanged += slice.unchanged;
+            skippedCurrency += slice.skippedCurrency;
+            rejected += slice.rejected;
+        }
+    }
+
+    private static final class Totals {
+        private long products;
+        private long variants;
+        private long repriced;
+        private long unchanged;
+        private long skippedCurrency;
+        private long rejected;
+        private long conflicts;
+        private long events;
+
+        void add(ChunkPlan plan) {
+            products += plan.products;
+            variants += plan.variants;
+            unchanged += plan.unchanged;
+            skippedCurrency += plan.skippedCurrency;
+            rejected += plan.rejected;
+        }
+    }
+
+    /**
+     * Tuning for a repricing run.
+     * @param productsPerChunk Products read, priced and written per statement pair (and per transaction).
+     * @param parallelism Worker threads pricing the slices of a chunk.
+     * @param dryRun Compute and report the new prices without writing anything.
+     */
+    public record RepricingOptions(int productsPerChunk, int parallelism, boolean dryRun) {
+        public RepricingOptions {
+            if (productsPerChunk < 1 || parallelism < 1) {
+                throw new IllegalArgumentException("Repricing options must be positive");
+            }
+        }
+
+        public static RepricingOptions defaults() {
+            return new RepricingOptions(500, 4, false);
+        }
+
+        public RepricingOptions asDryRun() {
+            return new RepricingOptions(productsPerChunk, parallelism, true);
+        }
+    }
+}
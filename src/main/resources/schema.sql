@@ -0,0 +1,94 @@
+-- Reference DDL for the PostgreSQL write model used by ProductCommandRepositoryImpl.
+-- Not applied automatically: spring.sql.init.mode only runs scripts for embedded databases by default.
+
+CREATE TABLE IF NOT EXISTS products (
+    id              UUID PRIMARY KEY,
+    business_id_vo  UUID          NOT NULL,
+    category        VARCHAR(100)  NOT NULL,
+    description     VARCHAR(2000) NOT NULL,
+    is_deleted      BOOLEAN       NOT NULL DEFAULT FALSE,
+    schema_version  INTEGER       NOT NULL
+);
+
+-- Ordered gallery of each product (GalleryVO), required to reconstruct aggregates
+CREATE TABLE IF NOT EXISTS product_images (
+    product_id  UUID          NOT NULL REFERENCES products (id) ON DELETE CASCADE,
+    position    INTEGER       NOT NULL,
+    url         VARCHAR(2048) NOT NULL,
+    PRIMARY KEY (product_id, position)
+);
+
+CREATE TABLE IF NOT EXISTS product_variants (
+    id                 UUID PRIMARY KEY,
+    product_id         UUID           NOT NULL REFERENCES products (id) ON DELETE CASCADE,
+    sku                VARCHAR(50)    NOT NULL,
+    status             VARCHAR(20)    NOT NULL,
+    base_price         NUMERIC(19, 4) NOT NULL,
+    current_price      NUMERIC(19, 4) NOT NULL,
+    currency_code      CHAR(3),
+    weight_amount      NUMERIC(19, 4) NOT NULL,
+    weight_unit        VARCHAR(20)    NOT NULL,
+    care_instructions  VARCHAR(500)   NOT NULL,
+    effective_price    NUMERIC(19, 4)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_variants_product_id ON product_variants (product_id);
+
+CREATE TABLE IF NOT EXISTS features (
+    id            UUID PRIMARY KEY,
+    name          VARCHAR(100)  NOT NULL,
+    label         VARCHAR(100)  NOT NULL,
+    description   VARCHAR(2000),
+    is_unique     BOOLEAN       NOT NULL,
+    feature_type  VARCHAR(20)   NOT NULL,
+    attributes    JSONB
+);
+
+CREATE TABLE IF NOT EXISTS variant_features (
+    variant_id  UUID NOT NULL REFERENCES product_variants (id) ON DELETE CASCADE,
+    feature_id  UUID NOT NULL REFERENCES features (id),
+    PRIMARY KEY (variant_id, feature_id)
+);
+
+-- Materialized VariantEntity.effectivePrice(): current_price plus the variant's fixed-price features.
+-- Written by ProductCommandRepositoryImpl; the index serves price-range and cheapest-first scans per currency.
+-- The category lives on products, so "cheapest N in a category" is served by the read model's
+-- (businessIdVO, category, minEffectivePrice) index, not by this one.
+ALTER TABLE product_variants ADD COLUMN IF NOT EXISTS effective_price NUMERIC(19, 4);
+
+UPDATE product_variants v
+SET effective_price = v.current_price + COALESCE((
+        SELECT sum((f.attributes ->> 'fixedPrice')::numeric)
+        FROM variant_features vf
+        JOIN features f ON f.id = vf.feature_id
+        WHERE vf.variant_id = v.id AND f.feature_type = 'FIXED_PRICE'), 0)
+WHERE v.effective_price IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_product_variants_effective_price
+    ON product_variants (currency_code, effective_price) INCLUDE (product_id, status);
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id              UUID PRIMARY KEY,
+    aggregate_type  VARCHAR(50)  NOT NULL,
+    aggregate_id    VARCHAR(36)  NOT NULL,
+    event_type      VARCHAR(50)  NOT NULL,
+    payload         JSONB        NOT NULL,
+    schema_version  INTEGER,
+    created_at      TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+-- Future current prices (promotions); PENDING rows are reloaded window by window through the partial index
+CREATE TABLE IF NOT EXISTS scheduled_price_changes (
+    id               UUID PRIMARY KEY,
+    variant_id       UUID           NOT NULL REFERENCES product_variants (id) ON DELETE CASCADE,
+    new_price        NUMERIC(19, 4) NOT NULL,
+    price_precision  INTEGER        NOT NULL,
+    currency_code    CHAR(3)        NOT NULL,
+    effective_at     TIMESTAMPTZ    NOT NULL,
+    status           VARCHAR(20)    NOT NULL DEFAULT 'PENDING',
+    failure_reason   VARCHAR(500),
+    created_at       TIMESTAMPTZ    NOT NULL DEFAULT NOW(),
+    applied_at       TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_scheduled_price_changes_pending ON scheduled_price_changes (effective_at) WHERE status = 'PENDING';
@@ -0,0 +1,86 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("A timer fires at the first tick at or after its deadline, never before")
+    void schedule_FiresAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 4, 1_000);
+        wheel.schedule(1_250, "promo");
+
+        assertTrue(wheel.advanceTo(1_200).isEmpty());
+        assertTrue(wheel.advanceTo(1_299).isEmpty());
+        assertEquals(List.of("promo"), wheel.advanceTo(1_300));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A deadline already in the past fires on the next advance")
+    void schedule_PastDeadline_FiresImmediately() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 4, 10_000);
+        wheel.schedule(5_000, "overdue");
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("overdue"), wheel.advanceTo(10_000));
+    }
+
+    @Test
+    @DisplayName("Timers on every level and in the overflow fire exactly once, at the first advance past their deadline")
+    void advanceTo_MatchesReferenceAcrossLevels() {
+        // 1 ms ticks and 2 levels: 4096 ms horizon, so later deadlines go through the overflow list
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 2, 0);
+        Random random = new Random(42);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = random.nextInt(20_000);
+            deadlines.put(i, deadline);
+            wheel.schedule(deadline, i);
+        }
+
+        long now = 0;
+        List<Integer> fired = new ArrayList<>();
+        while (now < 20_000) {
+            long previous = now;
+            now += 1 + random.nextInt(300);
+            for (Integer id : wheel.advanceTo(now)) {
+                long deadline = deadlines.get(id);
+                assertTrue(deadline <= now && deadline > previous, "timer " + id + " fired late or early");
+                fired.add(id);
+            }
+            // New timers keep arriving while the wheel turns
+            if (fired.size() % 7 == 0) {
+                int id = deadlines.size();
+                long deadline = now + 1 + random.nextInt(5_000);
+                deadlines.put(id, deadline);
+                wheel.schedule(deadline, id);
+            }
+        }
+        fired.addAll(wheel.advanceTo(Long.MAX_VALUE / 2));
+
+        assertEquals(deadlines.size(), fired.size());
+        assertEquals(deadlines.keySet(), new HashSet<>(fired));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Idle stretches are skipped in one step")
+    void advanceTo_IdleWheel_JumpsAhead() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 4, 0);
+        assertTrue(wheel.advanceTo(Long.MAX_VALUE / 4).isEmpty());
+
+        wheel.schedule(Long.MAX_VALUE / 4 + 10, "later");
+        assertEquals(List.of("later"), wheel.advanceTo(Long.MAX_VALUE / 4 + 10));
+    }
+}
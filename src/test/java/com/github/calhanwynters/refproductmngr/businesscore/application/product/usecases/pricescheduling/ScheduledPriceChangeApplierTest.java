@@ -0,0 +1,174 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.pricescheduling;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ScheduledPriceChangeRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductVersionConflictException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ScheduledPriceChangeApplierTest {
+
+    private static final Instant NOW = Instant.parse("2026-11-27T00:00:00Z");
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private ProductCommandRepository productRepository;
+    private ScheduledPriceChangeRepository scheduleRepository;
+    private ScheduledPriceChangeApplier applier;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductCommandRepository.class);
+        scheduleRepository = mock(ScheduledPriceChangeRepository.class);
+        applier = new ScheduledPriceChangeApplier(productRepository, scheduleRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+        // Every entry is still PENDING unless a test says otherwise
+        when(scheduleRepository.claim(anyCollection())).thenAnswer(invocation -> new HashSet<UUID>(invocation.getArgument(0)));
+    }
+
+    private static PriceVO usd(String value) {
+        return new PriceVO(new BigDecimal(value), 2, USD);
+    }
+
+    private static VariantEntity variant(String sku) {
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO(sku), usd("20.00"), usd("20.00"), Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM),
+                VariantStatusEnums.ACTIVE);
+    }
+
+    private static ProductAggregate product(VariantEntity... variants) {
+        return new ProductAggregate(ProductIdVO.generate(), new BusinessIdVO("B456"), new CategoryVO("C789"),
+                new DescriptionVO("Initial Description"), new GalleryVO(List.of(new ImageUrlVO("https://example.com/image.jpg"))),
+                Set.of(variants), new VersionVO(0), false);
+    }
+
+    @Test
+    @DisplayName("Due changes are grouped per product: the latest entry per variant wins and each product is saved once")
+    @SuppressWarnings("unchecked")
+    void apply_GroupsPerProduct() {
+        VariantEntity shirt = variant("SHIRT-1");
+        VariantEntity socks = variant("SOCKS-1");
+        ScheduledPriceChange early = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(), usd("15.00"), NOW.minusSeconds(60));
+        ScheduledPriceChange late = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(), usd("12.00"), NOW.minusSeconds(1));
+        ScheduledPriceChange sale = new ScheduledPriceChange(UUID.randomUUID(), socks.id(), usd("5.00"), NOW);
+        when(productRepository.findAllByVariantIds(anyCollection())).thenReturn(List.of(product(shirt, socks)));
+
+        List<ScheduledPriceChange> retry = applier.apply(List.of(late, sale, early));
+
+        assertTrue(retry.isEmpty());
+        ArgumentCaptor<Collection<ProductAggregate>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(productRepository, times(1)).saveAll(saved.capture());
+        Map<VariantIdVO, PriceVO> prices = new HashMap<>();
+        saved.getValue().iterator().next().variants().forEach(v -> prices.put(v.id(), v.currentPrice()));
+        assertEquals(usd("12.00"), prices.get(shirt.id()));
+        assertEquals(usd("5.00"), prices.get(socks.id()));
+
+        ArgumentCaptor<Collection<UUID>> applied = ArgumentCaptor.forClass(Collection.class);
+        verify(scheduleRepository).markApplied(applied.capture(), eq(NOW));
+        assertEquals(Set.of(early.id(), late.id(), sale.id()), new HashSet<>(applied.getValue()));
+        verify(scheduleRepository, never()).markFailed(any());
+    }
+
+    @Test
+    @DisplayName("Unknown variants and currency changes fail without holding back the other entries")
+    @SuppressWarnings("unchecked")
+    void apply_InvalidEntries_AreMarkedFailed() {
+        VariantEntity shirt = variant("SHIRT-1");
+        VariantEntity socks = variant("SOCKS-1");
+        ScheduledPriceChange euro = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(),
+                new PriceVO(new BigDecimal("10.00"), 2, Currency.getInstance("EUR")), NOW);
+        ScheduledPriceChange valid = new ScheduledPriceChange(UUID.randomUUID(), socks.id(), usd("5.00"), NOW);
+        ScheduledPriceChange orphan = new ScheduledPriceChange(UUID.randomUUID(), VariantIdVO.generate(), usd("1.00"), NOW);
+        when(productRepository.findAllByVariantIds(anyCollection())).thenReturn(List.of(product(shirt, socks)));
+
+        applier.apply(List.of(euro, valid, orphan));
+
+        verify(scheduleRepository).markApplied(eq(List.of(valid.id())), eq(NOW));
+        ArgumentCaptor<Map<UUID, String>> failed = ArgumentCaptor.forClass(Map.class);
+        verify(scheduleRepository).markFailed(failed.capture());
+        assertEquals("Cannot change price currency on an existing variant.", failed.getValue().get(euro.id()));
+        assertEquals("Variant not found", failed.getValue().get(orphan.id()));
+    }
+
+    @Test
+    @DisplayName("Entries of a product that cannot be saved stay pending and are handed back for a retry")
+    void apply_SaveFailure_ReturnsEntriesForRetry() {
+        VariantEntity shirt = variant("SHIRT-1");
+        ScheduledPriceChange change = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(), usd("15.00"), NOW);
+        when(productRepository.findAllByVariantIds(anyCollection())).thenReturn(List.of(product(shirt)));
+        doThrow(new IllegalStateException("connection reset")).when(productRepository).saveAll(anyCollection());
+        doThrow(new IllegalStateException("connection reset")).when(productRepository).save(any());
+
+        assertEquals(List.of(change), applier.apply(List.of(change)));
+        verify(scheduleRepository, never()).markApplied(any(), any());
+        verify(scheduleRepository).release(List.of(change.id()));
+    }
+
+    @Test
+    @DisplayName("An entry cancelled after it was collected is not claimed and therefore never applied")
+    void apply_CancelledEntry_IsSkipped() {
+        VariantEntity shirt = variant("SHIRT-1");
+        ScheduledPriceChange cancelled = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(), usd("15.00"), NOW);
+        when(scheduleRepository.claim(anyCollection())).thenReturn(Set.of());
+
+        assertTrue(applier.apply(List.of(cancelled)).isEmpty());
+        verify(productRepository, never()).findAllByVariantIds(anyCollection());
+        verify(productRepository, never()).saveAll(anyCollection());
+        verify(scheduleRepository, never()).markApplied(any(), any());
+    }
+
+    @Test
+    @DisplayName("A product changed concurrently is not overwritten; its entries are retried against the reloaded product")
+    void apply_VersionConflict_RetriesWithoutSaving() {
+        VariantEntity shirt = variant("SHIRT-1");
+        ProductAggregate product = product(shirt);
+        ScheduledPriceChange change = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(), usd("15.00"), NOW);
+        when(productRepository.findAllByVariantIds(anyCollection())).thenReturn(List.of(product));
+        doThrow(new ProductVersionConflictException(List.of(product.id()))).when(productRepository).saveAll(anyCollection());
+
+        assertEquals(List.of(change), applier.apply(List.of(change)));
+        verify(productRepository, never()).save(any());
+        verify(scheduleRepository).release(List.of(change.id()));
+    }
+
+    @Test
+    @DisplayName("A run that fails half-way releases every claimed entry not yet marked, so none is stuck in APPLYING")
+    void apply_UnexpectedFailure_ReleasesUnsettledClaims() {
+        VariantEntity shirt = variant("SHIRT-1");
+        ScheduledPriceChange change = new ScheduledPriceChange(UUID.randomUUID(), shirt.id(), usd("15.00"), NOW);
+        ScheduledPriceChange orphan = new ScheduledPriceChange(UUID.randomUUID(), VariantIdVO.generate(), usd("1.00"), NOW);
+        when(productRepository.findAllByVariantIds(anyCollection())).thenReturn(List.of(product(shirt)));
+        doThrow(new IllegalStateException("connection reset")).when(scheduleRepository).markFailed(any());
+
+        assertThrows(IllegalStateException.class, () -> applier.apply(List.of(change, orphan)));
+        // The saved entry was marked applied before the failure; only the unmarked one goes back to PENDING
+        verify(scheduleRepository).markApplied(eq(List.of(change.id())), eq(NOW));
+        verify(scheduleRepository).release(Set.of(orphan.id()));
+    }
+
+    @Test
+    @DisplayName("A failed load releases all claimed entries")
+    void apply_LoadFailure_ReleasesAllClaims() {
+        ScheduledPriceChange first = new ScheduledPriceChange(UUID.randomUUID(), VariantIdVO.generate(), usd("15.00"), NOW);
+        ScheduledPriceChange second = new ScheduledPriceChange(UUID.randomUUID(), VariantIdVO.generate(), usd("5.00"), NOW);
+        when(productRepository.findAllByVariantIds(anyCollection())).thenThrow(new IllegalStateException("connection reset"));
+
+        assertThrows(IllegalStateException.class, () -> applier.apply(List.of(first, second)));
+        verify(productRepository, never()).saveAll(anyCollection());
+        verify(scheduleRepository, never()).markApplied(any(), any());
+        verify(scheduleRepository).release(Set.of(first.id(), second.id()));
+    }
+}
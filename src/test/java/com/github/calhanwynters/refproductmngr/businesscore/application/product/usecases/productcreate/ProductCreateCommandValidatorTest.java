@@ -0,0 +1,69 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productcreate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.FeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.FixedPriceFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.dto.ScalingPriceFeatureDTO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationError;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCreateCommandValidatorTest {
+
+    private static final String BUSINESS_ID = UUID.randomUUID().toString().toUpperCase(Locale.ROOT);
+
+    @Test
+    @DisplayName("A valid command passes and is accepted by the assembler")
+    void validate_ValidCommand_IsAcceptedByAssembler() {
+        ProductCreateCommand command = command("SKU-1", "USD", List.of("https://cdn.example.com/a.jpg"),
+                Set.of(new FixedPriceFeatureDTO(null, "Warranty", "Warranty", null, false, new BigDecimal("5.00"))));
+
+        ValidationResult result = ProductCreateCommandValidator.validate(command);
+
+        assertTrue(result.isValid(), result.summary());
+        assertDoesNotThrow(() -> ProductCreateAssembler.toAggregate(command));
+    }
+
+    @Test
+    @DisplayName("Every broken rule is reported in one pass with its field path")
+    void validate_InvalidCommand_ReportsAllErrors() {
+        ProductCreateCommand command = command("BAD SKU!", "XYZ", List.of("ftp://cdn.example.com/a.jpg"),
+                Set.of(new ScalingPriceFeatureDTO(null, "Length", "Length", null, false, "m@", new BigDecimal("-1"), BigDecimal.ONE, 10)));
+
+        ValidationResult result = ProductCreateCommandValidator.validate(command);
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("imageUrls[0]", "initialVariantSku", "currencyCode", "features[0].unit", "features[0].baseAmount"),
+                result.errors().stream().map(ValidationError::field).toList());
+        assertEquals("Invalid URL scheme; must start with http or https.", result.errors().getFirst().message());
+        assertEquals(ValidationError.UNKNOWN_VALUE, result.errors().get(2).code());
+    }
+
+    @Test
+    @DisplayName("Bulk validation keeps the input order")
+    void validateAll_PreservesOrder() {
+        List<ProductCreateCommand> commands = List.of(
+                command("SKU-1", "USD", List.of("https://cdn.example.com/a.jpg"), Set.of()),
+                command("SKU-2", "USD", List.of(), Set.of()),
+                command("SKU-3", "EUR", List.of("https://cdn.example.com/c.jpg"), Set.of()));
+
+        List<ValidationResult> results = ProductCreateCommandValidator.validateAll(commands);
+
+        assertEquals(List.of(true, false, true), results.stream().map(ValidationResult::isValid).toList());
+        assertEquals(ValidationError.TOO_SHORT, results.get(1).errors().getFirst().code());
+    }
+
+    private static ProductCreateCommand command(String sku, String currency, List<String> imageUrls,
+                                               Set<FeatureDTO> features) {
+        return new ProductCreateCommand(BUSINESS_ID, "Electronics", "Portable gadget for travel", imageUrls,
+                sku, new BigDecimal("19.99"), currency, new BigDecimal("0.25"), "KILOGRAM", features);
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productimport;
+
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.productimport.ProductImportService.ImportOptions;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProductImportServiceTest {
+
+    private static final String BUSINESS_ID = UUID.randomUUID().toString().toUpperCase(Locale.ROOT);
+
+    @TempDir
+    Path dir;
+
+    private ProductCommandRepository repository;
+    private ProductImportService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProductCommandRepository.class);
+        service = new ProductImportService(repository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Valid CSV rows are persisted in batches while invalid rows go to the reject file")
+    @SuppressWarnings("unchecked")
+    void importFile_Csv_RejectsInvalidRowsWithoutAborting() throws Exception {
+        Path source = Files.writeString(dir.resolve("catalog.csv"), String.join("\n",
+                "business_id,category,description,image_urls,sku,price,currency_code,weight_value,weight_unit",
+                csvRow("SKU-1", "10.00", "USD"),
+                csvRow("SKU-2", "12.50", "USD"),
+                csvRow("SKU-3", "not-a-price", "USD"),
+                "too,few,columns",
+                csvRow("SKU-4", "9.99", "XXXX"),
+                csvRow("SKU-5", "20.00", "EUR")));
+        Path rejects = dir.resolve("rejects.tsv");
+
+        ProductImportReport report = service.importFile(source, ImportFormat.CSV, rejects, new ImportOptions(2, 3, 2));
+
+        assertEquals(6, report.read());
+        assertEquals(3, report.imported());
+        assertEquals(3, report.rejected());
+
+        ArgumentCaptor<Collection<ProductAggregate>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(2)).saveAll(batches.capture());
+        assertEquals(3, batches.getAllValues().stream().mapToInt(Collection::size).sum());
+
+        List<String> rejectLines = Files.readAllLines(rejects);
+        assertEquals(3, rejectLines.size());
+        assertEquals(List.of("4", "5", "6"), rejectLines.stream().map(l -> l.substring(0, l.indexOf('\t'))).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("A failed batch is retried record by record so only the offending record is rejected")
+    void importFile_BatchFailure_FallsBackToSingleSaves() throws Exception {
+        Path source = Files.writeString(dir.resolve("catalog.ndjson"), String.join("\n",
+                jsonRow("SKU-A"), jsonRow("SKU-B")));
+        Path rejects = dir.resolve("rejects.tsv");
+        doThrow(new IllegalStateException("constraint violation")).when(repository).saveAll(anyCollection());
+        doThrow(new IllegalStateException("duplicate sku")).doNothing().when(repository).save(any());
+
+        ProductImportReport report = service.importFile(source, ImportFormat.NDJSON, rejects, new ImportOptions(4, 1, 10));
+
+        assertEquals(2, report.read());
+        assertEquals(1, report.imported());
+        assertEquals(1, report.rejected());
+        verify(repository, times(2)).save(any());
+        assertTrue(Files.readString(rejects).contains("Persistence failed: duplicate sku"));
+    }
+
+    @Test
+    @DisplayName("An unexpected error in a stage fails the run instead of leaving the persist stage waiting")
+    void importFile_StageError_FailsTheRun() throws Exception {
+        Path source = Files.writeString(dir.resolve("catalog.ndjson"), String.join("\n",
+                jsonRow("SKU-A"), jsonRow("SKU-B"), jsonRow("SKU-C")));
+        ObjectMapper failingMapper = new ObjectMapper() {
+            @Override
+            protected ObjectReader _newReader(DeserializationConfig config) {
+                return new ObjectReader(this, config) {
+                    @Override
+                    public JsonNode readTree(String content) {
+                        throw new LinkageError("simulated parser failure");
+                    }
+                };
+            }
+        };
+        ProductImportService failing = new ProductImportService(repository, failingMapper);
+
+        IllegalStateException e = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(IllegalStateException.class,
+                () -> failing.importFile(source, ImportFormat.NDJSON, dir.resolve("rejects.tsv"), new ImportOptions(1, 2, 10))));
+
+        assertInstanceOf(LinkageError.class, e.getCause());
+        verify(repository, never()).saveAll(anyCollection());
+    }
+
+    private static String csvRow(String sku, String price, String currency) {
+        return String.join(",", BUSINESS_ID, "Electronics", "\"Compact, durable gadget\"",
+                "https://cdn.example.com/a.jpg|https://cdn.example.com/b.jpg", sku, price, currency, "1.5", "KILOGRAM");
+    }
+
+    private static String jsonRow(String sku) {
+        return """
+                {"businessId":"%s","category":"Electronics","description":"Portable gadget for travel","imageUrls":["https://cdn.example.com/a.jpg"],\
+                "initialVariantSku":"%s","initialPrice":19.99,"currencyCode":"USD","weightValue":0.25,"weightUnit":"KILOGRAM",\
+                "features":[{"type":"FIXED_PRICE","name":"Warranty","label":"Warranty","fixedPrice":5.00}]}"""
+                .formatted(BUSINESS_ID, sku);
+    }
+}
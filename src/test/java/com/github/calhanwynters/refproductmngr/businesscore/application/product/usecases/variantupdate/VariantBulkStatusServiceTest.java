@@ -0,0 +1,166 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate.VariantStatusOutcome.Result;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductVersionConflictException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class VariantBulkStatusServiceTest {
+
+    private ProductCommandRepository repository;
+    private VariantBulkStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProductCommandRepository.class);
+        service = new VariantBulkStatusService(repository);
+    }
+
+    private static VariantEntity variant(String sku, VariantStatusEnums status) {
+        PriceVO price = new PriceVO(new BigDecimal("10.00"), 2, Currency.getInstance("USD"));
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO(sku), price, price, Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM), status);
+    }
+
+    private static ProductAggregate product(GalleryVO gallery, VariantEntity... variants) {
+        return new ProductAggregate(ProductIdVO.generate(), new BusinessIdVO("B456"), new CategoryVO("C789"),
+                new DescriptionVO("Initial Description"), gallery, Set.of(variants), new VersionVO(0), false);
+    }
+
+    private static GalleryVO gallery() {
+        return new GalleryVO(List.of(new ImageUrlVO("https://example.com/image.jpg")));
+    }
+
+    private static Map<String, Result> results(VariantBulkStatusReport report) {
+        Map<String, Result> results = new LinkedHashMap<>();
+        report.outcomes().forEach(o -> results.put(o.variantId(), o.result()));
+        return results;
+    }
+
+    @Test
+    @DisplayName("Variants are grouped by product: each product is loaded and saved once even across batches")
+    @SuppressWarnings("unchecked")
+    void transition_GroupsVariantsByProduct() {
+        VariantEntity a1 = variant("A-1", VariantStatusEnums.ACTIVE);
+        VariantEntity a2 = variant("A-2", VariantStatusEnums.ACTIVE);
+        VariantEntity b1 = variant("B-1", VariantStatusEnums.DISCONTINUED);
+        ProductAggregate productA = product(gallery(), a1, a2);
+        ProductAggregate productB = product(gallery(), b1);
+        String missing = VariantIdVO.generate().value();
+        when(repository.findAllByVariantIds(anyCollection())).thenReturn(List.of(productA, productB));
+
+        // Batch size 2: a2 is queued in the second batch but belongs to a product loaded by the first
+        VariantBulkStatusReport report = service.transition(new VariantBulkStatusCommand(
+                List.of(a1.id().value(), b1.id().value(), a2.id().value(), missing, "not-a-uuid"),
+                VariantStatusEnums.DISCONTINUED), 2);
+
+        assertEquals(List.of(Result.UPDATED, Result.UNCHANGED, Result.UPDATED, Result.NOT_FOUND, Result.REJECTED),
+                List.copyOf(results(report).values()));
+        assertEquals(1, report.products());
+
+        ArgumentCaptor<Collection<ProductAggregate>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(1)).saveAll(saved.capture());
+        ProductAggregate savedProduct = saved.getValue().iterator().next();
+        assertEquals(productA.id(), savedProduct.id());
+        assertTrue(savedProduct.variants().stream().allMatch(v -> v.status() == VariantStatusEnums.DISCONTINUED));
+    }
+
+    @Test
+    @DisplayName("Activation on a product without images is rejected for that product only")
+    void transition_ActivationWithoutImages_IsRejected() {
+        GalleryVO emptyGallery = mock(GalleryVO.class);
+        when(emptyGallery.images()).thenReturn(List.of());
+        VariantEntity withoutImages = variant("A-1", VariantStatusEnums.DRAFT);
+        VariantEntity withImages = variant("B-1", VariantStatusEnums.DRAFT);
+        when(repository.findAllByVariantIds(anyCollection()))
+                .thenReturn(List.of(product(emptyGallery, withoutImages), product(gallery(), withImages)));
+
+        VariantBulkStatusReport report = service.transition(new VariantBulkStatusCommand(
+                List.of(withoutImages.id().value(), withImages.id().value()), VariantStatusEnums.ACTIVE));
+
+        VariantStatusOutcome rejected = report.outcomes().getFirst();
+        assertEquals(Result.REJECTED, rejected.result());
+        assertEquals("Cannot activate a variant for a product with no images", rejected.reason());
+        assertEquals(Result.UPDATED, report.outcomes().get(1).result());
+        assertEquals(1, report.count(Result.UPDATED));
+    }
+
+    @Test
+    @DisplayName("A refused variant is rejected alone; the other variants of its product are still changed")
+    @SuppressWarnings("unchecked")
+    void transition_DiscontinuedVariant_DoesNotBlockItsProduct() {
+        VariantEntity discontinued = variant("A-1", VariantStatusEnums.DISCONTINUED);
+        VariantEntity draft = variant("A-2", VariantStatusEnums.DRAFT);
+        when(repository.findAllByVariantIds(anyCollection())).thenReturn(List.of(product(gallery(), discontinued, draft)));
+
+        VariantBulkStatusReport report = service.transition(new VariantBulkStatusCommand(
+                List.of(discontinued.id().value(), draft.id().value()), VariantStatusEnums.ACTIVE));
+
+        VariantStatusOutcome rejected = report.outcomes().getFirst();
+        assertEquals(Result.REJECTED, rejected.result());
+        assertEquals("Cannot activate a discontinued variant.", rejected.reason());
+        assertEquals(Result.UPDATED, report.outcomes().get(1).result());
+
+        ArgumentCaptor<Collection<ProductAggregate>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(repository).saveAll(saved.capture());
+        Map<VariantIdVO, VariantStatusEnums> statuses = new HashMap<>();
+        saved.getValue().iterator().next().variants().forEach(v -> statuses.put(v.id(), v.status()));
+        assertEquals(VariantStatusEnums.DISCONTINUED, statuses.get(discontinued.id()));
+        assertEquals(VariantStatusEnums.ACTIVE, statuses.get(draft.id()));
+    }
+
+    @Test
+    @DisplayName("A failed batch save is retried product by product so only the offending product fails")
+    void transition_BatchFailure_FallsBackToSingleSaves() {
+        VariantEntity a1 = variant("A-1", VariantStatusEnums.ACTIVE);
+        VariantEntity b1 = variant("B-1", VariantStatusEnums.ACTIVE);
+        ProductAggregate productA = product(gallery(), a1);
+        ProductAggregate productB = product(gallery(), b1);
+        when(repository.findAllByVariantIds(anyCollection())).thenReturn(List.of(productA, productB));
+        doThrow(new IllegalStateException("deadlock detected")).when(repository).saveAll(anyCollection());
+        doThrow(new IllegalStateException("constraint violation"))
+                .when(repository).save(argThat(p -> p.id().equals(productA.id())));
+
+        VariantBulkStatusReport report = service.transition(new VariantBulkStatusCommand(
+                List.of(a1.id().value(), b1.id().value()), VariantStatusEnums.INACTIVE));
+
+        assertEquals(Result.FAILED, report.outcomes().get(0).result());
+        assertEquals("constraint violation", report.outcomes().get(0).reason());
+        assertEquals(Result.UPDATED, report.outcomes().get(1).result());
+        assertEquals(1, report.products());
+        verify(repository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("A product changed concurrently is reported as a conflict and never re-saved over the newer version")
+    void transition_VersionConflict_IsReportedNotClobbered() {
+        VariantEntity a1 = variant("A-1", VariantStatusEnums.ACTIVE);
+        VariantEntity b1 = variant("B-1", VariantStatusEnums.ACTIVE);
+        ProductAggregate productA = product(gallery(), a1);
+        ProductAggregate productB = product(gallery(), b1);
+        when(repository.findAllByVariantIds(anyCollection())).thenReturn(List.of(productA, productB));
+        doThrow(new ProductVersionConflictException(List.of(productA.id()))).when(repository).saveAll(anyCollection());
+
+        VariantBulkStatusReport report = service.transition(new VariantBulkStatusCommand(
+                List.of(a1.id().value(), b1.id().value()), VariantStatusEnums.INACTIVE));
+
+        assertEquals(Result.FAILED, report.outcomes().get(0).result());
+        assertEquals(VariantBulkStatusService.CONFLICT_REASON, report.outcomes().get(0).reason());
+        assertEquals(Result.UPDATED, report.outcomes().get(1).result());
+        verify(repository, never()).save(argThat(p -> p.id().equals(productA.id())));
+        verify(repository).save(argThat(p -> p.id().equals(productB.id()) && p.version().equals(new VersionVO(1))));
+    }
+}
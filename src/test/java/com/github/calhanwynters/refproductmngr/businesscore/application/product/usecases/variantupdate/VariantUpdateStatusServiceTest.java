@@ -0,0 +1,63 @@
+package com.github.calhanwynters.refproductmngr.businesscore.application.product.usecases.variantupdate;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.ProductCommandRepository;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.VariantStatusUpdateResult;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductNotFoundException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.VariantStatusRejectedException;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class VariantUpdateStatusServiceTest {
+
+    private ProductCommandRepository repository;
+    private VariantUpdateStatusService service;
+    private VariantIdVO variantId;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProductCommandRepository.class);
+        service = new VariantUpdateStatusService(repository);
+        variantId = VariantIdVO.generate();
+    }
+
+    @Test
+    @DisplayName("A status flip accepted by the fast path never loads or saves the aggregate")
+    void fastPathUpdate_SkipsAggregate() {
+        when(repository.updateVariantStatus(variantId, VariantStatusEnums.INACTIVE)).thenReturn(VariantStatusUpdateResult.UPDATED);
+
+        service.updateVariantStatusToInactive(new VariantInactiveCommand(variantId.value()));
+
+        verify(repository, never()).findByVariantId(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("A guard refused by the fast path is rejected with the domain's reason, without loading the aggregate")
+    void guardFailure_IsRejected() {
+        when(repository.updateVariantStatus(variantId, VariantStatusEnums.ACTIVE)).thenReturn(VariantStatusUpdateResult.REJECTED_DISCONTINUED);
+
+        VariantStatusRejectedException e = assertThrows(VariantStatusRejectedException.class, () ->
+                service.updateVariantStatusToActive(new VariantActiveCommand(variantId.value())));
+        assertEquals(VariantStatusUpdateResult.REJECTED_DISCONTINUED, e.result());
+        assertEquals("Cannot activate a discontinued variant.", e.getMessage());
+        verify(repository, never()).findByVariantId(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("An unknown variant is reported without touching the aggregate path")
+    void unknownVariant_Throws() {
+        when(repository.updateVariantStatus(variantId, VariantStatusEnums.DRAFT)).thenReturn(VariantStatusUpdateResult.NOT_FOUND);
+
+        assertThrows(ProductNotFoundException.class, () ->
+                service.updateVariantStatusToDraft(new VariantDraftCommand(variantId.value())));
+        verify(repository, never()).findByVariantId(any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks each scanner against the regular expression it replaced on randomly generated inputs.
+ */
+class CharacterScannerTest {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern ALPHANUMERIC_OR_SPACE = Pattern.compile("[A-Za-z0-9 ]+");
+    private static final Pattern UPPER_ALPHANUMERIC_OR_DASH = Pattern.compile("[A-Z0-9-]+");
+    private static final Pattern PROSE_TEXT = Pattern.compile("[a-zA-Z0-9 .,:;!\\-?\\n*•\\d()\\[\\]]+");
+
+    // Boundary characters of every character class involved, plus look-alikes the regexes reject
+    private static final char[] ALPHABET = (
+            "09afAFgGzZ-_ .,:;!?*()[]{}/\\'\"#@\t\n\u000B\f\r  •İıß٣"
+    ).toCharArray();
+
+    private static final int SAMPLES = 20_000;
+
+    private final Random random = new Random(20240611L);
+
+    @Test
+    @DisplayName("isUuid matches the UUID regex")
+    void isUuid_MatchesRegex() {
+        for (int i = 0; i < SAMPLES; i++) {
+            String candidate = i % 2 == 0 ? mutatedUuid() : randomString(40);
+            assertEquals(UUID_PATTERN.matcher(candidate).matches(), CharacterScanner.isUuid(candidate), candidate);
+        }
+        assertTrue(CharacterScanner.isUuid(UUID.randomUUID().toString().toUpperCase()));
+    }
+
+    @Test
+    @DisplayName("Character class scanners match their regexes")
+    void characterClasses_MatchRegex() {
+        for (int i = 0; i < SAMPLES; i++) {
+            String candidate = randomString(12);
+            assertEquals(ALPHANUMERIC_OR_SPACE.matcher(candidate).matches(),
+                    CharacterScanner.isAlphanumericOrSpace(candidate), candidate);
+            assertEquals(UPPER_ALPHANUMERIC_OR_DASH.matcher(candidate).matches(),
+                    CharacterScanner.isUpperAlphanumericOrDash(candidate), candidate);
+            assertEquals(PROSE_TEXT.matcher(candidate).matches(),
+                    CharacterScanner.isProseText(candidate), candidate);
+        }
+        assertFalse(CharacterScanner.isAlphanumericOrSpace(""));
+        assertFalse(CharacterScanner.isUpperAlphanumericOrDash(""));
+        assertFalse(CharacterScanner.isProseText(""));
+    }
+
+    @Test
+    @DisplayName("collapseWhitespace matches replaceAll(\"\\\\s+\", \" \")")
+    void collapseWhitespace_MatchesReplaceAll() {
+        for (int i = 0; i < SAMPLES; i++) {
+            String candidate = randomString(16);
+            assertEquals(candidate.replaceAll("\\s+", " "), CharacterScanner.collapseWhitespace(candidate), candidate);
+        }
+    }
+
+    @Test
+    @DisplayName("collapseWhitespace returns the same instance when nothing changes")
+    void collapseWhitespace_NoChange_ReturnsSameInstance() {
+        String text = "Already normalized text.";
+        assertSame(text, CharacterScanner.collapseWhitespace(text));
+    }
+
+    @Test
+    @DisplayName("containsIgnoreCase finds words regardless of case")
+    void containsIgnoreCase_FindsWords() {
+        assertTrue(CharacterScanner.containsIgnoreCase("Contains FORBIDDENWORD1 here", "forbiddenWord1"));
+        assertTrue(CharacterScanner.containsIgnoreCase("forbiddenword2", "forbiddenWord2"));
+        assertFalse(CharacterScanner.containsIgnoreCase("forbidden word1", "forbiddenWord1"));
+        assertFalse(CharacterScanner.containsIgnoreCase("short", "forbiddenWord1"));
+    }
+
+    private String mutatedUuid() {
+        char[] chars = UUID.randomUUID().toString().toCharArray();
+        int mutations = random.nextInt(3);
+        for (int m = 0; m < mutations; m++) {
+            chars[random.nextInt(chars.length)] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        String uuid = new String(chars);
+        return switch (random.nextInt(8)) {
+            case 0 -> uuid.substring(1);
+            case 1 -> uuid + "a";
+            case 2 -> uuid.toUpperCase();
+            default -> uuid;
+        };
+    }
+
+    private String randomString(int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoaringBitmapTest {
+
+    private static void assertSameSet(BitSet expected, RoaringBitmap actual) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray());
+        assertEquals((long) expected.cardinality(), (long) actual.cardinality());
+    }
+
+    private static RoaringBitmap randomFill(Random random, BitSet reference, int bound, int count) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(bound);
+            assertEquals(!reference.get(value), bitmap.add(value));
+            reference.set(value);
+        }
+        return bitmap;
+    }
+
+    @Test
+    @DisplayName("Random adds and removes agree with a BitSet, across array/bitmap container conversions")
+    void addRemove_MatchesBitSet() {
+        Random random = new Random(42);
+        BitSet reference = new BitSet();
+        // Dense first chunk (becomes a bitmap container) plus sparse chunks further out
+        RoaringBitmap bitmap = randomFill(random, reference, 200_000, 60_000);
+        assertSameSet(reference, bitmap);
+
+        for (int i = 0; i < 60_000; i++) {
+            int value = random.nextInt(200_000);
+            assertEquals(reference.get(value), bitmap.contains(value));
+            assertEquals(reference.get(value), bitmap.remove(value));
+            reference.clear(value);
+        }
+        assertSameSet(reference, bitmap);
+
+        for (int value : reference.stream().toArray()) {
+            bitmap.remove(value);
+        }
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0L, (long) bitmap.toArray().length);
+    }
+
+    @Test
+    @DisplayName("and, or and andCardinality agree with BitSet for sparse, dense and mixed operands")
+    void binaryOperations_MatchBitSet() {
+        Random random = new Random(7);
+        int[][] shapes = {{70_000, 500}, {70_000, 50_000}, {1_000_000, 20_000}};
+        for (int[] left : shapes) {
+            for (int[] right : shapes) {
+                BitSet leftSet = new BitSet();
+                BitSet rightSet = new BitSet();
+                RoaringBitmap a = randomFill(random, leftSet, left[0], left[1]);
+                RoaringBitmap b = randomFill(random, rightSet, right[0], right[1]);
+
+                BitSet and = (BitSet) leftSet.clone();
+                and.and(rightSet);
+                BitSet or = (BitSet) leftSet.clone();
+                or.or(rightSet);
+
+                assertSameSet(and, RoaringBitmap.and(a, b));
+                assertSameSet(or, RoaringBitmap.or(a, b));
+                assertEquals((long) and.cardinality(), (long) RoaringBitmap.andCardinality(a, b));
+                assertSameSet(leftSet, a); // Operands are untouched
+                assertSameSet(rightSet, b);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("copy is independent; equality is by content; negative values are rejected")
+    void copyEqualsAndValidation() {
+        RoaringBitmap original = RoaringBitmap.of(1, 5, 70_000, Integer.MAX_VALUE);
+        RoaringBitmap copy = original.copy();
+        assertEquals(original, copy);
+        assertEquals(original.hashCode(), copy.hashCode());
+
+        copy.add(6);
+        assertFalse(original.contains(6));
+        assertNotEquals(original, copy);
+
+        List<Integer> visited = new ArrayList<>();
+        original.forEach(visited::add);
+        assertEquals(List.of(1, 5, 70_000, Integer.MAX_VALUE), visited);
+
+        assertThrows(IllegalArgumentException.class, () -> original.add(-1));
+        assertFalse(original.contains(-1));
+    }
+}
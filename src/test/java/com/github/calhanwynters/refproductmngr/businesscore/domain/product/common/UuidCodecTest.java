@@ -0,0 +1,29 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidCodecTest {
+
+    @Test
+    @DisplayName("format and formatTo write the same text as UUID.toString")
+    void formatTo_MatchesUuidToString() {
+        for (int i = 0; i < 1_000; i++) {
+            UUID uuid = i == 0 ? new UUID(-1L, -1L) : UUID.randomUUID();
+            char[] buffer = new char[UuidCodec.LENGTH + 2];
+            buffer[0] = ',';
+            buffer[UuidCodec.LENGTH + 1] = ',';
+
+            UuidCodec.formatTo(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), buffer, 1);
+
+            assertEquals("," + uuid + ",", new String(buffer));
+            assertEquals(uuid.toString(), UuidCodec.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+            assertEquals(uuid.getMostSignificantBits(), UuidCodec.mostSignificantBits(uuid.toString()));
+            assertEquals(uuid.getLeastSignificantBits(), UuidCodec.leastSignificantBits(uuid.toString()));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    @Test
+    @DisplayName("Generated ids carry version 7, the RFC 4122 variant and the current timestamp")
+    void next_HasVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= after + 1, "Timestamp should be the creation time");
+    }
+
+    @Test
+    @DisplayName("Ids of one thread are strictly increasing, even past 4096 ids per millisecond")
+    void generate_SameMillisecond_IsMonotonic() {
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_000L);
+
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.generate();
+            assertTrue(compareUnsigned(previous, next) < 0, "Ids must increase within a thread");
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("A clock moving backwards does not break ordering")
+    void generate_ClockGoesBackwards_StaysMonotonic() {
+        long[] now = {1_700_000_000_000L};
+        UuidV7Generator generator = new UuidV7Generator(() -> now[0]);
+
+        UUID first = generator.generate();
+        now[0] -= 5_000;
+        UUID second = generator.generate();
+
+        assertTrue(compareUnsigned(first, second) < 0);
+    }
+
+    @Test
+    @DisplayName("Ids from concurrent threads are unique")
+    void next_Concurrent_IsUnique() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(UuidV7Generator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(8 * 20_000, ids.size());
+    }
+}
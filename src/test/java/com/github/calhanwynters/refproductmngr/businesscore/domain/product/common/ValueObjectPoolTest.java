@@ -0,0 +1,86 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.common;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CategoryVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValueObjectPoolTest {
+
+    @Test
+    @DisplayName("Equal inputs share one instance and validate once")
+    void get_Hit_ReturnsSharedInstanceWithoutRevalidation() {
+        AtomicInteger constructions = new AtomicInteger();
+        ValueObjectPool<CategoryVO> pool = new ValueObjectPool<>(10, raw -> {
+            constructions.incrementAndGet();
+            return new CategoryVO(raw);
+        });
+
+        CategoryVO first = pool.get("Outdoor Apparel");
+        CategoryVO second = pool.get(new String("Outdoor Apparel"));
+
+        assertSame(first, second);
+        assertEquals(1, constructions.get());
+    }
+
+    @Test
+    @DisplayName("Invalid input still throws and is never cached")
+    void get_InvalidInput_ThrowsEveryTime() {
+        ValueObjectPool<CategoryVO> pool = new ValueObjectPool<>(10, CategoryVO::new);
+
+        assertThrows(IllegalArgumentException.class, () -> pool.get("Bad<Category>"));
+        assertThrows(IllegalArgumentException.class, () -> pool.get("Bad<Category>"));
+        assertThrows(NullPointerException.class, () -> pool.get(null));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    @DisplayName("The pool never grows beyond its capacity")
+    void get_OverCapacity_StaysBounded() {
+        ValueObjectPool<CategoryVO> pool = new ValueObjectPool<>(3, CategoryVO::new);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Category " + i, pool.get("Category " + i).value());
+            assertTrue(pool.size() <= 3);
+        }
+    }
+
+    @Test
+    @DisplayName("At capacity one entry is evicted at a time and values read in between stay pooled")
+    void get_OverCapacity_EvictsColdEntriesOnly() {
+        ValueObjectPool<CategoryVO> pool = new ValueObjectPool<>(4, CategoryVO::new);
+        CategoryVO hot = pool.get("Hot");
+
+        for (int i = 0; i < 20; i++) {
+            pool.get("Category " + i);
+            assertSame(hot, pool.get("Hot"), "A value read between misses survives every eviction");
+            assertEquals(Math.min(i + 2, 4), pool.size(), "Misses evict single entries, not the whole pool");
+        }
+    }
+
+    @Test
+    @DisplayName("Inputs that normalize to the same value share one instance")
+    void get_KeysOnNormalizedInput() {
+        AtomicInteger constructions = new AtomicInteger();
+        ValueObjectPool<CategoryVO> pool = new ValueObjectPool<>(10, String::trim, raw -> {
+            constructions.incrementAndGet();
+            return new CategoryVO(raw);
+        });
+
+        assertSame(pool.get(" Outdoor"), pool.get("Outdoor"));
+        assertSame(pool.get("Outdoor "), pool.get("Outdoor"));
+        assertEquals(1, constructions.get());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    @DisplayName("Pooled VO factories return equal values to the constructors")
+    void of_MatchesConstructor() {
+        assertEquals(new CategoryVO(" Shoes "), CategoryVO.of(" Shoes "));
+        assertSame(CategoryVO.of("Shoes"), CategoryVO.of("Shoes"));
+        assertSame(CategoryVO.of(" Shoes"), CategoryVO.of("Shoes"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalingPriceTableTest {
+
+    private static FeatureScalingPriceEntity feature(String base, String increment, int maxQuantity) {
+        return new FeatureScalingPriceEntity(
+                FeatureIdVO.generate(), new NameVO("Custom Fabric"), new DescriptionVO("Custom length of fabric for your needs."),
+                new LabelVO("Custom Fabric Length"), new MeasurementUnitVO("meters"),
+                new BigDecimal(base), new BigDecimal(increment), maxQuantity, false);
+    }
+
+    @Test
+    @DisplayName("Every table entry equals calculateTotalPrice, including half-up rounding of sub-cent amounts")
+    void table_MatchesBigDecimalPath() {
+        for (FeatureScalingPriceEntity feature : new FeatureScalingPriceEntity[]{
+                feature("10.00", "2.50", 100),
+                feature("0.333", "0.0125", 1_000),
+                feature("7", "0.005", 500),
+                feature("0", "0", 3)}) {
+            ScalingPriceTable table = feature.priceTable().orElseThrow();
+            assertEquals(feature.getMaxQuantity(), table.maxQuantity());
+            for (int quantity = 1; quantity <= feature.getMaxQuantity(); quantity++) {
+                assertEquals(feature.calculateTotalPrice(quantity), table.totalPrice(quantity), "quantity " + quantity);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("The table is built once and shared")
+    void priceTable_IsCached() {
+        FeatureScalingPriceEntity feature = feature("10.00", "2.50", 100);
+
+        assertSame(feature.priceTable().orElseThrow(), feature.priceTable().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Budget queries find the largest affordable and the smallest sufficient quantity")
+    void budgetQueries() {
+        ScalingPriceTable table = feature("10.00", "2.50", 100).priceTable().orElseThrow(); // q -> 10.00 + 2.50 q
+
+        assertEquals(4, table.maxQuantityWithin(2000));  // 20.00 buys exactly 4
+        assertEquals(3, table.maxQuantityWithin(1999));
+        assertEquals(0, table.maxQuantityWithin(1249));  // Not even one unit
+        assertEquals(100, table.maxQuantityWithin(Long.MAX_VALUE));
+        assertEquals(4, table.minQuantityReaching(2000));
+        assertEquals(5, table.minQuantityReaching(2001));
+        assertEquals(1, table.minQuantityReaching(0));
+        assertEquals(0, table.minQuantityReaching(26001)); // Above the total at maxQuantity
+    }
+
+    @Test
+    @DisplayName("Out-of-range quantities fail like calculateTotalPrice; oversized features have no table")
+    void limits() {
+        ScalingPriceTable table = feature("1.00", "1.00", 5).priceTable().orElseThrow();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> table.totalCents(6));
+        assertEquals("Quantity must be between 1 and 5, but was 6", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> table.totalCents(0));
+
+        assertTrue(feature("1.00", "1.00", FeatureScalingPriceEntity.PRICE_TABLE_MAX_QUANTITY + 1).priceTable().isEmpty());
+    }
+
+    @Test
+    @DisplayName("A table that overflows is not rebuilt on every call")
+    void overflow_IsRemembered() {
+        FeatureScalingPriceEntity feature = feature("1.00", "100000000000000000", 100);
+
+        assertTrue(feature.priceTable().isEmpty());
+        assertSame(feature.priceTable(), feature.priceTable());
+        assertEquals(new BigDecimal("10000000000000000001.00"), feature.calculateTotalPrice(100));
+    }
+}
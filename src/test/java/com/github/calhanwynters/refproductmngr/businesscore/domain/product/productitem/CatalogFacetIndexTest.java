@@ -0,0 +1,129 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.RoaringBitmap;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CatalogFacetIndex.Facet;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.CatalogFacetIndex.FacetQuery;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogFacetIndexTest {
+
+    private static final BusinessIdVO BUSINESS = new BusinessIdVO("B2025");
+
+    private static VariantEntity variant(VariantIdVO id, String price, String kilograms, VariantStatusEnums status) {
+        PriceVO priceVO = new PriceVO(new BigDecimal(price), 2, Currency.getInstance("USD"));
+        return new VariantEntity(id, new SkuVO("SKU-" + id.value().substring(0, 8)), priceVO, priceVO, Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal(kilograms), WeightUnitEnums.KILOGRAM),
+                status);
+    }
+
+    private static ProductAggregate product(ProductIdVO id, String category, boolean deleted, Set<VariantEntity> variants) {
+        return new ProductAggregate(id, BUSINESS, new CategoryVO(category), new DescriptionVO("High-end tech product"),
+                new GalleryVO(List.of(new ImageUrlVO("https://example.com/image.jpg"))), variants, new VersionVO(1), deleted);
+    }
+
+    @Test
+    @DisplayName("Bucket labels follow the configured bounds; the top bucket is open-ended")
+    void buckets_UseBounds() {
+        CatalogFacetIndex index = new CatalogFacetIndex();
+        Currency usd = Currency.getInstance("USD");
+        assertEquals("USD:0-10", index.priceBucket(new PriceVO(new BigDecimal("9.99"), 2, usd)));
+        assertEquals("USD:10-25", index.priceBucket(new PriceVO(new BigDecimal("10.00"), 2, usd)));
+        assertEquals("USD:1000+", index.priceBucket(new PriceVO(new BigDecimal("5000.00"), 2, usd)));
+
+        assertEquals("500-1000", index.weightBucket(new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM)));
+        assertEquals("0-100", index.weightBucket(WeightVO.ofGrams(new BigDecimal("99.9"))));
+        assertEquals("20000+", index.weightBucket(new WeightVO(new BigDecimal("25"), WeightUnitEnums.KILOGRAM)));
+
+        assertThrows(IllegalArgumentException.class, () -> new CatalogFacetIndex(
+                List.of(new BigDecimal("25"), new BigDecimal("10")), CatalogFacetIndex.DEFAULT_WEIGHT_BOUNDS_GRAMS));
+    }
+
+    @Test
+    @DisplayName("Filters OR values within a facet and AND across facets; facet counts ignore their own selection")
+    void matchAndCounts_CombineFacets() {
+        CatalogFacetIndex index = new CatalogFacetIndex();
+        VariantIdVO cheapActive = VariantIdVO.generate();
+        VariantIdVO cheapDraft = VariantIdVO.generate();
+        VariantIdVO dearActive = VariantIdVO.generate();
+        VariantIdVO toolActive = VariantIdVO.generate();
+        ProductIdVO electronics = ProductIdVO.generate();
+        ProductIdVO tools = ProductIdVO.generate();
+        index.index(product(electronics, "Electronics", false, Set.of(
+                variant(cheapActive, "15.00", "0.5", VariantStatusEnums.ACTIVE),
+                variant(cheapDraft, "12.00", "0.5", VariantStatusEnums.DRAFT),
+                variant(dearActive, "300.00", "6", VariantStatusEnums.ACTIVE))));
+        index.index(product(tools, "Tools", false, Set.of(
+                variant(toolActive, "20.00", "0.5", VariantStatusEnums.ACTIVE))));
+        assertEquals(4L, (long) index.size());
+
+        FacetQuery query = FacetQuery.all()
+                .with(Facet.CATEGORY, "Electronics")
+                .with(Facet.STATUS, "ACTIVE")
+                .with(Facet.PRICE_BUCKET, "USD:10-25", "USD:250-500");
+        RoaringBitmap matched = index.match(query);
+        assertEquals(Set.of(cheapActive, dearActive), new HashSet<>(index.variants(matched, 10)));
+        assertEquals(Set.of(electronics), index.products(matched));
+        assertEquals(2L, (long) index.count(query));
+        assertEquals(1L, (long) index.count(FacetQuery.all().with(Facet.CATEGORY, "Electronics")
+                .with(Facet.WEIGHT_BUCKET, "5000-20000")));
+        assertEquals(0L, (long) index.count(query.with(Facet.CATEGORY, "Garden")));
+
+        // Category counts among ACTIVE variants priced 10-25, whatever category is selected
+        assertEquals(Map.of("Electronics", 1, "Tools", 1), index.facetCounts(
+                FacetQuery.all().with(Facet.CATEGORY, "Tools").with(Facet.STATUS, "ACTIVE")
+                        .with(Facet.PRICE_BUCKET, "USD:10-25"), Facet.CATEGORY));
+        assertEquals(Map.of("ACTIVE", 3, "DRAFT", 1), index.facetCounts(FacetQuery.all(), Facet.STATUS));
+
+        matched.add(1_000); // Results are copies
+        assertEquals(2L, (long) index.count(query));
+    }
+
+    @Test
+    @DisplayName("Status changes, re-indexing, deletions and rebuilds keep ordinals dense and postings exact")
+    void incrementalUpdates_KeepIndexExact() {
+        CatalogFacetIndex index = new CatalogFacetIndex();
+        ProductIdVO productId = ProductIdVO.generate();
+        VariantIdVO first = VariantIdVO.generate();
+        VariantIdVO second = VariantIdVO.generate();
+        index.index(product(productId, "Electronics", false, Set.of(
+                variant(first, "15.00", "0.5", VariantStatusEnums.ACTIVE),
+                variant(second, "15.00", "0.5", VariantStatusEnums.ACTIVE))));
+        FacetQuery active = FacetQuery.all().with(Facet.STATUS, "ACTIVE");
+
+        assertTrue(index.updateVariantStatus(first, VariantStatusEnums.INACTIVE));
+        assertEquals(1L, (long) index.count(active));
+        assertFalse(index.updateVariantStatus(VariantIdVO.generate(), VariantStatusEnums.ACTIVE));
+
+        // Re-indexing with one variant dropped and a new one added reuses the freed ordinal
+        VariantIdVO third = VariantIdVO.generate();
+        index.index(product(productId, "Tools", false, Set.of(
+                variant(second, "15.00", "0.5", VariantStatusEnums.ACTIVE),
+                variant(third, "60.00", "0.5", VariantStatusEnums.ACTIVE))));
+        assertEquals(2L, (long) index.size());
+        assertEquals(0L, (long) index.count(FacetQuery.all().with(Facet.CATEGORY, "Electronics")));
+        assertEquals(0L, (long) index.count(FacetQuery.all().with(Facet.STATUS, "INACTIVE")));
+        assertEquals(RoaringBitmap.of(0, 1), index.match(FacetQuery.all()));
+
+        assertTrue(index.removeVariant(third));
+        assertEquals(List.of(second), index.variants(index.match(active), 10));
+        assertFalse(index.removeVariant(third));
+
+        index.index(product(productId, "Tools", true, Set.of(variant(second, "15.00", "0.5", VariantStatusEnums.ACTIVE))));
+        assertEquals(0L, (long) index.size());
+        assertTrue(index.facetCounts(FacetQuery.all(), Facet.CATEGORY).isEmpty());
+
+        ProductIdVO rebuilt = ProductIdVO.generate();
+        index.rebuild(List.of(product(rebuilt, "Garden", false, Set.of(variant(first, "15.00", "0.5", VariantStatusEnums.ACTIVE)))));
+        assertEquals(Set.of(rebuilt), index.products(index.match(FacetQuery.all().with(Facet.CATEGORY, "Garden"))));
+        index.removeProduct(rebuilt);
+        assertEquals(0L, (long) index.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    // Key with a caller-chosen hash code, to force deep paths and full-hash collisions
+    private record Key(int id, int hash) {
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    @DisplayName("Random puts and removes should match java.util.HashMap, including colliding hashes")
+    void matchesHashMap() {
+        Random random = new Random(42);
+        Map<Key, Integer> expected = new HashMap<>();
+        PersistentHashMap<Key, Integer> actual = PersistentHashMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(2_000);
+            // Few distinct hashes for low ids (collisions), spread hashes for the rest
+            Key key = new Key(id, id < 200 ? id % 7 : id * 0x9E3779B9);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.minus(key);
+            } else {
+                expected.put(key, i);
+                actual = actual.plus(key, i);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+
+        for (Map.Entry<Key, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), actual.get(entry.getKey()));
+        }
+        Map<Key, Integer> iterated = new HashMap<>();
+        for (Map.Entry<Key, Integer> entry : actual) {
+            assertNull(iterated.put(entry.getKey(), entry.getValue()), "Each key must be visited once");
+        }
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    @DisplayName("Edits should leave earlier versions untouched")
+    void earlierVersionsArePreserved() {
+        PersistentHashMap<String, Integer> base = PersistentHashMap.empty();
+        for (int i = 0; i < 1_000; i++) {
+            base = base.plus("k" + i, i);
+        }
+
+        PersistentHashMap<String, Integer> edited = base.plus("k1", -1).minus("k2").plus("new", 7);
+
+        assertEquals(1, base.get("k1"));
+        assertEquals(2, base.get("k2"));
+        assertFalse(base.containsKey("new"));
+        assertEquals(-1, edited.get("k1"));
+        assertFalse(edited.containsKey("k2"));
+        assertEquals(1_000, edited.size());
+    }
+
+    @Test
+    @DisplayName("No-op edits should return the same instance")
+    void noOpEditsReturnSameInstance() {
+        Integer value = 1;
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", value);
+
+        assertSame(map, map.plus("a", value));
+        assertSame(map, map.minus("missing"));
+        assertTrue(map.minus("a").isEmpty());
+    }
+
+    @Test
+    @DisplayName("A null key should be stored like any other key")
+    void nullKeyIsSupported() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus(null, 1).plus("a", 2);
+
+        assertEquals(1, map.get(null));
+        assertEquals(1, map.minus("a").size());
+        assertFalse(map.minus(null).containsKey(null));
+
+        Iterator<Map.Entry<String, Integer>> entries = map.minus(null).minus("a").iterator();
+        assertFalse(entries.hasNext());
+    }
+}
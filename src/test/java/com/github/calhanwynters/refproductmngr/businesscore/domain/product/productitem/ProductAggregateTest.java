@@ -1,15 +1,22 @@
 package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.CareInstructionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.SkuVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightUnitEnums;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightVO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -92,7 +99,7 @@ class ProductAggregateTest {
                 .orElseThrow();
 
         assertEquals(VariantStatusEnums.ACTIVE, foundVariant.status(), "Variant status should be ACTIVE");
-        assertEquals(initialVersion.num(), updatedProduct.version().num(), "Version stays same; Repo handles increment");
+        assertEquals(initialVersion.nextVersion(), updatedProduct.version(), "Every command returns the next version");
     }
 
     @Test
@@ -134,8 +141,8 @@ class ProductAggregateTest {
 
 
     @Test
-    @DisplayName("softDelete should return new instance with true flag and UNCHANGED version")
-    void softDelete_SetsFlagButDoesNotIncrementVersion() {
+    @DisplayName("softDelete should return new instance with true flag and the next version")
+    void softDelete_SetsFlagAndIncrementsVersion() {
         ProductAggregate aggregate = new ProductAggregate(
                 mockProductId, mockBusinessId, mockCategory, mockDescription,
                 validGalleryWithOneImage, singleActiveVariantSet, initialVersion, false
@@ -144,9 +151,10 @@ class ProductAggregateTest {
         ProductAggregate deleted = aggregate.softDelete();
 
         assertTrue(deleted.isDeleted());
-        // In legacy-adapted DDD, the domain does not manage version increments
-        assertEquals(initialVersion, deleted.version(), "Domain should not increment version; let Infrastructure handle it");
+        // The repository only accepts strictly newer versions, so the command must bump it
+        assertEquals(initialVersion.nextVersion(), deleted.version());
         assertNotSame(aggregate, deleted);
+        assertSame(deleted, deleted.softDelete(), "Deleting again is a no-op and keeps the version");
     }
 
     @Test
@@ -211,6 +219,7 @@ class ProductAggregateTest {
         // Assert
         assertNotSame(product, updatedProduct);
         assertEquals(2, updatedProduct.variants().size());
+        assertEquals(initialVersion.nextVersion(), updatedProduct.version());
     }
 
 
@@ -257,6 +266,7 @@ class ProductAggregateTest {
         assertEquals(newDescription, updatedProduct.description(), "Description should be updated");
         assertEquals(newCategory, updatedProduct.category(), "Category should be updated");
         assertNotSame(product, updatedProduct, "Should return a new immutable instance");
+        assertEquals(initialVersion.nextVersion(), updatedProduct.version());
     }
 
     @Test
@@ -281,6 +291,115 @@ class ProductAggregateTest {
         );
     }
 
+    @Test
+    @DisplayName("updateVariantStatus should refuse to activate a discontinued variant")
+    void updateVariantStatus_ActivateDiscontinued_ThrowsException() {
+        VariantEntity discontinued = createVariant("SKU-D", VariantStatusEnums.DISCONTINUED);
+        ProductAggregate product = new ProductAggregate(
+                mockProductId, mockBusinessId, mockCategory, mockDescription,
+                validGalleryWithOneImage, Set.of(discontinued), initialVersion, false
+        );
+
+        assertThrows(IllegalStateException.class, () ->
+                product.updateVariantStatus(discontinued.id(), VariantStatusEnums.ACTIVE));
+        assertThrows(IllegalStateException.class, () ->
+                product.updateVariantStatuses(Map.of(discontinued.id(), VariantStatusEnums.ACTIVE)));
+        assertEquals(VariantStatusEnums.INACTIVE,
+                product.updateVariantStatus(discontinued.id(), VariantStatusEnums.INACTIVE).variants().iterator().next().status());
+    }
+
+    @Test
+    @DisplayName("updateVariantStatus should refuse any status change on a deleted product")
+    void updateVariantStatus_DeletedProduct_ThrowsException() {
+        VariantEntity variant = createVariant("SKU-X", VariantStatusEnums.DRAFT);
+        ProductAggregate deleted = new ProductAggregate(
+                mockProductId, mockBusinessId, mockCategory, mockDescription,
+                validGalleryWithOneImage, Set.of(variant), initialVersion, true
+        );
+
+        assertThrows(IllegalStateException.class, () ->
+                deleted.updateVariantStatus(variant.id(), VariantStatusEnums.INACTIVE));
+        assertThrows(IllegalStateException.class, () ->
+                deleted.updateVariantStatuses(Map.of(variant.id(), VariantStatusEnums.INACTIVE)));
+    }
 
+    private VariantEntity createVariant(String sku, VariantStatusEnums status) {
+        PriceVO price = new PriceVO(new BigDecimal("10.00"), 2, Currency.getInstance("USD"));
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO(sku), price, price, Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM), status);
+    }
 
+    @Test
+    @DisplayName("updateVariantStatuses should apply the whole batch in one new aggregate")
+    void updateVariantStatuses_Success() {
+        VariantEntity first = createVariant("SKU-1", VariantStatusEnums.DRAFT);
+        VariantEntity second = createVariant("SKU-2", VariantStatusEnums.DRAFT);
+        VariantEntity untouched = createVariant("SKU-3", VariantStatusEnums.DRAFT);
+        ProductAggregate product = new ProductAggregate(
+                mockProductId, mockBusinessId, mockCategory, mockDescription,
+                validGalleryWithOneImage, Set.of(first, second, untouched), initialVersion, false
+        );
+
+        ProductAggregate updated = product.updateVariantStatuses(Map.of(
+                first.id(), VariantStatusEnums.ACTIVE,
+                second.id(), VariantStatusEnums.DISCONTINUED));
+
+        assertTrue(updated.variants().contains(first.withStatus(VariantStatusEnums.ACTIVE)));
+        assertTrue(updated.variants().contains(second.withStatus(VariantStatusEnums.DISCONTINUED)));
+        assertTrue(updated.variants().contains(untouched));
+        assertEquals(3, updated.variants().size());
+        assertEquals(initialVersion.nextVersion(), updated.version(), "The whole batch is one version bump");
+        assertSame(product, product.updateVariantStatuses(Map.of()), "An empty batch should not create a new aggregate");
+    }
+
+    @Test
+    @DisplayName("updateVariantStatuses should reject the whole batch if one variant does not belong to the product")
+    void updateVariantStatuses_UnknownVariant_AppliesNothing() {
+        VariantEntity member = createVariant("SKU-1", VariantStatusEnums.DRAFT);
+        ProductAggregate product = new ProductAggregate(
+                mockProductId, mockBusinessId, mockCategory, mockDescription,
+                validGalleryWithOneImage, Set.of(member), initialVersion, false
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> product.updateVariantStatuses(Map.of(
+                member.id(), VariantStatusEnums.ACTIVE,
+                VariantIdVO.generate(), VariantStatusEnums.ACTIVE)));
+        assertTrue(product.variants().contains(member));
+    }
+
+    @Test
+    @DisplayName("updateVariantStatuses should not activate variants of a product with no images")
+    void updateVariantStatuses_ActivationWithoutImages_ThrowsException() {
+        VariantEntity member = createVariant("SKU-1", VariantStatusEnums.DRAFT);
+        GalleryVO mockEmptyGallery = mock(GalleryVO.class);
+        when(mockEmptyGallery.images()).thenReturn(List.of());
+        ProductAggregate product = new ProductAggregate(
+                mockProductId, mockBusinessId, mockCategory, mockDescription,
+                mockEmptyGallery, Set.of(member), initialVersion, false
+        );
+
+        assertThrows(IllegalStateException.class, () ->
+                product.updateVariantStatuses(Map.of(member.id(), VariantStatusEnums.ACTIVE)));
+    }
+
+    @Test
+    @DisplayName("changeVariantCurrentPrices should update every listed variant and keep currencies consistent")
+    void changeVariantCurrentPrices_Success() {
+        VariantEntity first = createVariant("SKU-1", VariantStatusEnums.ACTIVE);
+        VariantEntity second = createVariant("SKU-2", VariantStatusEnums.ACTIVE);
+        ProductAggregate product = new ProductAggregate(
+                mockProductId, mockBusinessId, mockCategory, mockDescription,
+                validGalleryWithOneImage, Set.of(first, second), initialVersion, false
+        );
+        PriceVO sale = new PriceVO(new BigDecimal("7.50"), 2, Currency.getInstance("USD"));
+
+        ProductAggregate updated = product.changeVariantCurrentPrices(Map.of(first.id(), sale, second.id(), sale));
+
+        assertTrue(updated.variants().stream().allMatch(v -> v.currentPrice().equals(sale)));
+        assertEquals(initialVersion.nextVersion(), updated.version(), "The whole batch is one version bump");
+
+        PriceVO euros = new PriceVO(new BigDecimal("7.50"), 2, Currency.getInstance("EUR"));
+        assertThrows(IllegalArgumentException.class, () ->
+                product.changeVariantCurrentPrices(Map.of(first.id(), sale, second.id(), euros)));
+    }
 }
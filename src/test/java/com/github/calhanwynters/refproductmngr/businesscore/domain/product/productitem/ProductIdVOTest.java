@@ -2,6 +2,8 @@ package com.github.calhanwynters.refproductmngr.businesscore.domain.product.prod
 
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class ProductIdVOTest {
@@ -59,4 +61,22 @@ class ProductIdVOTest {
         ProductIdVO productId = ProductIdVO.generate();
         assertTrue(ProductIdVO.isValidUUID(productId.value()), "Generated ProductId must be a valid UUID format.");
     }
+
+    @Test
+    void upperCaseValueIsCanonicalized() {
+        ProductIdVO upper = new ProductIdVO("123E4567-E89B-12D3-A456-426614174000");
+        ProductIdVO lower = new ProductIdVO("123e4567-e89b-12d3-a456-426614174000");
+        assertEquals(lower, upper);
+        assertEquals(lower.hashCode(), upper.hashCode());
+        assertEquals("123e4567-e89b-12d3-a456-426614174000", upper.value());
+    }
+
+    @Test
+    void roundTripsThroughUuid() {
+        UUID uuid = UUID.randomUUID();
+        ProductIdVO productId = ProductIdVO.fromUUID(uuid);
+        assertEquals(uuid, productId.toUUID());
+        assertEquals(uuid.toString(), productId.value());
+        assertEquals(productId, new ProductIdVO(uuid.toString()));
+    }
 }
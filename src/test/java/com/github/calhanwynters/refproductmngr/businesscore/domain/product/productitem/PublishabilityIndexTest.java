@@ -0,0 +1,113 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublishabilityIndexTest {
+
+    private static final BusinessIdVO BUSINESS = new BusinessIdVO("B2025");
+    private static final BusinessIdVO OTHER_BUSINESS = new BusinessIdVO("B2026");
+
+    private static VariantEntity variant(VariantIdVO id, VariantStatusEnums status) {
+        PriceVO price = new PriceVO(new BigDecimal("10.00"), 2, Currency.getInstance("USD"));
+        return new VariantEntity(id, new SkuVO("SKU-" + id.value().substring(0, 8)), price, price, Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM),
+                status);
+    }
+
+    private static ProductAggregate product(ProductIdVO id, BusinessIdVO business, int version, boolean deleted,
+                                            Set<VariantEntity> variants) {
+        return new ProductAggregate(id, business, new CategoryVO("Electronics"), new DescriptionVO("High-end tech product"),
+                new GalleryVO(List.of(new ImageUrlVO("https://example.com/image.jpg"))), variants, new VersionVO(version), deleted);
+    }
+
+    @Test
+    @DisplayName("Membership agrees with ProductAggregate.isPublishable for every combination of the rule's inputs")
+    void apply_MatchesDomainRule() {
+        PublishabilityIndex index = new PublishabilityIndex();
+        List<ProductAggregate> products = new ArrayList<>();
+        for (boolean deleted : new boolean[]{false, true}) {
+            for (VariantStatusEnums status : VariantStatusEnums.values()) {
+                products.add(product(ProductIdVO.generate(), BUSINESS, 1, deleted,
+                        Set.of(variant(VariantIdVO.generate(), status))));
+            }
+        }
+        products.forEach(index::apply);
+
+        Set<ProductIdVO> expected = new HashSet<>();
+        for (ProductAggregate product : products) {
+            assertEquals(product.isPublishable(), index.isPublishable(BUSINESS, product.id()), product.toString());
+            if (product.isPublishable()) {
+                expected.add(product.id());
+            }
+        }
+        assertEquals(expected, index.publishableProducts(BUSINESS));
+        assertTrue(index.publishableProducts(OTHER_BUSINESS).isEmpty());
+
+        // Aggregates always have an image; rows read back from the write model may not
+        ProductIdVO withoutImages = ProductIdVO.generate();
+        index.apply(new PublishabilityIndex.Snapshot(withoutImages, BUSINESS, 1, false, false,
+                Map.of(VariantIdVO.generate(), VariantStatusEnums.ACTIVE)));
+        assertFalse(index.isPublishable(withoutImages));
+    }
+
+    @Test
+    @DisplayName("Variant status changes and deletions move a product in and out of the set without a snapshot")
+    void variantDeltas_UpdateMembership() {
+        PublishabilityIndex index = new PublishabilityIndex();
+        ProductIdVO productId = ProductIdVO.generate();
+        VariantIdVO first = VariantIdVO.generate();
+        VariantIdVO second = VariantIdVO.generate();
+        index.apply(product(productId, BUSINESS, 1, false,
+                Set.of(variant(first, VariantStatusEnums.ACTIVE), variant(second, VariantStatusEnums.DRAFT))));
+        assertTrue(index.isPublishable(productId));
+
+        assertTrue(index.applyVariantStatus(first, VariantStatusEnums.INACTIVE));
+        assertFalse(index.isPublishable(productId));
+
+        assertTrue(index.applyVariantStatus(second, VariantStatusEnums.ACTIVE));
+        assertTrue(index.isPublishable(BUSINESS, productId));
+
+        assertTrue(index.removeVariant(second));
+        assertFalse(index.isPublishable(productId));
+        assertFalse(index.applyVariantStatus(second, VariantStatusEnums.ACTIVE), "A removed variant is unknown");
+
+        index.applyVariantStatus(first, VariantStatusEnums.ACTIVE);
+        assertTrue(index.isPublishable(productId));
+        index.removeAllVariants(productId);
+        assertFalse(index.isPublishable(productId));
+        assertTrue(index.contains(productId));
+
+        index.removeProduct(productId);
+        assertFalse(index.contains(productId));
+        assertFalse(index.applyVariantStatus(first, VariantStatusEnums.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Older snapshots are ignored; equal and newer ones replace the facts, including a business move")
+    void apply_VersionGuard() {
+        PublishabilityIndex index = new PublishabilityIndex();
+        ProductIdVO productId = ProductIdVO.generate();
+        VariantIdVO variantId = VariantIdVO.generate();
+        index.apply(product(productId, BUSINESS, 2, false, Set.of(variant(variantId, VariantStatusEnums.ACTIVE))));
+
+        index.apply(product(productId, BUSINESS, 1, true, Set.of(variant(variantId, VariantStatusEnums.ACTIVE))));
+        assertTrue(index.isPublishable(productId), "A stale deleted snapshot must not win");
+
+        index.apply(product(productId, OTHER_BUSINESS, 2, false, Set.of(variant(variantId, VariantStatusEnums.ACTIVE))));
+        assertFalse(index.isPublishable(BUSINESS, productId));
+        assertTrue(index.isPublishable(OTHER_BUSINESS, productId));
+
+        index.apply(new PublishabilityIndex.Snapshot(productId, OTHER_BUSINESS, 3, false, false,
+                Map.of(variantId, VariantStatusEnums.ACTIVE)));
+        assertFalse(index.isPublishable(productId));
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariantPricePlanCacheTest {
+
+    private static VariantEntity variant(String sku) {
+        PriceVO price = new PriceVO(new BigDecimal("10.00"), 2, Currency.getInstance("USD"));
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO(sku), price, price, Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM),
+                VariantStatusEnums.ACTIVE);
+    }
+
+    private static ProductAggregate product(VariantEntity... variants) {
+        return new ProductAggregate(ProductIdVO.generate(), new BusinessIdVO("B456"), new CategoryVO("C789"),
+                new DescriptionVO("Cached product"), new GalleryVO(List.of(new ImageUrlVO("https://example.com/image.jpg"))),
+                Set.of(variants), new VersionVO(1), false);
+    }
+
+    @Test
+    @DisplayName("Compiled plans are cached per variant and evicted per product")
+    void compile_ThenEvictProducts() {
+        VariantPricePlanCache cache = new VariantPricePlanCache();
+        VariantEntity a1 = variant("A-1");
+        VariantEntity a2 = variant("A-2");
+        VariantEntity b1 = variant("B-1");
+        ProductAggregate productA = product(a1, a2);
+        ProductAggregate productB = product(b1);
+
+        Map<VariantIdVO, VariantPricePlan> compiled = cache.compile(productA, cache.generation());
+        cache.compile(productB, cache.generation());
+
+        assertEquals(2, compiled.size());
+        assertSame(compiled.get(a1.id()), cache.get(a1.id()));
+        assertEquals(3, cache.size());
+
+        cache.evictProducts(List.of(productA.id()));
+        assertNull(cache.get(a1.id()));
+        assertNull(cache.get(a2.id()));
+        assertNotNull(cache.get(b1.id()));
+    }
+
+    @Test
+    @DisplayName("Plans of a product loaded before an invalidation are returned but not cached")
+    void compile_AfterInvalidation_IsNotCached() {
+        VariantPricePlanCache cache = new VariantPricePlanCache();
+        VariantEntity a1 = variant("A-1");
+        ProductAggregate stale = product(a1);
+
+        long loadedAt = cache.generation();
+        cache.evictProducts(List.of(stale.id())); // A save committed while the product was being loaded
+
+        assertNotNull(cache.compile(stale, loadedAt).get(a1.id()));
+        assertNull(cache.get(a1.id()));
+    }
+
+    @Test
+    @DisplayName("The cache never holds more than its capacity and keeps plans that are read")
+    void store_IsBounded() {
+        VariantPricePlanCache cache = new VariantPricePlanCache(8);
+        VariantEntity hot = variant("HOT");
+        cache.compile(product(hot), cache.generation());
+
+        for (int i = 0; i < 100; i++) {
+            cache.compile(product(variant("SKU-" + i)), cache.generation());
+            assertNotNull(cache.get(hot.id()), "A plan read every round survives every rotation");
+            assertTrue(cache.size() <= 8);
+        }
+    }
+}
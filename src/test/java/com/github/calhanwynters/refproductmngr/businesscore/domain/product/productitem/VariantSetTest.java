@@ -0,0 +1,78 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.CareInstructionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.PriceVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.SkuVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantEntity;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantStatusEnums;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightUnitEnums;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariantSetTest {
+
+    private static VariantEntity variant(String sku, VariantStatusEnums status) {
+        PriceVO price = new PriceVO(new BigDecimal("10.00"), 2, Currency.getInstance("USD"));
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO(sku), price, price, Set.of(),
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM), status);
+    }
+
+    @Test
+    @DisplayName("copyOf should reuse an existing VariantSet and copy any other set")
+    void copyOf_ReusesVariantSet() {
+        Set<VariantEntity> source = new HashSet<>(Set.of(variant("SKU-1", VariantStatusEnums.DRAFT)));
+        VariantSet copy = VariantSet.copyOf(source);
+
+        assertSame(copy, VariantSet.copyOf(copy));
+        assertEquals(source, copy);
+        assertThrows(UnsupportedOperationException.class, () -> copy.add(variant("SKU-2", VariantStatusEnums.DRAFT)));
+    }
+
+    @Test
+    @DisplayName("Indexes built before an edit should stay consistent in the edited copies")
+    void indexesAreCarriedOverAcrossCopies() {
+        VariantEntity first = variant("SKU-1", VariantStatusEnums.DRAFT);
+        VariantEntity second = variant("SKU-2", VariantStatusEnums.DRAFT);
+        VariantSet set = VariantSet.copyOf(Set.of(first));
+
+        // Build both indexes, then derive copies from the indexed set
+        assertSame(first, set.findById(first.id()));
+        assertTrue(set.containsSku(first.sku()));
+
+        VariantSet added = set.with(second);
+        assertSame(second, added.findById(second.id()));
+        assertTrue(added.containsSku(new SkuVO("SKU-2")));
+        assertNull(set.findById(second.id()), "The original set must not see later additions");
+
+        VariantEntity activated = first.withStatus(VariantStatusEnums.ACTIVE);
+        VariantSet replaced = added.replace(first, activated);
+        assertEquals(2, replaced.size());
+        assertSame(activated, replaced.findById(first.id()));
+        assertFalse(replaced.contains(first));
+        assertTrue(replaced.containsSku(first.sku()));
+        assertSame(first, added.findById(first.id()));
+    }
+
+    @Test
+    @DisplayName("Copies of an unindexed set should build their indexes from their own elements")
+    void unindexedCopiesIndexLazily() {
+        VariantEntity first = variant("SKU-1", VariantStatusEnums.DRAFT);
+        VariantEntity renamed = new VariantEntity(first.id(), new SkuVO("SKU-9"), first.basePrice(), first.currentPrice(),
+                first.features(), first.careInstructions(), first.weight(), first.status());
+
+        VariantSet replaced = VariantSet.copyOf(Set.of(first)).replace(first, renamed);
+
+        assertSame(renamed, replaced.findById(first.id()));
+        assertTrue(replaced.containsSku(new SkuVO("SKU-9")));
+        assertFalse(replaced.containsSku(new SkuVO("SKU-1")));
+    }
+}
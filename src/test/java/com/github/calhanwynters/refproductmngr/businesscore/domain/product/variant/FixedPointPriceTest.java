@@ -0,0 +1,104 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointPriceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    @DisplayName("Conversion from and to BigDecimal is lossless")
+    void of_RoundTripsExactly() {
+        BigDecimal value = new BigDecimal("19.9900");
+        FixedPointPrice price = FixedPointPrice.of(value, USD);
+
+        assertEquals(199900L, price.minorUnits());
+        assertEquals(4, price.scale());
+        assertEquals(USD, price.currency());
+        assertEquals(value, price.toBigDecimal());
+        assertEquals(new BigDecimal("1200"), FixedPointPrice.of(new BigDecimal("1.2E+3"), USD).toBigDecimal());
+    }
+
+    @Test
+    @DisplayName("Values outside the long range are rejected instead of truncated")
+    void of_Overflow_Throws() {
+        assertThrows(ArithmeticException.class, () -> FixedPointPrice.of(new BigDecimal("99999999999999999999.99"), USD));
+        assertThrows(ArithmeticException.class, () -> FixedPointPrice.of(new BigDecimal("0.0000000000000000001"), USD));
+    }
+
+    @Test
+    @DisplayName("Addition aligns scales and multiplication keeps the scale")
+    void plusAndTimes_MatchBigDecimal() {
+        FixedPointPrice base = FixedPointPrice.of(new BigDecimal("10.5"), USD);
+        FixedPointPrice feature = FixedPointPrice.of(new BigDecimal("2.25"), USD);
+
+        assertEquals(new BigDecimal("12.75"), base.plus(feature).toBigDecimal());
+        assertEquals(new BigDecimal("31.5"), base.times(3).toBigDecimal());
+        assertThrows(ArithmeticException.class, () -> base.times(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Mixing currencies is rejected")
+    void plus_CurrencyMismatch_Throws() {
+        FixedPointPrice dollars = FixedPointPrice.of(BigDecimal.ONE, USD);
+        FixedPointPrice euros = FixedPointPrice.of(BigDecimal.ONE, EUR);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> dollars.plus(euros));
+        assertEquals("Currency mismatch: USD vs EUR", ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> dollars.compareTo(euros));
+    }
+
+    @Test
+    @DisplayName("Rounding, comparison and formatting agree with BigDecimal on random values")
+    void randomValues_MatchBigDecimal() {
+        Random random = new Random(42);
+        RoundingMode[] modes = {RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+                RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN};
+        for (int i = 0; i < 20_000; i++) {
+            BigDecimal a = BigDecimal.valueOf(random.nextLong() % 1_000_000_000L, random.nextInt(9));
+            BigDecimal b = BigDecimal.valueOf(random.nextLong() % 1_000_000_000L, random.nextInt(9));
+            FixedPointPrice fa = FixedPointPrice.of(a, USD);
+            FixedPointPrice fb = FixedPointPrice.of(b, USD);
+
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(fa.compareTo(fb)), a + " vs " + b);
+            assertEquals(0, a.add(b).compareTo(fa.plus(fb).toBigDecimal()));
+            assertEquals(a.toPlainString(), fa.toPlainString());
+
+            RoundingMode mode = modes[random.nextInt(modes.length)];
+            int newScale = random.nextInt(10);
+            assertEquals(a.setScale(newScale, mode), fa.withScale(newScale, mode).toBigDecimal(), a + " " + mode);
+        }
+    }
+
+    @Test
+    @DisplayName("Comparison across scales handles values that overflow when rescaled")
+    void compareTo_RescaleOverflow() {
+        FixedPointPrice huge = new FixedPointPrice(Long.MAX_VALUE / 10, 0, FixedPointPrice.indexOf(USD));
+        FixedPointPrice small = new FixedPointPrice(1, 18, FixedPointPrice.indexOf(USD));
+
+        assertTrue(huge.compareTo(small) > 0);
+        assertTrue(small.compareTo(huge) < 0);
+        assertEquals(0, FixedPointPrice.of(new BigDecimal("1.5"), USD).compareTo(FixedPointPrice.of(new BigDecimal("1.50"), USD)));
+    }
+
+    @Test
+    @DisplayName("PriceVO compares numerically and keeps its display format")
+    void priceVO_CompareAndToString() {
+        PriceVO low = new PriceVO(new BigDecimal("9.99"), 2, USD);
+        PriceVO high = new PriceVO(new BigDecimal("10.0000"), 2, USD);
+
+        assertTrue(low.compareTo(high) < 0);
+        assertEquals(0, high.compareTo(new PriceVO(BigDecimal.TEN, 2, USD)));
+        assertEquals("$ 10.46", new PriceVO(new BigDecimal("10.4567")).toString());
+        assertEquals(high, PriceVO.of(high.toFixedPoint(), 2));
+    }
+}
@@ -128,4 +128,12 @@ class PriceVOTest {
         PriceVO price = new PriceVO(new BigDecimal("1000000.1234"), 2, USD);
         assertEquals(String.format("%s 1000000.12", USD.getSymbol()), price.toString());
     }
+
+    @Test
+    void defaultPrecision_shouldFollowTheCurrencyMinorUnit() {
+        assertEquals(2, PriceVO.defaultPrecision(USD));
+        assertEquals(0, PriceVO.defaultPrecision(Currency.getInstance("JPY")));
+        assertEquals(3, PriceVO.defaultPrecision(Currency.getInstance("BHD")));
+        assertEquals(2, PriceVO.defaultPrecision(Currency.getInstance("XAU")), "No minor unit falls back to 2");
+    }
 }
@@ -0,0 +1,62 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepricingRuleTest {
+
+    private final Currency USD = Currency.getInstance("USD");
+    private final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    @DisplayName("A percentage rule scales the price and rounds to the rule scale")
+    void percent_ScalesAndRounds() {
+        RepricingRule rule = RepricingRule.percent(new BigDecimal("3"), USD);
+
+        PriceVO repriced = rule.apply(new PriceVO(new BigDecimal("19.99"), 2, USD));
+
+        assertEquals(new BigDecimal("20.59"), repriced.value()); // 20.5897 rounded half-up
+        assertEquals(USD, repriced.currency());
+    }
+
+    @Test
+    @DisplayName("Percentage and amount combine, with the configured rounding mode")
+    void combinedRule_UsesRoundingMode() {
+        RepricingRule rule = new RepricingRule(new BigDecimal("-10"), new BigDecimal("0.99"), 0, RoundingMode.CEILING, USD);
+
+        assertEquals(new BigDecimal("91"), rule.apply(new PriceVO(new BigDecimal("100.00"), 2, USD)).value());
+    }
+
+    @Test
+    @DisplayName("Prices in another currency are refused by the same guard as changeCurrentPrice")
+    void apply_OtherCurrency_Throws() {
+        RepricingRule rule = RepricingRule.absolute(new BigDecimal("1.00"), USD);
+
+        assertFalse(rule.appliesTo(EUR));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+                rule.apply(new PriceVO(new BigDecimal("10.00"), 2, EUR)));
+        assertEquals("Cannot change price currency on an existing variant.", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("A discount below zero is rejected by PriceVO")
+    void apply_NegativeResult_Throws() {
+        RepricingRule rule = RepricingRule.absolute(new BigDecimal("-5.00"), USD);
+
+        assertThrows(IllegalArgumentException.class, () -> rule.apply(new PriceVO(new BigDecimal("4.00"), 2, USD)));
+    }
+
+    @Test
+    @DisplayName("Rules that cannot change a price or would wipe it out are invalid")
+    void constructor_InvalidRules_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> RepricingRule.percent(BigDecimal.ZERO, USD));
+        assertThrows(IllegalArgumentException.class, () -> RepricingRule.percent(new BigDecimal("-100"), USD));
+        assertThrows(IllegalArgumentException.class, () ->
+                new RepricingRule(BigDecimal.ONE, BigDecimal.ZERO, -1, RoundingMode.HALF_UP, USD));
+        assertThrows(NullPointerException.class, () -> RepricingRule.percent(BigDecimal.ONE, null));
+    }
+}
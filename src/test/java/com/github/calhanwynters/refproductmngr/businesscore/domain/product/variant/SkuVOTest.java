@@ -65,4 +65,14 @@ class SkuVOTest {
         // Records implement toString() by default, returning a useful representation
         assertTrue(sku.toString().contains("SKU-123"));
     }
+
+    @Test
+    void validate_shouldReportSameRuleAsConstructor_withoutThrowing() {
+        for (String input : new String[]{"", "   ", "A".repeat(51), "INVALID@SKU"}) {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> new SkuVO(input));
+            assertEquals(ex.getMessage(), SkuVO.validate(input).message());
+        }
+        assertEquals("required", SkuVO.validate(null).code());
+        assertNull(SkuVO.validate("  VALID-SKU-123 "));
+    }
 }
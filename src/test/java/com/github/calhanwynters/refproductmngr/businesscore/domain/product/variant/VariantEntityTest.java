@@ -108,4 +108,24 @@ class VariantEntityTest {
         assertEquals(entity1, entity2);
         assertEquals(entity1.hashCode(), entity2.hashCode());
     }
+
+    @Test
+    @DisplayName("effectivePrice adds fixed-price features to the current price and ignores scaling features")
+    void effectivePrice_AddsFixedPriceFeatures() {
+        // Arrange
+        validFeatures.add(new FeatureFixedPriceEntity(FeatureIdVO.generate(), new NameVO("Gift Wrap"),
+                new DescriptionVO("Gift wrapping"), new LabelVO("Wrap"), new BigDecimal("4.50"), false));
+        validFeatures.add(new FeatureScalingPriceEntity(FeatureIdVO.generate(), new NameVO("Fabric"),
+                new DescriptionVO("Custom Length"), new LabelVO("Fabric Label"), new MeasurementUnitVO("METER"),
+                new BigDecimal("10.00"), new BigDecimal("2.50"), 20, false));
+        VariantEntity entity = new VariantEntity(validId, validSku, validBasePrice, validCurrentPrice, validFeatures, validCareInstructions, validWeight, VariantStatusEnums.ACTIVE);
+
+        // Act
+        PriceVO effectivePrice = entity.effectivePrice();
+
+        // Assert
+        assertEquals(new BigDecimal("14.49"), effectivePrice.value());
+        assertEquals(validCurrentPrice.currency(), effectivePrice.currency());
+        assertEquals(validCurrentPrice.precision(), effectivePrice.precision());
+    }
 }
@@ -2,6 +2,8 @@ package com.github.calhanwynters.refproductmngr.businesscore.domain.product.vari
 
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class VariantIdVOTest {
@@ -54,4 +56,22 @@ class VariantIdVOTest {
         // Assert that the record's string representation *contains* the value
         assertTrue(variantId.toString().contains("123e4567-e89b-12d3-a456-426614174000"));
     }
+
+    @Test
+    void upperCaseValueIsCanonicalized() {
+        VariantIdVO upper = new VariantIdVO("123E4567-E89B-12D3-A456-426614174000");
+        VariantIdVO lower = new VariantIdVO("123e4567-e89b-12d3-a456-426614174000");
+        assertEquals(lower, upper);
+        assertEquals(lower.hashCode(), upper.hashCode());
+        assertEquals("123e4567-e89b-12d3-a456-426614174000", upper.value());
+    }
+
+    @Test
+    void roundTripsThroughUuid() {
+        UUID uuid = UUID.randomUUID();
+        VariantIdVO variantId = VariantIdVO.fromUUID(uuid);
+        assertEquals(uuid, variantId.toUUID());
+        assertEquals(uuid.toString(), variantId.value());
+        assertEquals(variantId, new VariantIdVO(uuid.toString()));
+    }
 }
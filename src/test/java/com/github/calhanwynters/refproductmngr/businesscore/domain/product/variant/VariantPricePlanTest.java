@@ -0,0 +1,101 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariantPricePlanTest {
+
+    private final Currency USD = Currency.getInstance("USD");
+
+    private static FeatureFixedPriceEntity fixed(String price) {
+        return new FeatureFixedPriceEntity(FeatureIdVO.generate(), new NameVO("Gift Wrap"), new DescriptionVO("Gift wrapping"),
+                new LabelVO("Wrap"), new BigDecimal(price), false);
+    }
+
+    private static FeatureScalingPriceEntity scaling(String base, String increment, int max) {
+        return new FeatureScalingPriceEntity(FeatureIdVO.generate(), new NameVO("Fabric"), new DescriptionVO("Custom Length"),
+                new LabelVO("Fabric Label"), new MeasurementUnitVO("METER"), new BigDecimal(base), new BigDecimal(increment), max, false);
+    }
+
+    private VariantEntity variant(String currentPrice, Set<FeatureAbstractClass> features) {
+        PriceVO price = new PriceVO(new BigDecimal(currentPrice), 2, USD);
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO("SKU-1"), price, price, features,
+                new CareInstructionVO("* Handle with care"), new WeightVO(new BigDecimal("0.5"), WeightUnitEnums.KILOGRAM),
+                VariantStatusEnums.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("A quote adds the current price, every fixed-price feature and the chosen scaling features")
+    void unitPrice_CombinesAllPriceSources() {
+        FeatureScalingPriceEntity fabric = scaling("10.00", "2.50", 20);
+        VariantEntity variant = variant("19.99", Set.of(fixed("4.50"), fabric));
+        VariantPricePlan plan = VariantPricePlan.compile(variant);
+
+        int[] quantities = new int[plan.scalingSlots()];
+        assertEquals(2449L, plan.unitPrice(quantities)); // Fabric not chosen: 19.99 + 4.50
+
+        quantities[plan.scalingSlot(fabric.getId())] = 3;
+        assertEquals(4199L, plan.unitPrice(quantities)); // + 10.00 + 3 * 2.50
+        assertEquals(12597L, plan.linePrice(quantities, 3));
+        assertEquals(new BigDecimal("41.99"), plan.toPrice(plan.unitPrice(quantities)).toBigDecimal());
+        assertEquals(USD, plan.currency());
+    }
+
+    @Test
+    @DisplayName("Plans match the BigDecimal path, including half-up rounding of sub-cent scaling amounts")
+    void unitPrice_MatchesBigDecimalPath() {
+        Random random = new Random(7);
+        for (int run = 0; run < 200; run++) {
+            Set<FeatureAbstractClass> features = new HashSet<>();
+            for (int i = random.nextInt(3); i > 0; i--) {
+                features.add(fixed(BigDecimal.valueOf(random.nextInt(10_000), 2).toPlainString()));
+            }
+            List<FeatureScalingPriceEntity> scalingFeatures = List.of(
+                    scaling(BigDecimal.valueOf(random.nextInt(100_000), 3).toPlainString(),
+                            BigDecimal.valueOf(random.nextInt(100_000), 4).toPlainString(), 50),
+                    scaling(BigDecimal.valueOf(random.nextInt(1_000), 1).toPlainString(), "0.005", 100));
+            features.addAll(scalingFeatures);
+            VariantEntity variant = variant(BigDecimal.valueOf(random.nextInt(1_000_000), 4).toPlainString(), features);
+            VariantPricePlan plan = VariantPricePlan.compile(variant);
+
+            int[] quantities = new int[plan.scalingSlots()];
+            BigDecimal expected = variant.currentPrice().value();
+            for (FeatureAbstractClass feature : features) {
+                if (feature instanceof FeatureFixedPriceEntity f) {
+                    expected = expected.add(f.getFixedPrice());
+                }
+            }
+            for (FeatureScalingPriceEntity feature : scalingFeatures) {
+                int quantity = random.nextInt(feature.getMaxQuantity() + 1);
+                quantities[plan.scalingSlot(feature.getId())] = quantity;
+                if (quantity > 0) {
+                    expected = expected.add(feature.calculateTotalPrice(quantity));
+                }
+            }
+
+            assertEquals(0, expected.compareTo(plan.toPrice(plan.unitPrice(quantities)).toBigDecimal()),
+                    "plan differs from BigDecimal path for " + plan);
+        }
+    }
+
+    @Test
+    @DisplayName("Quantities outside a scaling feature's range are rejected like calculateTotalPrice does")
+    void unitPrice_QuantityOutOfRange_Throws() {
+        FeatureScalingPriceEntity fabric = scaling("1.00", "1.00", 5);
+        VariantPricePlan plan = VariantPricePlan.compile(variant("10.00", Set.of(fabric)));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> plan.unitPrice(new int[]{6}));
+        assertEquals("Quantity must be between 1 and 5, but was 6", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> plan.unitPrice(new int[0]));
+        assertEquals(-1, plan.scalingSlot(FeatureIdVO.generate()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Coarse timings of the canonical weight against the BigDecimal conversion it replaces: sorting 1M weights and
+ * summing cart weights. Both paths must agree; the timings are published as report entries, not asserted.
+ */
+class WeightBenchmarkTest {
+
+    private static final int SORT_SIZE = 1_000_000;
+    private static final int CARTS = 100_000;
+    private static final int LINES_PER_CART = 20;
+
+    // A catalog-like mix: a few thousand distinct weights (1 to 100 with 3 decimals) over every unit
+    private static List<WeightVO> catalogWeights(Random random) {
+        WeightUnitEnums[] units = WeightUnitEnums.values();
+        List<WeightVO> weights = new ArrayList<>();
+        while (weights.size() < 5_000) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(1_000, 100_000), 3);
+            WeightUnitEnums unit = units[random.nextInt(units.length)];
+            if (WeightVO.validate(amount, unit) == null) {
+                weights.add(new WeightVO(amount, unit));
+            }
+        }
+        return weights;
+    }
+
+    private static BigDecimal referenceGrams(WeightVO weight) {
+        return weight.unit().toGrams(weight.amount()).setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP);
+    }
+
+    @Test
+    @DisplayName("Sorting 1M weights by compareTo gives the order of their gram values")
+    void sortOneMillionWeights(TestReporter reporter) {
+        Random random = new Random(36);
+        List<WeightVO> catalog = catalogWeights(random);
+        List<WeightVO> weights = new ArrayList<>(SORT_SIZE);
+        for (int i = 0; i < SORT_SIZE; i++) {
+            weights.add(catalog.get(random.nextInt(catalog.size())));
+        }
+
+        List<WeightVO> sorted = new ArrayList<>(weights);
+        long started = System.nanoTime();
+        sorted.sort(Comparator.naturalOrder());
+        long canonicalNanos = System.nanoTime() - started;
+
+        List<WeightVO> reference = new ArrayList<>(weights);
+        started = System.nanoTime();
+        reference.sort(Comparator.comparing(WeightBenchmarkTest::referenceGrams));
+        long bigDecimalNanos = System.nanoTime() - started;
+
+        // Both sorts are stable and tie on the same gram values, so the orders are identical
+        assertEquals(reference, sorted);
+        reporter.publishEntry("sort 1M weights", String.format("compareTo %d ms, BigDecimal grams %d ms",
+                canonicalNanos / 1_000_000, bigDecimalNanos / 1_000_000));
+    }
+
+    @Test
+    @DisplayName("Quantity-weighted cart totals match the BigDecimal sum")
+    void sumCartWeights(TestReporter reporter) {
+        Random random = new Random(37);
+        List<WeightVO> catalog = catalogWeights(random);
+        List<List<WeightVO>> carts = new ArrayList<>(CARTS);
+        List<int[]> quantities = new ArrayList<>(CARTS);
+        for (int c = 0; c < CARTS; c++) {
+            List<WeightVO> lines = new ArrayList<>(LINES_PER_CART);
+            int[] counts = new int[LINES_PER_CART];
+            for (int i = 0; i < LINES_PER_CART; i++) {
+                lines.add(catalog.get(random.nextInt(catalog.size())));
+                counts[i] = random.nextInt(1, 10);
+            }
+            carts.add(lines);
+            quantities.add(counts);
+        }
+
+        BigDecimal[] totals = new BigDecimal[CARTS];
+        long started = System.nanoTime();
+        for (int c = 0; c < CARTS; c++) {
+            totals[c] = WeightUnitEnums.KILOGRAM.totalOf(carts.get(c), quantities.get(c));
+        }
+        long canonicalNanos = System.nanoTime() - started;
+
+        BigDecimal[] expected = new BigDecimal[CARTS];
+        started = System.nanoTime();
+        for (int c = 0; c < CARTS; c++) {
+            BigDecimal grams = BigDecimal.ZERO;
+            for (int i = 0; i < LINES_PER_CART; i++) {
+                grams = grams.add(referenceGrams(carts.get(c).get(i)).multiply(BigDecimal.valueOf(quantities.get(c)[i])));
+            }
+            expected[c] = WeightUnitEnums.KILOGRAM.fromGrams(grams).stripTrailingZeros();
+        }
+        long bigDecimalNanos = System.nanoTime() - started;
+
+        assertArrayEquals(expected, totals);
+        reporter.publishEntry("sum " + CARTS + " carts of " + LINES_PER_CART + " lines", String.format(
+                "totalOf %d ms, BigDecimal sum %d ms", canonicalNanos / 1_000_000, bigDecimalNanos / 1_000_000));
+    }
+}
@@ -3,6 +3,9 @@ package com.github.calhanwynters.refproductmngr.businesscore.domain.product.vari
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.WeightUnitEnums.*;
@@ -134,4 +137,84 @@ class WeightDomainTest {
         assertEquals(CARAT, carats.unit());
         assertBigDecimalEquals(expectedCarats.toPlainString(), carats.amount());
     }
+
+    // --- Canonical Representation Tests ---
+
+    @Test
+    @DisplayName("compareTo on the canonical long matches comparing grams at COMPARISON_SCALE")
+    void canonicalCompareMatchesGramComparison() {
+        Random random = new Random(7);
+        WeightUnitEnums[] units = WeightUnitEnums.values();
+        for (int i = 0; i < 5_000; i++) {
+            WeightVO a = new WeightVO(BigDecimal.valueOf(100 + random.nextInt(900_000), 4), units[random.nextInt(units.length)]);
+            WeightVO b = new WeightVO(BigDecimal.valueOf(100 + random.nextInt(900_000), 4), units[random.nextInt(units.length)]);
+
+            int expected = a.unit().toGrams(a.amount()).setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP)
+                    .compareTo(b.unit().toGrams(b.amount()).setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP));
+            assertEquals(Integer.signum(expected), Integer.signum(a.compareTo(b)), a + " vs " + b);
+        }
+    }
+
+    @Test
+    @DisplayName("The canonical form is derived from amount and unit and is not a record component")
+    void canonicalFormIsDerived() {
+        WeightVO pound = new WeightVO(bd("1"), POUND);
+
+        assertEquals(2, WeightVO.class.getRecordComponents().length);
+        assertEquals(45_359_237_000L, pound.scaledGrams());
+        assertBigDecimalEquals("453.59237", pound.toGrams());
+        assertEquals(WeightVO.ofPounds(bd("1.0")), pound);
+        assertEquals("WeightVO[amount=1, unit=POUND]", pound.toString());
+    }
+
+    @Test
+    @DisplayName("The long arithmetic canonical form matches the BigDecimal conversion, including its fallbacks")
+    void scaledGramsMatchesBigDecimalConversion() {
+        Random random = new Random(11);
+        WeightUnitEnums[] units = WeightUnitEnums.values();
+        for (int i = 0; i < 20_000; i++) {
+            WeightUnitEnums unit = units[random.nextInt(units.length)];
+            int scale = random.nextInt(6) - 1;
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 1_000_000_000L), scale);
+            if (WeightVO.validate(amount, unit) != null) {
+                continue;
+            }
+            WeightVO weight = new WeightVO(amount, unit);
+
+            long expected = unit.toGrams(weight.amount()).setScale(WeightConstants.COMPARISON_SCALE, RoundingMode.HALF_UP)
+                    .unscaledValue().longValueExact();
+            assertEquals(expected, weight.scaledGrams(), weight.toString());
+            // An equal weight reads the memoized value
+            assertEquals(expected, new WeightVO(amount, unit).scaledGrams(), weight.toString());
+        }
+        assertEquals(10_000_000_000_000L, WeightVO.ofGrams(bd("100000")).scaledGrams());
+        assertEquals(0L, WeightVO.ofKilograms(bd("0")).scaledGrams());
+    }
+
+    // --- Batch Totals ---
+
+    @Test
+    @DisplayName("Totals mix units, may exceed the per-item limit and are converted once")
+    void totalOfMixedUnits() {
+        List<WeightVO> cart = List.of(
+                WeightVO.ofKilograms(bd("60")),
+                WeightVO.ofKilograms(bd("50")),
+                WeightVO.ofPounds(bd("1")),
+                WeightVO.ofGrams(bd("0.5")));
+
+        assertBigDecimalEquals("110454.09237", GRAM.totalOf(cart));
+        assertBigDecimalEquals("110.45409237", KILOGRAM.totalOf(cart));
+        assertBigDecimalEquals(POUND.fromGrams(bd("110454.09237")).toPlainString(), POUND.totalOf(cart));
+        assertBigDecimalEquals("0", OUNCE.totalOf(List.of()));
+    }
+
+    @Test
+    @DisplayName("Quantity-weighted totals multiply each line")
+    void totalOfWithQuantities() {
+        List<WeightVO> lines = List.of(WeightVO.ofGrams(bd("250")), WeightVO.ofKilograms(bd("1.5")));
+
+        assertBigDecimalEquals("4.5", KILOGRAM.totalOf(lines, new int[]{6, 2}));
+        assertThrows(IllegalArgumentException.class, () -> GRAM.totalOf(lines, new int[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> GRAM.totalOf(lines, new int[]{1, -1}));
+    }
 }
@@ -0,0 +1,33 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.feature.FeatureIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.VariantIdVO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierJacksonModuleTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new IdentifierJacksonModule());
+
+    @Test
+    @DisplayName("Identifiers keep the {\"value\": \"<uuid>\"} JSON shape")
+    void serialize_KeepsValueShape() throws Exception {
+        ProductIdVO id = new ProductIdVO("123e4567-e89b-12d3-a456-426614174000");
+
+        assertEquals("{\"value\":\"123e4567-e89b-12d3-a456-426614174000\"}", objectMapper.writeValueAsString(id));
+    }
+
+    @Test
+    @DisplayName("Identifiers read back from the object shape and from a bare string")
+    void deserialize_AcceptsObjectAndString() throws Exception {
+        VariantIdVO variantId = VariantIdVO.generate();
+        FeatureIdVO featureId = FeatureIdVO.generate();
+
+        assertEquals(variantId, objectMapper.readValue(objectMapper.writeValueAsString(variantId), VariantIdVO.class));
+        assertEquals(featureId, objectMapper.readValue("\"" + featureId.value() + "\"", FeatureIdVO.class));
+    }
+}
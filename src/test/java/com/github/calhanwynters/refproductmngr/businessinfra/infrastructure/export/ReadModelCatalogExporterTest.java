@@ -0,0 +1,66 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.BusinessIdVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.ProductAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReadModelCatalogExporterTest {
+
+    private MongoTemplate mongoTemplate;
+    private ReadModelCatalogExporter exporter;
+    private final BusinessIdVO businessId = BusinessIdVO.random();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mongoTemplate = mock(MongoTemplate.class);
+        ObjectMapper objectMapper = mock(ObjectMapper.class);
+        when(objectMapper.writeValueAsBytes(any())).thenReturn("{\"p\":1}".getBytes(StandardCharsets.UTF_8));
+        exporter = new ReadModelCatalogExporter(mongoTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Each streamed product becomes one NDJSON line and every byte is counted")
+    void export_WritesOneLinePerProduct() {
+        when(mongoTemplate.stream(any(Query.class), eq(ProductAggregate.class)))
+                .thenReturn(Stream.of(mock(ProductAggregate.class), mock(ProductAggregate.class)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportReport report = exporter.export(businessId, Channels.newChannel(out), false);
+
+        assertEquals("{\"p\":1}\n{\"p\":1}\n", out.toString(StandardCharsets.UTF_8));
+        assertEquals(2, report.documents());
+        assertEquals(out.size(), report.bytes());
+    }
+
+    @Test
+    @DisplayName("Gzip output is a complete stream and bytes are counted after compression")
+    void export_Gzip_ProducesReadableStream() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(ProductAggregate.class)))
+                .thenReturn(Stream.of(mock(ProductAggregate.class), mock(ProductAggregate.class), mock(ProductAggregate.class)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ExportReport report = exporter.export(businessId, Channels.newChannel(out), true);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals("{\"p\":1}\n".repeat(3), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(3, report.documents());
+        assertEquals(out.size(), report.bytes());
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxEventTailTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    /**
+     * Serves a fixed outbox, in id order, to the tail's event query.
+     */
+    private static final class OutboxStub extends JdbcTemplate {
+        private final List<OutboxEventTail.OutboxEvent> events = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            if (!sql.contains("WHERE id > ?")) {
+                return List.of();
+            }
+            UUID after = (UUID) args[0];
+            int start = 0;
+            while (start < events.size() && !events.get(start).id().equals(after)) {
+                start++;
+            }
+            start = start == events.size() ? 0 : start + 1;
+            return (List<T>) List.copyOf(events.subList(start, events.size()));
+        }
+
+        void add(Instant createdAt) {
+            events.add(new OutboxEventTail.OutboxEvent(UuidV7Generator.next(), "PRODUCT_UPDATED",
+                    UUID.randomUUID().toString(), "{}", createdAt));
+        }
+    }
+
+    @Test
+    @DisplayName("Events of a poll whose flush failed are handed out again by the next poll")
+    void poll_FlushFails_EventsAreRedelivered() {
+        OutboxStub outbox = new OutboxStub();
+        outbox.add(NOW.minusSeconds(60)); // Settled
+        outbox.add(NOW.minusSeconds(1)); // Inside the settle window
+        OutboxEventTail tail = new OutboxEventTail(outbox, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        List<UUID> failedPoll = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> tail.poll(event -> failedPoll.add(event.id()), () -> {
+            throw new IllegalStateException("reload failed");
+        }));
+
+        List<UUID> retried = new ArrayList<>();
+        tail.poll(event -> retried.add(event.id()), () -> {});
+        List<UUID> nextPoll = new ArrayList<>();
+        tail.poll(event -> nextPoll.add(event.id()), () -> {});
+
+        assertEquals(2, failedPoll.size());
+        assertEquals(failedPoll, retried);
+        assertTrue(nextPoll.isEmpty(), "Handled events are not handed out twice");
+    }
+}
@@ -1,9 +1,11 @@
 package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.exceptions.ProductVersionConflictException;
 import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +21,7 @@ public class ProductAggSaveImplTest {
 
     private JdbcTemplate jdbcTemplate;
     private ProductCommandRepositoryImpl productCommandRepository;
+    private PublishabilityIndex publishabilityIndex;
 
     @BeforeEach
     void setUp() {
@@ -26,10 +29,12 @@ public class ProductAggSaveImplTest {
         NamedParameterJdbcTemplate namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
         ObjectMapper objectMapper = mock(ObjectMapper.class);
 
+        publishabilityIndex = new PublishabilityIndex();
         productCommandRepository = new ProductCommandRepositoryImpl(
                 jdbcTemplate,
                 objectMapper,
-                namedParameterJdbcTemplate
+                namedParameterJdbcTemplate,
+                publishabilityIndex
         );
     }
 
@@ -50,9 +55,13 @@ public class ProductAggSaveImplTest {
         when(product.description()).thenReturn(new DescriptionVO(description));
         when(product.isDeleted()).thenReturn(isDeleted);
         when(product.version()).thenReturn(new VersionVO(version));
+        when(product.gallery()).thenReturn(new GalleryVO(List.of(new ImageUrlVO("https://cdn.example.com/gadget.jpg"))));
+        // The guarded upsert reports one row when the stored version is older (or absent)
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any(), any(), any())).thenReturn(1);
 
         // 2. Act
         productCommandRepository.save(product);
+        assertTrue(publishabilityIndex.contains(product.id()), "Outside a transaction the index is updated immediately");
 
         // 3. Capture: Grab the exact SQL and every Vararg parameter
         ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
@@ -86,4 +95,23 @@ public class ProductAggSaveImplTest {
         }
         System.out.println("=".repeat(50) + "\n");
     }
+
+    @Test
+    void testUpsertProduct_StaleVersion_ThrowsConflictAndWritesNothingElse() {
+        ProductAggregate product = mock(ProductAggregate.class);
+        when(product.id()).thenReturn(ProductIdVO.generate());
+        when(product.businessIdVO()).thenReturn(new BusinessIdVO(UUID.randomUUID().toString().toUpperCase()));
+        when(product.category()).thenReturn(new CategoryVO("Electronics"));
+        when(product.description()).thenReturn(new DescriptionVO("Latest tech gadget"));
+        when(product.version()).thenReturn(new VersionVO(3));
+        // A stored version >= 3 makes the ON CONFLICT ... WHERE clause skip the row
+        when(jdbcTemplate.update(anyString(), any(), any(), any(), any(), any(), any())).thenReturn(0);
+
+        ProductVersionConflictException conflict = assertThrows(ProductVersionConflictException.class,
+                () -> productCommandRepository.save(product));
+
+        assertEquals(java.util.Set.of(product.id()), conflict.productIds());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        assertFalse(publishabilityIndex.contains(product.id()));
+    }
 }
@@ -0,0 +1,68 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductIdRangeTest {
+
+    @Test
+    @DisplayName("A single range covers the whole key space without bounds")
+    void split_SingleRange_IsUnbounded() {
+        List<ProductIdRange> ranges = ProductIdRange.split(1);
+
+        assertEquals(1, ranges.size());
+        assertNull(ranges.getFirst().lowerInclusive());
+        assertNull(ranges.getFirst().upperExclusive());
+        assertEquals("TRUE", ranges.getFirst().predicate("p.id", null));
+    }
+
+    @Test
+    @DisplayName("Ranges are contiguous and ascending in unsigned order")
+    void split_RangesAreContiguous() {
+        List<ProductIdRange> ranges = ProductIdRange.split(7);
+
+        assertEquals(7, ranges.size());
+        assertNull(ranges.getFirst().lowerInclusive());
+        assertNull(ranges.getLast().upperExclusive());
+        for (int i = 1; i < ranges.size(); i++) {
+            UUID previousUpper = ranges.get(i - 1).upperExclusive();
+            assertEquals(previousUpper, ranges.get(i).lowerInclusive());
+            if (i > 1) {
+                assertTrue(Long.compareUnsigned(ranges.get(i - 1).lowerInclusive().getMostSignificantBits(),
+                        previousUpper.getMostSignificantBits()) < 0);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A checkpoint replaces the inclusive lower bound with an exclusive one")
+    void predicate_ResumesAfterCheckpoint() {
+        ProductIdRange middle = ProductIdRange.split(3).get(1);
+        UUID checkpoint = UUID.randomUUID();
+
+        assertEquals("p.id >= ? AND p.id < ?", middle.predicate("p.id", null));
+        assertEquals(List.of(middle.lowerInclusive(), middle.upperExclusive()), middle.bindValues(null));
+        assertEquals("p.id > ? AND p.id < ?", middle.predicate("p.id", checkpoint));
+        assertEquals(List.of(checkpoint, middle.upperExclusive()), middle.bindValues(checkpoint));
+    }
+
+    @Test
+    @DisplayName("Quantile boundaries become contiguous ranges, duplicates collapsed")
+    void between_BuildsContiguousRanges() {
+        UUID first = new UUID(0x0190_0000_0000_7000L, 0L);
+        UUID second = new UUID(0x0190_0000_0001_7000L, 0L);
+
+        List<ProductIdRange> ranges = ProductIdRange.between(List.of(first, first, second));
+
+        assertEquals(3, ranges.size());
+        assertEquals(new ProductIdRange(0, null, first), ranges.get(0));
+        assertEquals(new ProductIdRange(1, first, second), ranges.get(1));
+        assertEquals(new ProductIdRange(2, second, null), ranges.get(2));
+        assertEquals(List.of(new ProductIdRange(0, null, null)), ProductIdRange.between(List.of()));
+    }
+}
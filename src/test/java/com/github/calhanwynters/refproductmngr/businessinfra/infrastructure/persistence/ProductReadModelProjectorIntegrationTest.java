@@ -0,0 +1,90 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.config.MongoConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.mongodb.test.autoconfigure.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@Testcontainers
+@Import(MongoConfig.class)
+class ProductReadModelProjectorIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:7.0.0");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.dropCollection(ProductAggregate.class);
+    }
+
+    @Test
+    @DisplayName("Snapshots of consecutive commands on one product each replace the document; replays are skipped")
+    void project_ConsecutiveSaves_ReachTheReadModel() {
+        ProductReadModelProjector projector = new ProductReadModelProjector(mongoTemplate);
+        ProductAggregate created = createProduct();
+        // The same command path the services use: each command returns the next version
+        ProductAggregate renamed = created.updateBasicInfo(new DescriptionVO("Renamed product"), new CategoryVO("Garden"));
+        ProductAggregate deleted = renamed.softDelete();
+
+        assertEquals(1, projector.project(List.of(created)).applied());
+        assertEquals(1, projector.project(List.of(renamed)).applied());
+        assertEquals(1, projector.project(List.of(deleted)).applied());
+
+        ProductReadModelProjector.ProjectionResult replay = projector.project(List.of(renamed));
+        assertEquals(0, replay.applied());
+        assertEquals(1, replay.skipped(), "An older snapshot must not overwrite a newer document");
+
+        ProductAggregate stored = mongoTemplate.findById(created.id(), ProductAggregate.class);
+        assertNotNull(stored);
+        assertEquals(deleted.version(), stored.version());
+        assertEquals(new CategoryVO("Garden"), stored.category());
+        assertTrue(stored.isDeleted());
+    }
+
+    private ProductAggregate createProduct() {
+        PriceVO price = new PriceVO(new BigDecimal("18.00"), 2, Currency.getInstance("USD"));
+        VariantEntity variant = new VariantEntity(
+                VariantIdVO.generate(),
+                new SkuVO("SKU-PROJ-IT"),
+                price,
+                price,
+                Set.of(),
+                new CareInstructionVO("* Hand wash only"),
+                new WeightVO(new BigDecimal("0.2"), WeightUnitEnums.KILOGRAM),
+                VariantStatusEnums.ACTIVE
+        );
+        return new ProductAggregate(
+                ProductIdVO.generate(),
+                new BusinessIdVO("BIZ-PROJ"),
+                new CategoryVO("Apparel"),
+                new DescriptionVO("Projection test product"),
+                new GalleryVO(List.of(new ImageUrlVO("https://cdn.example.com/proj.jpg"))),
+                Set.of(variant),
+                new VersionVO(1),
+                false
+        );
+    }
+}
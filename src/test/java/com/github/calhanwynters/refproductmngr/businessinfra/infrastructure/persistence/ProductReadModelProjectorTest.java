@@ -0,0 +1,195 @@
+package com.github.calhanwynters.refproductmngr.businessinfra.infrastructure.persistence;
+
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.common.DescriptionVO;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.productitem.*;
+import com.github.calhanwynters.refproductmngr.businesscore.domain.product.variant.*;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import org.bson.BsonBinarySubType;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProductReadModelProjectorTest {
+
+    private MongoTemplate mongoTemplate;
+    private MongoCollection<Document> collection;
+    private ProductReadModelProjector projector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        collection = mock(MongoCollection.class);
+        when(mongoTemplate.getConverter()).thenReturn(mock(MongoConverter.class));
+        when(mongoTemplate.getCollectionName(ProductAggregate.class)).thenReturn("productAggregate");
+        when(mongoTemplate.getCollection("productAggregate")).thenReturn(collection);
+        when(collection.withWriteConcern(any(WriteConcern.class))).thenReturn(collection);
+        projector = new ProductReadModelProjector(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Only the highest version of each product survives batch de-duplication")
+    void latestPerAggregate_KeepsHighestVersion() {
+        ProductIdVO id = ProductIdVO.generate();
+        ProductAggregate v1 = createProduct(id, 1);
+        ProductAggregate v3 = createProduct(id, 3);
+        ProductAggregate v2 = createProduct(id, 2);
+        ProductAggregate other = createProduct(ProductIdVO.generate(), 1);
+
+        List<ProductAggregate> latest = ProductReadModelProjector.latestPerAggregate(List.of(v1, v3, other, v2));
+
+        assertEquals(2, latest.size());
+        assertSame(v3, latest.get(0));
+        assertSame(other, latest.get(1));
+    }
+
+    @Test
+    @DisplayName("On equal versions the later snapshot of a batch wins")
+    void latestPerAggregate_EqualVersions_KeepsLater() {
+        ProductIdVO id = ProductIdVO.generate();
+        ProductAggregate earlier = createProduct(id, 2);
+        ProductAggregate later = createProduct(id, 2);
+
+        assertSame(later, ProductReadModelProjector.latestPerAggregate(List.of(earlier, later)).getFirst());
+    }
+
+    @Test
+    @DisplayName("An empty batch should not touch MongoDB")
+    void project_EmptyBatch_IsNoOp() {
+        var result = projector.project(List.of());
+
+        assertEquals(ProductReadModelProjector.ProjectionResult.EMPTY, result);
+        verify(mongoTemplate, never()).getCollection(anyString());
+    }
+
+    @Test
+    @DisplayName("A batch is sent as a single unordered bulk write with the requested write concern")
+    @SuppressWarnings("unchecked")
+    void project_SendsOneUnorderedBulkWrite() {
+        BulkWriteResult bulkResult = mock(BulkWriteResult.class);
+        when(bulkResult.wasAcknowledged()).thenReturn(true);
+        when(bulkResult.getModifiedCount()).thenReturn(1);
+        when(bulkResult.getUpserts()).thenReturn(List.of());
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(bulkResult);
+
+        ProductIdVO id = ProductIdVO.generate();
+        var result = projector.project(List.of(createProduct(id, 1), createProduct(id, 2)), WriteConcern.MAJORITY);
+
+        verify(collection).withWriteConcern(WriteConcern.MAJORITY);
+        verify(collection, times(1)).bulkWrite(
+                argThat(writes -> writes.size() == 1),
+                argThat(options -> !options.isOrdered()));
+        assertEquals(1, result.applied());
+        assertEquals(1, result.skipped(), "The superseded version 1 snapshot counts as skipped");
+    }
+
+    @Test
+    @DisplayName("Documents carry the effective price per variant and the cheapest one per product")
+    void addEffectivePrices_EnrichesVariantsAndProduct() {
+        ProductAggregate product = createProduct(ProductIdVO.generate(), 1);
+        Document variantDocument = variantDocument(product.variants().iterator().next());
+        Document document = new Document("variants", new ArrayList<>(List.of(variantDocument)));
+
+        ProductReadModelProjector.addEffectivePrices(product, document);
+
+        assertEquals(new Decimal128(new BigDecimal("18.00")), variantDocument.get(ProductReadModelProjector.EFFECTIVE_PRICE_FIELD));
+        assertEquals(new Decimal128(new BigDecimal("18.00")), document.get(ProductReadModelProjector.MIN_EFFECTIVE_PRICE_FIELD));
+    }
+
+    @Test
+    @DisplayName("Effective prices are matched to the variant subdocuments by id, not by position")
+    void addEffectivePrices_MatchesVariantsById() {
+        VariantEntity cheap = variant("SKU-CHEAP", "5.00");
+        VariantEntity dear = variant("SKU-DEAR", "50.00");
+        ProductAggregate product = new ProductAggregate(ProductIdVO.generate(), new BusinessIdVO("BIZ-PROJ"),
+                new CategoryVO("Apparel"), new DescriptionVO("Projection test product"),
+                new GalleryVO(List.of(new ImageUrlVO("https://cdn.example.com/proj.jpg"))),
+                Set.of(cheap, dear), new VersionVO(1), false);
+        // Subdocuments in the opposite order of the set, plus one the aggregate does not know
+        List<VariantEntity> ordered = new ArrayList<>(product.variants());
+        Document first = variantDocument(ordered.getLast());
+        Document second = variantDocument(ordered.getFirst());
+        Document unknown = variantDocument(variant("SKU-GONE", "1.00"));
+        Document document = new Document("variants", new ArrayList<>(List.of(first, unknown, second)));
+
+        ProductReadModelProjector.addEffectivePrices(product, document);
+
+        assertEquals(new Decimal128(ordered.getLast().effectivePrice().value()), first.get(ProductReadModelProjector.EFFECTIVE_PRICE_FIELD));
+        assertEquals(new Decimal128(ordered.getFirst().effectivePrice().value()), second.get(ProductReadModelProjector.EFFECTIVE_PRICE_FIELD));
+        assertNull(unknown.get(ProductReadModelProjector.EFFECTIVE_PRICE_FIELD));
+        assertEquals(new Decimal128(new BigDecimal("5.00")), document.get(ProductReadModelProjector.MIN_EFFECTIVE_PRICE_FIELD));
+    }
+
+    @Test
+    @DisplayName("Price indexes are created once per target collection")
+    @SuppressWarnings("unchecked")
+    void project_EnsuresIndexesOnce() {
+        BulkWriteResult bulkResult = mock(BulkWriteResult.class);
+        when(bulkResult.wasAcknowledged()).thenReturn(true);
+        when(bulkResult.getUpserts()).thenReturn(List.of());
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(bulkResult);
+
+        projector.project(List.of(createProduct(ProductIdVO.generate(), 1)));
+        projector.project(List.of(createProduct(ProductIdVO.generate(), 1)));
+
+        verify(collection, times(1)).createIndexes(anyList());
+    }
+
+    // The variant subdocument as the converter writes it: the id as a standard binary UUID under _id
+    private static Document variantDocument(VariantEntity variant) {
+        byte[] id = ByteBuffer.allocate(16).putLong(variant.id().mostSignificantBits())
+                .putLong(variant.id().leastSignificantBits()).array();
+        return new Document("_id", new Binary(BsonBinarySubType.UUID_STANDARD, id)).append("sku", variant.sku().sku());
+    }
+
+    private static VariantEntity variant(String sku, String currentPrice) {
+        return new VariantEntity(VariantIdVO.generate(), new SkuVO(sku),
+                new PriceVO(new BigDecimal("60.00"), 2, Currency.getInstance("USD")),
+                new PriceVO(new BigDecimal(currentPrice), 2, Currency.getInstance("USD")),
+                Set.of(), new CareInstructionVO("* Hand wash only"),
+                new WeightVO(new BigDecimal("0.2"), WeightUnitEnums.KILOGRAM), VariantStatusEnums.ACTIVE);
+    }
+
+    private ProductAggregate createProduct(ProductIdVO id, int version) {
+        VariantEntity variant = new VariantEntity(
+                VariantIdVO.generate(),
+                new SkuVO("SKU-PROJ-" + version),
+                new PriceVO(new BigDecimal("20.00"), 2, Currency.getInstance("USD")),
+                new PriceVO(new BigDecimal("18.00"), 2, Currency.getInstance("USD")),
+                Set.of(),
+                new CareInstructionVO("* Hand wash only"),
+                new WeightVO(new BigDecimal("0.2"), WeightUnitEnums.KILOGRAM),
+                VariantStatusEnums.ACTIVE
+        );
+
+        return new ProductAggregate(
+                id,
+                new BusinessIdVO("BIZ-PROJ"),
+                new CategoryVO("Apparel"),
+                new DescriptionVO("Projection test product"),
+                new GalleryVO(List.of(new ImageUrlVO("https://cdn.example.com/proj.jpg"))),
+                Set.of(variant),
+                new VersionVO(version),
+                false
+        );
+    }
+}